@@ -19,27 +19,48 @@ import org.eclipse.sw360.antenna.api.ILicenseManagementKnowledgeBase;
 import org.eclipse.sw360.antenna.api.IProcessingReporter;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
+import org.eclipse.sw360.antenna.model.util.LicenseKnowledgeBaseIndex;
+import org.eclipse.sw360.antenna.model.util.LicenseKnowledgeBaseIndex.LicenseRecord;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseClassification;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseThreatGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This CSVBasedLicenseKnowledgeBase delivers maps for the mapping of: alias
  * to id, id to license and id to text etc.
+ *
+ * The parsed CSV file and all license texts are persisted as a
+ * {@link LicenseKnowledgeBaseIndex}, so that later runs only have to memory
+ * map the index as long as the files providing the CSV file and the license
+ * texts did not change. The license texts are only read to create the index.
  */
 public class CSVBasedLicenseKnowledgeBase implements ILicenseManagementKnowledgeBase {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CSVBasedLicenseKnowledgeBase.class);
 
     private static final String LICENSES_CSV = "Licenses.csv";
+    private static final CSVFormat CSV_FORMAT = CSVFormat.DEFAULT.withHeader().withDelimiter(';').withQuote('"');
+    private static final String LICENSE_TEXTS_DIRECTORY = "licenses";
+    private static final String INDEX_FILE_PREFIX = "csv-license-knowledge-base-";
 
     private static final String KEY_IDENT = "Identifier";
     private static final String KEY_ALIAS = "Aliases";
@@ -53,15 +74,19 @@ public class CSVBasedLicenseKnowledgeBase implements ILicenseManagementKnowledge
     private static final Collection<String> KEY_LIST = Arrays.asList(KEY_IDENT, KEY_ALIAS, KEY_NAME, KEY_URL, KEY_OSS, KEY_DELIVER_SRC, KEY_DELIVER_LICENSE, KEY_CLASSIFICATION, KEY_THREAT_GROUP);
 
     private final Map<String, String> aliasIdMap = new HashMap<>();
-    private final Map<String, String> idLicenseMap = new HashMap<>();
-    private final Map<String, String> idTextMap = new HashMap<>();
-    private final Map<String, LicenseThreatGroup> idThreatGroupMap = new HashMap<>();
-    private final Map<String, LicenseClassification> idClassificationMap = new HashMap<>();
+    private final Map<String, String> idLicenseMap = new LinkedHashMap<>();
+    private final Map<String, String> idThreatGroupMap = new HashMap<>();
+    private final Map<String, String> idClassificationMap = new HashMap<>();
+
+    private final Map<String, String> idTextMap = new ConcurrentHashMap<>();
+    private final Map<String, LicenseThreatGroup> threatGroupCache = new ConcurrentHashMap<>();
+    private final Map<String, LicenseClassification> classificationCache = new ConcurrentHashMap<>();
 
     private final List<Consumer<CSVRecord>> mapperFunctions = new ArrayList<>();
 
     private IProcessingReporter reporter;
     private Charset encoding;
+    private LicenseKnowledgeBaseIndex index;
 
     /**
      * This CSVBasedLicenseKnowledgeBase delivers maps for the mapping of:
@@ -72,16 +97,111 @@ public class CSVBasedLicenseKnowledgeBase implements ILicenseManagementKnowledge
         this.reporter = reporter;
         this.encoding = encoding;
 
-        checkThatCSVIsOnClasspath();
-        initMapperFunctions();
-        initMaps();
+        final URL csvResource = checkThatCSVIsOnClasspath();
+        final String fingerprint = computeFingerprint(csvResource);
+        final Path indexFile = LicenseKnowledgeBaseIndex.getIndexDirectory()
+                .resolve(INDEX_FILE_PREFIX + fingerprint.substring(0, 16) + ".idx");
+
+        index = LicenseKnowledgeBaseIndex.open(indexFile, fingerprint)
+                .orElseGet(() -> createIndex(fingerprint, indexFile));
     }
 
-    private void checkThatCSVIsOnClasspath() {
+    private URL checkThatCSVIsOnClasspath() {
         final URL resource = CSVBasedLicenseKnowledgeBase.class.getClassLoader().getResource(LICENSES_CSV);
         if(resource == null) {
             throw new ExecutionException("The required file " + LICENSES_CSV + " was not found on the classpath");
         }
+        return resource;
+    }
+
+    /**
+     * The fingerprint covers the encoding and the location, size and modification time of the files providing the
+     * CSV file and the license texts, i.e. of their jars or, if they are not packaged, of the files themselves. This
+     * way changed license texts are not served from an outdated index, without reading the license texts on every
+     * start. Only resources with other URL schemes are read to compute the fingerprint.
+     */
+    private String computeFingerprint(URL csvResource) {
+        try {
+            final SortedSet<String> locations = new TreeSet<>();
+            locations.add(describeLocation(csvResource));
+            final Enumeration<URL> licenseTextDirectories =
+                    CSVBasedLicenseKnowledgeBase.class.getClassLoader().getResources(LICENSE_TEXTS_DIRECTORY);
+            while (licenseTextDirectories.hasMoreElements()) {
+                locations.add(describeLocation(licenseTextDirectories.nextElement()));
+            }
+
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(encoding.name().getBytes(StandardCharsets.UTF_8));
+            for (String location : locations) {
+                digest.update((byte) 0);
+                digest.update(location.getBytes(StandardCharsets.UTF_8));
+            }
+
+            final StringBuilder fingerprint = new StringBuilder();
+            for (byte b : digest.digest()) {
+                fingerprint.append(String.format("%02x", b));
+            }
+            return fingerprint.toString();
+        } catch (IOException | URISyntaxException e) {
+            throw new ExecutionException("Could not read " + LICENSES_CSV, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ExecutionException("Could not compute the fingerprint of " + LICENSES_CSV, e);
+        }
+    }
+
+    private static String describeLocation(URL resource) throws IOException, URISyntaxException {
+        switch (resource.getProtocol()) {
+            case "jar":
+                final URLConnection connection = resource.openConnection();
+                if (connection instanceof JarURLConnection &&
+                        "file".equals(((JarURLConnection) connection).getJarFileURL().getProtocol())) {
+                    return describeFile(Paths.get(((JarURLConnection) connection).getJarFileURL().toURI()));
+                }
+                break;
+            case "file":
+                return describeFile(Paths.get(resource.toURI()));
+            default:
+                break;
+        }
+        try (InputStream iStream = resource.openStream()) {
+            return resource + " " + Arrays.hashCode(IOUtils.toByteArray(iStream));
+        }
+    }
+
+    private static String describeFile(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return path + " " + Files.size(path) + " " + Files.getLastModifiedTime(path).toMillis();
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.filter(Files::isRegularFile)
+                    .sorted()
+                    .map(file -> file + " " + file.toFile().length() + " " + file.toFile().lastModified())
+                    .collect(Collectors.joining("\n"));
+        }
+    }
+
+    private InputStream getLicenseTextStream(String id) {
+        return this.getClass().getClassLoader().getResourceAsStream(LICENSE_TEXTS_DIRECTORY + "/" + id + ".txt");
+    }
+
+    private LicenseKnowledgeBaseIndex createIndex(String fingerprint, Path indexFile) {
+        LOGGER.debug("Creating license knowledge base index {}", indexFile);
+        initMapperFunctions();
+        initMaps();
+
+        final List<LicenseRecord> licenses = idLicenseMap.entrySet().stream()
+                .map(entry -> new LicenseRecord(entry.getKey(), entry.getValue(),
+                        idThreatGroupMap.get(entry.getKey()),
+                        idClassificationMap.get(entry.getKey()),
+                        loadLicenseText(entry.getKey())))
+                .collect(Collectors.toList());
+        final LicenseKnowledgeBaseIndex createdIndex = LicenseKnowledgeBaseIndex.create(fingerprint, licenses, aliasIdMap);
+        try {
+            createdIndex.writeTo(indexFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not persist the license knowledge base index to {}: {}", indexFile, e.getMessage());
+        }
+        return createdIndex;
     }
 
     private void initMapperFunctions() {
@@ -103,41 +223,11 @@ public class CSVBasedLicenseKnowledgeBase implements ILicenseManagementKnowledge
         // id mapper function
         mapperFunctions.add(row -> this.idLicenseMap.put(row.get(KEY_IDENT), row.get(KEY_NAME)));
 
-        // threat group mapper
-        mapperFunctions.add(row -> {
-            LicenseThreatGroup threatGroup = LicenseThreatGroup.UNKNOWN;
-
-            String threadGroupString = row.get(KEY_THREAT_GROUP);
-            if(threadGroupString != null && threadGroupString.length() > 0) {
-                try {
-                    threatGroup = LicenseThreatGroup.fromValue(threadGroupString);
-                } catch (IllegalArgumentException e) {
-                    String errMsg = String.format(
-                            "Illegal threat group [%s] for license [%s]. Falling back to UNKNOWN",
-                            threadGroupString, row.get(KEY_IDENT));
-                    LOGGER.warn(errMsg);
-                    reporter.add(row.get(KEY_IDENT), MessageType.PROCESSING_FAILURE, errMsg);
-                }
-            }
-
-            this.idThreatGroupMap.put(row.get(KEY_IDENT), threatGroup);
-        });
+        // threat group mapper, the value is validated on first lookup
+        mapperFunctions.add(row -> this.idThreatGroupMap.put(row.get(KEY_IDENT), row.get(KEY_THREAT_GROUP)));
 
-        // classification mapper
-        mapperFunctions.add(row -> {
-            LicenseClassification lc;
-            try {
-                lc = LicenseClassification.fromValue(row.get(KEY_CLASSIFICATION));
-            } catch (IllegalArgumentException e) {
-                String errMsg = String.format(
-                        "Illegal classifier %s for licenses %s. Falling back to NOT_CLASSIFIED",
-                        row.get(KEY_CLASSIFICATION), row.get(KEY_IDENT));
-                LOGGER.warn(errMsg);
-                reporter.add(row.get(KEY_IDENT), MessageType.PROCESSING_FAILURE, errMsg);
-                lc = LicenseClassification.NOT_CLASSIFIED;
-            }
-            this.idClassificationMap.put(row.get(KEY_IDENT), lc);
-        });
+        // classification mapper, the value is validated on first lookup
+        mapperFunctions.add(row -> this.idClassificationMap.put(row.get(KEY_IDENT), row.get(KEY_CLASSIFICATION)));
     }
 
     /**
@@ -145,13 +235,10 @@ public class CSVBasedLicenseKnowledgeBase implements ILicenseManagementKnowledge
      * classification as value
      */
     private void initMaps() {
-        CSVFormat csvFormat = CSVFormat.DEFAULT.withHeader().withDelimiter(';').withQuote('"');
-
-
         ClassLoader classLoader = this.getClass().getClassLoader();
         try (InputStream iStream = Optional.ofNullable(classLoader.getResourceAsStream(LICENSES_CSV)).orElseThrow(() -> new ExecutionException("Knowledgebase not found"));
              Reader iReader = new InputStreamReader(iStream, encoding);
-             CSVParser csvParser = new CSVParser(iReader, csvFormat)) {
+             CSVParser csvParser = new CSVParser(iReader, CSV_FORMAT)) {
             validateHeader(csvParser);
             for (CSVRecord row : csvParser) {
                 mapperFunctions.stream()
@@ -181,10 +268,8 @@ public class CSVBasedLicenseKnowledgeBase implements ILicenseManagementKnowledge
      * @return null if the text does not exist, the text otherwise.
      */
     private String loadLicenseText(String id) {
-        ClassLoader classLoader = this.getClass().getClassLoader();
-        try(InputStream iStream = classLoader.getResourceAsStream("licenses/" + id + ".txt")) {
+        try(InputStream iStream = getLicenseTextStream(id)) {
             if(iStream == null) {
-                reporter.add(id, MessageType.MISSING_LICENSE_TEXT, "No license text found ");
                 return null;
             }
             return IOUtils.toString(iStream, encoding);
@@ -201,7 +286,7 @@ public class CSVBasedLicenseKnowledgeBase implements ILicenseManagementKnowledge
      */
     @Override
     public String getLicenseIdForAlias(String licenseAlias) {
-        return this.aliasIdMap.get(licenseAlias);
+        return index.getLicenseIdForAlias(licenseAlias).orElse(null);
     }
 
     /**
@@ -211,16 +296,18 @@ public class CSVBasedLicenseKnowledgeBase implements ILicenseManagementKnowledge
      */
     @Override
     public String getLicenseNameForId(String licenseId) {
-        return this.idLicenseMap.get(licenseId);
+        return index.getLicenseNameForId(licenseId).orElse(null);
     }
 
     @Override
     public String getTextForId(String licenseId) {
-        String text = idTextMap.get(licenseId);
+        String text = licenseId == null ? null : idTextMap.get(licenseId);
         if (null == text) {
-            text = loadLicenseText(licenseId);
+            text = index.getTextForId(licenseId).orElse(null);
             if (null != text) {
                 this.idTextMap.put(licenseId, text);
+            } else {
+                reporter.add(licenseId, MessageType.MISSING_LICENSE_TEXT, "No license text found ");
             }
         }
         return text;
@@ -228,12 +315,47 @@ public class CSVBasedLicenseKnowledgeBase implements ILicenseManagementKnowledge
 
     @Override
     public LicenseThreatGroup getThreatGroupForId(String id) {
-        return this.idThreatGroupMap.get(id);
+        if (id == null || !index.containsLicense(id)) {
+            return null;
+        }
+        return threatGroupCache.computeIfAbsent(id, this::parseThreatGroup);
+    }
+
+    private LicenseThreatGroup parseThreatGroup(String id) {
+        String threadGroupString = index.getThreatGroupForId(id).orElse(null);
+        if(threadGroupString != null && threadGroupString.length() > 0) {
+            try {
+                return LicenseThreatGroup.fromValue(threadGroupString);
+            } catch (IllegalArgumentException e) {
+                String errMsg = String.format(
+                        "Illegal threat group [%s] for license [%s]. Falling back to UNKNOWN",
+                        threadGroupString, id);
+                LOGGER.warn(errMsg);
+                reporter.add(id, MessageType.PROCESSING_FAILURE, errMsg);
+            }
+        }
+        return LicenseThreatGroup.UNKNOWN;
     }
 
     @Override
     public LicenseClassification getClassificationById(String licenseId) {
-        Optional<LicenseClassification> classification = Optional.ofNullable(this.idClassificationMap.get(licenseId));
-        return classification.orElse(LicenseClassification.NOT_CLASSIFIED);
+        if (licenseId == null || !index.containsLicense(licenseId)) {
+            return LicenseClassification.NOT_CLASSIFIED;
+        }
+        return classificationCache.computeIfAbsent(licenseId, this::parseClassification);
+    }
+
+    private LicenseClassification parseClassification(String id) {
+        String classificationString = index.getClassificationForId(id).orElse(null);
+        try {
+            return LicenseClassification.fromValue(classificationString);
+        } catch (IllegalArgumentException e) {
+            String errMsg = String.format(
+                    "Illegal classifier %s for licenses %s. Falling back to NOT_CLASSIFIED",
+                    classificationString, id);
+            LOGGER.warn(errMsg);
+            reporter.add(id, MessageType.PROCESSING_FAILURE, errMsg);
+            return LicenseClassification.NOT_CLASSIFIED;
+        }
     }
 }
@@ -12,17 +12,44 @@ package org.eclipse.sw360.antenna.knowledgebase;
 
 import org.eclipse.sw360.antenna.api.IProcessingReporter;
 import org.eclipse.sw360.antenna.knowledgebase.csv.CSVBasedLicenseKnowledgeBase;
+import org.eclipse.sw360.antenna.model.util.LicenseKnowledgeBaseIndex;
+import org.eclipse.sw360.antenna.model.xml.generated.LicenseClassification;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
 
 public class CSVBasedLicenseKnowledgeBaseTest {
 
     IProcessingReporter iProcessingReporter = Mockito.mock(IProcessingReporter.class);
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        System.setProperty(LicenseKnowledgeBaseIndex.INDEX_DIRECTORY_PROPERTY, temporaryFolder.getRoot().getAbsolutePath());
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(LicenseKnowledgeBaseIndex.INDEX_DIRECTORY_PROPERTY);
+    }
+
     @Test
     public void test() {
         CSVBasedLicenseKnowledgeBase knowledgeBase = new CSVBasedLicenseKnowledgeBase();
@@ -33,6 +60,43 @@ public class CSVBasedLicenseKnowledgeBaseTest {
         assertThat(knowledgeBase.getLicenseIdForAlias("AFL-1.1")).isNull();
     }
 
+    @Test
+    public void testIndexIsPersistedAndReused() {
+        new CSVBasedLicenseKnowledgeBase().init(iProcessingReporter, StandardCharsets.UTF_8);
+        File[] indexFiles = temporaryFolder.getRoot().listFiles();
+        assertThat(indexFiles).hasSize(1);
+        long lastModified = indexFiles[0].lastModified();
+
+        CSVBasedLicenseKnowledgeBase knowledgeBase = new CSVBasedLicenseKnowledgeBase();
+        knowledgeBase.init(iProcessingReporter, StandardCharsets.UTF_8);
+
+        assertThat(temporaryFolder.getRoot().listFiles()).hasSize(1);
+        assertThat(indexFiles[0].lastModified()).isEqualTo(lastModified);
+        assertThat(knowledgeBase.getLicenseNameForId("AFL-1.2")).isEqualTo("Academic Free License v1.2");
+        assertThat(knowledgeBase.getLicenseIdForAlias("Academic Free License v1.2")).isEqualTo("AFL-1.2");
+        assertThat(knowledgeBase.getClassificationById("unknown")).isEqualTo(LicenseClassification.NOT_CLASSIFIED);
+        assertThat(knowledgeBase.getThreatGroupForId("unknown")).isNull();
+    }
+
+    @Test
+    public void testIndexWritableByOtherUsersIsNotReused() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        new CSVBasedLicenseKnowledgeBase().init(iProcessingReporter, StandardCharsets.UTF_8);
+        Path indexFile = temporaryFolder.getRoot().listFiles()[0].toPath();
+        Files.setPosixFilePermissions(indexFile, PosixFilePermissions.fromString("rw-rw-rw-"));
+
+        CSVBasedLicenseKnowledgeBase knowledgeBase = new CSVBasedLicenseKnowledgeBase();
+        knowledgeBase.init(iProcessingReporter, StandardCharsets.UTF_8);
+
+        assertThat(Files.getPosixFilePermissions(indexFile)).doesNotContain(PosixFilePermission.OTHERS_WRITE);
+        assertThat(knowledgeBase.getLicenseNameForId("AFL-1.1")).isEqualTo("Academic Free License v1.1");
+    }
 
+    @Test
+    public void testIndexDirectoryDefaultsToTheHomeDirectory() {
+        System.clearProperty(LicenseKnowledgeBaseIndex.INDEX_DIRECTORY_PROPERTY);
 
+        assertThat(LicenseKnowledgeBaseIndex.getIndexDirectory())
+                .startsWith(new File(System.getProperty("user.home")).toPath());
+    }
 }
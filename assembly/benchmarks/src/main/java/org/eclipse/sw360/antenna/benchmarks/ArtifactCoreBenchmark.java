@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.benchmarks;
+
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceFile;
+import org.eclipse.sw360.antenna.model.artifact.facts.DeclaredLicenseInformation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating artifacts and asking them for facts, which every workflow step does for every artifact.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArtifactCoreBenchmark {
+
+    @Benchmark
+    public List<Artifact> createArtifacts(SyntheticArtifacts artifacts) {
+        return SyntheticArtifacts.generate(artifacts.artifactCount, 17L);
+    }
+
+    @Benchmark
+    public void askForFacts(SyntheticArtifacts artifacts, Blackhole blackhole) {
+        for (Artifact artifact : artifacts.getArtifacts()) {
+            blackhole.consume(artifact.getMainCoordinate());
+            blackhole.consume(artifact.askFor(ArtifactFilename.class));
+            blackhole.consume(artifact.askForGet(DeclaredLicenseInformation.class));
+        }
+    }
+
+    @Benchmark
+    public void askForMissingFacts(SyntheticArtifacts artifacts, Blackhole blackhole) {
+        for (Artifact artifact : artifacts.getArtifacts()) {
+            blackhole.consume(artifact.askFor(ArtifactSourceFile.class));
+            blackhole.consume(artifact.getFlag(Artifact.IS_IGNORE_FOR_DOWNLOAD_KEY));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Compares the JSON results of a JMH run with a baseline run and reports the change of every benchmark.
+ *
+ * The files are configured by the system properties {@code benchmark.baseline} and {@code benchmark.results}. A
+ * benchmark is reported as regression if it got worse by more than {@code benchmark.threshold} percent, in which case
+ * the process exits with a non-zero status. Benchmarks are identified by their name and their parameters, benchmarks
+ * only present in one of the runs are listed without a change. The JVMs the runs were recorded with are listed above
+ * the comparison, with a warning if they differ.
+ */
+public class BenchmarkComparison {
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    /**
+     * The primary score of a benchmark run with a set of parameters.
+     */
+    static final class Result {
+        private final String benchmark;
+        private final String params;
+        private final String mode;
+        private final double score;
+        private final String unit;
+
+        Result(String benchmark, String params, String mode, double score, String unit) {
+            this.benchmark = benchmark;
+            this.params = params;
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+        }
+
+        String getKey() {
+            return params.isEmpty() ? benchmark : benchmark + " [" + params + "]";
+        }
+    }
+
+    /**
+     * A benchmark with its scores in the baseline run and in the current run, either of which can be missing.
+     */
+    static final class Comparison {
+        private final String key;
+        private final Result baseline;
+        private final Result current;
+
+        Comparison(String key, Result baseline, Result current) {
+            this.key = key;
+            this.baseline = baseline;
+            this.current = current;
+        }
+
+        /**
+         * @return the change of the score in percent, positive if the benchmark got better
+         */
+        Optional<Double> getImprovement() {
+            if (baseline == null || current == null || baseline.score == 0 || !baseline.unit.equals(current.unit)) {
+                return Optional.empty();
+            }
+            double change = (current.score - baseline.score) / baseline.score * 100;
+            return Optional.of(THROUGHPUT_MODE.equals(current.mode) ? change : -change);
+        }
+
+        boolean isRegression(double threshold) {
+            return getImprovement().map(improvement -> improvement < -threshold).orElse(false);
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final double threshold;
+
+    public BenchmarkComparison(double threshold) {
+        this.threshold = threshold;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path baseline = Paths.get(System.getProperty("benchmark.baseline", "baseline.json"));
+        Path results = Paths.get(System.getProperty("benchmark.results", "target/results.json"));
+        BenchmarkComparison comparison = new BenchmarkComparison(
+                Double.parseDouble(System.getProperty("benchmark.threshold", "10")));
+
+        List<Comparison> comparisons = comparison.compare(baseline, results);
+        System.out.print(comparison.describeEnvironments(baseline, results));
+        System.out.print(comparison.report(comparisons));
+        if (comparisons.stream().anyMatch(c -> c.isRegression(comparison.threshold))) {
+            System.exit(1);
+        }
+    }
+
+    public List<Comparison> compare(Path baselineFile, Path resultsFile) throws IOException {
+        Map<String, Result> baseline = read(baselineFile);
+        Map<String, Result> current = read(resultsFile);
+
+        Map<String, Comparison> comparisons = new LinkedHashMap<>();
+        current.forEach((key, result) -> comparisons.put(key, new Comparison(key, baseline.get(key), result)));
+        baseline.forEach((key, result) -> comparisons.putIfAbsent(key, new Comparison(key, result, null)));
+        return new ArrayList<>(comparisons.values());
+    }
+
+    /**
+     * @return the JDK versions and VMs, which the baseline and the current run were recorded with
+     */
+    public String describeEnvironments(Path baselineFile, Path resultsFile) throws IOException {
+        Set<String> baseline = readEnvironments(baselineFile);
+        Set<String> current = readEnvironments(resultsFile);
+
+        StringBuilder description = new StringBuilder()
+                .append("Baseline: ").append(String.join("; ", baseline)).append('\n')
+                .append("Current: ").append(String.join("; ", current)).append('\n');
+        if (!baseline.equals(current)) {
+            description.append("WARNING: The runs were recorded with different JVMs, their scores are not comparable\n");
+        }
+        return description.append('\n').toString();
+    }
+
+    private Set<String> readEnvironments(Path file) throws IOException {
+        Set<String> environments = new TreeSet<>();
+        for (JsonNode run : readRuns(file)) {
+            environments.add(String.format("JDK %s, %s %s", run.path("jdkVersion").asText("unknown"),
+                    run.path("vmName").asText("unknown VM"), run.path("vmVersion").asText("")).trim());
+        }
+        return environments;
+    }
+
+    public String report(List<Comparison> comparisons) {
+        StringBuilder report = new StringBuilder()
+                .append("| Benchmark | Unit | Baseline | Current | Improvement |\n")
+                .append("|---|---|---:|---:|---:|\n");
+        int regressions = 0;
+        for (Comparison comparison : comparisons) {
+            Result any = comparison.current != null ? comparison.current : comparison.baseline;
+            report.append("| ").append(comparison.key)
+                    .append(" | ").append(any.unit)
+                    .append(" | ").append(formatScore(comparison.baseline))
+                    .append(" | ").append(formatScore(comparison.current))
+                    .append(" | ").append(formatChange(comparison))
+                    .append(" |\n");
+            if (comparison.isRegression(threshold)) {
+                regressions++;
+            }
+        }
+        report.append('\n')
+                .append(regressions)
+                .append(String.format(Locale.ROOT, " regression(s) of more than %.1f%%%n", threshold));
+        return report.toString();
+    }
+
+    private String formatScore(Result result) {
+        return result == null ? "-" : String.format(Locale.ROOT, "%.3f", result.score);
+    }
+
+    private String formatChange(Comparison comparison) {
+        return comparison.getImprovement()
+                .map(improvement -> String.format(Locale.ROOT, "%+.1f%%%s", improvement,
+                        comparison.isRegression(threshold) ? " REGRESSION" : ""))
+                .orElse(comparison.baseline == null ? "new" : comparison.current == null ? "removed" : "-");
+    }
+
+    private JsonNode readRuns(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new NoSuchFileException(file.toString(), null,
+                    "Run the benchmarks with '-rf json -rff <file>' to record the results");
+        }
+        return objectMapper.readTree(file.toFile());
+    }
+
+    private Map<String, Result> read(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : readRuns(file)) {
+            Result result = new Result(
+                    run.path("benchmark").asText(),
+                    readParams(run.path("params")),
+                    run.path("mode").asText(),
+                    run.path("primaryMetric").path("score").asDouble(),
+                    run.path("primaryMetric").path("scoreUnit").asText());
+            results.put(result.getKey(), result);
+        }
+        return results;
+    }
+
+    private static String readParams(JsonNode params) {
+        Map<String, String> sorted = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            sorted.put(field.getKey(), field.getValue().asText());
+        }
+
+        StringBuilder result = new StringBuilder();
+        sorted.forEach((name, value) -> result.append(result.length() == 0 ? "" : ", ")
+                .append(name).append('=').append(value));
+        return result.toString();
+    }
+}
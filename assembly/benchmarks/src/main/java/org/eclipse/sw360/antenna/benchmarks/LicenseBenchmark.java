@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.benchmarks;
+
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.util.ArtifactLicenseUtils;
+import org.eclipse.sw360.antenna.util.LicenseSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing the SPDX expressions reported by the analyzers and computing the final licenses of the artifacts, as the
+ * generators and the policy checks do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LicenseBenchmark {
+
+    @Benchmark
+    public void parseSpdxExpressions(SyntheticArtifacts artifacts, Blackhole blackhole) {
+        for (String expression : artifacts.getLicenseExpressions()) {
+            blackhole.consume(LicenseSupport.fromSPDXExpression(expression));
+        }
+    }
+
+    @Benchmark
+    public void getFinalLicenses(SyntheticArtifacts artifacts, Blackhole blackhole) {
+        for (Artifact artifact : artifacts.getArtifacts()) {
+            blackhole.consume(ArtifactLicenseUtils.getFinalLicenses(artifact));
+        }
+    }
+
+    @Benchmark
+    public void evaluateFinalLicenses(SyntheticArtifacts artifacts, Blackhole blackhole) {
+        for (Artifact artifact : artifacts.getArtifacts()) {
+            blackhole.consume(ArtifactLicenseUtils.getFinalLicenses(artifact).evaluate());
+        }
+    }
+
+    @Benchmark
+    public void evaluateFinalLicenseExpressions(SyntheticArtifacts artifacts, Blackhole blackhole) {
+        for (Artifact artifact : artifacts.getArtifacts()) {
+            blackhole.consume(ArtifactLicenseUtils.getFinalLicenseExpression(artifact).evaluate());
+        }
+    }
+}
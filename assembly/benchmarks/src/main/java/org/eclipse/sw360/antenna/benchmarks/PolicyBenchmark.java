@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.benchmarks;
+
+import org.eclipse.sw360.antenna.api.IPolicyEvaluation;
+import org.eclipse.sw360.antenna.drools.DroolsEngine;
+import org.eclipse.sw360.antenna.policies.BasicRuleset;
+import org.eclipse.sw360.antenna.policy.workflow.processors.PolicyEngineProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Evaluating the artifacts with the {@link BasicRuleset} of the policy engine and with a small Drools rule set.
+ * The Drools engine compiles its rules on every evaluation, as it does in a build, so the compilation is part of
+ * the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PolicyBenchmark {
+    private static final String POLICIES = "benchmark-policies";
+    private static final String[] POLICY_FILES = {
+            "policies.properties", "policies.xml", "rules/BenchmarkRules.drl"
+    };
+
+    @State(Scope.Benchmark)
+    public static class Engines {
+        private PolicyEngineProcessor policyEngine;
+        private DroolsEngine droolsEngine;
+        private Path rulesetDirectory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            policyEngine = new PolicyEngineProcessor();
+            policyEngine.configure(Collections.singletonMap("ruleset.classes", BasicRuleset.class.getName()));
+
+            rulesetDirectory = Files.createTempDirectory("benchmark-rules");
+            for (String policyFile : POLICY_FILES) {
+                Path target = rulesetDirectory.resolve(POLICIES).resolve(policyFile);
+                Files.createDirectories(target.getParent());
+                try (InputStream in = PolicyBenchmark.class.getResourceAsStream("/" + POLICIES + "/" + policyFile)) {
+                    Files.copy(in, target);
+                }
+            }
+            droolsEngine = new DroolsEngine();
+            droolsEngine.setRulesetDirectory(rulesetDirectory.toString());
+            droolsEngine.setRulesetPaths(Collections.singletonList(POLICIES));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            try (Stream<Path> files = Files.walk(rulesetDirectory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    public IPolicyEvaluation policyEngine(SyntheticArtifacts artifacts, Engines engines) {
+        return engines.policyEngine.evaluate(artifacts.getArtifacts());
+    }
+
+    @Benchmark
+    public IPolicyEvaluation droolsEngine(SyntheticArtifacts artifacts, Engines engines) {
+        return engines.droolsEngine.evaluate(artifacts.getArtifacts());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.sw360.antenna.sw360.rest.resource.LinkObjects;
+import org.eclipse.sw360.antenna.sw360.rest.resource.Self;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360ComponentList;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360ComponentListEmbedded;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360ComponentType;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360SparseComponent;
+import org.eclipse.sw360.antenna.sw360.utils.RestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Deserializing a component list response of SW360, the largest payload the SW360 client receives, with the
+ * {@link ObjectMapper} shared by all SW360 clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SW360DeserializationBenchmark {
+    private final ObjectMapper objectMapper = RestUtils.getObjectMapper();
+
+    @Param({"1000", "10000", "100000"})
+    public int componentCount;
+
+    private byte[] response;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<SW360SparseComponent> components = IntStream.range(0, componentCount)
+                .mapToObj(i -> {
+                    SW360SparseComponent component = new SW360SparseComponent()
+                            .setName(SyntheticArtifacts.name(i))
+                            .setComponentType(SW360ComponentType.OSS);
+                    component.set_Links(new LinkObjects()
+                            .setSelf(new Self().setHref("https://sw360.org/api/components/" + i)));
+                    return component;
+                })
+                .collect(Collectors.toList());
+
+        SW360ComponentList componentList = new SW360ComponentList();
+        componentList.set_Embedded(new SW360ComponentListEmbedded().setComponents(components));
+        response = objectMapper.writeValueAsBytes(componentList);
+    }
+
+    @Benchmark
+    public SW360ComponentList readComponentList() throws IOException {
+        return objectMapper.readValue(response, SW360ComponentList.class);
+    }
+}
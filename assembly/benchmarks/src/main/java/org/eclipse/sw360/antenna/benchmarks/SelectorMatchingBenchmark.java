@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.benchmarks;
+
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactCoordinates;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorHelper;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching the artifacts against the selectors of a configuration, once by asking every selector and once through
+ * an {@link ArtifactSelectorIndex}. Most selectors name a single artifact, some use wildcards in the version or the
+ * file name, as configurations for overrides, removals and declined artifacts do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectorMatchingBenchmark {
+    private static final int SELECTORS = 200;
+
+    @State(Scope.Benchmark)
+    public static class Selectors {
+        private List<ArtifactSelector> selectors;
+        private List<String> filenamePatterns;
+        private List<String> filenames;
+        private ArtifactSelectorIndex<ArtifactSelector> index;
+
+        @Setup(Level.Trial)
+        public void setUp(SyntheticArtifacts artifacts) {
+            int step = Math.max(1, artifacts.artifactCount / SELECTORS);
+            selectors = new ArrayList<>(SELECTORS);
+            filenamePatterns = new ArrayList<>();
+            for (int i = 0; i < SELECTORS; i++) {
+                int artifact = i * step;
+                switch (i % 10) {
+                    case 0:
+                        selectors.add(new ArtifactCoordinates(new Coordinate(Coordinate.Types.MAVEN,
+                                SyntheticArtifacts.namespace(artifact), SyntheticArtifacts.name(artifact), "*")));
+                        break;
+                    case 1:
+                        String pattern = SyntheticArtifacts.name(artifact) + "-*.jar";
+                        filenamePatterns.add(pattern);
+                        selectors.add(new ArtifactFilename(pattern));
+                        break;
+                    case 2:
+                        selectors.add(new ArtifactFilename(SyntheticArtifacts.filename(artifact)));
+                        break;
+                    default:
+                        selectors.add(new ArtifactCoordinates(new Coordinate(Coordinate.Types.MAVEN,
+                                SyntheticArtifacts.namespace(artifact), SyntheticArtifacts.name(artifact),
+                                SyntheticArtifacts.version(artifact))));
+                }
+            }
+            index = ArtifactSelectorIndex.of(selectors);
+
+            filenames = new ArrayList<>(artifacts.artifactCount);
+            for (int i = 0; i < artifacts.artifactCount; i++) {
+                filenames.add(SyntheticArtifacts.filename(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public void matchAllSelectors(SyntheticArtifacts artifacts, Selectors selectors, Blackhole blackhole) {
+        for (Artifact artifact : artifacts.getArtifacts()) {
+            for (ArtifactSelector selector : selectors.selectors) {
+                blackhole.consume(selector.matches(artifact));
+            }
+        }
+    }
+
+    @Benchmark
+    public void matchIndex(SyntheticArtifacts artifacts, Selectors selectors, Blackhole blackhole) {
+        for (Artifact artifact : artifacts.getArtifacts()) {
+            blackhole.consume(selectors.index.findMatching(artifact));
+        }
+    }
+
+    @Benchmark
+    public ArtifactSelectorIndex<ArtifactSelector> buildIndex(Selectors selectors) {
+        return ArtifactSelectorIndex.of(selectors.selectors);
+    }
+
+    @Benchmark
+    public void compareWildcards(Selectors selectors, Blackhole blackhole) {
+        for (String filename : selectors.filenames) {
+            for (String pattern : selectors.filenamePatterns) {
+                blackhole.consume(ArtifactSelectorHelper.compareStringsAsWildcard(pattern, filename));
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.benchmarks;
+
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.artifact.facts.ConfiguredLicenseInformation;
+import org.eclipse.sw360.antenna.model.artifact.facts.DeclaredLicenseInformation;
+import org.eclipse.sw360.antenna.model.artifact.facts.ObservedLicenseInformation;
+import org.eclipse.sw360.antenna.model.artifact.facts.OverriddenLicenseInformation;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.eclipse.sw360.antenna.util.LicenseSupport;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A reproducible set of artifacts as an analyzer would report them for a large project.
+ * <p>
+ * Most artifacts are Maven artifacts, the others are npm or generic artifacts. Every artifact has a file name with a
+ * hash and a declared license, half of them also have an observed license, and a few have a configured or overridden
+ * license or are proprietary. The license expressions are taken from {@link #LICENSE_EXPRESSIONS}, which mixes single
+ * licenses with the compound expressions found in real projects.
+ */
+@State(Scope.Benchmark)
+public class SyntheticArtifacts {
+    static final String[] LICENSE_EXPRESSIONS = {
+            "Apache-2.0",
+            "MIT",
+            "EPL-2.0",
+            "BSD-3-Clause",
+            "Apache-2.0 AND MIT",
+            "EPL-1.0 OR LGPL-2.1+",
+            "EPL-2.0 OR GPL-2.0-only",
+            "(MIT OR Apache-2.0) AND BSD-3-Clause",
+            "LGPL-2.1-or-later AND (MPL-2.0 OR EPL-1.0)",
+            "CDDL-1.1 OR GPL-2.0-only",
+            "Apache-2.0 AND (BSD-2-Clause OR MIT) AND LicenseRef-scancode-public-domain",
+            "GPL-3.0-or-later"
+    };
+
+    private static final long SEED = 4711L;
+    private static final int GROUPS = 500;
+
+    @Param({"1000", "10000", "100000"})
+    public int artifactCount;
+
+    private List<Artifact> artifacts;
+    private List<String> licenseExpressions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        licenseExpressions = licenseExpressions(artifactCount, SEED);
+        artifacts = generate(artifactCount, SEED);
+    }
+
+    public List<Artifact> getArtifacts() {
+        return artifacts;
+    }
+
+    /**
+     * @return the expression of the declared license of every artifact, in the order of the artifacts
+     */
+    public List<String> getLicenseExpressions() {
+        return licenseExpressions;
+    }
+
+    static List<Artifact> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> expressions = licenseExpressions(count, seed);
+        List<Artifact> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(createArtifact(i, expressions.get(i), random));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    static List<String> licenseExpressions(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(LICENSE_EXPRESSIONS[random.nextInt(LICENSE_EXPRESSIONS.length)]);
+        }
+        return result;
+    }
+
+    static String namespace(int index) {
+        return "org.example.group" + index % GROUPS;
+    }
+
+    static String name(int index) {
+        return "library-" + index;
+    }
+
+    static String version(int index) {
+        return (1 + index % 5) + "." + index % 13 + "." + index % 3;
+    }
+
+    static String filename(int index) {
+        return name(index) + "-" + version(index) + ".jar";
+    }
+
+    private static Artifact createArtifact(int index, String licenseExpression, Random random) {
+        Artifact artifact = new Artifact("Benchmark")
+                .addCoordinate(coordinate(index))
+                .addFact(new ArtifactFilename(filename(index), Integer.toHexString(index * 31 + 7)))
+                .addFact(new DeclaredLicenseInformation(LicenseSupport.fromSPDXExpression(licenseExpression)));
+
+        int roll = random.nextInt(100);
+        if (roll < 50) {
+            artifact.addFact(new ObservedLicenseInformation(LicenseSupport.fromSPDXExpression(
+                    LICENSE_EXPRESSIONS[random.nextInt(LICENSE_EXPRESSIONS.length)])));
+        }
+        if (roll < 5) {
+            artifact.addFact(new ConfiguredLicenseInformation(LicenseSupport.fromSPDXExpression("Apache-2.0")));
+        } else if (roll < 10) {
+            artifact.addFact(new OverriddenLicenseInformation(LicenseSupport.fromSPDXExpression("MIT")));
+        }
+        if (roll >= 98) {
+            artifact.setProprietary(true);
+        }
+        return artifact;
+    }
+
+    private static Coordinate coordinate(int index) {
+        switch (index % 10) {
+            case 0:
+                return new Coordinate(Coordinate.Types.NPM, "@example", name(index), version(index));
+            case 1:
+                return new Coordinate(Coordinate.Types.NPM, name(index), version(index));
+            case 2:
+                return new Coordinate(Coordinate.Types.GENERIC, name(index), version(index));
+            default:
+                return new Coordinate(Coordinate.Types.MAVEN, namespace(index), name(index), version(index));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.benchmarks;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class BenchmarkComparisonTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final BenchmarkComparison comparison = new BenchmarkComparison(10);
+
+    private Path writeResults(String name, String... runs) throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve(name);
+        Files.write(file, ("[" + String.join(",", runs) + "]").getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String run(String benchmark, String mode, int artifactCount, double score) {
+        return "{\"benchmark\": \"" + benchmark + "\", \"mode\": \"" + mode + "\", " +
+                "\"params\": {\"artifactCount\": \"" + artifactCount + "\"}, " +
+                "\"primaryMetric\": {\"score\": " + score + ", \"scoreUnit\": \"ms/op\"}}";
+    }
+
+    @Test
+    public void testSlowerAverageTimeIsRegression() throws IOException {
+        Path baseline = writeResults("baseline.json",
+                run("LicenseBenchmark.getFinalLicenses", "avgt", 1000, 10.0),
+                run("LicenseBenchmark.getFinalLicenses", "avgt", 10000, 100.0));
+        Path results = writeResults("results.json",
+                run("LicenseBenchmark.getFinalLicenses", "avgt", 1000, 10.5),
+                run("LicenseBenchmark.getFinalLicenses", "avgt", 10000, 150.0));
+
+        List<BenchmarkComparison.Comparison> comparisons = comparison.compare(baseline, results);
+
+        assertThat(comparisons).hasSize(2);
+        assertThat(comparisons.get(0).isRegression(10)).isFalse();
+        assertThat(comparisons.get(0).getImprovement()).hasValueSatisfying(
+                improvement -> assertThat(improvement).isCloseTo(-5.0, within(0.01)));
+        assertThat(comparisons.get(1).isRegression(10)).isTrue();
+        assertThat(comparison.report(comparisons))
+                .contains("LicenseBenchmark.getFinalLicenses [artifactCount=10000] | ms/op | 100.000 | 150.000 | " +
+                        "-50.0% REGRESSION")
+                .contains("1 regression(s) of more than 10.0%");
+    }
+
+    @Test
+    public void testLowerThroughputIsRegression() throws IOException {
+        Path baseline = writeResults("baseline.json", run("A.throughput", "thrpt", 1000, 100.0));
+        Path results = writeResults("results.json", run("A.throughput", "thrpt", 1000, 80.0));
+
+        assertThat(comparison.compare(baseline, results).get(0).isRegression(10)).isTrue();
+    }
+
+    @Test
+    public void testBenchmarksOfOneRunOnlyAreListed() throws IOException {
+        Path baseline = writeResults("baseline.json", run("A.removed", "avgt", 1000, 1.0));
+        Path results = writeResults("results.json", run("A.added", "avgt", 1000, 1.0));
+
+        String report = comparison.report(comparison.compare(baseline, results));
+
+        assertThat(report)
+                .contains("A.added [artifactCount=1000] | ms/op | - | 1.000 | new")
+                .contains("A.removed [artifactCount=1000] | ms/op | 1.000 | - | removed")
+                .contains("0 regression(s)");
+    }
+
+    @Test
+    public void testDifferentJvmsAreReported() throws IOException {
+        Path baseline = writeResults("baseline.json", "{\"benchmark\": \"A.b\", \"jdkVersion\": \"1.8.0_232\", " +
+                "\"vmName\": \"OpenJDK 64-Bit Server VM\", \"vmVersion\": \"25.232-b09\"}");
+        Path results = writeResults("results.json", "{\"benchmark\": \"A.b\", \"jdkVersion\": \"11.0.5\", " +
+                "\"vmName\": \"OpenJDK 64-Bit Server VM\", \"vmVersion\": \"11.0.5+10\"}");
+
+        assertThat(comparison.describeEnvironments(baseline, results))
+                .contains("Baseline: JDK 1.8.0_232, OpenJDK 64-Bit Server VM 25.232-b09")
+                .contains("Current: JDK 11.0.5, OpenJDK 64-Bit Server VM 11.0.5+10")
+                .contains("WARNING");
+        assertThat(comparison.describeEnvironments(baseline, baseline)).doesNotContain("WARNING");
+    }
+
+    @Test(expected = NoSuchFileException.class)
+    public void testMissingBaselineIsReported() throws IOException {
+        Path results = writeResults("results.json", run("A.added", "avgt", 1000, 1.0));
+
+        comparison.compare(temporaryFolder.getRoot().toPath().resolve("baseline.json"), results);
+    }
+}
@@ -11,12 +11,19 @@
 package org.eclipse.sw360.antenna.frontend.cli;
 
 import org.eclipse.sw360.antenna.frontend.stub.cli.AbstractAntennaCLIFrontend;
+import org.eclipse.sw360.antenna.frontend.stub.cli.daemon.AntennaDaemonClient;
+import org.eclipse.sw360.antenna.frontend.stub.cli.daemon.DaemonRun;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 public final class AntennaCLIFrontend extends AbstractAntennaCLIFrontend {
+    private static final String PLUGIN_DESCENDANT_ARTIFACT_ID_NAME = "antenna-maven-plugin";
+    private static final String DAEMON_OPTION = "--daemon";
+    private static final String STOP_DAEMON_OPTION = "--stop-daemon";
+    private static final String DAEMON_IDLE_TIMEOUT_OPTION = "--daemon-idle-timeout=";
 
     public AntennaCLIFrontend(File file) {
         super(file);
@@ -24,24 +31,61 @@ public final class AntennaCLIFrontend extends AbstractAntennaCLIFrontend {
 
     @Override
     protected String getPluginDescendantArtifactIdName() {
-        return "antenna-maven-plugin";
+        return PLUGIN_DESCENDANT_ARTIFACT_ID_NAME;
     }
 
     public static void main(String[] args) {
-        if (args.length != 1) {
+        boolean daemon = false;
+        boolean stopDaemon = false;
+        Duration idleTimeout = AntennaDaemonClient.DEFAULT_IDLE_TIMEOUT;
+        String pomFile = null;
+        try {
+            for (String arg : args) {
+                if (DAEMON_OPTION.equals(arg)) {
+                    daemon = true;
+                } else if (STOP_DAEMON_OPTION.equals(arg)) {
+                    stopDaemon = true;
+                } else if (arg.startsWith(DAEMON_IDLE_TIMEOUT_OPTION)) {
+                    idleTimeout = Duration.ofMinutes(Long.parseLong(arg.substring(DAEMON_IDLE_TIMEOUT_OPTION.length())));
+                } else if (pomFile == null && !arg.startsWith("--")) {
+                    pomFile = arg;
+                } else {
+                    throw new IllegalArgumentException("Unexpected argument " + arg);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(1);
+        }
+
+        if (stopDaemon) {
+            boolean stopped = new AntennaDaemonClient(idleTimeout).stop();
+            System.out.println(stopped ? "Antenna daemon stopped" : "No Antenna daemon is running");
+            return;
+        }
+        if (pomFile == null || idleTimeout.isNegative() || idleTimeout.isZero()) {
             printUsage();
             System.exit(1);
         }
 
         try {
-            Path pomFilePath = Paths.get(args[0]).toAbsolutePath();
+            Path pomFilePath = Paths.get(pomFile).toAbsolutePath();
 
             if (!pomFilePath.toFile().exists()) {
                 throw new IllegalArgumentException("Cannot find " + pomFilePath.toString());
             }
 
-            AntennaCLIFrontend frontend = new AntennaCLIFrontend(pomFilePath.toFile());
-            frontend.execute();
+            if (daemon) {
+                Path parent = pomFilePath.getParent();
+                DaemonRun run = new DaemonRun(pomFilePath.toFile(), parent.resolve("target").toString(),
+                        parent.resolve("src").toString(), PLUGIN_DESCENDANT_ARTIFACT_ID_NAME)
+                        .setEnvironment(System.getenv());
+                new AntennaDaemonClient(idleTimeout).run(run);
+            } else {
+                AntennaCLIFrontend frontend = new AntennaCLIFrontend(pomFilePath.toFile());
+                frontend.execute();
+            }
         } catch (Exception e) {
             e.printStackTrace();
             System.out.println("Error: " + e.getMessage());
@@ -51,6 +95,7 @@ public final class AntennaCLIFrontend extends AbstractAntennaCLIFrontend {
 
 
     private static void printUsage() {
-        System.out.println("Usage: java -jar antenna.jar <pomFilePath>");
+        System.out.println("Usage: java -jar antenna.jar [--daemon [--daemon-idle-timeout=<minutes>]] <pomFilePath>");
+        System.out.println("       java -jar antenna.jar --stop-daemon");
     }
 }
@@ -64,9 +64,11 @@ public class SW360Exporter {
                 .map(this::getIdFromHalResource)
                 .filter(id -> !id.equals(""))
                 .map(id -> connectionConfiguration.getSW360ReleaseClientAdapter().getReleaseById(id, headers))
+                .filter(Optional::isPresent)
                 .map(Optional::get)
                 .filter(sw360Release -> !isApproved(sw360Release))
-                .sorted(Comparator.comparing(rel -> new Date(rel.getCreatedOn())))
+                // SW360 reports the creation date as ISO date, which sorts chronologically as string
+                .sorted(Comparator.comparing(SW360Release::getCreatedOn, Comparator.nullsLast(Comparator.naturalOrder())))
                 .collect(Collectors.toList());
     }
 
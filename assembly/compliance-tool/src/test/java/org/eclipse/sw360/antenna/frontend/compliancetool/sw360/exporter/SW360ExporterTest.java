@@ -15,6 +15,7 @@ import org.eclipse.sw360.antenna.frontend.compliancetool.sw360.SW360TestUtils;
 import org.eclipse.sw360.antenna.sw360.adapter.SW360ComponentClientAdapter;
 import org.eclipse.sw360.antenna.sw360.adapter.SW360ReleaseClientAdapter;
 import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360Component;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360ComponentEmbedded;
 import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360SparseComponent;
 import org.eclipse.sw360.antenna.sw360.rest.resource.releases.SW360Release;
 import org.eclipse.sw360.antenna.sw360.workflow.SW360ConnectionConfiguration;
@@ -27,8 +28,10 @@ import org.springframework.http.HttpHeaders;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -88,4 +91,30 @@ public class SW360ExporterTest {
         CSVParser csvParser = SW360TestUtils.getCsvParser(csvFile);
         assertThat(csvParser.getRecords().size()).isEqualTo(1);
     }
+
+    @Test
+    public void testExporterSortsReleasesByCreationDateAndSkipsMissingReleases() throws IOException {
+        SW360Component component = SW360TestUtils.mkSW360Component("testComponent");
+        component.set_Embedded(new SW360ComponentEmbedded().setReleases(Arrays.asList(
+                SW360TestUtils.mkSW3SparseRelease("newer"),
+                SW360TestUtils.mkSW3SparseRelease("missing"),
+                SW360TestUtils.mkSW3SparseRelease("older"))));
+        when(componentClientAdapterMock.getComponentById(any(), any()))
+                .thenReturn(Optional.of(component));
+        SW360Release newer = SW360TestUtils.mkSW360Release("newer").setVersion("2.0").setCreatedOn("2019-12-04");
+        SW360Release older = SW360TestUtils.mkSW360Release("older").setVersion("1.0").setCreatedOn("2019-11-20");
+        when(releaseClientAdapterMock.getReleaseById(any(), any()))
+                .thenReturn(Optional.of(newer), Optional.empty(), Optional.of(older));
+
+        SW360Exporter sw360Exporter = new SW360Exporter();
+        sw360Exporter.setConnectionConfiguration(connectionConfigurationMock);
+        sw360Exporter.setCsvFile(csvFile);
+        sw360Exporter.execute();
+
+        CSVParser csvParser = SW360TestUtils.getCsvParser(csvFile);
+        assertThat(csvParser.getRecords().stream()
+                .map(record -> record.get("Version"))
+                .collect(Collectors.toList()))
+                .containsExactly("1.0", "2.0");
+    }
 }
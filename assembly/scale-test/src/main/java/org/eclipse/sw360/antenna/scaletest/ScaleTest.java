@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.scaletest;
+
+import org.eclipse.sw360.antenna.api.configuration.AntennaContext;
+import org.eclipse.sw360.antenna.frontend.stub.cli.AbstractAntennaCLIFrontend;
+import org.eclipse.sw360.antenna.workflow.AntennaWorkflow;
+import org.eclipse.sw360.antenna.workflow.AntennaWorkflowConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Generates a {@link SyntheticProject} and analyzes it with the complete {@link AntennaWorkflow} of the CLI frontend,
+ * measuring every step with a {@link StepMonitor}.
+ *
+ * The test is configured by system properties, see {@link Settings}. It fails if the workflow fails or if the total
+ * wall time, the wall time of a step or the peak heap usage of a step exceeds its threshold, a threshold of zero is
+ * not checked.
+ */
+public class ScaleTest {
+    /**
+     * The size of the project and the thresholds.
+     */
+    public static final class Settings {
+        final int artifacts;
+        final int classesPerJar;
+        final int configurationEntries;
+        final long maxMillis;
+        final long maxStepMillis;
+        final long maxHeapMegabytes;
+
+        public Settings(int artifacts, int classesPerJar, int configurationEntries,
+                        long maxMillis, long maxStepMillis, long maxHeapMegabytes) {
+            this.artifacts = artifacts;
+            this.classesPerJar = classesPerJar;
+            this.configurationEntries = configurationEntries;
+            this.maxMillis = maxMillis;
+            this.maxStepMillis = maxStepMillis;
+            this.maxHeapMegabytes = maxHeapMegabytes;
+        }
+
+        public static Settings fromSystemProperties() {
+            return new Settings(
+                    Integer.getInteger("scaletest.artifacts", 10000),
+                    Integer.getInteger("scaletest.classesPerJar", 20),
+                    Integer.getInteger("scaletest.configurationEntries", 100),
+                    Long.getLong("scaletest.maxMillis", 0),
+                    Long.getLong("scaletest.maxStepMillis", 0),
+                    Long.getLong("scaletest.maxHeapMb", 0));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d artifacts with %d classes per jar, %d configuration entries of every kind, "
+                            + "max. %d ms in total, max. %d ms per step, max. %d MB heap per step",
+                    artifacts, classesPerJar, configurationEntries, maxMillis, maxStepMillis, maxHeapMegabytes);
+        }
+    }
+
+    /**
+     * The measurements of a run and the thresholds it exceeded.
+     */
+    public static final class Result {
+        private final Duration duration;
+        private final List<StepMonitor.StepMeasurement> measurements;
+        private final List<String> violations;
+        private final Exception failure;
+
+        Result(Duration duration, List<StepMonitor.StepMeasurement> measurements, List<String> violations,
+               Exception failure) {
+            this.duration = duration;
+            this.measurements = measurements;
+            this.violations = violations;
+            this.failure = failure;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public List<StepMonitor.StepMeasurement> getMeasurements() {
+            return measurements;
+        }
+
+        public List<String> getViolations() {
+            return violations;
+        }
+
+        public Optional<Exception> getFailure() {
+            return Optional.ofNullable(failure);
+        }
+
+        public boolean isSuccessful() {
+            return failure == null && violations.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder result = new StringBuilder(String.format("%-45s %13s %11s%n", "Step", "Wall time", "Peak heap"));
+            measurements.forEach(measurement -> result.append(measurement).append(System.lineSeparator()));
+            result.append(String.format("%-45s %10d ms%n", "Total", duration.toMillis()));
+            if (failure != null) {
+                result.append("failed: ").append(failure).append(System.lineSeparator());
+            }
+            violations.forEach(violation -> result.append("threshold exceeded: ").append(violation)
+                    .append(System.lineSeparator()));
+            return result.toString();
+        }
+    }
+
+    private static final class ScaleTestFrontend extends AbstractAntennaCLIFrontend {
+        ScaleTestFrontend(File pomFile) {
+            super(pomFile);
+        }
+
+        @Override
+        protected String getPluginDescendantArtifactIdName() {
+            return "antenna-maven-plugin";
+        }
+    }
+
+    private final Settings settings;
+
+    public ScaleTest(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws IOException {
+        ScaleTest scaleTest = new ScaleTest(Settings.fromSystemProperties());
+        System.out.println("Antenna scale test: " + scaleTest.settings);
+
+        Path projectDirectory = Files.createTempDirectory("antenna-scale-test");
+        Result result;
+        try {
+            result = scaleTest.run(projectDirectory);
+        } finally {
+            if (Boolean.getBoolean("scaletest.keep")) {
+                System.out.println("The project was kept in " + projectDirectory);
+            } else {
+                delete(projectDirectory);
+            }
+        }
+
+        System.out.print(result);
+        if (!result.isSuccessful()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates the project into the given directory and analyzes it.
+     */
+    public Result run(Path projectDirectory) throws IOException {
+        Path pom = new SyntheticProject(settings.artifacts, settings.classesPerJar, settings.configurationEntries)
+                .write(projectDirectory);
+
+        StepMonitor monitor = new StepMonitor();
+        long start = System.nanoTime();
+        Exception failure = null;
+        try {
+            AntennaContext context = new ScaleTestFrontend(pom.toFile()).init().buildAntennaContext();
+            try {
+                new AntennaWorkflow(new AntennaWorkflowConfiguration(context), monitor).execute();
+            } finally {
+                context.getProcessingReporter().writeReportToReportPath();
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        return new Result(duration, monitor.getMeasurements(), checkThresholds(duration, monitor.getMeasurements()),
+                failure);
+    }
+
+    private List<String> checkThresholds(Duration duration, List<StepMonitor.StepMeasurement> measurements) {
+        List<String> violations = new ArrayList<>();
+        if (settings.maxMillis > 0 && duration.toMillis() > settings.maxMillis) {
+            violations.add(String.format("the workflow took %d ms, more than %d ms",
+                    duration.toMillis(), settings.maxMillis));
+        }
+        for (StepMonitor.StepMeasurement measurement : measurements) {
+            if (settings.maxStepMillis > 0 && measurement.getDuration().toMillis() > settings.maxStepMillis) {
+                violations.add(String.format("%s took %d ms, more than %d ms", measurement.getStep(),
+                        measurement.getDuration().toMillis(), settings.maxStepMillis));
+            }
+            if (settings.maxHeapMegabytes > 0 && measurement.getPeakHeapMegabytes() > settings.maxHeapMegabytes) {
+                violations.add(String.format("%s used %d MB of heap, more than %d MB", measurement.getStep(),
+                        measurement.getPeakHeapMegabytes(), settings.maxHeapMegabytes));
+            }
+        }
+        return violations;
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.scaletest;
+
+import org.eclipse.sw360.antenna.api.workflow.ConfigurableWorkflowItem;
+import org.eclipse.sw360.antenna.workflow.WorkflowStepListener;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the wall time and the peak heap usage of every step of a workflow.
+ *
+ * The peak heap usage is the sum of the peak usages of all heap memory pools, which are reset before every step.
+ * As the pools do not reach their peaks at the same time, the sum can be higher than the actual peak, but it is
+ * never lower. Steps must not run concurrently.
+ */
+public class StepMonitor implements WorkflowStepListener {
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+            .collect(Collectors.toList());
+    private final List<StepMeasurement> measurements = new ArrayList<>();
+    private long stepStart;
+
+    /**
+     * The wall time and the peak heap usage of one step.
+     */
+    public static final class StepMeasurement {
+        private final String step;
+        private final Duration duration;
+        private final long peakHeapBytes;
+
+        StepMeasurement(String step, Duration duration, long peakHeapBytes) {
+            this.step = step;
+            this.duration = duration;
+            this.peakHeapBytes = peakHeapBytes;
+        }
+
+        public String getStep() {
+            return step;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public long getPeakHeapBytes() {
+            return peakHeapBytes;
+        }
+
+        public long getPeakHeapMegabytes() {
+            return peakHeapBytes / (1024 * 1024);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-45s %10d ms %8d MB", step, duration.toMillis(), getPeakHeapMegabytes());
+        }
+    }
+
+    @Override
+    public void beforeStep(ConfigurableWorkflowItem step) {
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        stepStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterStep(ConfigurableWorkflowItem step) {
+        Duration duration = Duration.ofNanos(System.nanoTime() - stepStart);
+        long peakHeapBytes = heapPools.stream()
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        measurements.add(new StepMeasurement(step.getClass().getSimpleName(), duration, peakHeapBytes));
+    }
+
+    public List<StepMeasurement> getMeasurements() {
+        return Collections.unmodifiableList(measurements);
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.scaletest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes an Antenna project of a configurable size, which can be analyzed offline by the CLI frontend.
+ *
+ * The project consists of
+ * <ul>
+ *     <li>a {@code pom.xml} with the configuration of Antenna,</li>
+ *     <li>{@code src/reportData.json}, the input of the JSON analyzer with the Maven artifacts,</li>
+ *     <li>{@code src/dependencies.csv}, the input of the CSV analyzer with the npm and generic artifacts,</li>
+ *     <li>a jar and a source jar for every Maven artifact in the dependencies directory of Antenna, where the Maven
+ *     artifact resolver finds them without downloading them,</li>
+ *     <li>{@code src/antennaconf.xml} with overrides, removed and added artifacts, final licenses and artifacts
+ *     excluded from source resolving and source validation,</li>
+ *     <li>{@code src/workflow.xml}, which adds the analyzers to the default workflow.</li>
+ * </ul>
+ *
+ * The content only depends on the settings, so two projects of the same size are identical. Seven of ten artifacts
+ * are Maven artifacts, every hundredth artifact is a Maven artifact with incomplete sources. The validators of the
+ * default workflow only report warnings for the generated data, so the analysis succeeds.
+ */
+public class SyntheticProject {
+    static final String[] LICENSES = {
+            "Apache-2.0", "MIT", "EPL-2.0", "BSD-3-Clause", "LGPL-2.1-only", "GPL-2.0-only", "MPL-2.0", "ISC"
+    };
+    static final String[] MATCH_STATES = { "exact", "exact", "exact", "similar", "unknown" };
+
+    private static final String CSV_HEADER = "Artifact Id,Group Id,Version,Coordinate Type,Effective License," +
+            "Declared License,Observed License,Copyrights,Hash,Source URL,Release Tag URL,Software Heritage ID," +
+            "Clearing State,Change Status,CPE,File Name";
+    private static final String HEADER_COMMENT = "<!-- generated by the Antenna scale test -->\n";
+
+    private final int artifacts;
+    private final int classesPerJar;
+    private final int configurationEntries;
+
+    /**
+     * @param artifacts            the number of artifacts found by the analyzers
+     * @param classesPerJar        the number of class files in every jar
+     * @param configurationEntries the number of entries of every kind in {@code antennaconf.xml}
+     */
+    public SyntheticProject(int artifacts, int classesPerJar, int configurationEntries) {
+        this.artifacts = artifacts;
+        this.classesPerJar = classesPerJar;
+        this.configurationEntries = configurationEntries;
+    }
+
+    /**
+     * Writes the project to the given directory.
+     *
+     * @return the pom of the project
+     */
+    public Path write(Path projectDirectory) throws IOException {
+        Path sourceDirectory = projectDirectory.resolve("src");
+        Path dependenciesDirectory = projectDirectory.resolve("target").resolve("antenna").resolve("dependencies");
+        Files.createDirectories(sourceDirectory);
+        Files.createDirectories(dependenciesDirectory);
+
+        writeJars(dependenciesDirectory);
+        writeJsonReport(sourceDirectory.resolve("reportData.json"));
+        writeCsvReport(sourceDirectory.resolve("dependencies.csv"));
+        writeAntennaConf(sourceDirectory.resolve("antennaconf.xml"));
+        writeWorkflow(sourceDirectory.resolve("workflow.xml"));
+
+        Path pom = projectDirectory.resolve("pom.xml");
+        writePom(pom);
+        return pom;
+    }
+
+    static boolean isMaven(int index) {
+        return index % 10 < 7;
+    }
+
+    static boolean isNpm(int index) {
+        return index % 10 == 7 || index % 10 == 8;
+    }
+
+    static boolean hasIncompleteSources(int index) {
+        return isMaven(index) && index % 100 == 0;
+    }
+
+    static String groupId(int index) {
+        return "org.example.scale.group" + index % 97;
+    }
+
+    static String artifactId(int index) {
+        return "artifact-" + index;
+    }
+
+    static String version(int index) {
+        return "1." + index % 13 + "." + index % 5;
+    }
+
+    static String jarName(int index) {
+        return artifactId(index) + "-" + version(index) + ".jar";
+    }
+
+    static String sourceJarName(int index) {
+        return artifactId(index) + "-" + version(index) + "-sources.jar";
+    }
+
+    private static String license(int index) {
+        return LICENSES[index % LICENSES.length];
+    }
+
+    private static String hash(int index) {
+        return String.format("%040x", (long) index * 2654435761L);
+    }
+
+    private void writeJars(Path dependenciesDirectory) throws IOException {
+        for (int i = 0; i < artifacts; i++) {
+            if (isMaven(i)) {
+                int javaFiles = hasIncompleteSources(i) ? classesPerJar / 2 : classesPerJar;
+                writeJar(dependenciesDirectory.resolve(jarName(i)), i, classesPerJar, ".class");
+                writeJar(dependenciesDirectory.resolve(sourceJarName(i)), i, javaFiles, ".java");
+            }
+        }
+    }
+
+    private void writeJar(Path jar, int index, int entries, String extension) throws IOException {
+        String packagePath = groupId(index).replace('.', '/') + "/artifact" + index + "/";
+        try (OutputStream out = Files.newOutputStream(jar);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < entries; i++) {
+                zip.putNextEntry(new ZipEntry(packagePath + "Class" + i + extension));
+                zip.write(("Class" + i + " of " + artifactId(index)).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private void writeJsonReport(Path file) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode report = objectMapper.createObjectNode();
+        ArrayNode components = report.putArray("components");
+        for (int i = 0; i < artifacts; i++) {
+            if (isMaven(i)) {
+                components.add(createComponent(objectMapper, i));
+            }
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+    }
+
+    private ObjectNode createComponent(ObjectMapper objectMapper, int index) {
+        ObjectNode component = objectMapper.createObjectNode()
+                .put("hash", hash(index));
+        ObjectNode coordinates = component.putObject("componentIdentifier")
+                .put("format", "maven")
+                .putObject("coordinates");
+        coordinates.put("groupId", groupId(index))
+                .put("artifactId", artifactId(index))
+                .put("version", version(index))
+                .put("classifier", "")
+                .put("extension", "jar");
+        component.put("proprietary", index % 50 == 0)
+                .put("matchState", MATCH_STATES[index % MATCH_STATES.length]);
+        component.putArray("pathnames").add(jarName(index));
+
+        ObjectNode licenseData = component.putObject("licenseData");
+        ArrayNode declaredLicenses = licenseData.putArray("declaredLicenses");
+        // every third artifact declares two licenses, which are combined to a conjunction
+        declaredLicenses.addObject().put("licenseId", license(index));
+        if (index % 3 == 0) {
+            declaredLicenses.addObject().put("licenseId", license(index + 1));
+        }
+        ArrayNode observedLicenses = licenseData.putArray("observedLicenses");
+        if (index % 2 == 0) {
+            observedLicenses.addObject().put("licenseId", license(index + 2));
+        }
+        licenseData.putArray("overriddenLicenses");
+
+        ArrayNode securityIssues = component.putObject("securityData").putArray("securityIssues");
+        if (index % 25 == 0) {
+            securityIssues.addObject()
+                    .put("reference", "CVE-2019-" + (10000 + index))
+                    .put("severity", 4.5)
+                    .put("source", "cve")
+                    .put("status", "Acknowledged")
+                    .put("url", "https://cve.mitre.org/cgi-bin/cvename.cgi?name=CVE-2019-" + (10000 + index));
+        }
+        return component;
+    }
+
+    private void writeCsvReport(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            for (int i = 0; i < artifacts; i++) {
+                if (!isMaven(i)) {
+                    writeCsvRecord(writer, i);
+                }
+            }
+        }
+    }
+
+    private void writeCsvRecord(BufferedWriter writer, int index) throws IOException {
+        boolean npm = isNpm(index);
+        String observedLicense = index % 2 == 0 ? license(index) + " OR " + license(index + 3) : "";
+        String[] values = {
+                artifactId(index),
+                npm ? "@scale" + index % 31 : "scale.generic",
+                version(index),
+                npm ? "npm" : "generic",
+                "",
+                license(index),
+                observedLicense,
+                "Copyright " + (2000 + index % 20) + " Scale Test Contributors",
+                hash(index),
+                "",
+                "",
+                "",
+                "",
+                "",
+                "",
+                npm ? "node_modules/" + artifactId(index) + "/package.json" : "lib/" + artifactId(index) + ".so"
+        };
+        writer.write(String.join(",", values));
+        writer.newLine();
+    }
+
+    /**
+     * Every kind of configuration entry targets a different range of Maven artifacts, so that the entries do not
+     * interfere with each other.
+     */
+    private void writeAntennaConf(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" + HEADER_COMMENT + "<config>\n");
+
+            writer.write("    <overrides>\n");
+            for (int i : mavenArtifacts(0)) {
+                writer.write("        <override>\n" +
+                        "            <artifactSelector>\n" +
+                        "                <filename>" + jarName(i) + "</filename>\n" +
+                        "            </artifactSelector>\n" +
+                        "            <overrideValue>\n" +
+                        "                <artifact>\n" +
+                        "                    <copyrightStatement>Copyright 2019 Overridden Holder " + i + "</copyrightStatement>\n" +
+                        "                    <modificationStatus>modified</modificationStatus>\n" +
+                        "                </artifact>\n" +
+                        "            </overrideValue>\n" +
+                        "        </override>\n");
+            }
+            writer.write("    </overrides>\n");
+
+            writer.write("    <removeArtifact>\n");
+            for (int i : mavenArtifacts(1)) {
+                writer.write("        <artifactSelector>\n" + mavenCoordinates(i, "            ") +
+                        "        </artifactSelector>\n");
+            }
+            writer.write("    </removeArtifact>\n");
+
+            writer.write("    <addArtifact>\n");
+            for (int i = 0; i < configurationEntries; i++) {
+                writer.write("        <artifact>\n" +
+                        "            <filename>added-" + i + ".jar</filename>\n" +
+                        "            <declaredLicense>\n" +
+                        "                <license>\n" +
+                        "                    <name>" + license(i) + "</name>\n" +
+                        "                </license>\n" +
+                        "            </declaredLicense>\n" +
+                        "            <isProprietary>false</isProprietary>\n" +
+                        "            <matchState>EXACT</matchState>\n" +
+                        "        </artifact>\n");
+            }
+            writer.write("    </addArtifact>\n");
+
+            writer.write("    <sourceResolving>\n        <ignoreForSourceResolving>\n");
+            for (int i : mavenArtifacts(2)) {
+                writer.write("            <artifactSelector>\n" + mavenCoordinates(i, "                ") +
+                        "            </artifactSelector>\n");
+            }
+            writer.write("        </ignoreForSourceResolving>\n    </sourceResolving>\n");
+
+            writer.write("    <setFinalLicenses>\n");
+            for (int i : mavenArtifacts(3)) {
+                writer.write("        <setFinalLicense>\n" +
+                        "            <artifactSelector>\n" +
+                        "                <filename>" + jarName(i) + "</filename>\n" +
+                        "            </artifactSelector>\n" +
+                        "            <license>\n" +
+                        "                <name>" + license(i + 5) + "</name>\n" +
+                        "            </license>\n" +
+                        "        </setFinalLicense>\n");
+            }
+            writer.write("    </setFinalLicenses>\n");
+
+            writer.write("    <sourceValidation>\n");
+            for (int i : mavenArtifacts(4)) {
+                writer.write("        <handleSourceAsValid>\n" +
+                        "            <artifactSelector>\n" +
+                        "                <filename>" + jarName(i) + "</filename>\n" +
+                        "            </artifactSelector>\n" +
+                        "        </handleSourceAsValid>\n");
+            }
+            writer.write("    </sourceValidation>\n");
+
+            writer.write("</config>\n");
+        }
+    }
+
+    /**
+     * @return the indexes of the Maven artifacts targeted by the given kind of configuration entry
+     */
+    private int[] mavenArtifacts(int kind) {
+        return IntStream.range(0, artifacts)
+                .filter(SyntheticProject::isMaven)
+                .filter(i -> i % 5 == kind)
+                .limit(configurationEntries)
+                .toArray();
+    }
+
+    private static String mavenCoordinates(int index, String indent) {
+        return indent + "<mavenCoordinates>\n" +
+                indent + "    <groupId>" + groupId(index) + "</groupId>\n" +
+                indent + "    <artifactId>" + artifactId(index) + "</artifactId>\n" +
+                indent + "    <version>" + version(index) + "</version>\n" +
+                indent + "</mavenCoordinates>\n";
+    }
+
+    private void writeWorkflow(Path file) throws IOException {
+        String workflow = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" + HEADER_COMMENT +
+                "<workflow>\n" +
+                "    <analyzers>\n" +
+                "        <step>\n" +
+                "            <name>JSON Analyzer</name>\n" +
+                "            <classHint>org.eclipse.sw360.antenna.workflow.analyzers.JsonAnalyzer</classHint>\n" +
+                "            <configuration>\n" +
+                "                <entry key=\"base.dir\" value=\"${project.basedir}\"/>\n" +
+                "                <entry key=\"file.path\" value=\"src/reportData.json\"/>\n" +
+                "            </configuration>\n" +
+                "        </step>\n" +
+                "        <step>\n" +
+                "            <name>CSV Analyzer</name>\n" +
+                "            <classHint>org.eclipse.sw360.antenna.workflow.analyzers.CsvAnalyzer</classHint>\n" +
+                "            <configuration>\n" +
+                "                <entry key=\"base.dir\" value=\"${project.basedir}\"/>\n" +
+                "                <entry key=\"file.path\" value=\"src/dependencies.csv\"/>\n" +
+                "                <entry key=\"delimiter\" value=\",\"/>\n" +
+                "            </configuration>\n" +
+                "        </step>\n" +
+                "    </analyzers>\n" +
+                "</workflow>\n";
+        Files.write(file, workflow.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writePom(Path pom) throws IOException {
+        String content = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" + HEADER_COMMENT +
+                "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n" +
+                "    <modelVersion>4.0.0</modelVersion>\n" +
+                "    <groupId>org.example.scale</groupId>\n" +
+                "    <artifactId>scale-test-project</artifactId>\n" +
+                "    <version>1.0</version>\n" +
+                "    <name>Scale test project with " + artifacts + " artifacts</name>\n" +
+                "    <build>\n" +
+                "        <plugins>\n" +
+                "            <plugin>\n" +
+                "                <groupId>org.eclipse.sw360.antenna</groupId>\n" +
+                "                <artifactId>antenna-maven-plugin</artifactId>\n" +
+                "                <configuration>\n" +
+                "                    <productName>Scale Test</productName>\n" +
+                "                    <productFullname>Scale Test Project</productFullname>\n" +
+                "                    <version>1.0</version>\n" +
+                "                    <configFiles>\n" +
+                "                        <param>${project.basedir}/src/antennaconf.xml</param>\n" +
+                "                    </configFiles>\n" +
+                "                    <workflowDefinitionFile>${project.basedir}/src/workflow.xml</workflowDefinitionFile>\n" +
+                "                </configuration>\n" +
+                "            </plugin>\n" +
+                "        </plugins>\n" +
+                "    </build>\n" +
+                "</project>\n";
+        Files.write(pom, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.scaletest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScaleTestTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testWorkflowRunsOnGeneratedProject() throws IOException {
+        ScaleTest scaleTest = new ScaleTest(new ScaleTest.Settings(50, 4, 2, 0, 0, 0));
+
+        ScaleTest.Result result = scaleTest.run(temporaryFolder.getRoot().toPath());
+
+        assertThat(result.getFailure()).isEmpty();
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.getMeasurements())
+                .extracting(StepMonitor.StepMeasurement::getStep)
+                .contains("JsonAnalyzer", "CsvAnalyzer", "MavenArtifactResolver", "SourceValidator",
+                        "HTMLReportGenerator", "SourceZipWriter");
+        assertThat(result.getMeasurements())
+                .allSatisfy(measurement -> assertThat(measurement.getPeakHeapBytes()).isPositive());
+        assertThat(temporaryFolder.getRoot().toPath().resolve("target/antenna/3rdparty-licenses.html")).exists();
+    }
+
+    @Test
+    public void testExceededThresholdsAreReported() throws IOException {
+        ScaleTest scaleTest = new ScaleTest(new ScaleTest.Settings(20, 2, 1, 0, 0, 1));
+
+        ScaleTest.Result result = scaleTest.run(temporaryFolder.getRoot().toPath());
+
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.getViolations()).isNotEmpty()
+                .allSatisfy(violation -> assertThat(violation).contains("MB of heap, more than 1 MB"));
+        assertThat(result.toString()).contains("threshold exceeded:");
+    }
+}
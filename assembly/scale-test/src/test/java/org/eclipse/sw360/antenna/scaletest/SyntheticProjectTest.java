@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.scaletest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SyntheticProjectTest {
+    private static final int ARTIFACTS = 200;
+    private static final int CLASSES_PER_JAR = 4;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path writeProject() throws IOException {
+        return new SyntheticProject(ARTIFACTS, CLASSES_PER_JAR, 3).write(temporaryFolder.getRoot().toPath());
+    }
+
+    @Test
+    public void testAnalyzerInputsContainAllArtifacts() throws IOException {
+        Path pom = writeProject();
+
+        JsonNode report = new ObjectMapper().readTree(pom.resolveSibling("src/reportData.json").toFile());
+        assertThat(report.path("components")).hasSize(ARTIFACTS * 7 / 10);
+        assertThat(report.path("components").get(0).path("pathnames").get(0).asText())
+                .isEqualTo(SyntheticProject.jarName(0));
+        assertThat(Files.readAllLines(pom.resolveSibling("src/dependencies.csv")))
+                .hasSize(ARTIFACTS * 3 / 10 + 1)
+                .anySatisfy(line -> assertThat(line).startsWith("artifact-7,@scale7,"));
+    }
+
+    @Test
+    public void testJarsAreWrittenToDependenciesDirectory() throws IOException {
+        Path dependencies = writeProject().resolveSibling("target/antenna/dependencies");
+
+        assertThat(entries(dependencies.resolve(SyntheticProject.jarName(1)))).isEqualTo(CLASSES_PER_JAR);
+        assertThat(entries(dependencies.resolve(SyntheticProject.sourceJarName(1)))).isEqualTo(CLASSES_PER_JAR);
+        assertThat(entries(dependencies.resolve(SyntheticProject.sourceJarName(100)))).isEqualTo(CLASSES_PER_JAR / 2);
+        assertThat(dependencies.resolve(SyntheticProject.jarName(7))).doesNotExist();
+    }
+
+    @Test
+    public void testConfigurationTargetsMavenArtifacts() throws IOException {
+        Path pom = writeProject();
+
+        String antennaConf = new String(Files.readAllBytes(pom.resolveSibling("src/antennaconf.xml")), "UTF-8");
+        assertThat(antennaConf)
+                .contains("<filename>" + SyntheticProject.jarName(0) + "</filename>")
+                .contains("<artifactId>" + SyntheticProject.artifactId(1) + "</artifactId>")
+                .contains("<filename>added-2.jar</filename>")
+                .doesNotContain(SyntheticProject.artifactId(7) + "<");
+        assertThat(new String(Files.readAllBytes(pom), "UTF-8"))
+                .contains("<artifactId>antenna-maven-plugin</artifactId>");
+    }
+
+    private static int entries(Path jar) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            return zipFile.size();
+        }
+    }
+}
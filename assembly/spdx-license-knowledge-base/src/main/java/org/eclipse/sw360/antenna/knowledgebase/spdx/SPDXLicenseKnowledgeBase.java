@@ -21,14 +21,29 @@ import org.spdx.rdfparser.license.*;
 
 import java.nio.charset.Charset;
 import java.util.Optional;
+import java.util.function.Function;
 
+/**
+ * License knowledge base backed by the SPDX license list. Licenses are resolved from the bundled
+ * {@link SPDXLicenseListSnapshot} and only if no snapshot is available from {@link ListedLicenses}.
+ */
 public class SPDXLicenseKnowledgeBase implements ILicenseManagementKnowledgeBase {
 
     private IProcessingReporter reporter;
-    private ListedLicenses listedLicenses;
+    private final SPDXLicenseListSnapshot snapshot;
+    private final ListedLicenses listedLicenses;
 
     public SPDXLicenseKnowledgeBase() {
-        listedLicenses = ListedLicenses.getListedLicenses();
+        this(SPDXLicenseListSnapshot.getDefault().orElse(null));
+    }
+
+    SPDXLicenseKnowledgeBase(SPDXLicenseListSnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.listedLicenses = snapshot == null ? ListedLicenses.getListedLicenses() : null;
+    }
+
+    private String getLicenseListVersion() {
+        return snapshot != null ? snapshot.getLicenseListVersion() : LicenseInfoFactory.getLicenseListVersion();
     }
 
     private Optional<SpdxListedLicense> getSpdxLicense(String licenseId) {
@@ -36,12 +51,28 @@ public class SPDXLicenseKnowledgeBase implements ILicenseManagementKnowledgeBase
         try {
             listedLicenseById = listedLicenses.getListedLicenseById(licenseId);
         } catch (InvalidSPDXAnalysisException e) {
-            reporter.add(licenseId, MessageType.UNKNOWN_LICENSE, "No license found in SPDX with list version: " + LicenseInfoFactory.getLicenseListVersion());
+            reportUnknownLicense(licenseId);
             return Optional.empty();
         }
         return Optional.of(listedLicenseById);
     }
 
+    private <T> Optional<T> lookup(String licenseId, Function<SPDXLicenseListSnapshot, Optional<T>> fromSnapshot,
+                                   Function<SpdxListedLicense, T> fromListedLicense) {
+        if (snapshot == null) {
+            return getSpdxLicense(licenseId).map(fromListedLicense);
+        }
+        if (!snapshot.getLicenseId(licenseId).isPresent()) {
+            reportUnknownLicense(licenseId);
+            return Optional.empty();
+        }
+        return fromSnapshot.apply(snapshot);
+    }
+
+    private void reportUnknownLicense(String licenseId) {
+        reporter.add(licenseId, MessageType.UNKNOWN_LICENSE, "No license found in SPDX with list version: " + getLicenseListVersion());
+    }
+
     @Override
     public void init(IProcessingReporter reporter, Charset encoding){
         this.reporter = reporter;
@@ -49,30 +80,27 @@ public class SPDXLicenseKnowledgeBase implements ILicenseManagementKnowledgeBase
 
     @Override
     public String getLicenseNameForId(String licenseId) {
-        return getSpdxLicense(licenseId)
-                .map(SimpleLicensingInfo::getName)
+        return lookup(licenseId, s -> s.getLicenseName(licenseId), SimpleLicensingInfo::getName)
                 .orElseGet(() -> {
-                    reporter.add(licenseId, MessageType.MISSING_LICENSE_INFORMATION, "No license name in SPDX with list version: " + LicenseInfoFactory.getLicenseListVersion() + ", fall back to id");
+                    reporter.add(licenseId, MessageType.MISSING_LICENSE_INFORMATION, "No license name in SPDX with list version: " + getLicenseListVersion() + ", fall back to id");
                     return licenseId;
                 });
     }
 
     @Override
     public String getTextForId(String licenseId) {
-        return getSpdxLicense(licenseId)
-                .map(License::getLicenseText)
+        return lookup(licenseId, s -> s.getLicenseText(licenseId), License::getLicenseText)
                 .orElseGet(() -> {
-                    reporter.add(licenseId, MessageType.MISSING_LICENSE_TEXT, "No license text found in SPDX with list version: " + LicenseInfoFactory.getLicenseListVersion());
+                    reporter.add(licenseId, MessageType.MISSING_LICENSE_TEXT, "No license text found in SPDX with list version: " + getLicenseListVersion());
                     return null;
                 });
     }
 
     @Override
     public String getLicenseIdForAlias(String id) {
-        return getSpdxLicense(id)
-                .map(SimpleLicensingInfo::getLicenseId)
+        return lookup(id, s -> s.getLicenseId(id), SimpleLicensingInfo::getLicenseId)
                 .orElseGet(() -> {
-                    reporter.add(id, MessageType.MISSING_LICENSE_INFORMATION, "No license alias in SPDX with list version: " + LicenseInfoFactory.getLicenseListVersion() + ", fall back to id");
+                    reporter.add(id, MessageType.MISSING_LICENSE_INFORMATION, "No license alias in SPDX with list version: " + getLicenseListVersion() + ", fall back to id");
                     return id;
                 });
     }
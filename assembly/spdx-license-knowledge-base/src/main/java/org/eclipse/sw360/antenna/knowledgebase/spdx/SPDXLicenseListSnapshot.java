@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.sw360.antenna.knowledgebase.spdx;
+
+import org.eclipse.sw360.antenna.model.util.LicenseKnowledgeBaseIndex;
+import org.eclipse.sw360.antenna.model.util.LicenseKnowledgeBaseIndex.LicenseRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.license.LicenseInfoFactory;
+import org.spdx.rdfparser.license.ListedLicenses;
+import org.spdx.rdfparser.license.SpdxListedLicense;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * A snapshot of the SPDX license list, stored as {@link LicenseKnowledgeBaseIndex}.
+ *
+ * The snapshot is generated from the license list contained in the {@code spdx-tools} library during the build and
+ * bundled as class path resource, so that resolving SPDX licenses neither requires network access nor parsing the
+ * license list on every lookup. A newer snapshot can be generated offline with {@link #main(String[])} and used
+ * instead of the bundled one by setting the system property {@value #SNAPSHOT_FILE_PROPERTY}.
+ *
+ * SPDX license ids are case insensitive, so ids are also resolved in lower case.
+ */
+public final class SPDXLicenseListSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SPDXLicenseListSnapshot.class);
+
+    public static final String SNAPSHOT_FILE_PROPERTY = "antenna.spdx.licenseListSnapshot";
+    static final String SNAPSHOT_RESOURCE = "spdx-license-list.idx";
+    private static final String ONLY_USE_LOCAL_LICENSES_PROPERTY = "SPDXParser.OnlyUseLocalLicenses";
+    private static final String FINGERPRINT_PREFIX = "SPDX license list ";
+
+    private static Optional<SPDXLicenseListSnapshot> defaultSnapshot;
+
+    private final LicenseKnowledgeBaseIndex index;
+    private final String licenseListVersion;
+    private final Map<String, String> idToName = new HashMap<>();
+
+    SPDXLicenseListSnapshot(LicenseKnowledgeBaseIndex index) {
+        if (!index.getFingerprint().startsWith(FINGERPRINT_PREFIX)) {
+            throw new IllegalArgumentException("The index is not a snapshot of the SPDX license list");
+        }
+        this.index = index;
+        this.licenseListVersion = index.getFingerprint().substring(FINGERPRINT_PREFIX.length());
+        index.getLicenseIds()
+                .forEach(id -> idToName.put(id, index.getLicenseNameForId(id).orElse(id)));
+    }
+
+    /**
+     * @return the snapshot given by the system property {@value #SNAPSHOT_FILE_PROPERTY} or, if the property is not
+     * set, the bundled snapshot. The snapshot is only loaded once.
+     */
+    static synchronized Optional<SPDXLicenseListSnapshot> getDefault() {
+        if (defaultSnapshot == null) {
+            defaultSnapshot = loadDefault();
+        }
+        return defaultSnapshot;
+    }
+
+    private static Optional<SPDXLicenseListSnapshot> loadDefault() {
+        final String snapshotFile = System.getProperty(SNAPSHOT_FILE_PROPERTY);
+        if (snapshotFile != null) {
+            try (InputStream in = Files.newInputStream(Paths.get(snapshotFile))) {
+                return Optional.of(read(in));
+            } catch (IOException | IllegalArgumentException e) {
+                LOGGER.warn("Unable to read SPDX license list snapshot {}: {}", snapshotFile, e.getMessage());
+                return Optional.empty();
+            }
+        }
+        try (InputStream in = SPDXLicenseListSnapshot.class.getResourceAsStream(SNAPSHOT_RESOURCE)) {
+            if (in == null) {
+                LOGGER.debug("No bundled SPDX license list snapshot found");
+                return Optional.empty();
+            }
+            return Optional.of(read(in));
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Unable to read bundled SPDX license list snapshot: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    static SPDXLicenseListSnapshot read(InputStream in) throws IOException {
+        return new SPDXLicenseListSnapshot(LicenseKnowledgeBaseIndex.read(in));
+    }
+
+    /**
+     * Creates a snapshot of all licenses known to {@link ListedLicenses}.
+     */
+    static SPDXLicenseListSnapshot fromListedLicenses() throws InvalidSPDXAnalysisException {
+        final ListedLicenses listedLicenses = ListedLicenses.getListedLicenses();
+        final List<LicenseRecord> licenses = new ArrayList<>();
+        final Map<String, String> aliasToId = new HashMap<>();
+        for (String id : listedLicenses.getSpdxListedLicenseIds()) {
+            final SpdxListedLicense license = listedLicenses.getListedLicenseById(id);
+            if (license == null) {
+                continue;
+            }
+            licenses.add(new LicenseRecord(license.getLicenseId(), license.getName(), null, null, license.getLicenseText()));
+            aliasToId.put(license.getLicenseId(), license.getLicenseId());
+            aliasToId.putIfAbsent(license.getLicenseId().toLowerCase(Locale.ROOT), license.getLicenseId());
+        }
+        return new SPDXLicenseListSnapshot(LicenseKnowledgeBaseIndex.create(
+                FINGERPRINT_PREFIX + LicenseInfoFactory.getLicenseListVersion(), licenses, aliasToId));
+    }
+
+    public String getLicenseListVersion() {
+        return licenseListVersion;
+    }
+
+    public int size() {
+        return idToName.size();
+    }
+
+    public Optional<String> getLicenseId(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        if (idToName.containsKey(id)) {
+            return Optional.of(id);
+        }
+        final Optional<String> exactAlias = index.getLicenseIdForAlias(id);
+        return exactAlias.isPresent() ? exactAlias : index.getLicenseIdForAlias(id.toLowerCase(Locale.ROOT));
+    }
+
+    public Optional<String> getLicenseName(String id) {
+        return getLicenseId(id).map(idToName::get);
+    }
+
+    public Optional<String> getLicenseText(String id) {
+        return getLicenseId(id).flatMap(index::getTextForId);
+    }
+
+    void writeTo(Path snapshotFile) throws IOException {
+        index.writeTo(snapshotFile);
+    }
+
+    /**
+     * Generates a snapshot file from the license list of the {@code spdx-tools} library on the class path. Unless
+     * the system property {@value #ONLY_USE_LOCAL_LICENSES_PROPERTY} is set explicitly, the license list is not
+     * fetched from the SPDX website.
+     *
+     * @param args the path of the snapshot file to write
+     */
+    public static void main(String[] args) throws IOException, InvalidSPDXAnalysisException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: " + SPDXLicenseListSnapshot.class.getName() + " <snapshot file>");
+        }
+        if (System.getProperty(ONLY_USE_LOCAL_LICENSES_PROPERTY) == null) {
+            System.setProperty(ONLY_USE_LOCAL_LICENSES_PROPERTY, "true");
+        }
+        final SPDXLicenseListSnapshot snapshot = fromListedLicenses();
+        final Path snapshotFile = Paths.get(args[0]);
+        snapshot.writeTo(snapshotFile);
+        LOGGER.info("Wrote snapshot of SPDX license list {} with {} licenses to {}",
+                snapshot.getLicenseListVersion(), snapshot.size(), snapshotFile);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.sw360.antenna.knowledgebase.spdx;
+
+import org.eclipse.sw360.antenna.api.IProcessingReporter;
+import org.eclipse.sw360.antenna.model.reporting.MessageType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class SPDXLicenseListSnapshotTest {
+    private static final String LICENSE_ID = "Apache-2.0";
+    private static final String LICENSE_ALIAS = "apache-2.0";
+
+    private SPDXLicenseListSnapshot snapshot;
+
+    @Before
+    public void setUp() throws IOException {
+        try (InputStream in = SPDXLicenseListSnapshot.class.getResourceAsStream(SPDXLicenseListSnapshot.SNAPSHOT_RESOURCE)) {
+            assertThat(in).as("bundled SPDX license list snapshot").isNotNull();
+            snapshot = SPDXLicenseListSnapshot.read(in);
+        }
+    }
+
+    @Test
+    public void testBundledSnapshotResolvesIdsAndAliases() {
+        assertThat(snapshot.getLicenseListVersion()).isNotEmpty();
+        assertThat(snapshot.size()).isGreaterThan(0);
+
+        assertThat(snapshot.getLicenseId(LICENSE_ID)).hasValue(LICENSE_ID);
+        assertThat(snapshot.getLicenseId(LICENSE_ALIAS)).hasValue(LICENSE_ID);
+        assertThat(snapshot.getLicenseName(LICENSE_ALIAS)).hasValue("Apache License 2.0");
+        assertThat(snapshot.getLicenseText(LICENSE_ALIAS)).hasValueSatisfying(text ->
+                assertThat(text).contains("Apache License"));
+        assertThat(snapshot.getLicenseId("no such license")).isEmpty();
+    }
+
+    @Test
+    public void testKnowledgeBaseResolvesFromSnapshot() {
+        IProcessingReporter reporter = mock(IProcessingReporter.class);
+        SPDXLicenseKnowledgeBase knowledgeBase = new SPDXLicenseKnowledgeBase(snapshot);
+        knowledgeBase.init(reporter, StandardCharsets.UTF_8);
+
+        assertThat(knowledgeBase.getLicenseIdForAlias(LICENSE_ALIAS)).isEqualTo(LICENSE_ID);
+        assertThat(knowledgeBase.getLicenseNameForId(LICENSE_ID)).isEqualTo("Apache License 2.0");
+        verifyZeroInteractions(reporter);
+
+        assertThat(knowledgeBase.getLicenseIdForAlias("no such license")).isEqualTo("no such license");
+        verify(reporter).add(eq("no such license"), eq(MessageType.UNKNOWN_LICENSE), anyString());
+    }
+}
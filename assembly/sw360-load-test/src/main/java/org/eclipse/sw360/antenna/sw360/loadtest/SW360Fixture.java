@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.loadtest;
+
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactClearingState;
+import org.eclipse.sw360.antenna.sw360.rest.resource.LinkObjects;
+import org.eclipse.sw360.antenna.sw360.rest.resource.Self;
+import org.eclipse.sw360.antenna.sw360.rest.resource.attachments.SW360AttachmentType;
+import org.eclipse.sw360.antenna.sw360.rest.resource.attachments.SW360SparseAttachment;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360Component;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360ComponentType;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360SparseComponent;
+import org.eclipse.sw360.antenna.sw360.rest.resource.licenses.SW360License;
+import org.eclipse.sw360.antenna.sw360.rest.resource.licenses.SW360SparseLicense;
+import org.eclipse.sw360.antenna.sw360.rest.resource.projects.SW360Project;
+import org.eclipse.sw360.antenna.sw360.rest.resource.releases.SW360Release;
+import org.eclipse.sw360.antenna.sw360.rest.resource.releases.SW360SparseRelease;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * The data served by the {@link SW360StubServer}: generated components, releases, licenses and attachments plus
+ * everything created by the clients while the benchmark runs.
+ *
+ * Component {@code i} is named {@code org.example/component-i} and has the releases {@code 1.0} to {@code 1.(m-1)},
+ * each with a {@code maven} external id, one license and the given number of source attachments. Every other
+ * release is approved, so half of them show up in the export.
+ */
+public class SW360Fixture {
+    public static final String COMPONENT_NAMESPACE = "org.example";
+    private static final String CREATED_ON = "2019-11-04";
+    private static final int LICENSE_TEXT_LINES = 20;
+    private static final int ATTACHMENT_SIZE = 4096;
+
+    private final String restUrl;
+    private final Map<String, SW360Component> components = new ConcurrentSkipListMap<>();
+    private final Map<String, SW360Release> releases = new ConcurrentSkipListMap<>();
+    private final Map<String, SW360License> licenses = new ConcurrentSkipListMap<>();
+    private final Map<String, SW360Project> projects = new ConcurrentSkipListMap<>();
+    private final Map<String, List<String>> projectReleases = new ConcurrentSkipListMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    private SW360Fixture(String restUrl) {
+        this.restUrl = restUrl;
+    }
+
+    /**
+     * @param restUrl the REST URL of the server, which is used for the self links of the resources
+     */
+    public static SW360Fixture generate(String restUrl, int componentCount, int releasesPerComponent,
+                                        int licenseCount, int attachmentsPerRelease) {
+        final SW360Fixture fixture = new SW360Fixture(restUrl);
+        for (int l = 0; l < licenseCount; l++) {
+            fixture.addLicense(new SW360License()
+                    .setShortName(licenseName(l))
+                    .setFullName("Generated License " + l)
+                    .setText(licenseText(l)));
+        }
+        for (int c = 0; c < componentCount; c++) {
+            final SW360Component component = fixture.addComponent(new SW360Component()
+                    .setName(componentName(c))
+                    .setComponentType(SW360ComponentType.OSS)
+                    .setCreatedOn(CREATED_ON));
+            for (int r = 0; r < releasesPerComponent; r++) {
+                final SW360Release release = new SW360Release()
+                        .setName(component.getName())
+                        .setVersion(releaseVersion(r))
+                        .setCreatedOn(CREATED_ON)
+                        .setClearingState((c + r) % 2 == 0
+                                ? ArtifactClearingState.ClearingState.OSM_APPROVED.toString()
+                                : ArtifactClearingState.ClearingState.INITAL.toString())
+                        .setComponentId(component.getComponentId())
+                        .setExternalIds(Collections.singletonMap("maven",
+                                "pkg:maven/" + component.getName() + "@" + releaseVersion(r)));
+                if (licenseCount > 0) {
+                    release.setMainLicenseIds(Collections.singleton(licenseName((c + r) % licenseCount)));
+                    release.setDeclaredLicense(licenseName((c + r) % licenseCount));
+                }
+                final SW360Release created = fixture.addRelease(release);
+                final List<SW360SparseAttachment> attachments = new ArrayList<>();
+                for (int a = 0; a < attachmentsPerRelease; a++) {
+                    final SW360SparseAttachment attachment = new SW360SparseAttachment()
+                            .setFilename("component-" + c + "-" + releaseVersion(r) + "-sources-" + a + ".jar")
+                            .setAttachmentType(SW360AttachmentType.SOURCE);
+                    attachment.set_Links(new LinkObjects().setSelf(new Self(
+                            created.get_Links().getSelf().getHref() + "/attachments/" + fixture.createId("attachment"))));
+                    attachments.add(attachment);
+                }
+                created.get_Embedded().setAttachments(attachments);
+            }
+        }
+        return fixture;
+    }
+
+    public static String componentName(int component) {
+        return COMPONENT_NAMESPACE + "/component-" + component;
+    }
+
+    public static String releaseVersion(int release) {
+        return "1." + release;
+    }
+
+    public static String licenseName(int license) {
+        return "License-" + license;
+    }
+
+    private static String licenseText(int license) {
+        final StringBuilder text = new StringBuilder();
+        for (int line = 0; line < LICENSE_TEXT_LINES; line++) {
+            text.append("Permission ").append(line).append(" of generated license ").append(license)
+                    .append(" is granted to anybody running a benchmark.\n");
+        }
+        return text.toString();
+    }
+
+    private String createId(String prefix) {
+        return String.format("%s%08d", prefix, nextId.incrementAndGet());
+    }
+
+    private String href(String endpoint, String id) {
+        return restUrl + "/" + endpoint + "/" + id;
+    }
+
+    public SW360Component addComponent(SW360Component component) {
+        final String id = createId("c");
+        component.set_Links(new LinkObjects().setSelf(new Self(href("components", id))));
+        components.put(id, component);
+        return component;
+    }
+
+    public synchronized SW360Release addRelease(SW360Release release) {
+        final String id = createId("r");
+        release.setReleaseId(href("releases", id));
+        if (release.getComponentId() != null) {
+            release.setComponentId(href("components", release.getComponentId()));
+            final SW360Component component = components.get(release.getComponentId());
+            if (component != null) {
+                final List<SW360SparseRelease> componentReleases = new ArrayList<>(component.get_Embedded().getReleases());
+                componentReleases.add(toSparseRelease(release));
+                component.get_Embedded().setReleases(componentReleases);
+            }
+        }
+        if (release.getMainLicenseIds() != null) {
+            release.get_Embedded().setLicenses(release.getMainLicenseIds().stream()
+                    .map(licenses::get)
+                    .filter(Objects::nonNull)
+                    .map(SW360Fixture::toSparseLicense)
+                    .collect(Collectors.toList()));
+        }
+        releases.put(id, release);
+        return release;
+    }
+
+    public synchronized Optional<SW360Release> updateRelease(String id, SW360Release update) {
+        final SW360Release release = releases.get(id);
+        if (release == null) {
+            return Optional.empty();
+        }
+        release.mergeWith(update);
+        release.setReleaseId(href("releases", id));
+        return Optional.of(release);
+    }
+
+    public SW360License addLicense(SW360License license) {
+        license.set_Links(new LinkObjects().setSelf(new Self(href("licenses", license.getShortName()))));
+        licenses.put(license.getShortName(), license);
+        return license;
+    }
+
+    public SW360Project addProject(SW360Project project) {
+        final String id = createId("p");
+        project.set_Links(new LinkObjects().setSelf(new Self(href("projects", id))));
+        projects.put(id, project);
+        return project;
+    }
+
+    public void linkReleases(String projectId, List<String> releaseHrefs) {
+        projectReleases.computeIfAbsent(projectId, id -> Collections.synchronizedList(new ArrayList<>()))
+                .addAll(releaseHrefs);
+    }
+
+    public List<SW360SparseComponent> getComponents(String namePrefix) {
+        return components.values().stream()
+                .filter(component -> namePrefix == null || component.getName().startsWith(namePrefix))
+                .map(SW360Fixture::toSparseComponent)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<SW360Component> getComponent(String id) {
+        return Optional.ofNullable(components.get(id));
+    }
+
+    public List<SW360SparseRelease> getReleases() {
+        return releases.values().stream()
+                .map(SW360Fixture::toSparseRelease)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<SW360Release> getRelease(String id) {
+        return Optional.ofNullable(releases.get(id));
+    }
+
+    public List<SW360SparseRelease> getReleasesByExternalIds(Map<String, String> externalIds) {
+        return releases.values().stream()
+                .filter(release -> release.getExternalIds().entrySet().containsAll(externalIds.entrySet()))
+                .map(SW360Fixture::toSparseRelease)
+                .collect(Collectors.toList());
+    }
+
+    public List<SW360SparseLicense> getLicenses() {
+        return licenses.values().stream()
+                .map(SW360Fixture::toSparseLicense)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<SW360License> getLicense(String shortName) {
+        return Optional.ofNullable(licenses.get(shortName));
+    }
+
+    public List<SW360Project> getProjects(String name) {
+        return projects.values().stream()
+                .filter(project -> name == null || project.getName().equalsIgnoreCase(name))
+                .collect(Collectors.toList());
+    }
+
+    public List<SW360SparseRelease> getProjectReleases(String projectId) {
+        return projectReleases.getOrDefault(projectId, Collections.emptyList()).stream()
+                .map(href -> href.substring(href.lastIndexOf('/') + 1))
+                .map(releases::get)
+                .filter(Objects::nonNull)
+                .map(SW360Fixture::toSparseRelease)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return generated content for the attachment, the same for every request
+     */
+    public byte[] getAttachmentContent(String attachmentId) {
+        final byte[] pattern = ("content of " + attachmentId + "\n").getBytes(StandardCharsets.UTF_8);
+        final byte[] content = new byte[ATTACHMENT_SIZE];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = pattern[i % pattern.length];
+        }
+        return content;
+    }
+
+    public int getComponentCount() {
+        return components.size();
+    }
+
+    public int getReleaseCount() {
+        return releases.size();
+    }
+
+    private static SW360SparseComponent toSparseComponent(SW360Component component) {
+        final SW360SparseComponent sparseComponent = new SW360SparseComponent()
+                .setName(component.getName())
+                .setComponentType(component.getComponentType());
+        sparseComponent.set_Links(new LinkObjects().setSelf(component.get_Links().getSelf()));
+        return sparseComponent;
+    }
+
+    private static SW360SparseRelease toSparseRelease(SW360Release release) {
+        final SW360SparseRelease sparseRelease = new SW360SparseRelease()
+                .setName(release.getName())
+                .setVersion(release.getVersion())
+                .setComponentId(release.getComponentId())
+                .setCpeid(release.getCpeId())
+                .setMainLicenseIds(release.getMainLicenseIds());
+        sparseRelease.set_Links(new LinkObjects().setSelf(release.get_Links().getSelf()));
+        return sparseRelease;
+    }
+
+    private static SW360SparseLicense toSparseLicense(SW360License license) {
+        final SW360SparseLicense sparseLicense = new SW360SparseLicense()
+                .setShortName(license.getShortName())
+                .setFullName(license.getFullName());
+        sparseLicense.set_Links(new LinkObjects().setSelf(license.get_Links().getSelf()));
+        return sparseLicense;
+    }
+}
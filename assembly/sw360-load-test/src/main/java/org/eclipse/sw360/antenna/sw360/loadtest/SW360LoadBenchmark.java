@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.loadtest;
+
+import org.eclipse.sw360.antenna.frontend.compliancetool.sw360.exporter.SW360Exporter;
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactCoordinates;
+import org.eclipse.sw360.antenna.model.artifact.facts.DeclaredLicenseInformation;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.eclipse.sw360.antenna.model.xml.generated.License;
+import org.eclipse.sw360.antenna.report.Reporter;
+import org.eclipse.sw360.antenna.sw360.SW360MetaDataReceiver;
+import org.eclipse.sw360.antenna.sw360.SW360MetaDataUpdater;
+import org.eclipse.sw360.antenna.sw360.workflow.SW360ConnectionConfiguration;
+import org.eclipse.sw360.antenna.sw360.workflow.generators.SW360UpdaterImpl;
+import org.eclipse.sw360.antenna.sw360.workflow.processors.SW360EnricherImpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Runs the SW360 enricher, the SW360 updater and the SW360 exporter of the compliance tool against a
+ * {@link SW360StubServer} and reports the duration and the number of requests of every scenario.
+ *
+ * The benchmark is configured by system properties, see {@link Settings}. Half of the simulated artifacts are
+ * known to SW360, the other half has to be created by the updater. Every scenario runs against a freshly generated
+ * fixture, so the scenarios do not influence each other.
+ */
+public class SW360LoadBenchmark {
+    private static final String PROJECT_NAME = "load-test";
+    private static final String PROJECT_VERSION = "1.0";
+    private static final int SERVER_THREADS = 16;
+
+    /**
+     * The size of the fixture and the behavior of the server.
+     */
+    public static final class Settings {
+        final int components;
+        final int releasesPerComponent;
+        final int licenses;
+        final int attachmentsPerRelease;
+        final int artifacts;
+        final Duration latency;
+        final double errorRate;
+        final boolean releaseIndex;
+
+        public Settings(int components, int releasesPerComponent, int licenses, int attachmentsPerRelease,
+                        int artifacts, Duration latency, double errorRate, boolean releaseIndex) {
+            this.components = components;
+            this.releasesPerComponent = releasesPerComponent;
+            this.licenses = licenses;
+            this.attachmentsPerRelease = attachmentsPerRelease;
+            this.artifacts = artifacts;
+            this.latency = latency;
+            this.errorRate = errorRate;
+            this.releaseIndex = releaseIndex;
+        }
+
+        public static Settings fromSystemProperties() {
+            return new Settings(
+                    Integer.getInteger("loadtest.components", 1000),
+                    Integer.getInteger("loadtest.releasesPerComponent", 3),
+                    Integer.getInteger("loadtest.licenses", 200),
+                    Integer.getInteger("loadtest.attachmentsPerRelease", 1),
+                    Integer.getInteger("loadtest.artifacts", 500),
+                    Duration.ofMillis(Long.getLong("loadtest.latencyMillis", 5)),
+                    Double.parseDouble(System.getProperty("loadtest.errorRate", "0")),
+                    Boolean.getBoolean("loadtest.releaseIndex"));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d components with %d releases, %d licenses, %d attachments per release, "
+                            + "%d artifacts, latency %d ms, error rate %.2f, release index %s",
+                    components, releasesPerComponent, licenses, attachmentsPerRelease, artifacts,
+                    latency.toMillis(), errorRate, releaseIndex ? "on" : "off");
+        }
+    }
+
+    /**
+     * The outcome of one scenario.
+     */
+    public static final class Result {
+        private final String scenario;
+        private final Duration duration;
+        private final int items;
+        private final SortedMap<String, Long> requestCounts;
+        private final Exception failure;
+
+        Result(String scenario, Duration duration, int items, SortedMap<String, Long> requestCounts, Exception failure) {
+            this.scenario = scenario;
+            this.duration = duration;
+            this.items = items;
+            this.requestCounts = requestCounts;
+            this.failure = failure;
+        }
+
+        public String getScenario() {
+            return scenario;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public SortedMap<String, Long> getRequestCounts() {
+            return requestCounts;
+        }
+
+        public long getTotalRequestCount() {
+            return requestCounts.values().stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+        }
+
+        public Optional<Exception> getFailure() {
+            return Optional.ofNullable(failure);
+        }
+
+        public double getThroughput() {
+            return duration.isZero() ? 0.0 : items * 1e9 / duration.toNanos();
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder result = new StringBuilder(String.format("%s: %d items in %d ms (%.1f items/s), %d requests%n",
+                    scenario, items, duration.toMillis(), getThroughput(), getTotalRequestCount()));
+            requestCounts.forEach((endpoint, count) ->
+                    result.append(String.format("    %-45s %8d%n", endpoint, count)));
+            if (failure != null) {
+                result.append("    failed: ").append(failure).append(System.lineSeparator());
+            }
+            return result.toString();
+        }
+    }
+
+    private interface Scenario {
+        int run(SW360ConnectionConfiguration configuration, Path workingDirectory) throws Exception;
+    }
+
+    private final Settings settings;
+
+    public SW360LoadBenchmark(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws IOException {
+        final SW360LoadBenchmark benchmark = new SW360LoadBenchmark(Settings.fromSystemProperties());
+        System.out.println("SW360 load benchmark: " + benchmark.settings);
+        benchmark.runAll().forEach(System.out::print);
+    }
+
+    public List<Result> runAll() throws IOException {
+        return Arrays.asList(runEnricher(), runUpdater(), runExporter());
+    }
+
+    public Result runEnricher() throws IOException {
+        return run("enricher", (configuration, workingDirectory) -> {
+            final Collection<Artifact> artifacts = createArtifacts();
+            new SW360EnricherImpl(new Reporter(workingDirectory), new SW360MetaDataReceiver(configuration),
+                    settings.attachmentsPerRelease > 0, workingDirectory.resolve("downloads"))
+                    .process(artifacts);
+            return artifacts.size();
+        });
+    }
+
+    public Result runUpdater() throws IOException {
+        return run("updater", (configuration, workingDirectory) -> {
+            final Collection<Artifact> artifacts = createArtifacts();
+            new SW360UpdaterImpl(new SW360MetaDataUpdater(configuration, false, false), PROJECT_NAME, PROJECT_VERSION)
+                    .produce(artifacts);
+            return artifacts.size();
+        });
+    }
+
+    public Result runExporter() throws IOException {
+        return run("exporter", (configuration, workingDirectory) -> {
+            final File csvFile = workingDirectory.resolve("export.csv").toFile();
+            final SW360Exporter exporter = new SW360Exporter();
+            exporter.setConnectionConfiguration(configuration);
+            exporter.setCsvFile(csvFile);
+            exporter.execute();
+            return Math.max(0, Files.readAllLines(csvFile.toPath()).size() - 1);
+        });
+    }
+
+    private Result run(String name, Scenario scenario) throws IOException {
+        final SW360StubServer server = SW360StubServer.start(SERVER_THREADS);
+        final Path workingDirectory = Files.createTempDirectory("sw360-load-test-" + name);
+        try {
+            server.setFixture(SW360Fixture.generate(server.getRestUrl(), settings.components,
+                    settings.releasesPerComponent, settings.licenses, settings.attachmentsPerRelease));
+            server.setLatency(settings.latency);
+            server.setErrorRate(settings.errorRate);
+
+            final long start = System.nanoTime();
+            int items = 0;
+            Exception failure = null;
+            try {
+                items = scenario.run(createConfiguration(server), workingDirectory);
+            } catch (Exception e) {
+                failure = e;
+            }
+            final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            return new Result(name, duration, items, server.getRequestCounts(), failure);
+        } finally {
+            server.stop();
+        }
+    }
+
+    private SW360ConnectionConfiguration createConfiguration(SW360StubServer server) {
+        final Map<String, String> config = new HashMap<>();
+        config.put(SW360ConnectionConfiguration.REST_SERVER_URL_KEY, server.getRestUrl());
+        config.put(SW360ConnectionConfiguration.AUTH_SERVER_URL_KEY, server.getAuthUrl());
+        config.put(SW360ConnectionConfiguration.USERNAME_KEY, "admin@sw360.org");
+        config.put(SW360ConnectionConfiguration.PASSWORD_KEY, "password");
+        config.put(SW360ConnectionConfiguration.CLIENT_USER_KEY, "trusted-sw360-client");
+        config.put(SW360ConnectionConfiguration.CLIENT_PASSWORD_KEY, "sw360-secret");
+        config.put(SW360ConnectionConfiguration.PROXY_USE, "false");
+        config.put(SW360ConnectionConfiguration.RELEASE_INDEX_KEY, String.valueOf(settings.releaseIndex));
+        return new SW360ConnectionConfiguration(config::get, key -> Boolean.parseBoolean(config.get(key)), null, 0);
+    }
+
+    /**
+     * Every other artifact refers to a release of the fixture, the remaining artifacts are unknown to SW360.
+     */
+    private List<Artifact> createArtifacts() {
+        final List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < settings.artifacts; i++) {
+            final boolean known = i % 2 == 0 && settings.components > 0 && settings.releasesPerComponent > 0;
+            final String name = known
+                    ? "component-" + (i / 2) % settings.components
+                    : "unknown-" + i;
+            final String version = known
+                    ? SW360Fixture.releaseVersion((i / 2) % settings.releasesPerComponent)
+                    : "1.0";
+
+            final Artifact artifact = new Artifact("load-test")
+                    .addFact(new ArtifactCoordinates(
+                            new Coordinate(Coordinate.Types.MAVEN, SW360Fixture.COMPONENT_NAMESPACE, name, version)));
+            if (settings.licenses > 0) {
+                final License license = new License();
+                license.setName(SW360Fixture.licenseName(i % settings.licenses));
+                artifact.addFact(new DeclaredLicenseInformation(license));
+            }
+            artifacts.add(artifact);
+        }
+        return artifacts;
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360Component;
+import org.eclipse.sw360.antenna.sw360.rest.resource.licenses.SW360License;
+import org.eclipse.sw360.antenna.sw360.rest.resource.projects.SW360Project;
+import org.eclipse.sw360.antenna.sw360.rest.resource.releases.SW360Release;
+import org.eclipse.sw360.antenna.sw360.utils.RestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * A local stand-in for the parts of the SW360 REST API used by Antenna, serving the data of a {@link SW360Fixture}.
+ *
+ * Every request can be delayed by a fixed latency and answered with {@code 503 Service Unavailable} at a given
+ * rate to simulate a remote and unreliable server, only the token endpoint never fails. The server counts the
+ * requests per endpoint, so that the number of round trips of a run can be compared between changes.
+ */
+public class SW360StubServer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SW360StubServer.class);
+
+    public static final String REST_PATH = "/resource/api";
+    public static final String AUTH_PATH = "/authorization/oauth";
+    public static final String ACCESS_TOKEN = "load-test-token";
+
+    private static final String HAL_JSON = "application/hal+json;charset=UTF-8";
+    private static final String PAGE = "page";
+    private static final String PAGE_ENTRIES = "page_entries";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = RestUtils.getObjectMapper();
+    private final ConcurrentMap<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    private volatile SW360Fixture fixture;
+    private volatile long latencyMillis;
+    private volatile double errorRate;
+
+    private static final class Response {
+        private final int status;
+        private final String contentType;
+        private final byte[] body;
+
+        private Response(int status, String contentType, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        private static Response status(int status) {
+            return new Response(status, null, new byte[0]);
+        }
+    }
+
+    private SW360StubServer(int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "sw360-stub-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Starts a server on a free port of the loopback interface, which serves an empty fixture until
+     * {@link #setFixture(SW360Fixture)} is called.
+     *
+     * @param threads the number of requests handled concurrently
+     */
+    public static SW360StubServer start(int threads) throws IOException {
+        final SW360StubServer stubServer = new SW360StubServer(threads);
+        stubServer.setFixture(SW360Fixture.generate(stubServer.getRestUrl(), 0, 0, 0, 0));
+        return stubServer;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String getRestUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + REST_PATH;
+    }
+
+    public String getAuthUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + AUTH_PATH;
+    }
+
+    public void setFixture(SW360Fixture fixture) {
+        this.fixture = fixture;
+    }
+
+    public void setLatency(Duration latency) {
+        this.latencyMillis = latency.toMillis();
+    }
+
+    /**
+     * @param errorRate the share of requests which fail, between 0 and 1
+     */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * @return the number of requests per method and endpoint, e.g. {@code GET /releases/{id}}
+     */
+    public SortedMap<String, Long> getRequestCounts() {
+        return requestCounts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum(),
+                        (a, b) -> a + b, TreeMap::new));
+    }
+
+    public long getTotalRequestCount() {
+        return requestCounts.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    public void resetRequestCounts() {
+        requestCounts.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            final byte[] requestBody = readFully(exchange.getRequestBody());
+            if (latencyMillis > 0) {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+            }
+            final Response response = route(exchange, requestBody);
+            if (response.contentType != null) {
+                exchange.getResponseHeaders().set("Content-Type", response.contentType);
+            }
+            exchange.sendResponseHeaders(response.status, response.body.length == 0 ? -1 : response.body.length);
+            if (response.body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response.body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to handle {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Response route(HttpExchange exchange, byte[] requestBody) throws IOException {
+        final String method = exchange.getRequestMethod();
+        final String path = exchange.getRequestURI().getPath();
+
+        if (path.equals(AUTH_PATH + "/token")) {
+            count(method, "/token");
+            return "POST".equals(method)
+                    ? json(200, objectMapper.createObjectNode()
+                            .put("access_token", ACCESS_TOKEN)
+                            .put("token_type", "bearer"))
+                    : Response.status(405);
+        }
+        if (!path.startsWith(REST_PATH + "/")) {
+            count(method, path);
+            return Response.status(404);
+        }
+
+        final String[] segments = path.substring(REST_PATH.length() + 1).split("/");
+        final String template = Arrays.stream(segments)
+                .map(segment -> segment.equals("searchByExternalIds") || isEndpoint(segment) ? segment : "{id}")
+                .collect(Collectors.joining("/", "/", ""));
+        count(method, template);
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            return Response.status(503);
+        }
+
+        final Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        final SW360Fixture data = fixture;
+        switch (method + " " + template) {
+            case "GET /components":
+                return page(data.getComponents(query.get("name")), "sw360:components", "components", query);
+            case "POST /components":
+                return json(201, data.addComponent(objectMapper.readValue(requestBody, SW360Component.class)));
+            case "GET /components/{id}":
+                return found(data.getComponent(segments[1]));
+            case "GET /releases":
+                return page(data.getReleases(), "sw360:releases", "releases", query);
+            case "POST /releases":
+                return json(201, data.addRelease(objectMapper.readValue(requestBody, SW360Release.class)));
+            case "GET /releases/searchByExternalIds":
+                // like SW360, the parameters are decoded only once
+                return page(data.getReleasesByExternalIds(query), "sw360:releases", "releases", Collections.emptyMap());
+            case "GET /releases/{id}":
+                return found(data.getRelease(segments[1]));
+            case "PATCH /releases/{id}":
+                return found(data.updateRelease(segments[1], objectMapper.readValue(requestBody, SW360Release.class)));
+            case "POST /releases/{id}/attachments":
+                return found(data.getRelease(segments[1]));
+            case "GET /releases/{id}/attachments/{id}":
+                return data.getRelease(segments[1]).isPresent()
+                        ? new Response(200, "application/octet-stream", data.getAttachmentContent(segments[3]))
+                        : Response.status(404);
+            case "GET /licenses":
+                return page(data.getLicenses(), "sw360:licenses", "licenses", query);
+            case "POST /licenses":
+                return json(201, data.addLicense(objectMapper.readValue(requestBody, SW360License.class)));
+            case "GET /licenses/{id}":
+                return found(data.getLicense(segments[1]));
+            case "GET /projects":
+                return page(data.getProjects(query.get("name")), "sw360:projects", "projects", query);
+            case "POST /projects":
+                return json(201, data.addProject(objectMapper.readValue(requestBody, SW360Project.class)));
+            case "GET /projects/{id}/releases":
+                return page(data.getProjectReleases(segments[1]), "sw360:releases", "releases", Collections.emptyMap());
+            case "POST /projects/{id}/releases":
+                data.linkReleases(segments[1], Arrays.asList(objectMapper.readValue(requestBody, String[].class)));
+                return Response.status(201);
+            default:
+                return Response.status(404);
+        }
+    }
+
+    private static boolean isEndpoint(String segment) {
+        switch (segment) {
+            case "components":
+            case "releases":
+            case "licenses":
+            case "projects":
+            case "attachments":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void count(String method, String template) {
+        requestCounts.computeIfAbsent(method + " " + template, key -> new LongAdder()).increment();
+    }
+
+    private Response found(Optional<?> resource) throws IOException {
+        return resource.isPresent() ? json(200, resource.get()) : Response.status(404);
+    }
+
+    private Response json(int status, Object body) throws IOException {
+        return new Response(status, HAL_JSON, objectMapper.writeValueAsBytes(body));
+    }
+
+    /**
+     * Serializes the items as embedded list resource. If the page parameters are given, only the requested page is
+     * returned together with a link to the next page, like SW360 does.
+     */
+    private Response page(List<?> items, String relation, String endpoint, Map<String, String> query) throws IOException {
+        final ObjectNode body = objectMapper.createObjectNode();
+        List<?> pageItems = items;
+        if (query.containsKey(PAGE) && query.containsKey(PAGE_ENTRIES)) {
+            final int page = Integer.parseInt(query.get(PAGE));
+            final int pageEntries = Integer.parseInt(query.get(PAGE_ENTRIES));
+            final int from = Math.min(items.size(), page * pageEntries);
+            final int to = Math.min(items.size(), from + pageEntries);
+            pageItems = items.subList(from, to);
+            if (to < items.size()) {
+                final Map<String, String> nextQuery = new LinkedHashMap<>(query);
+                nextQuery.put(PAGE, String.valueOf(page + 1));
+                final String nextUrl = nextQuery.entrySet().stream()
+                        .map(entry -> entry.getKey() + "=" + entry.getValue())
+                        .collect(Collectors.joining("&", getRestUrl() + "/" + endpoint + "?", ""));
+                body.putObject("_links").putObject("next").put("href", nextUrl);
+            }
+        }
+        body.putObject("_embedded").set(relation, objectMapper.valueToTree(pageItems));
+        return json(200, body);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) throws UnsupportedEncodingException {
+        final Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            final int separator = parameter.indexOf('=');
+            final String key = separator < 0 ? parameter : parameter.substring(0, separator);
+            final String value = separator < 0 ? "" : parameter.substring(separator + 1);
+            query.put(URLDecoder.decode(key, "UTF-8"), URLDecoder.decode(value, "UTF-8"));
+        }
+        return query;
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
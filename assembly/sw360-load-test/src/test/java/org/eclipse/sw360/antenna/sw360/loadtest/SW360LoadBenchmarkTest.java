@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.loadtest;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SW360LoadBenchmarkTest {
+    private static final int ARTIFACTS = 6;
+
+    private final SW360LoadBenchmark benchmark = new SW360LoadBenchmark(
+            new SW360LoadBenchmark.Settings(4, 2, 3, 1, ARTIFACTS, Duration.ZERO, 0.0, false));
+
+    @Test
+    public void testEnricherResolvesKnownArtifacts() throws IOException {
+        SW360LoadBenchmark.Result result = benchmark.runEnricher();
+
+        assertThat(result.getFailure()).isEmpty();
+        assertThat(result.getRequestCounts())
+                .containsKeys("POST /token", "GET /components", "GET /components/{id}", "GET /releases/{id}",
+                        "GET /releases/{id}/attachments/{id}")
+                .containsEntry("GET /releases/{id}", (long) ARTIFACTS / 2);
+    }
+
+    @Test
+    public void testUpdaterCreatesUnknownReleasesAndProject() throws IOException {
+        SW360LoadBenchmark.Result result = benchmark.runUpdater();
+
+        assertThat(result.getFailure()).isEmpty();
+        assertThat(result.getRequestCounts())
+                .containsEntry("POST /releases", (long) ARTIFACTS / 2)
+                .containsEntry("POST /projects", 1L)
+                .containsEntry("POST /projects/{id}/releases", 1L);
+    }
+
+    @Test
+    public void testExporterWritesNonApprovedReleases() throws IOException {
+        SW360LoadBenchmark.Result result = benchmark.runExporter();
+
+        assertThat(result.getFailure()).isEmpty();
+        assertThat(result.getThroughput()).isPositive();
+        assertThat(result.getRequestCounts())
+                .containsEntry("GET /components", 1L)
+                .containsEntry("GET /components/{id}", 4L);
+    }
+
+    @Test
+    public void testServerErrorsAreReportedAsFailure() throws IOException {
+        SW360LoadBenchmark failingBenchmark = new SW360LoadBenchmark(
+                new SW360LoadBenchmark.Settings(4, 2, 3, 0, ARTIFACTS, Duration.ZERO, 1.0, false));
+
+        SW360LoadBenchmark.Result result = failingBenchmark.runEnricher();
+
+        assertThat(result.getFailure()).isPresent();
+        assertThat(result.getRequestCounts()).containsEntry("GET /components", 1L);
+    }
+}
@@ -14,6 +14,7 @@ package org.eclipse.sw360.antenna.analysis.filter;
 import org.eclipse.sw360.antenna.api.IArtifactFilter;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
 
 import java.util.List;
 
@@ -22,10 +23,10 @@ import java.util.List;
  * for example configured in the config.xml.
  */
 public class BlacklistFilter implements IArtifactFilter {
-    private List<ArtifactSelector> artifactSelectorBlackList;
+    private final ArtifactSelectorIndex<ArtifactSelector> artifactSelectorBlackList;
 
     public BlacklistFilter(List<ArtifactSelector> blackList) {
-        this.artifactSelectorBlackList = blackList;
+        this.artifactSelectorBlackList = ArtifactSelectorIndex.of(blackList);
     }
 
     /**
@@ -33,8 +34,7 @@ public class BlacklistFilter implements IArtifactFilter {
      */
     @Override
     public boolean passed(Artifact artifact) {
-        return artifactSelectorBlackList.stream()
-                .noneMatch(artifactSelector -> artifactSelector.matches(artifact));
+        return !artifactSelectorBlackList.anyMatch(artifact);
     }
 
 }
@@ -22,10 +22,7 @@ import org.eclipse.sw360.antenna.model.util.ArtifactLicenseUtils;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
 import org.eclipse.sw360.antenna.api.Attachable;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.PrintWriter;
-import java.io.UnsupportedEncodingException;
+import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.*;
@@ -50,80 +47,72 @@ public class CSVGenerator extends AbstractGenerator {
 
     /**
      * Creates a csv file that contains artifact name, version and license. File
-     * will be written to CsvFileWriter.ANTENNA_ARTIFACT_INFORMATION_CSV
+     * will be written to CsvFileWriter.ANTENNA_ARTIFACT_INFORMATION_CSV. The rows
+     * are written one by one through a buffered writer.
      */
-    private void writeFile(StringBuilder information, File csvFile) {
-        try (PrintWriter out = new PrintWriter(csvFile, encoding.toString())) {
-            out.write(information.toString());
-        }catch (FileNotFoundException e) {
+    private void writeFile(Collection<Artifact> artifacts, File csvFile) {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(csvFile), encoding))) {
+            out.write("artifactName;artifactId;groupId;mavenVersion;bundleVersion;license \n");
+            for (Artifact artifact : artifacts) {
+                writeArtifact(out, artifact);
+            }
+        } catch (FileNotFoundException e) {
             throw new ExecutionException("The csvFile " + csvFile.getName() + " was not found ", e);
-        } catch (UnsupportedEncodingException e){
-            throw new ExecutionException("The encoding " + encoding.toString() + " is unsupported ", e);
+        } catch (IOException e) {
+            throw new ExecutionException("The csvFile " + csvFile.getName() + " could not be written ", e);
         }
     }
 
-    private StringBuilder createStringBuilder(Collection<Artifact> artifacts) {
-        StringBuilder information = new StringBuilder();
-        information.append("artifactName;artifactId;groupId;mavenVersion;bundleVersion;license \n");
-        for (Artifact artifact : artifacts) {
-            appendInformation(information, artifact.askFor(ArtifactFilename.class)
-                    .flatMap(ArtifactFilename::getBestFilenameEntryGuess)
-                    .map(ArtifactFilename.ArtifactFilenameEntry::getFilename)
-                    .orElse(""));
-
-            final Optional<ArtifactCoordinates> oArtifactCoordinates = artifact.askFor(ArtifactCoordinates.class);
-            if(oArtifactCoordinates.isPresent()) {
-                final ArtifactCoordinates artifactCoordinates = oArtifactCoordinates.get();
+    private void writeArtifact(Writer out, Artifact artifact) throws IOException {
+        appendInformation(out, artifact.askFor(ArtifactFilename.class)
+                .flatMap(ArtifactFilename::getBestFilenameEntryGuess)
+                .map(ArtifactFilename.ArtifactFilenameEntry::getFilename)
+                .orElse(""));
 
-                Optional<Coordinate> mavenPURL = artifactCoordinates.getCoordinateForType(Coordinate.Types.MAVEN);
-                if(mavenPURL.isPresent()) {
-                    appendInformation(information, mavenPURL.get().getName());
-                    appendInformation(information, mavenPURL.get().getNamespace());
-                    appendInformation(information, mavenPURL.get().getVersion());
-                } else {
-                    appendInformation(information, "");
-                    appendInformation(information, "");
-                    appendInformation(information, "");
-                }
+        final Optional<ArtifactCoordinates> oArtifactCoordinates = artifact.askFor(ArtifactCoordinates.class);
+        if(oArtifactCoordinates.isPresent()) {
+            final ArtifactCoordinates artifactCoordinates = oArtifactCoordinates.get();
 
-                Optional<Coordinate> bundlePURL = artifactCoordinates.getCoordinateForType(Coordinate.Types.P2);
-                if(bundlePURL.isPresent()) {
-                    // appendInformation(information, bundlePURL.get().getName());
-                    appendInformation(information, bundlePURL.get().getVersion());
-                } else {
-                    // appendInformation(information, "");
-                    appendInformation(information, "");
-                }
+            Optional<Coordinate> mavenPURL = artifactCoordinates.getCoordinateForType(Coordinate.Types.MAVEN);
+            if(mavenPURL.isPresent()) {
+                appendInformation(out, mavenPURL.get().getName());
+                appendInformation(out, mavenPURL.get().getNamespace());
+                appendInformation(out, mavenPURL.get().getVersion());
+            } else {
+                appendInformation(out, "");
+                appendInformation(out, "");
+                appendInformation(out, "");
             }
 
-            LicenseInformation finalLicenses = ArtifactLicenseUtils.getFinalLicenses(artifact);
-            StringBuilder licenses = new StringBuilder();
-            if (finalLicenses.evaluateLong() != null) {
-                licenses.append(finalLicenses.evaluateLong());
-                licenses.append(" ");
+            Optional<Coordinate> bundlePURL = artifactCoordinates.getCoordinateForType(Coordinate.Types.P2);
+            if(bundlePURL.isPresent()) {
+                // appendInformation(out, bundlePURL.get().getName());
+                appendInformation(out, bundlePURL.get().getVersion());
             } else {
-                licenses.append(finalLicenses.evaluate());
-                licenses.append(" ");
+                // appendInformation(out, "");
+                appendInformation(out, "");
             }
-            information.append(licenses);
-            licenses.append(";");
-            information.append("\n");
         }
-        return information;
+
+        LicenseInformation finalLicenses = ArtifactLicenseUtils.getFinalLicenses(artifact);
+        String longLicenses = finalLicenses.evaluateLong();
+        out.write(longLicenses != null ? longLicenses : String.valueOf(finalLicenses.evaluate()));
+        out.write(" ");
+        out.write("\n");
     }
 
-    private void appendInformation(StringBuilder sb, String information) {
-        Optional.ofNullable(information)
-                .ifPresent(sb::append);
-        sb.append(";");
+    private void appendInformation(Writer out, String information) throws IOException {
+        if (information != null) {
+            out.write(information);
+        }
+        out.write(";");
     }
 
 
     @Override
     public Map<String, IAttachable> produce(Collection<Artifact> artifacts) {
-        StringBuilder information = createStringBuilder(artifacts);
         File csvFile = this.targetDirectory.resolve(ANTENNA_ARTIFACT_INFORMATION_CSV).toFile();
-        writeFile(information, csvFile);
+        writeFile(artifacts, csvFile);
         return Collections.singletonMap(IDENTIFIER, new Attachable(TYPE, CLASSIFIER, csvFile));
     }
 
@@ -18,6 +18,7 @@ import org.apache.velocity.runtime.RuntimeConstants;
 import org.eclipse.sw360.antenna.api.Attachable;
 import org.eclipse.sw360.antenna.api.IAttachable;
 import org.eclipse.sw360.antenna.api.configuration.ToolConfiguration;
+import org.eclipse.sw360.antenna.api.exceptions.ConfigurationException;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.api.workflow.AbstractGenerator;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
@@ -32,15 +33,53 @@ import java.util.stream.Collectors;
 
 /**
  * Generates an HTML report of component license information.
+ *
+ * For large projects the report can be split into pages of a configurable number of artifacts. The report file then
+ * contains an index of all artifacts, which links to the pages, and the license texts are written once to a separate
+ * file which the pages link to.
  */
 public class HTMLReportGenerator extends AbstractGenerator {
     private static final String IDENTIFIER = "attribution-doc";
     private static final String CLASSIFIER = "antenna-attribution-doc";
     private static final String TYPE = "html";
+    private static final String ARTIFACTS_PER_PAGE_KEY = "artifactsPerPage";
 
     private static final String LICENSE_REPORT_TEMPLATE_FILE = "licenseReport.vm";
+    private static final String LICENSE_REPORT_INDEX_TEMPLATE_FILE = "licenseReportIndex.vm";
+    private static final String LICENSE_REPORT_PAGE_TEMPLATE_FILE = "licenseReportPage.vm";
+    private static final String LICENSE_REPORT_TEXTS_TEMPLATE_FILE = "licenseReportTexts.vm";
     private static final String LICENSE_REPORT_FILE = "3rdparty-licenses.html";
+    // the template is loaded from the class path and does not change, so one initialized engine serves all reports
+    private static final VelocityEngine VELOCITY_ENGINE = setupVelocityEngine();
     private Charset encoding;
+    private int artifactsPerPage;
+
+    /**
+     * One page of a paged report.
+     */
+    public static final class ReportPage {
+        private final int number;
+        private final String fileName;
+        private final List<ArtifactForHTMLReport> artifacts;
+
+        ReportPage(int number, String fileName, List<ArtifactForHTMLReport> artifacts) {
+            this.number = number;
+            this.fileName = fileName;
+            this.artifacts = artifacts;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public List<ArtifactForHTMLReport> getArtifacts() {
+            return artifacts;
+        }
+    }
 
     public HTMLReportGenerator() {
         this.workflowStepOrder = 600;
@@ -54,40 +93,99 @@ public class HTMLReportGenerator extends AbstractGenerator {
 
         Set<ArtifactForHTMLReport> artifactsForHTMLReport = extractRelevantArtifactInformation(artifacts);
 
-        writeReportToFile(artifactsForHTMLReport, reportFilePath.toFile());
+        if (artifactsPerPage > 0 && artifactsForHTMLReport.size() > artifactsPerPage) {
+            final Map<String, File> pageFiles =
+                    writePagedReportToFiles(artifactsForHTMLReport, reportFilePath.toFile(), artifactsPerPage);
 
+            final Map<String, IAttachable> attachables = new LinkedHashMap<>();
+            attachables.put(IDENTIFIER, new Attachable(TYPE, CLASSIFIER, reportFilePath.toFile()));
+            pageFiles.forEach((suffix, file) -> attachables.put(IDENTIFIER + "-" + suffix,
+                    new Attachable(TYPE, CLASSIFIER + "-" + suffix, file)));
+            return attachables;
+        }
+
+        writeReportToFile(artifactsForHTMLReport, reportFilePath.toFile());
         return Collections.singletonMap(IDENTIFIER, new Attachable(TYPE, CLASSIFIER, reportFilePath.toFile()));
     }
 
     protected void writeReportToFile(Set<ArtifactForHTMLReport> artifactsForHTMLReport, File reportFile) {
-        final VelocityEngine velocityEngine = setupVelocityEngine();
-        final VelocityContext velocityContext = setupVelocityContext(artifactsForHTMLReport);
+        final VelocityContext velocityContext = setupVelocityContext();
+        velocityContext.put("artifacts", artifactsForHTMLReport);
+        velocityContext.put("licenses", getAllLicenses(artifactsForHTMLReport));
+        velocityContext.put("licenseTextsFile", "");
+        velocityContext.put("artifactListFile", "");
+
+        mergeTemplate(LICENSE_REPORT_TEMPLATE_FILE, velocityContext, reportFile);
+    }
+
+    /**
+     * Writes the artifacts in pages of {@code artifactsPerPage} artifacts next to the given index file. Every page is
+     * rendered on its own, so only the artifacts of one page are processed at a time.
+     *
+     * @return the files written besides the index file, i.e. the pages and the license texts, by the suffix which
+     * distinguishes them from the index file
+     */
+    protected Map<String, File> writePagedReportToFiles(Set<ArtifactForHTMLReport> artifactsForHTMLReport, File indexFile,
+                                           int artifactsPerPage) {
+        final String baseName = indexFile.getName().replaceFirst("\\.html$", "");
+        final File licenseTextsFile = new File(indexFile.getParentFile(), baseName + "-license-texts.html");
+
+        final List<ArtifactForHTMLReport> artifactList = new ArrayList<>(artifactsForHTMLReport);
+        final List<ReportPage> pages = new ArrayList<>();
+        final Map<String, File> writtenFiles = new LinkedHashMap<>();
+        for (int from = 0; from < artifactList.size(); from += artifactsPerPage) {
+            final int number = pages.size() + 1;
+            pages.add(new ReportPage(number, baseName + "-" + number + ".html",
+                    artifactList.subList(from, Math.min(from + artifactsPerPage, artifactList.size()))));
+        }
+
+        for (ReportPage page : pages) {
+            final VelocityContext velocityContext = setupVelocityContext();
+            velocityContext.put("page", page);
+            velocityContext.put("pageCount", pages.size());
+            velocityContext.put("artifacts", page.getArtifacts());
+            velocityContext.put("licenseTextsFile", licenseTextsFile.getName());
+            velocityContext.put("artifactListFile", indexFile.getName());
+            final File pageFile = new File(indexFile.getParentFile(), page.getFileName());
+            mergeTemplate(LICENSE_REPORT_PAGE_TEMPLATE_FILE, velocityContext, pageFile);
+            writtenFiles.put("page-" + page.getNumber(), pageFile);
+        }
 
+        final VelocityContext textsContext = setupVelocityContext();
+        textsContext.put("licenses", getAllLicenses(artifactsForHTMLReport));
+        textsContext.put("artifactListFile", indexFile.getName());
+        mergeTemplate(LICENSE_REPORT_TEXTS_TEMPLATE_FILE, textsContext, licenseTextsFile);
+        writtenFiles.put("license-texts", licenseTextsFile);
+
+        final VelocityContext indexContext = setupVelocityContext();
+        indexContext.put("pages", pages);
+        indexContext.put("licenseTextsFile", licenseTextsFile.getName());
+        mergeTemplate(LICENSE_REPORT_INDEX_TEMPLATE_FILE, indexContext, indexFile);
+        return writtenFiles;
+    }
+
+    private void mergeTemplate(String templateFile, VelocityContext velocityContext, File reportFile) {
         // Write the template to the report file
-        try (Writer writer = new OutputStreamWriter(new FileOutputStream(reportFile), encoding)) {
-            Template template = velocityEngine.getTemplate(LICENSE_REPORT_TEMPLATE_FILE, "utf-8");
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(reportFile), encoding))) {
+            Template template = VELOCITY_ENGINE.getTemplate(templateFile, "utf-8");
             template.merge(velocityContext, writer);
         } catch (IOException e) {
             throw new ExecutionException("Cannot write HTML report file: " + e.getMessage());
         }
     }
 
-    private VelocityEngine setupVelocityEngine() {
+    private static VelocityEngine setupVelocityEngine() {
         VelocityEngine velocityEngine = new VelocityEngine();
         velocityEngine.setProperty(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS,"org.apache.velocity.runtime.log.NullLogSystem");
         velocityEngine.setProperty("resource.loader", "class");
         velocityEngine.setProperty("class.resource.loader.class", "org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader");
+        velocityEngine.init();
 
         return velocityEngine;
     }
 
-    private VelocityContext setupVelocityContext(Set<ArtifactForHTMLReport> artifactsForHTMLReport) {
-        // Initialise Velocity and put the artifacts and licenses into context
+    private VelocityContext setupVelocityContext() {
         VelocityContext velocityContext = new VelocityContext();
-        Set<License> licensesForHtmlReport = getAllLicenses(artifactsForHTMLReport);
-
-        velocityContext.put("artifacts", artifactsForHTMLReport);
-        velocityContext.put("licenses", licensesForHtmlReport);
         velocityContext.put("HTMLReportUtils", HTMLReportUtils.class);
 
         return velocityContext;
@@ -96,21 +194,35 @@ public class HTMLReportGenerator extends AbstractGenerator {
     private Set<ArtifactForHTMLReport> extractRelevantArtifactInformation(Collection<Artifact> artifacts) {
         return artifacts.stream()
                 .map(ArtifactForHTMLReport::new)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
-    private Set<License> getAllLicenses(Set<ArtifactForHTMLReport> artifacts) {
+    /**
+     * Collects the licenses of all artifacts. Every license is contained once, so its text is written once and
+     * referenced by its name from all artifacts.
+     */
+    private Collection<License> getAllLicenses(Set<ArtifactForHTMLReport> artifacts) {
         return artifacts.stream()
                 .map(ArtifactForHTMLReport::getLicense)
                 .filter(Objects::nonNull)
                 .map(LicenseInformation::getLicenses)
                 .filter(Objects::nonNull)
                 .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toMap(license -> String.valueOf(license.getName()), license -> license,
+                        (license, duplicate) -> license, TreeMap::new))
+                .values();
     }
 
     @Override
     public void configure(Map<String, String> configMap) {
         this.encoding = context.getToolConfiguration().getEncoding();
+        try {
+            this.artifactsPerPage = Integer.parseInt(getConfigValue(ARTIFACTS_PER_PAGE_KEY, configMap, "0"));
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("The value of " + ARTIFACTS_PER_PAGE_KEY + " has to be a number", e);
+        }
+        if (artifactsPerPage < 0) {
+            throw new ConfigurationException("The value of " + ARTIFACTS_PER_PAGE_KEY + " must not be negative");
+        }
     }
 }
@@ -19,7 +19,17 @@ public class HTMLReportUtils {
     }
 
     public static String getLicenseAsHtmlListItem(License license) {
-        return String.format("<li><a href=\"#%s\">%s</a></li>",
+        return getLicenseAsHtmlListItem(license, "");
+    }
+
+    /**
+     * @param licenseTextsFile
+     *            The file containing the license texts, relative to the current file, or an empty string if the
+     *            license texts are part of the current file.
+     */
+    public static String getLicenseAsHtmlListItem(License license, String licenseTextsFile) {
+        return String.format("<li><a href=\"%s#%s\">%s</a></li>",
+                StringEscapeUtils.escapeHtml4(licenseTextsFile),
                 StringEscapeUtils.escapeHtml4(license.getName()),
                 license.getLongName() != null ?
                         StringEscapeUtils.escapeHtml4(license.getLongName()) : StringEscapeUtils.escapeHtml4(license.getName()));
@@ -11,6 +11,9 @@
 
 package org.eclipse.sw360.antenna.workflow.outputHandlers;
 
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.eclipse.sw360.antenna.api.IAttachable;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.api.workflow.AbstractOutputHandler;
@@ -19,8 +22,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.nio.file.*;
 import java.util.*;
 
@@ -40,9 +41,14 @@ public class FileToArchiveWriter extends AbstractOutputHandler {
 
     @Override
     public void handle(Map<String, IAttachable> generatedOutput) {
+        // all files for the same archive are added in one pass, so every archive is rewritten only once
+        Map<Path, Map<Path, Path>> filesByArchive = new LinkedHashMap<>();
         for (FileToArchiveWriterInstruction instruction : writeToArchiveInstructions) {
-            handleWriteToArchiveInstructions(instruction, generatedOutput);
+            getSourcePath(instruction, generatedOutput).ifPresent(sourcePath ->
+                    filesByArchive.computeIfAbsent(instruction.zipFile, zipFile -> new LinkedHashMap<>())
+                            .put(instruction.pathInArchive, sourcePath));
         }
+        filesByArchive.forEach(this::addFilesToArchive);
     }
 
     @Override
@@ -54,13 +60,13 @@ public class FileToArchiveWriter extends AbstractOutputHandler {
         }
     }
 
-    private void handleWriteToArchiveInstructions(FileToArchiveWriterInstruction instruction, Map<String, IAttachable> generatedOutput) {
+    private Optional<Path> getSourcePath(FileToArchiveWriterInstruction instruction, Map<String, IAttachable> generatedOutput) {
         Path zipFile = instruction.zipFile;
         if (! zipFile.toFile().exists()) {
             String msg = "zip file=[" + zipFile + "] does not yet exists";
             reporter.add(MessageType.PROCESSING_FAILURE, msg);
             LOGGER.warn(msg);
-            return;
+            return Optional.empty();
         }
 
         String key = instruction.outputType;
@@ -68,46 +74,92 @@ public class FileToArchiveWriter extends AbstractOutputHandler {
             String msg = "unable to attach File with key=[" + key + "], was not produced";
             reporter.add(MessageType.PROCESSING_FAILURE, msg);
             LOGGER.error(msg);
-            return;
+            return Optional.empty();
         }
 
         Path sourcePath = generatedOutput.get(key).getFile().toPath();
-        Path pathInArchive = instruction.pathInArchive;
 
         LOGGER.debug("Write file=[{}] to artifact=[{}]", sourcePath, zipFile);
 
-        addFileToArchive(sourcePath, zipFile, pathInArchive);
+        return Optional.of(sourcePath);
     }
 
     public void addFileToArchive(Path sourcePath, Path zipFile, Path pathInArchive) {
-        if (pathInArchive == null){
-            throw new ExecutionException("The argument pathInArchive was empty");
-        }
-        if(sourcePath == null) {
-            throw new ExecutionException("The argument sourcePath was empty");
+        addFilesToArchive(zipFile, Collections.singletonMap(pathInArchive, sourcePath));
+    }
+
+    /**
+     * Adds the given files to the archive in a single pass. The existing entries are copied without recompressing
+     * them, entries with the same path as one of the added files are replaced.
+     *
+     * @param zipFile
+     *            The archive to add the files to.
+     * @param filesByPathInArchive
+     *            The files to add, keyed by their path in the archive.
+     */
+    public void addFilesToArchive(Path zipFile, Map<Path, Path> filesByPathInArchive) {
+        Map<String, Path> filesByEntryName = new LinkedHashMap<>();
+        for (Map.Entry<Path, Path> file : filesByPathInArchive.entrySet()) {
+            Path pathInArchive = file.getKey();
+            Path sourcePath = file.getValue();
+            if (pathInArchive == null){
+                throw new ExecutionException("The argument pathInArchive was empty");
+            }
+            if(sourcePath == null) {
+                throw new ExecutionException("The argument sourcePath was empty");
+            }
+
+            if(! sourcePath.toFile().exists()){
+                throw new ExecutionException("Source file=["+sourcePath+"] does not exist");
+            }
+            filesByEntryName.put(toEntryName(pathInArchive), sourcePath);
         }
 
-        if(! sourcePath.toFile().exists()){
-            throw new ExecutionException("Source file=["+sourcePath+"] does not exist");
+        try {
+            addNewEntriesToZipFile(zipFile, filesByEntryName);
+        } catch (IOException e) {
+            throw new ExecutionException("The files=" + filesByEntryName.values() + " could not be added to the archive=[" + zipFile + "]", e);
         }
+    }
 
+    private void addNewEntriesToZipFile(Path zipFile, Map<String, Path> filesByEntryName) throws IOException {
+        Path tempFile = Files.createTempFile(zipFile.toAbsolutePath().getParent(), zipFile.getFileName().toString(), ".tmp");
         try {
-            addNewEntryToZipFile(zipFile, pathInArchive, sourcePath);
-        } catch (IOException | URISyntaxException e) {
-            throw new ExecutionException("The file=[" + sourcePath + "] could not be added to the archive=[" + zipFile + "]", e);
+            try (ZipFile source = new ZipFile(zipFile.toFile());
+                 ZipArchiveOutputStream target = new ZipArchiveOutputStream(tempFile.toFile())) {
+                Set<String> existingEntryNames = new HashSet<>();
+                Collections.list(source.getEntries()).forEach(entry -> existingEntryNames.add(entry.getName()));
+
+                source.copyRawEntries(target, entry -> !filesByEntryName.containsKey(entry.getName()));
+                for (Map.Entry<String, Path> file : filesByEntryName.entrySet()) {
+                    addParentDirectoryEntries(target, file.getKey(), existingEntryNames);
+                    target.putArchiveEntry(new ZipArchiveEntry(file.getValue().toFile(), file.getKey()));
+                    Files.copy(file.getValue(), target);
+                    target.closeArchiveEntry();
+                }
+            }
+            Files.move(tempFile, zipFile, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
     }
 
-    private void addNewEntryToZipFile(Path zipFile, Path pathInArchive, Path sourcePath)
-            throws IOException, URISyntaxException {
-        Map<String, String> properties = Collections.singletonMap("create", "false");
-        URI zipFileUri = new URI("jar:" + zipFile.toUri().toString());
-        try (FileSystem zipfs = FileSystems.newFileSystem(zipFileUri, properties)) {
-            Path zipFilePath = zipfs.getPath(pathInArchive.toString()).toAbsolutePath();
-            Path parent = Optional.ofNullable(zipFilePath.getParent())
-                    .orElseThrow(() -> new ExecutionException("parent should exists"));
-            Files.createDirectories(parent);
-            Files.copy(sourcePath, zipFilePath, StandardCopyOption.REPLACE_EXISTING);
+    private void addParentDirectoryEntries(ZipArchiveOutputStream target, String entryName, Set<String> existingEntryNames)
+            throws IOException {
+        int separator = entryName.indexOf('/');
+        while (separator >= 0) {
+            String directoryName = entryName.substring(0, separator + 1);
+            if (existingEntryNames.add(directoryName)) {
+                target.putArchiveEntry(new ZipArchiveEntry(directoryName));
+                target.closeArchiveEntry();
+            }
+            separator = entryName.indexOf('/', separator + 1);
         }
     }
+
+    private String toEntryName(Path pathInArchive) {
+        List<String> names = new ArrayList<>();
+        pathInArchive.forEach(name -> names.add(name.toString()));
+        return String.join("/", names);
+    }
 }
@@ -13,11 +13,13 @@ package org.eclipse.sw360.antenna.workflow.processors;
 import org.eclipse.sw360.antenna.api.IProcessingReporter;
 import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
 import org.eclipse.sw360.antenna.workflow.processors.checkers.ConfigurationChecker;
 import org.eclipse.sw360.antenna.workflow.processors.filter.ConfigurationHandlerOverride;
 import org.eclipse.sw360.antenna.workflow.processors.filter.ConfigurationHandlerRemove;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 public class AntennaConfHandler extends AbstractProcessor {
 
@@ -35,9 +37,11 @@ public class AntennaConfHandler extends AbstractProcessor {
         ConfigurationChecker confCheck = new ConfigurationChecker(processingReporter, context.getConfiguration());
         localProcessors.add(confCheck);
 
-        //initFilters
-        ConfigurationHandlerOverride configurationHandlerOverride = new ConfigurationHandlerOverride(context);
-        ConfigurationHandlerRemove configurationHandlerRemove = new ConfigurationHandlerRemove(context);
+        //initFilters, which share the index of the overrides
+        ArtifactSelectorIndex<Artifact> overrideIndex = new ArtifactSelectorIndex<>(context.getConfiguration().getOverride());
+        Supplier<ArtifactSelectorIndex<Artifact>> overrides = () -> overrideIndex;
+        ConfigurationHandlerOverride configurationHandlerOverride = new ConfigurationHandlerOverride(context, overrides);
+        ConfigurationHandlerRemove configurationHandlerRemove = new ConfigurationHandlerRemove(context, overrides);
         localProcessors.addAll(Arrays.asList(configurationHandlerOverride, configurationHandlerRemove));
     }
 
@@ -13,6 +13,8 @@ package org.eclipse.sw360.antenna.workflow.processors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.sw360.antenna.api.ILicenseManagementKnowledgeBase;
+import org.eclipse.sw360.antenna.api.exceptions.ConfigurationException;
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
 import org.eclipse.sw360.antenna.knowledgebase.LicenseKnowledgeBaseFactory;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
@@ -20,22 +22,37 @@ import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactLicenseInformation
 import org.eclipse.sw360.antenna.model.xml.generated.License;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseClassification;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
+import org.eclipse.sw360.antenna.model.xml.generated.LicenseStatement;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseThreatGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * This LicenseKnowledgeBaseResolver adds values of the specified
  * CSVBasedLicenseKnowledgeBase to a list of artifacts.
+ *
+ * Every distinct license name is looked up only once in the knowledge base,
+ * all licenses with the same identifier share the resolved values, e.g. the
+ * same license text instance. The lookups can be run in parallel by setting
+ * the configuration value {@value #KNOWLEDGE_BASE_THREADS_KEY}, which is
+ * useful for slow knowledge bases.
+ *
+ * Licenses whose name is an alias of a license identifier are not renamed in
+ * place, because the license facts keep the compiled names of their licenses.
+ * The facts with such licenses are replaced by facts with renamed copies.
  */
 public class LicenseKnowledgeBaseResolver extends AbstractProcessor {
     private static final Logger LOGGER = LoggerFactory.getLogger(LicenseKnowledgeBaseResolver.class);
+    static final String KNOWLEDGE_BASE_THREADS_KEY = "knowledgeBaseThreads";
     private ILicenseManagementKnowledgeBase knowledgeBase;
+    private int knowledgeBaseThreads = 1;
 
     public LicenseKnowledgeBaseResolver() {
         this.workflowStepOrder = 9000;
@@ -45,6 +62,26 @@ public class LicenseKnowledgeBaseResolver extends AbstractProcessor {
         this.knowledgeBase = knowledgeBase;
     }
 
+    /**
+     * The values of the knowledge base for one license identifier, only the
+     * values which are missing on at least one license are looked up.
+     */
+    private static class ResolvedLicense {
+        private final String licenseId;
+        private boolean needsLongName;
+        private boolean needsText;
+        private boolean needsThreatGroup;
+        private boolean needsClassification;
+        private String longName;
+        private String text;
+        private LicenseThreatGroup threatGroup;
+        private LicenseClassification classification;
+
+        ResolvedLicense(String licenseId) {
+            this.licenseId = licenseId;
+        }
+    }
+
     /**
      * Adds a license Identifier, a license long name and the text to the
      * licenses of the artifact list.
@@ -53,83 +90,157 @@ public class LicenseKnowledgeBaseResolver extends AbstractProcessor {
      *            List of artifacts which will be resolved
      */
     private void resolveKnowledgeBase(Collection<Artifact> artifacts) {
-        artifacts.stream()
+        final List<License> licenses = artifacts.stream()
                 .map(artifact -> artifact.askForAll(ArtifactLicenseInformation.class))
                 .flatMap(List::stream)
                 .map(ArtifactLicenseInformation::get)
                 .map(LicenseInformation::getLicenses)
-                .forEach(licenses -> {
-                    aliasToIdentifier(licenses);
-                    setText(licenses);
-                    setThreatGroup(licenses);
-                    setClassification(licenses);
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
+        final Map<String, String> licenseIds = aliasToIdentifier(licenses);
+        final Map<String, ResolvedLicense> resolvedLicenses = new HashMap<>();
+        licenses.forEach(license -> {
+            final ResolvedLicense resolvedLicense = resolvedLicenses.computeIfAbsent(licenseIds.get(license.getName()), ResolvedLicense::new);
+            resolvedLicense.needsLongName |= StringUtils.isEmpty(license.getLongName());
+            resolvedLicense.needsText |= StringUtils.isEmpty(license.getText());
+            resolvedLicense.needsThreatGroup |= license.getThreatGroup() == null;
+            resolvedLicense.needsClassification |= license.getClassification() == null;
         });
-    }
+        forEachInParallel(resolvedLicenses.values(), this::resolve);
 
-    /**
-     * Replaces the aliases with the license Identifier.
-     * If it is found in the licenseKnowledgeBase.
-     */
-    private void aliasToIdentifier(List<License> licenses) {
+        final Map<License, License> renamedLicenses = new IdentityHashMap<>();
         licenses.forEach(license -> {
-            String licenseId = this.knowledgeBase.getLicenseIdForAlias(license.getName());
-            if (licenseId != null) {
-                license.setName(licenseId);
-            } else {
-                licenseId = license.getName();
+            final String licenseId = licenseIds.get(license.getName());
+            final License resolvedLicense = Objects.equals(license.getName(), licenseId)
+                    ? license
+                    : renamedLicenses.computeIfAbsent(license, original -> rename(original, licenseId));
+            apply(resolvedLicense, resolvedLicenses.get(licenseId));
+        });
+
+        if (!renamedLicenses.isEmpty()) {
+            artifacts.forEach(artifact -> replaceRenamedLicenses(artifact, renamedLicenses));
+        }
+    }
+
+    private static License rename(License license, String licenseId) {
+        final License renamed = new License();
+        renamed.setName(licenseId);
+        renamed.setLongName(license.getLongName());
+        renamed.setText(license.getText());
+        renamed.setThreatGroup(license.getThreatGroup());
+        renamed.setClassification(license.getClassification());
+        return renamed;
+    }
+
+    private static void replaceRenamedLicenses(Artifact artifact, Map<License, License> renamedLicenses) {
+        artifact.askForAll(ArtifactLicenseInformation.class).forEach(fact -> {
+            final LicenseInformation licenseInformation = fact.get();
+            final LicenseInformation replaced = replaceRenamedLicenses(licenseInformation, renamedLicenses);
+            if (replaced != licenseInformation) {
+                artifact.addFact(fact.withLicenseInformation(replaced));
             }
-            setLongName(license, licenseId);
         });
     }
 
     /**
-     * Replaces the longName that belongs to the given licenseId to the license, if
-     * it is found in the knowledgeBase.
+     * @return the license information with the renamed licenses, which is the
+     * given instance if it contains none of them
      */
-    private void setLongName(License license, String licenseId) {
-        String configuredLongName = license.getLongName();
-        if (StringUtils.isEmpty(configuredLongName)) {
-            String longName = this.knowledgeBase.getLicenseNameForId(licenseId);
-            if (longName != null) {
-                license.setLongName(longName);
-            }            
+    private static LicenseInformation replaceRenamedLicenses(LicenseInformation licenseInformation,
+                                                             Map<License, License> renamedLicenses) {
+        if (licenseInformation instanceof License) {
+            return renamedLicenses.getOrDefault(licenseInformation, (License) licenseInformation);
         }
+        if (!(licenseInformation instanceof LicenseStatement) || ((LicenseStatement) licenseInformation).isEmpty()) {
+            return licenseInformation;
+        }
+        final LicenseStatement statement = (LicenseStatement) licenseInformation;
+        final LicenseInformation left = replaceRenamedLicenses(statement.getLeftStatement(), renamedLicenses);
+        final LicenseInformation right = replaceRenamedLicenses(statement.getRightStatement(), renamedLicenses);
+        if (left == statement.getLeftStatement() && right == statement.getRightStatement()) {
+            return statement;
+        }
+        final LicenseStatement replaced = new LicenseStatement();
+        replaced.setLeftStatement(left);
+        replaced.setRightStatement(right);
+        replaced.setOp(statement.getOp());
+        return replaced;
     }
 
     /**
-     * Sets text in Licenses of artifacts and extends idTextMap in
-     * LicenseKnowledgeBase.
-     *
-     * @param licenses
-     *            List of licenses for which the text will be set
+     * Maps every distinct license name to the license Identifier, if the name
+     * is an alias found in the licenseKnowledgeBase, or to itself otherwise.
      */
-    private void setText(List<License> licenses) {
-        licenses.forEach(license -> {
-            String configuredText = license.getText();
-            if (StringUtils.isEmpty(configuredText)) {
-                String id = license.getName();
-                Optional.ofNullable(knowledgeBase.getTextForId(id))
-                    .ifPresent(license::setText);
-            }
+    private Map<String, String> aliasToIdentifier(List<License> licenses) {
+        final Map<String, String[]> licenseIds = new HashMap<>();
+        licenses.forEach(license -> licenseIds.computeIfAbsent(license.getName(), name -> new String[1]));
+        forEachInParallel(licenseIds.entrySet(), entry -> {
+            String licenseId = this.knowledgeBase.getLicenseIdForAlias(entry.getKey());
+            entry.getValue()[0] = licenseId != null ? licenseId : entry.getKey();
         });
+
+        final Map<String, String> result = new HashMap<>();
+        licenseIds.forEach((name, licenseId) -> result.put(name, licenseId[0]));
+        return result;
     }
 
-    private void setThreatGroup(List<License> licenses) {
-        licenses.forEach(license -> {
-            if (license.getThreatGroup() == null) {
-                LicenseThreatGroup threatGroup = this.knowledgeBase.getThreatGroupForId(license.getName());
-                license.setThreatGroup(threatGroup);
-            }
-        });
+    private void resolve(ResolvedLicense resolvedLicense) {
+        final String licenseId = resolvedLicense.licenseId;
+        if (resolvedLicense.needsLongName) {
+            resolvedLicense.longName = this.knowledgeBase.getLicenseNameForId(licenseId);
+        }
+        if (resolvedLicense.needsText) {
+            resolvedLicense.text = this.knowledgeBase.getTextForId(licenseId);
+        }
+        if (resolvedLicense.needsThreatGroup) {
+            resolvedLicense.threatGroup = this.knowledgeBase.getThreatGroupForId(licenseId);
+        }
+        if (resolvedLicense.needsClassification) {
+            resolvedLicense.classification = this.knowledgeBase.getClassificationById(licenseId);
+        }
     }
 
-    private void setClassification(List<License> licenses) {
-        licenses.forEach(license -> {
-            if (license.getClassification() == null) {
-                LicenseClassification licenseClassification = this.knowledgeBase.getClassificationById(license.getName());
-                license.setClassification(licenseClassification);                
+    /**
+     * Sets the long name and text of the knowledge base if they are not
+     * configured and the threat group and classification if they are not set.
+     */
+    private void apply(License license, ResolvedLicense resolvedLicense) {
+        if (StringUtils.isEmpty(license.getLongName()) && resolvedLicense.longName != null) {
+            license.setLongName(resolvedLicense.longName);
+        }
+        if (StringUtils.isEmpty(license.getText()) && resolvedLicense.text != null) {
+            license.setText(resolvedLicense.text);
+        }
+        if (license.getThreatGroup() == null) {
+            license.setThreatGroup(resolvedLicense.threatGroup);
+        }
+        if (license.getClassification() == null) {
+            license.setClassification(resolvedLicense.classification);
+        }
+    }
+
+    private <T> void forEachInParallel(Collection<T> items, Consumer<T> action) {
+        if (knowledgeBaseThreads <= 1 || items.size() <= 1) {
+            items.forEach(action);
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(knowledgeBaseThreads, items.size()));
+        try {
+            final List<Future<?>> futures = items.stream()
+                    .map(item -> executor.submit(() -> action.accept(item)))
+                    .collect(Collectors.toList());
+            for (Future<?> future : futures) {
+                future.get();
             }
-        });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutionException("Interrupted while resolving licenses in the knowledge base", e);
+        } catch (java.util.concurrent.ExecutionException e) {
+            throw new ExecutionException("Failed to resolve licenses in the knowledge base", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     @Override
@@ -144,5 +255,10 @@ public class LicenseKnowledgeBaseResolver extends AbstractProcessor {
     public void configure(Map<String,String> configMap) {
         super.configure(configMap);
         this.knowledgeBase = new LicenseKnowledgeBaseFactory(context).get();
+        try {
+            this.knowledgeBaseThreads = Integer.parseInt(getConfigValue(KNOWLEDGE_BASE_THREADS_KEY, configMap, "1"));
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("The value of " + KNOWLEDGE_BASE_THREADS_KEY + " has to be a number", e);
+        }
     }
-}
\ No newline at end of file
+}
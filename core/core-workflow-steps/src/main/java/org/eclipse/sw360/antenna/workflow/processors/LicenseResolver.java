@@ -13,7 +13,7 @@ package org.eclipse.sw360.antenna.workflow.processors;
 
 import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
-import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
 import org.eclipse.sw360.antenna.model.artifact.facts.ConfiguredLicenseInformation;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
 import org.slf4j.Logger;
@@ -21,15 +21,13 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
 
 /**
  * Maps the values of a LicenseDocument to the license attributes of the
  * artifacts list.
  */
 public class LicenseResolver extends AbstractProcessor {
-    private Map<ArtifactSelector, LicenseInformation> configuredLicenses;
+    private ArtifactSelectorIndex<LicenseInformation> configuredLicenses;
     private static final Logger LOGGER = LoggerFactory.getLogger(LicenseResolver.class);
 
     public LicenseResolver() {
@@ -46,25 +44,11 @@ public class LicenseResolver extends AbstractProcessor {
      */
     private void resolveLicenses(Collection<Artifact> artifacts) {
         for (Artifact artifact : artifacts) {
-            findConfiguredLicense(artifact, configuredLicenses)
+            configuredLicenses.findFirstMatching(artifact)
                     .ifPresent(lic -> artifact.addFact(new ConfiguredLicenseInformation(lic)));
         }
     }
 
-    /**
-     * If the given Configuration contains information about the final license
-     * this information is added to the artifact.
-     */
-    private Optional<LicenseInformation> findConfiguredLicense(Artifact artifact, Map<ArtifactSelector, LicenseInformation> configuration) {
-        for (Entry<ArtifactSelector, LicenseInformation> entry : configuration.entrySet()) {
-            ArtifactSelector selector = entry.getKey();
-            if (selector.matches(artifact)) {
-                return Optional.ofNullable(entry.getValue());
-            }
-        }
-        return Optional.empty();
-    }
-
     @Override
     public Collection<Artifact> process(Collection<Artifact> artifacts) {
         LOGGER.debug("Resolve licenses...");
@@ -76,6 +60,6 @@ public class LicenseResolver extends AbstractProcessor {
     @Override
     public void configure(Map<String,String> configMap) {
         super.configure(configMap);
-        this.configuredLicenses = context.getConfiguration().getFinalLicenses();
+        this.configuredLicenses = new ArtifactSelectorIndex<>(context.getConfiguration().getFinalLicenses());
     }
 }
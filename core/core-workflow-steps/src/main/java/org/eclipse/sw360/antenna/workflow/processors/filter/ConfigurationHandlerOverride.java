@@ -18,12 +18,16 @@ import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
 import org.eclipse.sw360.antenna.model.Configuration;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class ConfigurationHandlerOverride extends AbstractProcessor {
+    private final Supplier<ArtifactSelectorIndex<Artifact>> overrides;
+
     /**
      * Resolves the values which are overridden in the config.xml. If an
      * attribute of an artifact is overridden in the config, the value is
@@ -32,8 +36,17 @@ public class ConfigurationHandlerOverride extends AbstractProcessor {
      *
      */
     public ConfigurationHandlerOverride(AntennaContext context) {
+        this(context, () -> new ArtifactSelectorIndex<>(context.getConfiguration().getOverride()));
+    }
+
+    /**
+     * @param overrides supplies the index of the overrides in the config.xml, which can be shared with other
+     *                  handlers
+     */
+    public ConfigurationHandlerOverride(AntennaContext context, Supplier<ArtifactSelectorIndex<Artifact>> overrides) {
         this.context = context;
         this.reporter = context.getProcessingReporter();
+        this.overrides = overrides;
     }
 
     /**
@@ -50,10 +63,9 @@ public class ConfigurationHandlerOverride extends AbstractProcessor {
             IProcessingReporter reporter) {
         configureIgnoreForDownload(configuration, artifacts, reporter);
 
-        configuration.getOverride()
-                .forEach((key, override) -> artifacts.stream()
-                        .filter(key::matches)
-                        .forEach(artifact -> overrideArtifact(artifact, override)));
+        final ArtifactSelectorIndex<Artifact> overrideIndex = overrides.get();
+        artifacts.forEach(artifact -> overrideIndex.findMatching(artifact)
+                .forEach(override -> overrideArtifact(artifact, override)));
     }
 
     private void overrideArtifact(Artifact artifact, Artifact override) {
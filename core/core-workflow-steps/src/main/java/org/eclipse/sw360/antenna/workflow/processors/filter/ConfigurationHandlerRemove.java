@@ -19,25 +19,39 @@ import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
 import org.eclipse.sw360.antenna.model.Configuration;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * This class removes artifact from the list if artifact is proprietary or if it
  * is defined in the remove artifacts section.
  */
 public class ConfigurationHandlerRemove extends AbstractProcessor {
+    private final Supplier<ArtifactSelectorIndex<Artifact>> overrides;
+
     public ConfigurationHandlerRemove(AntennaContext context) {
+        this(context, () -> new ArtifactSelectorIndex<>(context.getConfiguration().getOverride()));
+    }
+
+    /**
+     * @param overrides supplies the index of the overrides in the config.xml, which can be shared with other
+     *                  handlers
+     */
+    public ConfigurationHandlerRemove(AntennaContext context, Supplier<ArtifactSelectorIndex<Artifact>> overrides) {
         this.context = context;
         this.reporter = context.getProcessingReporter();
+        this.overrides = overrides;
     }
 
     private void removeProprietaryArtifacts(Collection<Artifact> artifacts, Configuration configuration) {
         IArtifactFilter isProprietaryFilter = new ProprietaryArtifactFilter();
+        ArtifactSelectorIndex<Artifact> overrideIndex = overrides.get();
         List<Artifact> remove = new ArrayList<>();
         for (Artifact artifact : artifacts) {
-            boolean overridePropertyValue = getProprietaryOverrideValue(configuration, artifact);
+            boolean overridePropertyValue = getProprietaryOverrideValue(overrideIndex, artifact);
             if (!isProprietaryFilter.passed(artifact)) {
                 if (overridePropertyValue) {
                     reporter.add(artifact, MessageType.ARTIFACT_IS_PROPRIETARY,
@@ -64,11 +78,9 @@ public class ConfigurationHandlerRemove extends AbstractProcessor {
         artifacts.removeAll(remove);
     }
 
-    private boolean getProprietaryOverrideValue(Configuration configuration, Artifact artifact) {
-        return configuration.getOverride().entrySet().stream()
-                .filter(e -> e.getValue() != null)
-                .filter(e -> e.getKey().matches(artifact))
-                .map(Map.Entry::getValue)
+    private boolean getProprietaryOverrideValue(ArtifactSelectorIndex<Artifact> overrides, Artifact artifact) {
+        return overrides.findMatching(artifact).stream()
+                .filter(Objects::nonNull)
                 .findAny()
                 .orElse(artifact)
                 .getFlag(Artifact.IS_PROPRIETARY_FLAG_KEY);
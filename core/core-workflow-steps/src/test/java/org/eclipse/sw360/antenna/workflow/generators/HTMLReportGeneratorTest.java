@@ -10,6 +10,11 @@
  */
 package org.eclipse.sw360.antenna.workflow.generators;
 
+import org.eclipse.sw360.antenna.api.IAttachable;
+import org.eclipse.sw360.antenna.api.configuration.AntennaContext;
+import org.eclipse.sw360.antenna.api.configuration.ToolConfiguration;
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
 import org.eclipse.sw360.antenna.model.xml.generated.License;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseOperator;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseStatement;
@@ -25,11 +30,15 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -117,4 +126,56 @@ public class HTMLReportGeneratorTest extends AntennaTestWithMockedContext {
 
     }
 
+    @Test
+    public void testPagedReportLinksPagesAndLicenseTexts() throws Exception {
+        final File indexFile = temporaryFolder.newFile("report.html");
+
+        htmlReportGenerator.writePagedReportToFiles(artifacts, indexFile, 3);
+
+        final File firstPage = new File(temporaryFolder.getRoot(), "report-1.html");
+        final File secondPage = new File(temporaryFolder.getRoot(), "report-2.html");
+        final File licenseTexts = new File(temporaryFolder.getRoot(), "report-license-texts.html");
+        assertThat(new File(temporaryFolder.getRoot(), "report-3.html")).doesNotExist();
+
+        final String index = new String(Files.readAllBytes(indexFile.toPath()), charset);
+        assertThat(index).contains("report-1.html#", "report-2.html#", "report-license-texts.html");
+        assertThat(index).contains(artifactId1, artifactId2, artifactId3, artifactId4);
+
+        final String pages = new String(Files.readAllBytes(firstPage.toPath()), charset)
+                + new String(Files.readAllBytes(secondPage.toPath()), charset);
+        assertThat(pages).contains(artifactId1, artifactId2, artifactId3, artifactId4);
+        assertThat(pages).contains("report-license-texts.html#" + licenseName1, "report-license-texts.html#" + licenseName3);
+        assertThat(pages).doesNotContain(licenseText1);
+
+        final String texts = new String(Files.readAllBytes(licenseTexts.toPath()), charset);
+        assertThat(texts).contains(licenseText2, licenseFullName2, licenseText3);
+        assertThat(texts.split(licenseText1, -1)).hasSize(2);
+    }
+
+    @Test
+    public void testPagedReportAttachesAllFiles() throws Exception {
+        final ToolConfiguration toolConfiguration = mock(ToolConfiguration.class);
+        when(toolConfiguration.getEncoding()).thenReturn(charset);
+        when(toolConfiguration.getAntennaTargetDirectory()).thenReturn(temporaryFolder.getRoot().toPath());
+        final AntennaContext context = mock(AntennaContext.class);
+        when(context.getToolConfiguration()).thenReturn(toolConfiguration);
+        final HTMLReportGenerator pagedReportGenerator = new HTMLReportGenerator();
+        pagedReportGenerator.setAntennaContext(context);
+        pagedReportGenerator.configure(Collections.singletonMap("artifactsPerPage", "2"));
+        final List<Artifact> artifactList = IntStream.range(0, 3)
+                .mapToObj(i -> new Artifact("test").addFact(new ArtifactFilename("artifact" + i + ".jar")))
+                .collect(Collectors.toList());
+
+        final Map<String, IAttachable> attachables = pagedReportGenerator.produce(artifactList);
+
+        assertThat(attachables).containsOnlyKeys("attribution-doc", "attribution-doc-page-1",
+                "attribution-doc-page-2", "attribution-doc-license-texts");
+        assertThat(attachables.get("attribution-doc-page-2").getFile())
+                .isEqualTo(new File(temporaryFolder.getRoot(), "3rdparty-licenses-2.html"))
+                .exists();
+        assertThat(attachables.get("attribution-doc-license-texts").getClassifier())
+                .isEqualTo("antenna-attribution-doc-license-texts");
+        assertThat(attachables.values())
+                .allSatisfy(attachable -> assertThat(attachable.getFile()).exists());
+    }
 }
@@ -11,6 +11,8 @@
 package org.eclipse.sw360.antenna.workflow.outputHandlers;
 
 import org.apache.commons.io.IOUtils;
+import org.eclipse.sw360.antenna.api.Attachable;
+import org.eclipse.sw360.antenna.api.IAttachable;
 import org.eclipse.sw360.antenna.testing.AntennaTestWithMockedContext;
 import org.junit.Before;
 import org.junit.Rule;
@@ -28,7 +30,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -124,4 +128,27 @@ public class FileToArchiveWriterTest extends AntennaTestWithMockedContext {
         assertThat(contentOfAddedFile).isEqualTo(contentOfInnerFile);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testHandleAddsAllFilesOfAnArchiveAndReplacesExistingEntries() throws Exception {
+        File secondFileToAddIntoArchive = temporaryFolder.newFile("secondFileToAddIntoArchive.txt");
+        try(PrintWriter out = new PrintWriter(secondFileToAddIntoArchive)){
+            out.print("replaced content");
+        }
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("instructions", "first:" + archiveToAddFileIn + ":" + innerPath
+                + ";second:" + archiveToAddFileIn + ":" + originalContentOfZip.get(0));
+        Map<String, IAttachable> generatedOutput = new HashMap<>();
+        generatedOutput.put("first", new Attachable("txt", "first", fileToAddIntoArchive));
+        generatedOutput.put("second", new Attachable("txt", "second", secondFileToAddIntoArchive));
+
+        fileToArchiveWriter.configure(configMap);
+        fileToArchiveWriter.handle(generatedOutput);
+
+        List<String> filesInZip = listContentsOfZip(archiveToAddFileIn);
+        assertThat(filesInZip).containsAll(originalContentOfZip);
+        assertThat(filesInZip.stream().filter(originalContentOfZip.get(0)::equals)).hasSize(1);
+        assertThat(getContentOfEntryInZip(archiveToAddFileIn, innerPath.toString())).isEqualTo(contentOfInnerFile);
+        assertThat(getContentOfEntryInZip(archiveToAddFileIn, originalContentOfZip.get(0))).isEqualTo("replaced content");
+    }
+}
@@ -13,20 +13,29 @@ package org.eclipse.sw360.antenna.workflow.processors;
 import org.eclipse.sw360.antenna.api.ILicenseManagementKnowledgeBase;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.facts.ConfiguredLicenseInformation;
+import org.eclipse.sw360.antenna.model.artifact.facts.DeclaredLicenseInformation;
 import org.eclipse.sw360.antenna.model.util.ArtifactLicenseUtils;
+import org.eclipse.sw360.antenna.model.util.LicenseExpression;
 import org.eclipse.sw360.antenna.model.xml.generated.License;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseClassification;
+import org.eclipse.sw360.antenna.model.xml.generated.LicenseOperator;
+import org.eclipse.sw360.antenna.model.xml.generated.LicenseStatement;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseThreatGroup;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class LicenseKnowledgeBaseResolverTest {
@@ -136,4 +145,62 @@ public class LicenseKnowledgeBaseResolverTest {
         assertNull(l.getThreatGroup());
         assertNull(l.getClassification());
     }
+
+    @Test
+    public void testEqualLicensesAreResolvedOnce() {
+        String alias = "license alias";
+        when(knowledgeBaseMock.getLicenseIdForAlias(alias))
+                .thenReturn(KB_LICENSE_ID);
+
+        List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            License license = new License();
+            license.setName(i % 2 == 0 ? KB_LICENSE_ID : alias);
+            artifacts.add(new Artifact().addFact(new ConfiguredLicenseInformation(license)));
+        }
+
+        knowledgeBaseResolver.process(artifacts);
+
+        verify(knowledgeBaseMock, times(1)).getLicenseIdForAlias(alias);
+        verify(knowledgeBaseMock, times(1)).getLicenseNameForId(KB_LICENSE_ID);
+        verify(knowledgeBaseMock, times(1)).getTextForId(KB_LICENSE_ID);
+        verify(knowledgeBaseMock, times(1)).getThreatGroupForId(KB_LICENSE_ID);
+        verify(knowledgeBaseMock, times(1)).getClassificationById(KB_LICENSE_ID);
+
+        License first = ArtifactLicenseUtils.getFinalLicenses(artifacts.get(0)).getLicenses().get(0);
+        License second = ArtifactLicenseUtils.getFinalLicenses(artifacts.get(1)).getLicenses().get(0);
+        assertEquals(KB_LICENSE_ID, second.getName());
+        assertEquals(KB_LICENSE_NAME, second.getLongName());
+        assertSame(first.getText(), second.getText());
+        assertEquals(KB_LICENSE_THREAT_GROUP, second.getThreatGroup());
+    }
+
+    @Test
+    public void testAliasesAreResolvedInCompiledLicenseExpressions() {
+        String alias = "license alias";
+        when(knowledgeBaseMock.getLicenseIdForAlias(alias))
+                .thenReturn(KB_LICENSE_ID);
+
+        License aliasedLicense = new License();
+        aliasedLicense.setName(alias);
+        License license = new License();
+        license.setName(LICENSE_ID);
+        LicenseStatement statement = new LicenseStatement();
+        statement.setLeftStatement(aliasedLicense);
+        statement.setRightStatement(license);
+        statement.setOp(LicenseOperator.AND);
+        Artifact artifact = new Artifact().addFact(new DeclaredLicenseInformation(statement));
+        assertEquals("( " + alias + " AND " + LICENSE_ID + " )",
+                ArtifactLicenseUtils.getFinalLicenseExpression(artifact).evaluate());
+
+        knowledgeBaseResolver.process(Collections.singletonList(artifact));
+
+        LicenseExpression expression = ArtifactLicenseUtils.getFinalLicenseExpression(artifact);
+        assertEquals("( " + KB_LICENSE_ID + " AND " + LICENSE_ID + " )", expression.evaluate());
+        assertTrue(expression.containsLicenseId(KB_LICENSE_ID));
+        assertEquals(KB_LICENSE_NAME, expression.getLicenses().get(0).getLongName());
+        assertSame(license, expression.getLicenses().get(1));
+        assertEquals(LICENSE_NAME, license.getLongName());
+        assertEquals(alias, aliasedLicense.getName());
+    }
 }
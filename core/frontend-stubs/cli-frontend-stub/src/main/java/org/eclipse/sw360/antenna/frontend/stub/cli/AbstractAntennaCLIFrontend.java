@@ -37,6 +37,7 @@ public abstract class AbstractAntennaCLIFrontend implements AntennaFrontend<Meta
     private final Map<String, IAttachable> output = new HashMap<>();
     private final MetaDataStoringProject project;
     private final String pluginDescendantArtifactIdName;
+    private Map<String, String> environment = System.getenv();
 
     public AbstractAntennaCLIFrontend(File pomFilePath, File propertiesFile) {
         this(pomFilePath);
@@ -52,6 +53,13 @@ public abstract class AbstractAntennaCLIFrontend implements AntennaFrontend<Meta
 
     protected abstract String getPluginDescendantArtifactIdName();
 
+    /**
+     * Sets the environment variables which can be referenced in the configuration, by default the ones of this JVM.
+     */
+    public void setEnvironment(Map<String, String> environment) {
+        this.environment = environment;
+    }
+
     private Path getSourceDirFromPomFile(File pomFile) {
         Path parent = Utils.getParent(pomFile.toPath())
                 .orElseThrow(() -> new IllegalArgumentException("Could not get source dir from pomFile=[" + pomFile + "]"));
@@ -73,7 +81,7 @@ public abstract class AbstractAntennaCLIFrontend implements AntennaFrontend<Meta
      */
     @Override
     public AntennaFrontendHelper init() {
-        ToolConfiguration toolConfiguration = new AntennaCLISettingsReader(pluginDescendantArtifactIdName)
+        ToolConfiguration toolConfiguration = new AntennaCLISettingsReader(pluginDescendantArtifactIdName, environment)
                 .readSettingsToToolConfiguration(getProject());
 
         return new AntennaFrontendHelper(getProject())
@@ -40,14 +40,25 @@ public class AntennaCLISettingsReader {
     private static final Logger log = LoggerFactory.getLogger(AntennaCLISettingsReader.class);
     private String antennaConfXpath;
 
-    private TemplateRenderer tr = new TemplateRenderer();
+    private TemplateRenderer tr;
+    private final Map<String, String> environment;
 
     public AntennaCLISettingsReader() {
         this("antenna-maven-plugin");
     }
 
     public AntennaCLISettingsReader(String pluginDescendantArtifactName) {
+        this(pluginDescendantArtifactName, System.getenv());
+    }
+
+    /**
+     * @param environment the environment variables, which can be referenced in the configuration files and are
+     *                    used by the workflow steps
+     */
+    public AntennaCLISettingsReader(String pluginDescendantArtifactName, Map<String, String> environment) {
         antennaConfXpath = "descendant::plugin[artifactId='" + pluginDescendantArtifactName + "']/descendant-or-self::configuration";
+        tr = TemplateRenderer.forEnvironment(environment);
+        this.environment = environment;
     }
 
     private void readProjectStringSetting(XmlSettingsReader reader, String name, Consumer<String> setter) {
@@ -154,7 +165,8 @@ public class AntennaCLISettingsReader {
 
     ToolConfiguration.ConfigurationBuilder readBasicSettingsToToolConfigurationBuilder(XmlSettingsReader reader, MetaDataStoringProject project)
             throws IllegalArgumentException {
-        ToolConfiguration.ConfigurationBuilder toolConfigBuilder = new ToolConfiguration.ConfigurationBuilder();
+        ToolConfiguration.ConfigurationBuilder toolConfigBuilder = new ToolConfiguration.ConfigurationBuilder()
+                .setEnvironment(environment);
 
         // Simple strings
         readProjectStringSetting(reader, "artifactId", project::setProjectId);
@@ -169,8 +181,10 @@ public class AntennaCLISettingsReader {
         readAntennaStringSetting(reader, "attributionDocumentNotes", toolConfigBuilder::setAttributionDocumentNotes);
         readAntennaStringSetting(reader, "encodingCharSet", toolConfigBuilder::setEncoding);
         readAntennaStringSetting(reader, "proxyHost", toolConfigBuilder::setProxyHost);
+        readAntennaStringSetting(reader, "incrementalCacheDirectory", toolConfigBuilder::setIncrementalCacheDirectory);
 
         readAntennaIntSetting(reader, "proxyPort", 0, toolConfigBuilder::setProxyPort);
+        readAntennaIntSetting(reader, "incrementalCacheMaxAgeHours", 24, toolConfigBuilder::setIncrementalCacheMaxAgeHours);
 
         // Booleans
         readAntennaBooleanSetting(reader, "attachAll", false, toolConfigBuilder::setAttachAll);
@@ -23,6 +23,7 @@ public class CliProject extends MetaDataStoringProject {
 
     private String projectId = "project";
     private String projectVersion = "1.0";
+    private File basedir;
 
     public CliProject(File configFile, String buildDir, String sourceDir) {
         this.configFile = configFile;
@@ -69,6 +70,10 @@ public class CliProject extends MetaDataStoringProject {
 
     @Override
     public File getBasedir() {
-        return configFile.getParentFile();
+        return basedir != null ? basedir : configFile.getParentFile();
+    }
+
+    public void setBasedir(File basedir) {
+        this.basedir = basedir;
     }
 }
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.frontend.stub.cli.daemon;
+
+import org.eclipse.sw360.antenna.frontend.MetaDataStoringProject;
+import org.eclipse.sw360.antenna.frontend.stub.cli.AbstractAntennaCLIFrontend;
+import org.eclipse.sw360.antenna.frontend.stub.cli.CliProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * A long-lived JVM which executes Antenna runs of the CLI and the Gradle frontend.
+ *
+ * The daemon keeps the loaded classes, the JIT compiled code and the caches of the runtime, e.g. of the template
+ * engines, the license knowledge bases and the selector matchers, between runs. Every run gets its own project,
+ * context and report, since it is executed by a new frontend. Runs are executed one after another, the output of a
+ * run is forwarded to the client which requested it.
+ *
+ * The working directory and the environment variables of the client are sent with every run. The environment is used
+ * to render the configuration and passed to the workflow steps by the tool configuration. Relative paths within the
+ * configuration files are resolved by the workflow steps against the working directory of the JVM, so a daemon only
+ * executes runs requested from its own working directory and rejects all others. {@link AntennaDaemonClient} starts
+ * a daemon per working directory.
+ *
+ * The daemon only listens on the loopback interface and only accepts clients which send the token of its
+ * registration file. It stops when no client connected for the idle timeout.
+ */
+public class AntennaDaemon {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AntennaDaemon.class);
+
+    static final int PROTOCOL_VERSION = 2;
+    static final byte RUN = 1;
+    static final byte STOP = 2;
+    static final byte STANDARD_OUTPUT = 1;
+    static final byte ERROR_OUTPUT = 2;
+    static final byte RESULT = 3;
+
+    private static final int REQUEST_TIMEOUT_MILLIS = 30000;
+    private static final int MAX_MESSAGE_LENGTH = 8192;
+
+    private final Path registrationFile;
+    private final Duration idleTimeout;
+    private final String token = UUID.randomUUID().toString();
+    private final File workingDirectory = new File(System.getProperty("user.dir")).getAbsoluteFile();
+
+    public AntennaDaemon(Path registrationFile, Duration idleTimeout) {
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("The idle timeout of the Antenna daemon must be positive");
+        }
+        this.registrationFile = registrationFile;
+        this.idleTimeout = idleTimeout;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Usage: java -cp <classpath> " + AntennaDaemon.class.getName()
+                    + " <registrationFile> <idleTimeoutSeconds>");
+            System.exit(1);
+        }
+
+        try {
+            new AntennaDaemon(Paths.get(args[0]), Duration.ofSeconds(Long.parseLong(args[1]))).serve();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Antenna daemon failed: " + e.getMessage(), e);
+            System.exit(1);
+        }
+        // threads left over by workflow steps must not keep the daemon alive
+        System.exit(0);
+    }
+
+    /**
+     * Accepts runs until the daemon is stopped or idle for the idle timeout.
+     */
+    public void serve() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            serverSocket.setSoTimeout((int) Math.min(idleTimeout.toMillis(), Integer.MAX_VALUE));
+            new DaemonRegistration(serverSocket.getLocalPort(), token).write(registrationFile);
+            LOGGER.info("Antenna daemon listens on port {}", serverSocket.getLocalPort());
+
+            boolean running = true;
+            while (running) {
+                try (Socket socket = serverSocket.accept()) {
+                    running = handle(socket);
+                } catch (SocketTimeoutException e) {
+                    LOGGER.info("Antenna daemon was idle for {} minutes and stops", idleTimeout.toMinutes());
+                    running = false;
+                } catch (IOException e) {
+                    LOGGER.warn("Connection to an Antenna daemon client failed: " + e.getMessage(), e);
+                }
+            }
+        } finally {
+            DaemonRegistration.delete(registrationFile, token);
+        }
+    }
+
+    private boolean handle(Socket socket) throws IOException {
+        socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        if (in.readInt() != PROTOCOL_VERSION || !isValidToken(in.readUTF())) {
+            LOGGER.warn("Rejected a client of the Antenna daemon with a wrong protocol version or token");
+            return true;
+        }
+
+        byte command = in.readByte();
+        if (command == STOP) {
+            LOGGER.info("Antenna daemon was asked to stop");
+            writeResult(out, true, "Antenna daemon stopped");
+            return false;
+        }
+        if (command != RUN) {
+            writeResult(out, false, "Unknown command " + command);
+            return true;
+        }
+
+        DaemonRun run = DaemonRun.readFrom(in);
+        if (!isSameDirectory(workingDirectory, run.getWorkingDirectory())) {
+            writeResult(out, false, "The Antenna daemon runs in " + workingDirectory
+                    + " and can not execute runs requested from " + run.getWorkingDirectory());
+            return true;
+        }
+        socket.setSoTimeout(0);
+        LOGGER.info("Executing Antenna for {}", run.getConfigFile());
+
+        boolean success = false;
+        String message;
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        try (PrintStream forwardedOut = forwardTo(out, STANDARD_OUTPUT);
+             PrintStream forwardedErr = forwardTo(out, ERROR_OUTPUT)) {
+            System.setOut(forwardedOut);
+            System.setErr(forwardedErr);
+            execute(run);
+            success = true;
+            message = "Antenna execution finished";
+        } catch (RuntimeException e) {
+            message = "Antenna execution failed due to: " + e.getMessage();
+        } finally {
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+        writeResult(out, success, message);
+        return true;
+    }
+
+    /**
+     * The working directory of a started daemon has no symbolic links, so directories are compared by their
+     * canonical path.
+     */
+    private static boolean isSameDirectory(File directory, File other) {
+        try {
+            return directory.getCanonicalFile().equals(other.getCanonicalFile());
+        } catch (IOException e) {
+            return directory.getAbsoluteFile().equals(other.getAbsoluteFile());
+        }
+    }
+
+    private boolean isValidToken(String candidate) {
+        return MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), candidate.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void execute(DaemonRun run) {
+        CliProject project = new CliProject(run.resolve(run.getConfigFile().getPath()),
+                run.resolve(run.getBuildDirectory()).getPath(), run.resolve(run.getSourceDirectory()).getPath());
+        if (run.getPropertiesFile() != null) {
+            project.setPropertiesFile(run.resolve(run.getPropertiesFile().getPath()));
+        }
+        if (run.getBasedir() != null) {
+            project.setBasedir(run.resolve(run.getBasedir().getPath()));
+        }
+        if (run.getProjectId() != null) {
+            project.setProjectId(run.getProjectId());
+        }
+        if (run.getProjectVersion() != null) {
+            project.setVersion(run.getProjectVersion());
+        }
+
+        AbstractAntennaCLIFrontend frontend = new AbstractAntennaCLIFrontend(project.getConfigFile()) {
+            @Override
+            protected String getPluginDescendantArtifactIdName() {
+                return run.getPluginDescendantArtifactIdName();
+            }
+
+            @Override
+            public MetaDataStoringProject getProject() {
+                return project;
+            }
+        };
+        frontend.setEnvironment(run.getEnvironment());
+        frontend.execute();
+    }
+
+    private static PrintStream forwardTo(DataOutputStream out, byte kind) throws IOException {
+        return new PrintStream(new ForwardingOutputStream(out, kind), true, StandardCharsets.UTF_8.name());
+    }
+
+    private static void writeResult(DataOutputStream out, boolean success, String message) throws IOException {
+        synchronized (out) {
+            out.writeByte(RESULT);
+            out.writeBoolean(success);
+            out.writeUTF(message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message);
+            out.flush();
+        }
+    }
+
+    /**
+     * Sends everything written to it as output frames of one kind to the client.
+     */
+    private static final class ForwardingOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte kind;
+
+        private ForwardingOutputStream(DataOutputStream out, byte kind) {
+            this.out = out;
+            this.kind = kind;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            synchronized (out) {
+                out.writeByte(kind);
+                out.writeInt(length);
+                out.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // the connection is closed by the daemon after the result was sent
+            flush();
+        }
+    }
+}
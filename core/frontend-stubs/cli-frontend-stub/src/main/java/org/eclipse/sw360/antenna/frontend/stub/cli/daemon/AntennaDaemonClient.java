@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.frontend.stub.cli.daemon;
+
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Executes Antenna runs in an {@link AntennaDaemon}, which is started if no compatible daemon is running.
+ *
+ * A daemon is compatible if it was started with the same Java installation, the same JVM options and the same class
+ * path, so updating Antenna or adding workflow steps to the class path starts a new daemon. The JVM options of the
+ * daemon are read from the environment variable {@value #DAEMON_OPTS_VARIABLE}.
+ *
+ * Every working directory gets its own daemon, which is started in that directory. Relative paths within the
+ * configuration files are resolved against the working directory of the daemon, so a daemon shared by clients in
+ * different directories would resolve them differently than a run without daemon.
+ */
+public class AntennaDaemonClient {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AntennaDaemonClient.class);
+
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofHours(3);
+    public static final String DAEMON_OPTS_VARIABLE = "ANTENNA_DAEMON_OPTS";
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(1);
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final Duration idleTimeout;
+    private final List<String> daemonCommand;
+    private final File workingDirectory;
+    private final Path registrationFile;
+    private final Path logFile;
+
+    public AntennaDaemonClient(Duration idleTimeout) {
+        this(getDefaultDaemonDirectory(), idleTimeout, getClassPath(AntennaDaemonClient.class.getClassLoader()));
+    }
+
+    public AntennaDaemonClient(Path daemonDirectory, Duration idleTimeout, String classPath) {
+        this(daemonDirectory, idleTimeout, classPath, new File(System.getProperty("user.dir")));
+    }
+
+    public AntennaDaemonClient(Path daemonDirectory, Duration idleTimeout, String classPath, File workingDirectory) {
+        this.idleTimeout = idleTimeout;
+        this.workingDirectory = workingDirectory.getAbsoluteFile();
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        Optional.ofNullable(System.getenv(DAEMON_OPTS_VARIABLE))
+                .map(String::trim)
+                .filter(options -> !options.isEmpty())
+                .ifPresent(options -> command.addAll(Arrays.asList(options.split("\\s+"))));
+        command.add("-cp");
+        command.add(classPath);
+        command.add(AntennaDaemon.class.getName());
+        this.daemonCommand = Collections.unmodifiableList(command);
+
+        List<String> identity = new ArrayList<>(command);
+        identity.add(this.workingDirectory.getPath());
+        String daemonName = "daemon-" + fingerprint(identity);
+        this.registrationFile = daemonDirectory.resolve(daemonName + ".properties");
+        this.logFile = daemonDirectory.resolve(daemonName + ".log");
+    }
+
+    public static Path getDefaultDaemonDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".antenna", "daemon");
+    }
+
+    /**
+     * @return the class path of the given class loader, or the class path of this JVM if the class loader is the
+     * system class loader or does not tell its class path
+     */
+    static String getClassPath(ClassLoader classLoader) {
+        List<String> entries = new ArrayList<>();
+        ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+        for (ClassLoader loader = classLoader; loader != null && loader != systemClassLoader; loader = loader.getParent()) {
+            if (loader instanceof URLClassLoader) {
+                for (URL url : ((URLClassLoader) loader).getURLs()) {
+                    if ("file".equals(url.getProtocol())) {
+                        try {
+                            entries.add(Paths.get(url.toURI()).toString());
+                        } catch (URISyntaxException e) {
+                            LOGGER.debug("Ignoring class path entry {}", url);
+                        }
+                    }
+                }
+            }
+        }
+        if (entries.isEmpty()) {
+            return System.getProperty("java.class.path");
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static String fingerprint(List<String> command) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(String.join("\0", command).getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", hash[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    Path getRegistrationFile() {
+        return registrationFile;
+    }
+
+    public File getWorkingDirectory() {
+        return workingDirectory;
+    }
+
+    /**
+     * Executes the run in the daemon and prints its output to the output streams of this JVM. The run has to be
+     * requested from the working directory of this client.
+     *
+     * @throws ExecutionException if the run failed or the daemon could not be reached
+     */
+    public void run(DaemonRun run) {
+        try (Socket socket = connect(AntennaDaemon.RUN)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            run.writeTo(out);
+            out.flush();
+
+            readResponse(new DataInputStream(new BufferedInputStream(socket.getInputStream())));
+        } catch (IOException e) {
+            throw new ExecutionException("Communication with the Antenna daemon failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return whether a running daemon was stopped
+     */
+    public boolean stop() {
+        Optional<DaemonRegistration> registration = DaemonRegistration.read(registrationFile);
+        if (!registration.isPresent()) {
+            return false;
+        }
+        try (Socket socket = request(registration.get(), AntennaDaemon.STOP)) {
+            readResponse(new DataInputStream(new BufferedInputStream(socket.getInputStream())));
+            return true;
+        } catch (IOException e) {
+            LOGGER.debug("Antenna daemon is not running anymore", e);
+            deleteRegistration();
+            return false;
+        }
+    }
+
+    private Socket connect(byte command) throws IOException {
+        Optional<DaemonRegistration> registration = DaemonRegistration.read(registrationFile);
+        if (registration.isPresent()) {
+            try {
+                return request(registration.get(), command);
+            } catch (IOException e) {
+                LOGGER.debug("Antenna daemon of {} is not running anymore", registrationFile, e);
+                deleteRegistration();
+            }
+        }
+        return request(startDaemon(), command);
+    }
+
+    private static Socket request(DaemonRegistration registration, byte command) throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), registration.getPort());
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeInt(AntennaDaemon.PROTOCOL_VERSION);
+            out.writeUTF(registration.getToken());
+            out.writeByte(command);
+            out.flush();
+            return socket;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    private static void readResponse(DataInputStream in) throws IOException {
+        while (true) {
+            byte kind = in.readByte();
+            if (kind == AntennaDaemon.RESULT) {
+                boolean success = in.readBoolean();
+                String message = in.readUTF();
+                if (!success) {
+                    throw new ExecutionException(message);
+                }
+                return;
+            }
+            byte[] output = new byte[in.readInt()];
+            in.readFully(output);
+            PrintStream target = kind == AntennaDaemon.ERROR_OUTPUT ? System.err : System.out;
+            target.write(output, 0, output.length);
+            target.flush();
+        }
+    }
+
+    private void deleteRegistration() {
+        try {
+            Files.deleteIfExists(registrationFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete the stale Antenna daemon registration " + registrationFile, e);
+        }
+    }
+
+    private DaemonRegistration startDaemon() throws IOException {
+        Files.createDirectories(registrationFile.toAbsolutePath().getParent());
+        List<String> command = new ArrayList<>(daemonCommand);
+        command.add(registrationFile.toAbsolutePath().toString());
+        command.add(Long.toString(idleTimeout.getSeconds()));
+
+        LOGGER.info("Starting an Antenna daemon, its log is written to {}", logFile);
+        Process process = new ProcessBuilder(command)
+                .directory(workingDirectory)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(logFile.toFile()))
+                .start();
+        process.getOutputStream().close();
+
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            Optional<DaemonRegistration> started = DaemonRegistration.read(registrationFile);
+            if (started.isPresent()) {
+                return started.get();
+            }
+            if (!process.isAlive()) {
+                throw new ExecutionException("Antenna daemon could not be started, see " + logFile);
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExecutionException("Interrupted while waiting for the Antenna daemon", e);
+            }
+        }
+        process.destroy();
+        throw new ExecutionException("Antenna daemon did not start within " + STARTUP_TIMEOUT.getSeconds()
+                + " seconds, see " + logFile);
+    }
+}
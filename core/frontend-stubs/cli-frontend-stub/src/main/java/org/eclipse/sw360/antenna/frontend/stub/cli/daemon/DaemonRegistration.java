@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.frontend.stub.cli.daemon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * The file by which clients find a running daemon: the port it listens on and the token clients have to send.
+ */
+final class DaemonRegistration {
+    private static final String PORT = "port";
+    private static final String TOKEN = "token";
+
+    private final int port;
+    private final String token;
+
+    DaemonRegistration(int port, String token) {
+        this.port = port;
+        this.token = token;
+    }
+
+    int getPort() {
+        return port;
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    void write(Path registrationFile) throws IOException {
+        Files.createDirectories(registrationFile.toAbsolutePath().getParent());
+        // temporary files are only readable by their owner, so other users cannot learn the token
+        Path tempFile = Files.createTempFile(registrationFile.toAbsolutePath().getParent(),
+                registrationFile.getFileName().toString(), ".tmp");
+        Properties properties = new Properties();
+        properties.setProperty(PORT, Integer.toString(port));
+        properties.setProperty(TOKEN, token);
+        try (OutputStream out = Files.newOutputStream(tempFile)) {
+            properties.store(out, "Antenna daemon");
+        }
+        try {
+            Files.move(tempFile, registrationFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, registrationFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static Optional<DaemonRegistration> read(Path registrationFile) {
+        if (!Files.isRegularFile(registrationFile)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(registrationFile)) {
+            properties.load(in);
+            String token = properties.getProperty(TOKEN);
+            if (token == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new DaemonRegistration(Integer.parseInt(properties.getProperty(PORT)), token));
+        } catch (IOException | NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Deletes the registration file, unless another daemon has replaced it in the meantime.
+     */
+    static void delete(Path registrationFile, String token) throws IOException {
+        Optional<DaemonRegistration> registration = read(registrationFile);
+        if (registration.isPresent() && registration.get().getToken().equals(token)) {
+            Files.deleteIfExists(registrationFile);
+        }
+    }
+}
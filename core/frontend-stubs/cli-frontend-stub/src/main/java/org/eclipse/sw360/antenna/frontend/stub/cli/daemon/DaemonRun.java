@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.frontend.stub.cli.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A single run of Antenna, which a client sends to the {@link AntennaDaemon}. It describes the project as the CLI and
+ * the Gradle frontend see it, since the daemon has no access to the build tool of the client.
+ *
+ * Relative paths of the run are resolved against the working directory of the client, which defaults to the working
+ * directory of the JVM creating the run.
+ */
+public class DaemonRun {
+    private final File configFile;
+    private final String buildDirectory;
+    private final String sourceDirectory;
+    private final String pluginDescendantArtifactIdName;
+
+    private File propertiesFile;
+    private File basedir;
+    private String projectId;
+    private String projectVersion;
+    private Map<String, String> environment = Collections.emptyMap();
+    private File workingDirectory = new File(System.getProperty("user.dir"));
+
+    public DaemonRun(File configFile, String buildDirectory, String sourceDirectory,
+                     String pluginDescendantArtifactIdName) {
+        this.configFile = configFile.getAbsoluteFile();
+        this.buildDirectory = buildDirectory;
+        this.sourceDirectory = sourceDirectory;
+        this.pluginDescendantArtifactIdName = pluginDescendantArtifactIdName;
+    }
+
+    public File getConfigFile() {
+        return configFile;
+    }
+
+    public String getBuildDirectory() {
+        return buildDirectory;
+    }
+
+    public String getSourceDirectory() {
+        return sourceDirectory;
+    }
+
+    public String getPluginDescendantArtifactIdName() {
+        return pluginDescendantArtifactIdName;
+    }
+
+    public File getPropertiesFile() {
+        return propertiesFile;
+    }
+
+    public DaemonRun setPropertiesFile(File propertiesFile) {
+        this.propertiesFile = propertiesFile;
+        return this;
+    }
+
+    public File getBasedir() {
+        return basedir;
+    }
+
+    public DaemonRun setBasedir(File basedir) {
+        this.basedir = basedir;
+        return this;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public DaemonRun setProjectId(String projectId) {
+        this.projectId = projectId;
+        return this;
+    }
+
+    public String getProjectVersion() {
+        return projectVersion;
+    }
+
+    public DaemonRun setProjectVersion(String projectVersion) {
+        this.projectVersion = projectVersion;
+        return this;
+    }
+
+    public Map<String, String> getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * Sets the environment variables of the client, the configuration is rendered with these instead of the
+     * environment of the daemon.
+     */
+    public DaemonRun setEnvironment(Map<String, String> environment) {
+        this.environment = environment;
+        return this;
+    }
+
+    public File getWorkingDirectory() {
+        return workingDirectory;
+    }
+
+    public DaemonRun setWorkingDirectory(File workingDirectory) {
+        this.workingDirectory = workingDirectory.getAbsoluteFile();
+        return this;
+    }
+
+    /**
+     * @return the path resolved against the working directory of the client
+     */
+    File resolve(String path) {
+        return workingDirectory.toPath().resolve(path).toFile();
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeUTF(configFile.getPath());
+        out.writeUTF(buildDirectory);
+        out.writeUTF(sourceDirectory);
+        out.writeUTF(pluginDescendantArtifactIdName);
+        out.writeUTF(workingDirectory.getPath());
+        writeOptional(out, propertiesFile != null ? propertiesFile.getAbsolutePath() : null);
+        writeOptional(out, basedir != null ? basedir.getAbsolutePath() : null);
+        writeOptional(out, projectId);
+        writeOptional(out, projectVersion);
+        out.writeInt(environment.size());
+        for (Map.Entry<String, String> variable : environment.entrySet()) {
+            writeLongString(out, variable.getKey());
+            writeLongString(out, variable.getValue());
+        }
+    }
+
+    static DaemonRun readFrom(DataInputStream in) throws IOException {
+        DaemonRun run = new DaemonRun(new File(in.readUTF()), in.readUTF(), in.readUTF(), in.readUTF())
+                .setWorkingDirectory(new File(in.readUTF()));
+        String propertiesFilePath = readOptional(in);
+        if (propertiesFilePath != null) {
+            run.setPropertiesFile(new File(propertiesFilePath));
+        }
+        String basedirPath = readOptional(in);
+        if (basedirPath != null) {
+            run.setBasedir(new File(basedirPath));
+        }
+        run.setProjectId(readOptional(in));
+        run.setProjectVersion(readOptional(in));
+        int variables = in.readInt();
+        Map<String, String> environment = new HashMap<>();
+        for (int i = 0; i < variables; i++) {
+            environment.put(readLongString(in), readLongString(in));
+        }
+        return run.setEnvironment(environment);
+    }
+
+    private static void writeOptional(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readOptional(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // environment variables may exceed the 64k limit of writeUTF
+    private static void writeLongString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readLongString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
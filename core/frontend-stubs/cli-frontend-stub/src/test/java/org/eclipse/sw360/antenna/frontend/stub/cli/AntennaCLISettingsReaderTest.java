@@ -141,6 +141,7 @@ public class AntennaCLISettingsReaderTest {
 
         putToMapsForPath(stringAnswers, stringGetters, "antennaTargetDirectory", ToolConfiguration::getAntennaTargetDirectory);
         putToMapsForPath(stringAnswers, stringGetters, "scanDir", ToolConfiguration::getScanDir);
+        putToMapsForPath(stringAnswers, stringGetters, "incrementalCacheDirectory", ToolConfiguration::getIncrementalCacheDirectory);
         putToMaps(stringAnswers, stringGetters, "productName", ToolConfiguration::getProductName);
         putToMaps(stringAnswers, stringGetters, "productFullname", ToolConfiguration::getProductFullName);
         putToMaps(stringAnswers, stringGetters, "version", "1.0", ToolConfiguration::getVersion);
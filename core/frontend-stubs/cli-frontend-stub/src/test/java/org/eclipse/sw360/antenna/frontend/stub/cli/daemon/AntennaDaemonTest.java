@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.frontend.stub.cli.daemon;
+
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AntennaDaemonTest {
+    private static final long WAIT_MILLIS = 10000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private AntennaDaemonClient client;
+    private Thread daemonThread;
+
+    @Before
+    public void setUp() {
+        client = new AntennaDaemonClient(temporaryFolder.getRoot().toPath(), Duration.ofMinutes(1),
+                System.getProperty("java.class.path"));
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        if (daemonThread != null && daemonThread.isAlive()) {
+            client.stop();
+            daemonThread.join(WAIT_MILLIS);
+        }
+    }
+
+    private void startDaemon(Duration idleTimeout) throws InterruptedException {
+        AntennaDaemon daemon = new AntennaDaemon(client.getRegistrationFile(), idleTimeout);
+        daemonThread = new Thread(() -> {
+            try {
+                daemon.serve();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        daemonThread.start();
+
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!Files.exists(client.getRegistrationFile())) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Antenna daemon did not register itself");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testRunIsTransferredCompletely() throws IOException {
+        DaemonRun run = new DaemonRun(new File("pom.xml"), "/project/build", "/project/src", "antenna-maven-plugin")
+                .setBasedir(new File("/project"))
+                .setProjectId("project")
+                .setWorkingDirectory(new File("/client"))
+                .setEnvironment(Collections.singletonMap("SECRET", "password12345"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        run.writeTo(new DataOutputStream(bytes));
+        DaemonRun transferred = DaemonRun.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(run.getConfigFile(), transferred.getConfigFile());
+        assertEquals("/project/build", transferred.getBuildDirectory());
+        assertEquals("/project/src", transferred.getSourceDirectory());
+        assertEquals("antenna-maven-plugin", transferred.getPluginDescendantArtifactIdName());
+        assertEquals(new File("/project").getAbsoluteFile(), transferred.getBasedir());
+        assertEquals("project", transferred.getProjectId());
+        assertEquals(null, transferred.getProjectVersion());
+        assertEquals(null, transferred.getPropertiesFile());
+        assertEquals(run.getEnvironment(), transferred.getEnvironment());
+        assertEquals(new File("/client").getAbsoluteFile(), transferred.getWorkingDirectory());
+    }
+
+    @Test
+    public void testRelativePathsAreResolvedAgainstTheWorkingDirectoryOfTheClient() {
+        File workingDirectory = temporaryFolder.getRoot();
+        File otherDirectory = new File(workingDirectory.getParentFile(), "other");
+        DaemonRun run = new DaemonRun(new File("pom.xml"), "target", "src", "antenna-maven-plugin")
+                .setWorkingDirectory(workingDirectory);
+
+        assertEquals(new File(workingDirectory, "target"), run.resolve(run.getBuildDirectory()));
+        assertEquals(otherDirectory, run.resolve(otherDirectory.getPath()));
+    }
+
+    @Test
+    public void testEveryWorkingDirectoryHasItsOwnDaemon() {
+        Path daemonDirectory = temporaryFolder.getRoot().toPath();
+        String classPath = System.getProperty("java.class.path");
+        File firstModule = new File(temporaryFolder.getRoot(), "first");
+        File secondModule = new File(temporaryFolder.getRoot(), "second");
+
+        AntennaDaemonClient first = new AntennaDaemonClient(daemonDirectory, Duration.ofMinutes(1), classPath, firstModule);
+        AntennaDaemonClient second = new AntennaDaemonClient(daemonDirectory, Duration.ofMinutes(1), classPath, secondModule);
+        AntennaDaemonClient firstAgain = new AntennaDaemonClient(daemonDirectory, Duration.ofMinutes(1), classPath, firstModule);
+
+        assertNotEquals(first.getRegistrationFile(), second.getRegistrationFile());
+        assertEquals(first.getRegistrationFile(), firstAgain.getRegistrationFile());
+    }
+
+    @Test
+    public void testRunsFromOtherWorkingDirectoriesAreRejected() throws InterruptedException {
+        startDaemon(Duration.ofMinutes(1));
+
+        try {
+            client.run(new DaemonRun(new File("pom.xml"), "target", "src", "antenna-maven-plugin")
+                    .setWorkingDirectory(temporaryFolder.getRoot()));
+            fail("A run requested from another working directory should be rejected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getMessage().startsWith("The Antenna daemon runs in "));
+        }
+
+        assertTrue(daemonThread.isAlive());
+        assertTrue(client.stop());
+    }
+
+    @Test
+    public void testDaemonStopsWhenIdle() throws InterruptedException {
+        startDaemon(Duration.ofMillis(200));
+
+        daemonThread.join(WAIT_MILLIS);
+
+        assertFalse(daemonThread.isAlive());
+        assertFalse(Files.exists(client.getRegistrationFile()));
+    }
+
+    @Test
+    public void testDaemonIsStoppedByClient() throws InterruptedException {
+        startDaemon(Duration.ofMinutes(1));
+
+        assertTrue(client.stop());
+        daemonThread.join(WAIT_MILLIS);
+
+        assertFalse(daemonThread.isAlive());
+        assertFalse(Files.exists(client.getRegistrationFile()));
+        assertFalse(client.stop());
+    }
+
+    @Test
+    public void testFailedRunIsReportedAndDaemonKeepsRunning() throws InterruptedException {
+        startDaemon(Duration.ofMinutes(1));
+        Path missingPom = temporaryFolder.getRoot().toPath().resolve("missing").resolve("pom.xml");
+
+        try {
+            client.run(new DaemonRun(missingPom.toFile(), missingPom.resolveSibling("target").toString(),
+                    missingPom.resolveSibling("src").toString(), "antenna-maven-plugin"));
+            fail("The run of a missing project should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getMessage().startsWith("Antenna execution failed due to: "));
+        }
+
+        assertTrue(daemonThread.isAlive());
+        assertTrue(client.stop());
+    }
+
+    @Test
+    public void testClientsWithWrongTokenAreRejected() throws Exception {
+        startDaemon(Duration.ofMinutes(1));
+        Path registrationFile = client.getRegistrationFile();
+        DaemonRegistration registration = DaemonRegistration.read(registrationFile).get();
+        new DaemonRegistration(registration.getPort(), "wrong token").write(registrationFile);
+
+        try {
+            client.run(new DaemonRun(new File("pom.xml"), "target", "src", "antenna-maven-plugin"));
+            fail("A client with a wrong token should be rejected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getMessage().startsWith("Communication with the Antenna daemon failed"));
+        }
+
+        registration.write(registrationFile);
+        assertTrue(client.stop());
+    }
+}
@@ -10,11 +10,15 @@
  */
 package org.eclipse.sw360.antenna.frontend.stub.gradle;
 
+import org.eclipse.sw360.antenna.frontend.stub.cli.daemon.AntennaDaemonClient;
+import org.eclipse.sw360.antenna.frontend.stub.cli.daemon.DaemonRun;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.TaskAction;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 public abstract class AnalyzeTask extends DefaultTask {
 
@@ -30,6 +34,11 @@ public abstract class AnalyzeTask extends DefaultTask {
 
         Path toolConfigurationPath = Paths.get(System.getProperty("user.dir")).resolve(extension.getToolConfigurationPath()).toAbsolutePath();
 
+        if (extension.isDaemon()) {
+            analyzeInDaemon(extension, toolConfigurationPath);
+            return;
+        }
+
         AntennaImpl osmRunner;
 
         if(extension.getPropertiesFilePath() != null) {
@@ -42,4 +51,29 @@ public abstract class AnalyzeTask extends DefaultTask {
         osmRunner.execute();
     }
 
+    private void analyzeInDaemon(AntennaExtension extension, Path toolConfigurationPath) {
+        if (!Files.exists(toolConfigurationPath)) {
+            throw new IllegalArgumentException("Cannot find " + toolConfigurationPath.toString());
+        }
+
+        // the daemon cannot access the Gradle project, so it gets the values the wrapped project would provide
+        WrappedGradleProject project = new WrappedGradleProject(getProject(), toolConfigurationPath.toFile());
+        DaemonRun run = new DaemonRun(toolConfigurationPath.toFile(), project.getBuildDirectory(),
+                project.getBasedir().toPath().resolve("src").toAbsolutePath().toString(),
+                getPluginDescendantArtifactIdName())
+                .setBasedir(project.getBasedir())
+                .setProjectId(project.getProjectId())
+                .setProjectVersion(project.getVersion())
+                .setEnvironment(System.getenv());
+
+        if (extension.getPropertiesFilePath() != null) {
+            Path propertiesFilePath = Paths.get(System.getProperty("user.dir")).resolve(extension.getPropertiesFilePath()).toAbsolutePath();
+            if (!Files.exists(propertiesFilePath)) {
+                throw new IllegalArgumentException("Cannot find " + propertiesFilePath.toString());
+            }
+            run.setPropertiesFile(propertiesFilePath.toFile());
+        }
+
+        new AntennaDaemonClient(Duration.ofMinutes(extension.getDaemonIdleTimeoutMinutes())).run(run);
+    }
 }
@@ -10,11 +10,17 @@
  */
 package org.eclipse.sw360.antenna.frontend.stub.gradle;
 
+import org.eclipse.sw360.antenna.frontend.stub.cli.daemon.AntennaDaemonClient;
+
 public class AntennaExtension {
     private String toolConfigurationPath;
 
     private String propertiesFilePath;
 
+    private boolean daemon;
+
+    private long daemonIdleTimeoutMinutes = AntennaDaemonClient.DEFAULT_IDLE_TIMEOUT.toMinutes();
+
     public String getToolConfigurationPath() {
         return toolConfigurationPath;
     }
@@ -30,4 +36,20 @@ public class AntennaExtension {
     public void setPropertiesFilePath(String propertiesFilePath) {
         this.propertiesFilePath = propertiesFilePath;
     }
+
+    public boolean isDaemon() {
+        return daemon;
+    }
+
+    public void setDaemon(boolean daemon) {
+        this.daemon = daemon;
+    }
+
+    public long getDaemonIdleTimeoutMinutes() {
+        return daemonIdleTimeoutMinutes;
+    }
+
+    public void setDaemonIdleTimeoutMinutes(long daemonIdleTimeoutMinutes) {
+        this.daemonIdleTimeoutMinutes = daemonIdleTimeoutMinutes;
+    }
 }
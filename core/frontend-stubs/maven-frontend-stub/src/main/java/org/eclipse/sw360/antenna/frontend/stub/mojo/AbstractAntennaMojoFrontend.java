@@ -145,6 +145,12 @@ public abstract class AbstractAntennaMojoFrontend extends AbstractMojo implement
     @Parameter(property = "proxyId", defaultValue = "")
     private String proxyId;
 
+    @Parameter(property = "incrementalCacheDirectory")
+    private String incrementalCacheDirectory;
+
+    @Parameter(property = "incrementalCacheMaxAgeHours", defaultValue = "24")
+    private int incrementalCacheMaxAgeHours;
+
     @Parameter(defaultValue = "${settings}", readonly = true)
     private Settings settings;
 
@@ -280,7 +286,9 @@ public abstract class AbstractAntennaMojoFrontend extends AbstractMojo implement
                 .setCopyrightHoldersName(copyrightHoldersName).setCopyrightNotice(copyrightNotice)
                 .setAttributionDocumentNotes(attributionDocumentNotes).setWorkflow(finalWorkflow)
                 .setProxyHost(proxyHost).setProxyPort(proxyPort)
-                .setShowCopyrightStatements(showCopyrightStatements).setEncoding(encodingCharSet);
+                .setShowCopyrightStatements(showCopyrightStatements).setEncoding(encodingCharSet)
+                .setIncrementalCacheDirectory(incrementalCacheDirectory)
+                .setIncrementalCacheMaxAgeHours(incrementalCacheMaxAgeHours);
 
         return toolConfigBuilder.buildConfiguration();
     }
@@ -21,8 +21,10 @@ import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Handles configuration properties that control Antenna's setup.
@@ -32,6 +34,7 @@ public class ToolConfiguration {
     private static final Logger LOGGER = LoggerFactory.getLogger(ToolConfiguration.class);
 
     private static final String DEPENDENCIES_DIR = "dependencies";
+    private static final int DEFAULT_INCREMENTAL_CACHE_MAX_AGE_HOURS = 24;
 
     private final Path antennaTargetDirectory;
 
@@ -55,6 +58,9 @@ public class ToolConfiguration {
     private final String proxyHost;
     private final int proxyPort;
     private final boolean useProxy;
+    private final Path incrementalCacheDirectory;
+    private final Duration incrementalCacheMaxAge;
+    private final Map<String, String> environment;
 
     private <T> List<T> makeUnmodifiable(List<T> list) {
         if (list == null) {
@@ -89,11 +95,17 @@ public class ToolConfiguration {
         this.proxyHost = builder.proxyHost;
         this.proxyPort = builder.proxyPort;
         this.useProxy = this.proxyHost != null && !"".equals(this.proxyHost) && this.proxyPort > 0;
+        this.incrementalCacheDirectory = builder.incrementalCacheDirectory;
+        this.incrementalCacheMaxAge = Duration.ofHours(builder.incrementalCacheMaxAgeHours);
+        this.environment = builder.environment != null
+                ? Collections.unmodifiableMap(builder.environment)
+                : System.getenv();
     }
 
     @Override
     public String toString() {
-        return ReflectionToStringBuilder.toString(this);
+        // the environment may contain credentials
+        return ReflectionToStringBuilder.toStringExclude(this, "environment");
     }
 
     public Path getAntennaTargetDirectory() {
@@ -182,6 +194,30 @@ public class ToolConfiguration {
         return proxyPort;
     }
 
+    /**
+     * @return The directory in which the results of the workflow are cached between runs, or null if every run
+     * executes the complete workflow.
+     */
+    public Path getIncrementalCacheDirectory() {
+        return incrementalCacheDirectory;
+    }
+
+    /**
+     * @return The time after which cached results are no longer used, so that information from external sources,
+     * e.g. Maven Central or SW360, is refreshed.
+     */
+    public Duration getIncrementalCacheMaxAge() {
+        return incrementalCacheMaxAge;
+    }
+
+    /**
+     * @return The environment variables of the frontend which started the run. Workflow steps use them instead of
+     * the environment of the JVM, which differs from the one of the client if the run is executed by a daemon.
+     */
+    public Map<String, String> getEnvironment() {
+        return environment;
+    }
+
     public static class ConfigurationBuilder {
         private Path antennaTargetDirectory;
 
@@ -204,6 +240,9 @@ public class ToolConfiguration {
         private Charset encodingCharSet;
         private String proxyHost;
         private int proxyPort;
+        private Path incrementalCacheDirectory;
+        private int incrementalCacheMaxAgeHours = DEFAULT_INCREMENTAL_CACHE_MAX_AGE_HOURS;
+        private Map<String, String> environment;
 
         public ConfigurationBuilder setFilesToAttach(List<String> filesToAttach) {
             this.filesToAttach = filesToAttach;
@@ -327,6 +366,24 @@ public class ToolConfiguration {
             return this;
         }
 
+        public ConfigurationBuilder setIncrementalCacheDirectory(String incrementalCacheDirectory) {
+            if (StringUtils.isBlank(incrementalCacheDirectory)) {
+                return this;
+            }
+            this.incrementalCacheDirectory = new File(incrementalCacheDirectory).toPath();
+            return this;
+        }
+
+        public ConfigurationBuilder setIncrementalCacheMaxAgeHours(int incrementalCacheMaxAgeHours) {
+            this.incrementalCacheMaxAgeHours = incrementalCacheMaxAgeHours;
+            return this;
+        }
+
+        public ConfigurationBuilder setEnvironment(Map<String, String> environment) {
+            this.environment = environment;
+            return this;
+        }
+
         public ToolConfiguration buildConfiguration() {
             return new ToolConfiguration(this);
         }
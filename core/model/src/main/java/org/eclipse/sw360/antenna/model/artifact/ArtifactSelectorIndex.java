@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.sw360.antenna.model.artifact;
+
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.artifact.facts.java.ArtifactPathnames;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Groups configured artifact selectors by the coordinate type, namespace and name or by the filename they require, so
+ * that an artifact is only tested against the selectors which can possibly match it. Selectors which do not require a
+ * literal coordinate or filename (e.g. wildcard coordinates or filename patterns) are tested against every artifact.
+ *
+ * An index is immutable once built, so it can be shared between workflow steps and threads.
+ *
+ * Matches are always returned in the iteration order of the collection the index was built from.
+ */
+public final class ArtifactSelectorIndex<T> {
+    private final List<Map.Entry<ArtifactSelector, T>> entries = new ArrayList<>();
+    private final Map<List<String>, BitSet> byTypeNamespaceAndName = new HashMap<>();
+    private final Map<List<String>, BitSet> byTypeAndName = new HashMap<>();
+    private final Map<List<String>, BitSet> byFilename = new HashMap<>();
+    private final BitSet anyFilename = new BitSet();
+    private final BitSet unindexed = new BitSet();
+
+    public ArtifactSelectorIndex(Map<? extends ArtifactSelector, T> selectors) {
+        selectors.forEach(this::add);
+    }
+
+    public static ArtifactSelectorIndex<ArtifactSelector> of(Collection<? extends ArtifactSelector> selectors) {
+        final Map<ArtifactSelector, ArtifactSelector> identity = new LinkedHashMap<>();
+        selectors.forEach(selector -> identity.put(selector, selector));
+        return new ArtifactSelectorIndex<>(identity);
+    }
+
+    private void add(ArtifactSelector selector, T value) {
+        final int position = entries.size();
+        entries.add(new AbstractMap.SimpleImmutableEntry<>(selector, value));
+
+        final Optional<Set<List<String>>> keys = getRequiredKeys(selector);
+        if (keys.isPresent()) {
+            keys.get().forEach(key -> {
+                if (key.size() == 1) {
+                    byFilename.computeIfAbsent(key, k -> new BitSet()).set(position);
+                    anyFilename.set(position);
+                } else {
+                    final Map<List<String>, BitSet> bucket = key.size() == 3 ? byTypeNamespaceAndName : byTypeAndName;
+                    bucket.computeIfAbsent(key, k -> new BitSet()).set(position);
+                }
+            });
+        } else {
+            unindexed.set(position);
+        }
+    }
+
+    /*
+     * Returns the set of coordinate or filename keys of which at least one has to be present on an artifact for the
+     * selector to match, or nothing if the selector can not be narrowed down this way.
+     */
+    private static Optional<Set<List<String>>> getRequiredKeys(ArtifactSelector selector) {
+        if (selector instanceof ArtifactCoordinates) {
+            final Set<List<String>> keys = new HashSet<>();
+            for (Coordinate coordinate : ((ArtifactCoordinates) selector).getCoordinates()) {
+                final Optional<List<String>> key = getKey(coordinate);
+                if (!key.isPresent()) {
+                    return Optional.empty();
+                }
+                keys.add(key.get());
+            }
+            return Optional.of(keys);
+        }
+        if (selector instanceof ArtifactFilename) {
+            final Set<List<String>> keys = new HashSet<>();
+            for (ArtifactFilename.ArtifactFilenameEntry entry : ((ArtifactFilename) selector).getArtifactFilenameEntries()) {
+                final String filename = entry.getFilename();
+                // filenames containing a path are matched against the end of artifact paths, which is not indexed
+                if (!isLiteral(filename) || filename.indexOf('/') >= 0 || filename.indexOf('\\') >= 0) {
+                    return Optional.empty();
+                }
+                keys.add(Collections.singletonList(filename));
+            }
+            return Optional.of(keys);
+        }
+        if (selector instanceof ArtifactSelectorAndSet) {
+            return ((ArtifactSelectorAndSet) selector).getSelectors().stream()
+                    .map(ArtifactSelectorIndex::getRequiredKeys)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .min(Comparator.comparing(Set::size));
+        }
+        if (selector instanceof ArtifactSelectorOrSet) {
+            final Set<List<String>> keys = new HashSet<>();
+            for (ArtifactSelector child : ((ArtifactSelectorOrSet) selector).getSelectors()) {
+                final Optional<Set<List<String>>> childKeys = getRequiredKeys(child);
+                if (!childKeys.isPresent()) {
+                    return Optional.empty();
+                }
+                keys.addAll(childKeys.get());
+            }
+            return Optional.of(keys);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<List<String>> getKey(Coordinate coordinate) {
+        if (!isLiteral(coordinate.getType()) || !isLiteral(coordinate.getName())) {
+            return Optional.empty();
+        }
+        if (coordinate.getNamespace() == null) {
+            return Optional.of(Arrays.asList(coordinate.getType(), coordinate.getName()));
+        }
+        if (!isLiteral(coordinate.getNamespace())) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.asList(coordinate.getType(), coordinate.getNamespace(), coordinate.getName()));
+    }
+
+    private static boolean isLiteral(String value) {
+        return value != null && value.equals(value.trim()) && WildcardMatcher.compile(value).isLiteral();
+    }
+
+    private BitSet getCandidates(Artifact artifact) {
+        final BitSet candidates = (BitSet) unindexed.clone();
+        for (Coordinate coordinate : artifact.getCoordinates()) {
+            Optional.ofNullable(byTypeAndName.get(Arrays.asList(coordinate.getType(), coordinate.getName())))
+                    .ifPresent(candidates::or);
+            Optional.ofNullable(byTypeNamespaceAndName.get(Arrays.asList(coordinate.getType(), coordinate.getNamespace(), coordinate.getName())))
+                    .ifPresent(candidates::or);
+        }
+        if (!byFilename.isEmpty()) {
+            addFilenameCandidates(artifact, candidates);
+        }
+        return candidates;
+    }
+
+    /*
+     * Filename selectors also match artifacts whose filename is a pattern matching the selector, or whose path ends
+     * with the selected filename.
+     */
+    private void addFilenameCandidates(Artifact artifact, BitSet candidates) {
+        artifact.askFor(ArtifactFilename.class).ifPresent(filename -> {
+            for (ArtifactFilename.ArtifactFilenameEntry entry : filename.getArtifactFilenameEntries()) {
+                final String name = entry.getFilename();
+                if (name == null || !WildcardMatcher.isLiteralSelector(name)) {
+                    candidates.or(anyFilename);
+                } else {
+                    Optional.ofNullable(byFilename.get(Collections.singletonList(name)))
+                            .ifPresent(candidates::or);
+                }
+            }
+        });
+        artifact.askFor(ArtifactPathnames.class).ifPresent(pathnames -> pathnames.get().stream()
+                .filter(Objects::nonNull)
+                .map(pathname -> pathname.substring(Math.max(pathname.lastIndexOf('/'), pathname.lastIndexOf('\\')) + 1))
+                .map(name -> byFilename.get(Collections.singletonList(name)))
+                .filter(Objects::nonNull)
+                .forEach(candidates::or));
+    }
+
+    private Stream<Map.Entry<ArtifactSelector, T>> findMatchingEntries(Artifact artifact) {
+        return getCandidates(artifact).stream()
+                .mapToObj(entries::get)
+                .filter(entry -> entry.getKey().matches(artifact));
+    }
+
+    /**
+     * @return the values of all selectors matching the artifact, in the order the selectors were added.
+     */
+    public List<T> findMatching(Artifact artifact) {
+        return findMatchingEntries(artifact)
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<T> findFirstMatching(Artifact artifact) {
+        return findMatchingEntries(artifact)
+                .findFirst()
+                .map(Map.Entry::getValue);
+    }
+
+    public boolean anyMatch(Artifact artifact) {
+        return findMatchingEntries(artifact)
+                .findAny()
+                .isPresent();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -28,6 +28,10 @@ public class ArtifactSelectorOrSet implements ArtifactSelector {
         this.selectors = new HashSet<>(selectors);
     }
 
+    Set<? extends ArtifactSelector> getSelectors() {
+        return Collections.unmodifiableSet(selectors);
+    }
+
     @Override
     public boolean matches(Artifact artifact) {
         return selectors.stream()
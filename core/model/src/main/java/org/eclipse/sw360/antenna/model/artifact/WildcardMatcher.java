@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.sw360.antenna.model.artifact;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A precompiled form of a selector string as used by {@link ArtifactSelectorHelper#compareStringsAsWildcard}.
+ *
+ * Selector strings without regex meta characters are matched with plain string operations (exact, prefix and suffix
+ * globs), all other selector strings are compiled once to a {@link Pattern}. Compiled matchers are kept in a bounded
+ * LRU cache, since the same selectors from the configuration are compared against every artifact.
+ */
+public final class WildcardMatcher {
+    private static final int CACHE_SIZE = 4096;
+    private static final String REGEX_META_CHARACTERS = "\\^$|?+()[]{}";
+
+    private static final Map<String, WildcardMatcher> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<String, WildcardMatcher>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, WildcardMatcher> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    private enum Kind {
+        EXACT, PREFIX, SUFFIX, ANY, PATTERN
+    }
+
+    private final String selector;
+    private final Kind kind;
+    private final String literal;
+    private final Pattern pattern;
+
+    private WildcardMatcher(String selector) {
+        this.selector = selector;
+        final String trimmed = selector.trim();
+        final int firstWildcard = trimmed.indexOf('*');
+        final int lastWildcard = trimmed.lastIndexOf('*');
+
+        if (containsRegexMetaCharacter(trimmed) || firstWildcard != lastWildcard ||
+                (firstWildcard > 0 && firstWildcard < trimmed.length() - 1)) {
+            this.kind = Kind.PATTERN;
+            this.literal = null;
+            this.pattern = Pattern.compile(trimmed.replaceAll("\\.", "\\\\.").replaceAll("\\*", ".*?"));
+        } else if (firstWildcard < 0) {
+            this.kind = Kind.EXACT;
+            this.literal = trimmed;
+            this.pattern = null;
+        } else if (trimmed.length() == 1) {
+            this.kind = Kind.ANY;
+            this.literal = "";
+            this.pattern = null;
+        } else if (firstWildcard == 0) {
+            this.kind = Kind.SUFFIX;
+            this.literal = trimmed.substring(1);
+            this.pattern = null;
+        } else {
+            this.kind = Kind.PREFIX;
+            this.literal = trimmed.substring(0, trimmed.length() - 1);
+            this.pattern = null;
+        }
+    }
+
+    public static WildcardMatcher compile(String selector) {
+        WildcardMatcher matcher = CACHE.get(selector);
+        if (matcher == null) {
+            matcher = new WildcardMatcher(selector);
+            CACHE.put(selector, matcher);
+        }
+        return matcher;
+    }
+
+    private static boolean containsRegexMetaCharacter(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (REGEX_META_CHARACTERS.indexOf(value.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * The wildcard is translated to ".*?" which does not match line terminators, so the fast paths have to reject
+     * them as well to behave exactly like the compiled pattern.
+     */
+    private static boolean containsLineTerminator(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            final char c = value.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the selector does not contain any wildcard or regular expression, i.e. it only matches the
+     * trimmed selector string itself.
+     */
+    public boolean isLiteral() {
+        return kind == Kind.EXACT;
+    }
+
+    /**
+     * @return true if the selector string would be compiled to a literal matcher, see {@link #isLiteral()}. The
+     * selector is neither compiled nor cached, so this is cheap for strings which are no configured selectors.
+     */
+    public static boolean isLiteralSelector(String selector) {
+        final String trimmed = selector.trim();
+        return trimmed.indexOf('*') < 0 && !containsRegexMetaCharacter(trimmed);
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    public boolean matches(String input) {
+        if (selector.equals(input)) {
+            return true;
+        }
+        final String value = input != null ? input : "";
+        switch (kind) {
+            case EXACT:
+                return literal.equals(value);
+            case ANY:
+                return !containsLineTerminator(value, 0, value.length());
+            case PREFIX:
+                return value.startsWith(literal) &&
+                        !containsLineTerminator(value, literal.length(), value.length());
+            case SUFFIX:
+                return value.endsWith(literal) &&
+                        !containsLineTerminator(value, 0, value.length() - literal.length());
+            default:
+                return pattern.matcher(value).matches();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return selector;
+    }
+}
@@ -12,14 +12,37 @@
 package org.eclipse.sw360.antenna.model.artifact.facts;
 
 import org.eclipse.sw360.antenna.model.artifact.ArtifactFactWithPayload;
+import org.eclipse.sw360.antenna.model.util.LicenseExpression;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseStatement;
 
 public abstract class ArtifactLicenseInformation extends ArtifactFactWithPayload<LicenseInformation> {
+    private volatile LicenseExpression expression;
+
     public ArtifactLicenseInformation(LicenseInformation payload) {
         super(payload);
     }
 
+    /**
+     * @return the compiled form of the license information, which is compiled on the first call. The structure and
+     * the license names of the license information must not be changed after the fact was created, use
+     * {@link #withLicenseInformation(LicenseInformation)} to replace the fact instead.
+     */
+    public LicenseExpression getExpression() {
+        LicenseExpression result = expression;
+        if (result == null) {
+            result = LicenseExpression.of(get());
+            expression = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return a fact of the same type with the given license information, which replaces this fact when it is added
+     * to the artifact
+     */
+    public abstract ArtifactLicenseInformation withLicenseInformation(LicenseInformation licenseInformation);
+
     public static LicenseInformation getDefault() {
         return new LicenseStatement();
     }
@@ -18,6 +18,11 @@ public class ConfiguredLicenseInformation extends ArtifactLicenseInformation {
         super(payload);
     }
 
+    @Override
+    public ConfiguredLicenseInformation withLicenseInformation(LicenseInformation licenseInformation) {
+        return new ConfiguredLicenseInformation(licenseInformation);
+    }
+
     @Override
     public String getFactContentName() {
         return "Configured License";
@@ -18,6 +18,11 @@ public class DeclaredLicenseInformation extends ArtifactLicenseInformation {
         super(payload);
     }
 
+    @Override
+    public DeclaredLicenseInformation withLicenseInformation(LicenseInformation licenseInformation) {
+        return new DeclaredLicenseInformation(licenseInformation);
+    }
+
     @Override
     public String getFactContentName() {
         return "Declared License";
@@ -18,6 +18,11 @@ public class ObservedLicenseInformation extends ArtifactLicenseInformation {
         super(payload);
     }
 
+    @Override
+    public ObservedLicenseInformation withLicenseInformation(LicenseInformation licenseInformation) {
+        return new ObservedLicenseInformation(licenseInformation);
+    }
+
     @Override
     public String getFactContentName() {
         return "Observed License";
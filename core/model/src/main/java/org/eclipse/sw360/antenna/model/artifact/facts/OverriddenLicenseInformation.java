@@ -18,6 +18,11 @@ public class OverriddenLicenseInformation extends ArtifactLicenseInformation {
         super(payload);
     }
 
+    @Override
+    public OverriddenLicenseInformation withLicenseInformation(LicenseInformation licenseInformation) {
+        return new OverriddenLicenseInformation(licenseInformation);
+    }
+
     @Override
     public String getFactContentName() {
         return "Overridden License";
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.coordinates;
+
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A parsed {@link PackageURL} together with its canonical string and the hash of that string, which are computed
+ * once instead of on every comparison.
+ *
+ * Instances are interned by their canonical string, so all coordinates of the same package share one instance. The
+ * strings and the components they were created from are kept in a bounded LRU cache as well, since analyzers, the
+ * configuration and SW360 produce the same coordinates again and again. Interning is safe, because a PackageURL is
+ * never modified after it was built.
+ */
+final class CanonicalPackageURL {
+    private static final int CACHE_SIZE = 16384;
+    // mark the components in cache keys, these characters never occur in a package URL string
+    private static final char COMPONENT = '\0';
+    private static final char NULL_COMPONENT = '\1';
+
+    private static final Map<String, CanonicalPackageURL> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<String, CanonicalPackageURL>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CanonicalPackageURL> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    private final PackageURL packageURL;
+    private final String canonical;
+    private final int hash;
+
+    private CanonicalPackageURL(PackageURL packageURL, String canonical) {
+        this.packageURL = packageURL;
+        this.canonical = canonical;
+        this.hash = canonical.hashCode();
+    }
+
+    static CanonicalPackageURL parse(String packageURLString) throws MalformedPackageURLException {
+        CanonicalPackageURL cached = CACHE.get(packageURLString);
+        if (cached == null) {
+            cached = intern(new PackageURL(packageURLString));
+            CACHE.put(packageURLString, cached);
+        }
+        return cached;
+    }
+
+    static CanonicalPackageURL of(String type, String namespace, String name, String version)
+            throws MalformedPackageURLException {
+        StringBuilder keyBuilder = new StringBuilder();
+        for (String component : new String[]{type, namespace, name, version}) {
+            if (component == null) {
+                keyBuilder.append(NULL_COMPONENT);
+            } else {
+                keyBuilder.append(COMPONENT).append(component);
+            }
+        }
+        String key = keyBuilder.toString();
+        CanonicalPackageURL cached = CACHE.get(key);
+        if (cached == null) {
+            cached = intern(new PackageURL(type, namespace, name, version, null, null));
+            CACHE.put(key, cached);
+        }
+        return cached;
+    }
+
+    static CanonicalPackageURL intern(PackageURL packageURL) {
+        String canonical = packageURL.canonicalize();
+        CanonicalPackageURL cached = CACHE.get(canonical);
+        if (cached != null) {
+            return cached;
+        }
+        CanonicalPackageURL created = new CanonicalPackageURL(packageURL, canonical);
+        cached = CACHE.putIfAbsent(canonical, created);
+        return cached != null ? cached : created;
+    }
+
+    PackageURL getPackageURL() {
+        return packageURL;
+    }
+
+    String getCanonical() {
+        return canonical;
+    }
+
+    int getHash() {
+        return hash;
+    }
+}
@@ -15,31 +15,48 @@ import com.github.packageurl.PackageURL;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 
 import java.util.Map;
-import java.util.Objects;
 import java.util.TreeMap;
 
 /*
  * A thin wrapper around com.github.packageurl.PackageURL
- * It just delegates
+ * It just delegates, the parsed PackageURL and its canonical string are shared between equal coordinates, see
+ * CanonicalPackageURL
  */
 public abstract class PackageURLFacade {
     private final PackageURL packageURL;
+    private final CanonicalPackageURL canonicalPackageURL;
 
     PackageURLFacade(PackageURL packageURL) {
-        this.packageURL = packageURL;
+        this(CanonicalPackageURL.intern(packageURL));
+    }
+
+    private PackageURLFacade(CanonicalPackageURL canonicalPackageURL) {
+        this.canonicalPackageURL = canonicalPackageURL;
+        this.packageURL = canonicalPackageURL.getPackageURL();
     }
 
     PackageURLFacade(String packageURLString) {
+        this(parse(packageURLString));
+    }
+
+    PackageURLFacade(String type, String namespace, String name, String version, TreeMap<String, String> qualifiers, String subpath) {
+        this(create(type, namespace, name, version, qualifiers, subpath));
+    }
+
+    private static CanonicalPackageURL parse(String packageURLString) {
         try {
-            packageURL = new PackageURL(packageURLString);
+            return CanonicalPackageURL.parse(packageURLString);
         } catch (MalformedPackageURLException e) {
             throw new ExecutionException("Failed to create PackageURL in Coordinate for string " + packageURLString, e);
         }
     }
 
-    PackageURLFacade(String type, String namespace, String name, String version, TreeMap<String, String> qualifiers, String subpath) {
+    private static CanonicalPackageURL create(String type, String namespace, String name, String version, TreeMap<String, String> qualifiers, String subpath) {
         try {
-            packageURL = new PackageURL(type, namespace, name, version, qualifiers, subpath);
+            if (qualifiers == null && subpath == null) {
+                return CanonicalPackageURL.of(type, namespace, name, version);
+            }
+            return CanonicalPackageURL.intern(new PackageURL(type, namespace, name, version, qualifiers, subpath));
         } catch (MalformedPackageURLException e) {
             throw new ExecutionException(String.format("Failed to create PackageURL in Coordinate for data: %s %s %s %s %s %s",
                     type, namespace, name, version, qualifiers, subpath), e);
@@ -83,11 +100,11 @@ public abstract class PackageURLFacade {
     }
 
     public String toString() {
-        return packageURL.toString();
+        return canonicalPackageURL.getCanonical();
     }
 
     public String canonicalize() {
-        return packageURL.canonicalize();
+        return canonicalPackageURL.getCanonical();
     }
 
     @Override
@@ -95,12 +112,15 @@ public abstract class PackageURLFacade {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         PackageURLFacade coordinate = (PackageURLFacade) o;
-        return Objects.equals(packageURL.canonicalize(), coordinate.packageURL.canonicalize()); // TODO: PackageURL has no valid equals method
+        // PackageURL has no valid equals method, equal canonical strings are usually interned to the same instance
+        return canonicalPackageURL == coordinate.canonicalPackageURL ||
+                canonicalPackageURL.getHash() == coordinate.canonicalPackageURL.getHash() &&
+                        canonicalPackageURL.getCanonical().equals(coordinate.canonicalPackageURL.getCanonical());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(packageURL.canonicalize()); // TODO: PackageURL has no valid hashCode method
+        return canonicalPackageURL.getHash(); // PackageURL has no valid hashCode method
     }
 
 }
@@ -14,12 +14,17 @@ package org.eclipse.sw360.antenna.model.reporting;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Report for processingMessages.
+ *
+ * Messages are appended to a lock-free queue, so workflow steps running in parallel do not contend when reporting,
+ * and the report can be written while messages are still added.
  */
 public class Report {
-    private final List<ProcessingMessage> messageList = Collections.synchronizedList(new ArrayList<>());
+    private final Queue<ProcessingMessage> messages = new ConcurrentLinkedQueue<>();
 
     /**
      * Add the given ProcessingMessage to this report.
@@ -27,13 +32,17 @@ public class Report {
      * @param msg
      */
     public void add(ProcessingMessage msg) {
-        synchronized (messageList) {
-            messageList.add(msg);
-        }
+        messages.add(msg);
     }
 
+    /**
+     * @return A snapshot of the messages added so far, in the order in which they were added.
+     */
     public List<ProcessingMessage> getMessageList() {
-        return messageList;
+        return Collections.unmodifiableList(new ArrayList<>(messages));
     }
 
+    public boolean isEmpty() {
+        return messages.isEmpty();
+    }
 }
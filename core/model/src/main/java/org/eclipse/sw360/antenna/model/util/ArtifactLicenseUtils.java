@@ -12,6 +12,7 @@
 package org.eclipse.sw360.antenna.model.util;
 
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactLicenseInformation;
 import org.eclipse.sw360.antenna.model.artifact.facts.ConfiguredLicenseInformation;
 import org.eclipse.sw360.antenna.model.artifact.facts.DeclaredLicenseInformation;
 import org.eclipse.sw360.antenna.model.artifact.facts.ObservedLicenseInformation;
@@ -51,25 +52,63 @@ public class ArtifactLicenseUtils {
             return overridden.get();
         }
 
-        final Optional<LicenseInformation> declared = artifact.askForGet(DeclaredLicenseInformation.class);
-        final Optional<LicenseInformation> observed = artifact.askForGet(ObservedLicenseInformation.class);
+        final Optional<DeclaredLicenseInformation> declared = artifact.askFor(DeclaredLicenseInformation.class);
+        final Optional<ObservedLicenseInformation> observed = artifact.askFor(ObservedLicenseInformation.class);
         if(declared.isPresent() && observed.isPresent()) {
-            final String declaredLicenseRepresentation = Optional.ofNullable(declared.get().evaluate())
-                    .orElse("");
-            final String observedLicenseRepresentation = Optional.ofNullable(observed.get().evaluate())
-                    .orElse("");
-
-            if (observedLicenseRepresentation.contains(declaredLicenseRepresentation)
-                && !observedLicenseRepresentation.contains(" OR ")) {
-                return observed.get();
+            if (isObservedEffective(declared.get(), observed.get())) {
+                return observed.get().get();
             } else {
                 final LicenseStatement effective = new LicenseStatement();
-                effective.setLeftStatement(declared.get());
-                effective.setRightStatement(observed.get());
+                effective.setLeftStatement(declared.get().get());
+                effective.setRightStatement(observed.get().get());
                 effective.setOp(LicenseOperator.AND);
                 return effective;
             }
         }
-        return declared.orElse(observed.orElse(new LicenseStatement()));
+        return declared.map(DeclaredLicenseInformation::get)
+                .orElse(observed.map(ObservedLicenseInformation::get)
+                        .orElse(new LicenseStatement()));
+    }
+
+    /*
+     * The compiled form of the final license as calculated by getFinalLicenses(Artifact). The expressions of the
+     * license facts are compiled once, so callers which only read the final license, e.g. to check its licenses or
+     * to print it, should prefer this method.
+     */
+    public static LicenseExpression getFinalLicenseExpression(Artifact artifact) {
+        final Optional<ConfiguredLicenseInformation> configured = artifact.askFor(ConfiguredLicenseInformation.class);
+
+        if(configured.isPresent()) {
+            return configured.get().getExpression();
+        }
+
+        final Optional<OverriddenLicenseInformation> overridden = artifact.askFor(OverriddenLicenseInformation.class);
+
+        if(overridden.isPresent()) {
+            return overridden.get().getExpression();
+        }
+
+        final Optional<DeclaredLicenseInformation> declared = artifact.askFor(DeclaredLicenseInformation.class);
+        final Optional<ObservedLicenseInformation> observed = artifact.askFor(ObservedLicenseInformation.class);
+        if(declared.isPresent() && observed.isPresent()) {
+            if (isObservedEffective(declared.get(), observed.get())) {
+                return observed.get().getExpression();
+            }
+            return LicenseExpression.of(declared.get().getExpression(), LicenseOperator.AND,
+                    observed.get().getExpression());
+        }
+        return declared.map(DeclaredLicenseInformation::getExpression)
+                .orElse(observed.map(ObservedLicenseInformation::getExpression)
+                        .orElse(LicenseExpression.empty()));
+    }
+
+    private static boolean isObservedEffective(ArtifactLicenseInformation declared, ArtifactLicenseInformation observed) {
+        final String declaredLicenseRepresentation = Optional.ofNullable(declared.getExpression().evaluate())
+                .orElse("");
+        final String observedLicenseRepresentation = Optional.ofNullable(observed.getExpression().evaluate())
+                .orElse("");
+
+        return observedLicenseRepresentation.contains(declaredLicenseRepresentation)
+                && !observedLicenseRepresentation.contains(" OR ");
     }
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.util;
+
+import org.eclipse.sw360.antenna.model.xml.generated.License;
+import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
+import org.eclipse.sw360.antenna.model.xml.generated.LicenseOperator;
+import org.eclipse.sw360.antenna.model.xml.generated.LicenseStatement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, compiled form of a {@link LicenseInformation} tree.
+ *
+ * The generated license classes format their expression recursively and collect their licenses with a new stream
+ * every time they are asked. A compiled expression computes both only once, with exactly the results of
+ * {@link LicenseInformation#evaluate()} and {@link LicenseInformation#getLicenses()}. License ids are interned in a
+ * bounded LRU cache, since the same few ids occur in the licenses of all artifacts. Single licenses and statements of
+ * two single licenses, the common cases, are compiled without intermediate collections.
+ *
+ * The structure and the license names are captured when the expression is compiled. The {@link License} objects are
+ * shared with the compiled expression, so metadata which is added to them later on, e.g. by the license knowledge
+ * base, is visible through {@link #getLicenses()}.
+ */
+public final class LicenseExpression {
+    private static final int CACHE_SIZE = 4096;
+
+    private static final Map<String, String> LICENSE_IDS = Collections.synchronizedMap(
+            new LinkedHashMap<String, String>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    private static final LicenseExpression EMPTY = new LicenseExpression(null, null, null, null,
+            Collections.emptyList(), "");
+
+    private final License license;
+    private final LicenseExpression left;
+    private final LicenseOperator operator;
+    private final LicenseExpression right;
+    private final List<License> licenses;
+    private volatile String evaluated;
+    private volatile Set<String> licenseIds;
+
+    private LicenseExpression(License license, LicenseExpression left, LicenseOperator operator,
+                              LicenseExpression right, List<License> licenses, String evaluated) {
+        this.license = license;
+        this.left = left;
+        this.operator = operator;
+        this.right = right;
+        this.licenses = licenses;
+        this.evaluated = evaluated;
+    }
+
+    public static LicenseExpression empty() {
+        return EMPTY;
+    }
+
+    public static LicenseExpression of(LicenseInformation licenseInformation) {
+        if (licenseInformation == null) {
+            return EMPTY;
+        }
+        if (licenseInformation instanceof License) {
+            final License singleLicense = (License) licenseInformation;
+            return new LicenseExpression(singleLicense, null, null, null,
+                    Collections.singletonList(singleLicense), intern(singleLicense.getName()));
+        }
+        if (licenseInformation instanceof LicenseStatement) {
+            final LicenseStatement statement = (LicenseStatement) licenseInformation;
+            if (statement.isEmpty()) {
+                return EMPTY;
+            }
+            return of(of(statement.getLeftStatement()), statement.getOp(), of(statement.getRightStatement()));
+        }
+        throw new IllegalArgumentException("Unknown license information type " + licenseInformation.getClass());
+    }
+
+    public static LicenseExpression of(LicenseExpression left, LicenseOperator operator, LicenseExpression right) {
+        return new LicenseExpression(null, left, operator, right, distinct(left.licenses, right.licenses), null);
+    }
+
+    private static String intern(String licenseId) {
+        if (licenseId == null) {
+            return null;
+        }
+        final String interned = LICENSE_IDS.putIfAbsent(licenseId, licenseId);
+        return interned != null ? interned : licenseId;
+    }
+
+    private static List<License> distinct(List<License> left, List<License> right) {
+        if (right.isEmpty()) {
+            return left;
+        }
+        if (left.isEmpty()) {
+            return right;
+        }
+        if (left.size() == 1 && right.size() == 1) {
+            return left.get(0).equals(right.get(0))
+                    ? left
+                    : Collections.unmodifiableList(Arrays.asList(left.get(0), right.get(0)));
+        }
+        return Collections.unmodifiableList(Stream.concat(left.stream(), right.stream())
+                .distinct()
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * @return the same string as {@link LicenseInformation#evaluate()} of the compiled license information, which is
+     * computed on the first call
+     */
+    public String evaluate() {
+        String result = evaluated;
+        if (result == null && license == null) {
+            result = new StringBuilder("( ")
+                    .append(left.evaluate())
+                    .append(' ')
+                    .append(operator.value())
+                    .append(' ')
+                    .append(right.evaluate())
+                    .append(" )")
+                    .toString();
+            evaluated = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return whether the compiled license information is empty in the sense of {@link LicenseInformation#isEmpty()}
+     */
+    public boolean isEmpty() {
+        return this == EMPTY || license != null && evaluated == null;
+    }
+
+    /**
+     * @return the distinct licenses of the expression in the order of {@link LicenseInformation#getLicenses()}
+     */
+    public List<License> getLicenses() {
+        return licenses;
+    }
+
+    public Set<String> getLicenseIds() {
+        Set<String> result = licenseIds;
+        if (result == null) {
+            if (licenses.size() == 1) {
+                result = Collections.singleton(intern(licenses.get(0).getName()));
+            } else {
+                final Set<String> ids = new LinkedHashSet<>();
+                licenses.forEach(distinctLicense -> ids.add(intern(distinctLicense.getName())));
+                result = Collections.unmodifiableSet(ids);
+            }
+            licenseIds = result;
+        }
+        return result;
+    }
+
+    public boolean containsLicenseId(String licenseId) {
+        return getLicenseIds().contains(licenseId);
+    }
+
+    /**
+     * Creates new instances of the generated license classes with the structure and the license names of this
+     * expression, which callers are free to modify.
+     */
+    public LicenseInformation toLicenseInformation() {
+        if (license != null) {
+            final License copy = new License();
+            copy.setName(evaluated);
+            return copy;
+        }
+        final LicenseStatement statement = new LicenseStatement();
+        if (this != EMPTY) {
+            statement.setLeftStatement(left.toLicenseInformation());
+            statement.setRightStatement(right.toLicenseInformation());
+            statement.setOp(operator);
+        }
+        return statement;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(evaluate());
+    }
+}
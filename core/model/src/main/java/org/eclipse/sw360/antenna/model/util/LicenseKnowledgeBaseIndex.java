@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.*;
+
+/**
+ * A compact, read only index of a license knowledge base which can be persisted and memory mapped.
+ *
+ * The index holds the license ids, names, aliases, threat groups and classifications in a deduplicated string pool
+ * and the license texts in a separate section, which is only decoded when a text is requested. Lookups are binary
+ * searches on the sorted license and alias tables, so opening an existing index does not require any parsing.
+ *
+ * Every index carries a fingerprint of the data it was created from, an index with a different fingerprint is
+ * treated as stale and not opened. Since an index is trusted like the knowledge base itself, only index files which
+ * belong to the current user and can not be modified by other users are opened.
+ */
+public final class LicenseKnowledgeBaseIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LicenseKnowledgeBaseIndex.class);
+
+    public static final String INDEX_DIRECTORY_PROPERTY = "antenna.knowledgebase.indexDirectory";
+
+    private static final int MAGIC = 0x414B4249; // "AKBI"
+    private static final int FORMAT_VERSION = 1;
+    private static final int NONE = -1;
+    private static final int LICENSE_RECORD_INTS = 6;
+    private static final int ALIAS_RECORD_INTS = 2;
+
+    private final ByteBuffer buffer;
+    private final String fingerprint;
+    private final int licenseCount;
+    private final int aliasCount;
+    private final int licenseTableOffset;
+    private final int aliasTableOffset;
+    private final int stringPoolOffset;
+    private final int textsOffset;
+
+    /**
+     * The data of one license as stored in the index.
+     */
+    public static class LicenseRecord {
+        private final String id;
+        private final String name;
+        private final String threatGroup;
+        private final String classification;
+        private final String text;
+
+        public LicenseRecord(String id, String name, String threatGroup, String classification, String text) {
+            this.id = Objects.requireNonNull(id, "The id of a license must not be null");
+            this.name = name;
+            this.threatGroup = threatGroup;
+            this.classification = classification;
+            this.text = text;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+
+    private LicenseKnowledgeBaseIndex(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.capacity() < 8 || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Not a license knowledge base index of format version " + FORMAT_VERSION);
+        }
+        final int fingerprintLength = buffer.getInt(8);
+        this.fingerprint = decode(12, fingerprintLength);
+        int position = 12 + fingerprintLength;
+        this.licenseCount = buffer.getInt(position);
+        this.aliasCount = buffer.getInt(position + 4);
+        this.licenseTableOffset = buffer.getInt(position + 8);
+        this.aliasTableOffset = buffer.getInt(position + 12);
+        this.stringPoolOffset = buffer.getInt(position + 16);
+        this.textsOffset = buffer.getInt(position + 20);
+    }
+
+    /**
+     * @return the directory in which knowledge bases persist their index, configurable by the system property
+     * {@value #INDEX_DIRECTORY_PROPERTY}, by default a directory in the home directory of the current user.
+     */
+    public static Path getIndexDirectory() {
+        return Optional.ofNullable(System.getProperty(INDEX_DIRECTORY_PROPERTY))
+                .map(Paths::get)
+                .orElseGet(() -> Paths.get(System.getProperty("user.home"), ".antenna", "knowledgebase-index"));
+    }
+
+    /**
+     * Memory maps an existing index file.
+     *
+     * @return the index, or nothing if the file does not exist, is not readable or was created with another
+     * fingerprint.
+     */
+    public static Optional<LicenseKnowledgeBaseIndex> open(Path indexFile, String expectedFingerprint) {
+        if (!Files.isRegularFile(indexFile) || !isTrusted(indexFile)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            final LicenseKnowledgeBaseIndex index =
+                    new LicenseKnowledgeBaseIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            if (!index.fingerprint.equals(expectedFingerprint)) {
+                LOGGER.debug("License knowledge base index {} is outdated", indexFile);
+                return Optional.empty();
+            }
+            return Optional.of(index);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to read license knowledge base index {}: {}", indexFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isTrusted(Path indexFile) {
+        try {
+            final UserPrincipal currentUser = indexFile.getFileSystem().getUserPrincipalLookupService()
+                    .lookupPrincipalByName(System.getProperty("user.name"));
+            final Path directory = Utils.getParent(indexFile.toAbsolutePath())
+                    .orElseThrow(() -> new IOException("The index file " + indexFile + " has no parent directory"));
+            if (!currentUser.equals(Files.getOwner(indexFile)) || isWritableByOthers(indexFile, true)
+                    || isWritableByOthers(directory, false)) {
+                LOGGER.warn("Ignoring license knowledge base index {}, it can be modified by other users", indexFile);
+                return false;
+            }
+            return true;
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            LOGGER.debug("Ignoring license knowledge base index {}, its owner can not be checked: {}", indexFile, e.getMessage());
+            return false;
+        }
+    }
+
+    // directories are commonly writable by the private group of the user, so only files have to exclude the group
+    private static boolean isWritableByOthers(Path path, boolean includingGroup) throws IOException {
+        final PosixFileAttributeView view = Files.getFileAttributeView(path, PosixFileAttributeView.class);
+        if (view == null) {
+            return false;
+        }
+        final Set<PosixFilePermission> permissions = view.readAttributes().permissions();
+        return permissions.contains(PosixFilePermission.OTHERS_WRITE)
+                || includingGroup && permissions.contains(PosixFilePermission.GROUP_WRITE);
+    }
+
+    /**
+     * Reads an index from a stream, e.g. an index which is bundled as class path resource, into memory.
+     *
+     * @throws IOException if the stream can not be read or does not contain an index
+     */
+    public static LicenseKnowledgeBaseIndex read(InputStream in) throws IOException {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        final byte[] chunk = new byte[8192];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            content.write(chunk, 0, read);
+        }
+        try {
+            return new LicenseKnowledgeBaseIndex(ByteBuffer.wrap(content.toByteArray()));
+        } catch (RuntimeException e) {
+            throw new IOException("Unable to read license knowledge base index: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates an in memory index for the given licenses and aliases.
+     *
+     * @param fingerprint identifies the data the index was created from
+     * @param licenses    the licenses, ids have to be unique
+     * @param aliasToId   maps aliases to license ids
+     */
+    public static LicenseKnowledgeBaseIndex create(String fingerprint, Collection<LicenseRecord> licenses, Map<String, String> aliasToId) {
+        try {
+            return new LicenseKnowledgeBaseIndex(ByteBuffer.wrap(serialize(fingerprint, licenses, aliasToId)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to create license knowledge base index", e);
+        }
+    }
+
+    /**
+     * Persists the index, the file is replaced atomically if the file system supports it. The file and newly created
+     * directories are only accessible by the current user.
+     */
+    public void writeTo(Path indexFile) throws IOException {
+        final Path target = indexFile.toAbsolutePath();
+        final Path directory = Utils.getParent(target)
+                .orElseThrow(() -> new IOException("The index file " + indexFile + " has no parent directory"));
+        if (!Files.isDirectory(directory)) {
+            if (directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            } else {
+                Files.createDirectories(directory);
+            }
+        }
+        // temporary files are created readable and writable by their owner only
+        final Path tempFile = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            final ByteBuffer content = buffer.duplicate();
+            content.clear();
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+            }
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static byte[] serialize(String fingerprint, Collection<LicenseRecord> licenses, Map<String, String> aliasToId) throws IOException {
+        final List<LicenseRecord> sortedLicenses = new ArrayList<>(licenses);
+        sortedLicenses.sort(Comparator.comparing(LicenseRecord::getId));
+        final Map<String, Integer> licensePositions = new HashMap<>();
+        for (int i = 0; i < sortedLicenses.size(); i++) {
+            if (licensePositions.put(sortedLicenses.get(i).id, i) != null) {
+                throw new IllegalArgumentException("Duplicate license id " + sortedLicenses.get(i).id);
+            }
+        }
+        final SortedMap<String, Integer> sortedAliases = new TreeMap<>();
+        aliasToId.forEach((alias, id) -> {
+            final Integer position = licensePositions.get(id);
+            if (alias != null && position != null) {
+                sortedAliases.put(alias, position);
+            }
+        });
+
+        final StringPool strings = new StringPool();
+        final ByteArrayOutputStream texts = new ByteArrayOutputStream();
+        final ByteArrayOutputStream tables = new ByteArrayOutputStream();
+        final DataOutputStream tableOut = new DataOutputStream(tables);
+        for (LicenseRecord license : sortedLicenses) {
+            tableOut.writeInt(strings.add(license.id));
+            tableOut.writeInt(strings.add(license.name));
+            tableOut.writeInt(strings.add(license.threatGroup));
+            tableOut.writeInt(strings.add(license.classification));
+            if (license.text == null) {
+                tableOut.writeInt(NONE);
+                tableOut.writeInt(NONE);
+            } else {
+                final byte[] text = license.text.getBytes(StandardCharsets.UTF_8);
+                tableOut.writeInt(texts.size());
+                tableOut.writeInt(text.length);
+                texts.write(text);
+            }
+        }
+        for (Map.Entry<String, Integer> alias : sortedAliases.entrySet()) {
+            tableOut.writeInt(strings.add(alias.getKey()));
+            tableOut.writeInt(alias.getValue());
+        }
+        tableOut.flush();
+
+        final byte[] fingerprintBytes = fingerprint.getBytes(StandardCharsets.UTF_8);
+        final int headerSize = 12 + fingerprintBytes.length + 24;
+        final int licenseTableOffset = headerSize;
+        final int aliasTableOffset = licenseTableOffset + sortedLicenses.size() * LICENSE_RECORD_INTS * 4;
+        final int stringPoolOffset = headerSize + tables.size();
+        final int textsOffset = stringPoolOffset + strings.size();
+
+        final ByteArrayOutputStream result = new ByteArrayOutputStream(textsOffset + texts.size());
+        final DataOutputStream out = new DataOutputStream(result);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(fingerprintBytes.length);
+        out.write(fingerprintBytes);
+        out.writeInt(sortedLicenses.size());
+        out.writeInt(sortedAliases.size());
+        out.writeInt(licenseTableOffset);
+        out.writeInt(aliasTableOffset);
+        out.writeInt(stringPoolOffset);
+        out.writeInt(textsOffset);
+        tables.writeTo(out);
+        strings.writeTo(out);
+        texts.writeTo(out);
+        out.flush();
+        return result.toByteArray();
+    }
+
+    /*
+     * Stores every distinct string once, references are offsets relative to the start of the pool.
+     */
+    private static final class StringPool {
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        int add(String value) throws IOException {
+            if (value == null) {
+                return NONE;
+            }
+            final Integer existing = offsets.get(value);
+            if (existing != null) {
+                return existing;
+            }
+            final int offset = bytes.size();
+            final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(encoded.length);
+            out.write(encoded);
+            offsets.put(value, offset);
+            return offset;
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            bytes.writeTo(target);
+        }
+    }
+
+    private String decode(int position, int length) {
+        final byte[] bytes = new byte[length];
+        final ByteBuffer view = buffer.duplicate();
+        view.position(position);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String getString(int reference) {
+        if (reference == NONE) {
+            return null;
+        }
+        final int position = stringPoolOffset + reference;
+        return decode(position + 4, buffer.getInt(position));
+    }
+
+    private int licenseField(int license, int field) {
+        return buffer.getInt(licenseTableOffset + (license * LICENSE_RECORD_INTS + field) * 4);
+    }
+
+    private int aliasField(int alias, int field) {
+        return buffer.getInt(aliasTableOffset + (alias * ALIAS_RECORD_INTS + field) * 4);
+    }
+
+    private int findLicense(String id) {
+        int low = 0;
+        int high = licenseCount - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = getString(licenseField(middle, 0)).compareTo(id);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return NONE;
+    }
+
+    private int findAlias(String alias) {
+        int low = 0;
+        int high = aliasCount - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = getString(aliasField(middle, 0)).compareTo(alias);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return aliasField(middle, 1);
+            }
+        }
+        return NONE;
+    }
+
+    private Optional<String> getLicenseString(String id, int field) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        final int license = findLicense(id);
+        if (license == NONE) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getString(licenseField(license, field)));
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public int size() {
+        return licenseCount;
+    }
+
+    public boolean containsLicense(String id) {
+        return id != null && findLicense(id) != NONE;
+    }
+
+    public List<String> getLicenseIds() {
+        final List<String> ids = new ArrayList<>(licenseCount);
+        for (int i = 0; i < licenseCount; i++) {
+            ids.add(getString(licenseField(i, 0)));
+        }
+        return ids;
+    }
+
+    public Optional<String> getLicenseIdForAlias(String alias) {
+        if (alias == null) {
+            return Optional.empty();
+        }
+        final int license = findAlias(alias);
+        if (license == NONE) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getString(licenseField(license, 0)));
+    }
+
+    public Optional<String> getLicenseNameForId(String id) {
+        return getLicenseString(id, 1);
+    }
+
+    public Optional<String> getThreatGroupForId(String id) {
+        return getLicenseString(id, 2);
+    }
+
+    public Optional<String> getClassificationForId(String id) {
+        return getLicenseString(id, 3);
+    }
+
+    /**
+     * Decodes the license text from the index, texts are not kept in memory by the index.
+     */
+    public Optional<String> getTextForId(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        final int license = findLicense(id);
+        if (license == NONE || licenseField(license, 4) == NONE) {
+            return Optional.empty();
+        }
+        return Optional.of(decode(textsOffset + licenseField(license, 4), licenseField(license, 5)));
+    }
+}
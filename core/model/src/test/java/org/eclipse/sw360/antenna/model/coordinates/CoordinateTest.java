@@ -35,4 +35,36 @@ public class CoordinateTest {
         assertThat(coordinate.matches(coordinateWildcard))
                 .isFalse();
     }
+
+    @Test
+    public void coordinatesOfTheSamePackageShareOneParsedPackageURL() {
+        Coordinate fromString = new Coordinate("pkg:maven/test.groupId/artifactId@1.0.0");
+        Coordinate fromStringAgain = new Coordinate("pkg:maven/test.groupId/artifactId@1.0.0");
+        Coordinate fromComponents = new Coordinate(Coordinate.Types.MAVEN, "test.groupId", "artifactId", "1.0.0");
+
+        assertThat(fromStringAgain.getPackageURL()).isSameAs(fromString.getPackageURL());
+        assertThat(fromComponents.getPackageURL()).isSameAs(fromString.getPackageURL());
+        assertThat(fromComponents).isEqualTo(fromString);
+        assertThat(fromComponents.hashCode()).isEqualTo(fromString.hashCode());
+    }
+
+    @Test
+    public void equalsTestWithDifferentQualifierOrder() {
+        Coordinate coordinate1 = new Coordinate("pkg:maven/test.groupId/artifactId@1.0.0?type=jar&classifier=sources");
+        Coordinate coordinate2 = new Coordinate("pkg:maven/test.groupId/artifactId@1.0.0?classifier=sources&type=jar");
+
+        assertThat(coordinate1).isEqualTo(coordinate2);
+        assertThat(coordinate1.hashCode()).isEqualTo(coordinate2.hashCode());
+        assertThat(coordinate1.toString()).isEqualTo(coordinate2.canonicalize());
+    }
+
+    @Test
+    public void missingComponentsAreNotConfusedWithComponentValues() {
+        Coordinate withoutNamespace = new Coordinate(Coordinate.Types.NPM, null, "name", "1.0.0");
+        Coordinate withNamespace = new Coordinate(Coordinate.Types.NPM, "null", "name", "1.0.0");
+
+        assertThat(withoutNamespace.hasNamespace()).isFalse();
+        assertThat(withNamespace.getNamespace()).isEqualTo("null");
+        assertThat(withoutNamespace).isNotEqualTo(withNamespace);
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.test;
+
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactCoordinates;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorAndSet;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorOrSet;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.artifact.facts.java.ArtifactPathnames;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArtifactSelectorIndexTest {
+
+    private final Artifact artifact = new Artifact()
+            .addFact(new ArtifactFilename("commons-lang3-3.5.jar"))
+            .addCoordinate(new Coordinate(Coordinate.Types.MAVEN, "org.apache.commons", "commons-lang3", "3.5"));
+
+    private static ArtifactSelector mavenSelector(String groupId, String artifactId, String version) {
+        return new ArtifactCoordinates(new Coordinate(Coordinate.Types.MAVEN, groupId, artifactId, version));
+    }
+
+    @Test
+    public void testFindsLiteralAndWildcardSelectorsInInsertionOrder() {
+        Map<ArtifactSelector, String> selectors = new LinkedHashMap<>();
+        selectors.put(mavenSelector("org.apache.commons", "commons-lang3", "3.5"), "exact");
+        selectors.put(mavenSelector("org.apache.commons", "commons-io", "2.6"), "other");
+        selectors.put(mavenSelector("org.apache.*", "commons-lang3", "*"), "wildcard");
+        selectors.put(new ArtifactFilename("commons-lang3-*.jar"), "filename");
+        selectors.put(new ArtifactCoordinates(new Coordinate("commons-lang3", "3.5")), "generic");
+
+        ArtifactSelectorIndex<String> index = new ArtifactSelectorIndex<>(selectors);
+
+        assertThat(index.findMatching(artifact)).containsExactly("exact", "wildcard", "filename");
+        assertThat(index.findFirstMatching(artifact)).contains("exact");
+    }
+
+    @Test
+    public void testSelectorWithoutNamespaceMatchesAnyNamespace() {
+        ArtifactSelectorIndex<ArtifactSelector> index = ArtifactSelectorIndex.of(Arrays.asList(
+                mavenSelector(null, "commons-lang3", "3.5")));
+
+        assertThat(index.anyMatch(artifact)).isTrue();
+    }
+
+    @Test
+    public void testAndAndOrSetsAreIndexed() {
+        ArtifactSelector andSet = new ArtifactSelectorAndSet(
+                new ArtifactFilename("other.jar"),
+                mavenSelector("org.apache.commons", "commons-lang3", "3.5"));
+        ArtifactSelector orSet = new ArtifactSelectorOrSet(
+                mavenSelector("org.apache.commons", "commons-io", "2.6"),
+                mavenSelector("org.apache.commons", "commons-lang3", "3.*"));
+
+        assertThat(ArtifactSelectorIndex.of(Arrays.asList(andSet)).anyMatch(artifact)).isFalse();
+        assertThat(ArtifactSelectorIndex.of(Arrays.asList(orSet)).anyMatch(artifact)).isTrue();
+    }
+
+    @Test
+    public void testFilenameSelectorsAreIndexed() {
+        Map<ArtifactSelector, String> selectors = new LinkedHashMap<>();
+        selectors.put(new ArtifactFilename("commons-io-2.6.jar"), "other");
+        selectors.put(new ArtifactFilename("commons-lang3-3.5.jar"), "filename");
+        selectors.put(new ArtifactFilename("commons-lang3-3.5.jar", "abc"), "filename and hash");
+        selectors.put(new ArtifactFilename("lib/commons-lang3-3.5.jar"), "path");
+
+        ArtifactSelectorIndex<String> index = new ArtifactSelectorIndex<>(selectors);
+        Artifact artifactWithPath = new Artifact()
+                .addFact(new ArtifactPathnames("/repository/lib/commons-lang3-3.5.jar"));
+        Artifact artifactWithPattern = new Artifact()
+                .addFact(new ArtifactFilename("commons-lang3-*.jar"));
+
+        // an artifact without hash also matches selectors with a hash
+        assertThat(index.findMatching(artifact)).containsExactly("filename", "filename and hash");
+        assertThat(index.findMatching(artifactWithPath)).containsExactly("filename", "filename and hash", "path");
+        assertThat(index.findMatching(artifactWithPattern)).containsExactly("filename", "filename and hash");
+    }
+
+    @Test
+    public void testEmptyIndexMatchesNothing() {
+        ArtifactSelectorIndex<ArtifactSelector> index = ArtifactSelectorIndex.of(Collections.emptyList());
+
+        assertThat(index.isEmpty()).isTrue();
+        assertThat(index.anyMatch(artifact)).isFalse();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.test;
+
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.facts.DeclaredLicenseInformation;
+import org.eclipse.sw360.antenna.model.artifact.facts.ObservedLicenseInformation;
+import org.eclipse.sw360.antenna.model.util.ArtifactLicenseUtils;
+import org.eclipse.sw360.antenna.model.util.LicenseExpression;
+import org.eclipse.sw360.antenna.model.xml.generated.License;
+import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
+import org.eclipse.sw360.antenna.model.xml.generated.LicenseOperator;
+import org.eclipse.sw360.antenna.model.xml.generated.LicenseStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LicenseExpressionTest {
+    private static License license(String name) {
+        License license = new License();
+        license.setName(name);
+        return license;
+    }
+
+    private static LicenseStatement statement(LicenseInformation left, LicenseOperator op, LicenseInformation right) {
+        LicenseStatement statement = new LicenseStatement();
+        statement.setLeftStatement(left);
+        statement.setRightStatement(right);
+        statement.setOp(op);
+        return statement;
+    }
+
+    @Test
+    public void testCompiledExpressionsEvaluateLikeLicenseInformation() {
+        List<LicenseInformation> licenseInformations = Arrays.asList(
+                license("MIT"),
+                license(null),
+                new LicenseStatement(),
+                statement(license("MIT"), LicenseOperator.OR, license("Apache-2.0")),
+                statement(license("EPL-2.0"), LicenseOperator.AND,
+                        statement(license("MIT"), LicenseOperator.OR, license("EPL-2.0"))),
+                statement(new LicenseStatement(), LicenseOperator.AND, license("MIT")));
+
+        for (LicenseInformation licenseInformation : licenseInformations) {
+            LicenseExpression expression = LicenseExpression.of(licenseInformation);
+
+            assertThat(expression.evaluate()).isEqualTo(licenseInformation.evaluate());
+            assertThat(expression.isEmpty()).isEqualTo(licenseInformation.isEmpty());
+            assertThat(expression.getLicenses()).containsExactlyElementsOf(licenseInformation.getLicenses());
+        }
+    }
+
+    @Test
+    public void testLicenseIdsAreInternedAndDistinct() {
+        LicenseExpression first = LicenseExpression.of(license(new String("Apache-2.0")));
+        LicenseExpression second = LicenseExpression.of(
+                statement(license(new String("Apache-2.0")), LicenseOperator.AND, license("Apache-2.0")));
+
+        assertThat(first.evaluate()).isSameAs(second.getLicenseIds().iterator().next());
+        assertThat(second.getLicenseIds()).containsExactly("Apache-2.0");
+        assertThat(second.getLicenses()).hasSize(1);
+        assertThat(second.containsLicenseId("Apache-2.0")).isTrue();
+        assertThat(second.containsLicenseId("MIT")).isFalse();
+    }
+
+    @Test
+    public void testEvaluationIsCached() {
+        LicenseExpression expression = LicenseExpression.of(
+                statement(license("MIT"), LicenseOperator.OR, license("Apache-2.0")));
+
+        assertThat(expression.evaluate()).isSameAs(expression.evaluate());
+    }
+
+    @Test
+    public void testLicenseMetadataIsShared() {
+        License mit = license("MIT");
+        LicenseExpression expression = LicenseExpression.of(mit);
+
+        mit.setText("Permission is hereby granted");
+
+        assertThat(expression.getLicenses().get(0).getText()).isEqualTo("Permission is hereby granted");
+    }
+
+    @Test
+    public void testCopiesHaveTheSameStructure() {
+        LicenseStatement statement = statement(license("EPL-2.0"), LicenseOperator.AND,
+                statement(license("MIT"), LicenseOperator.OR, license("Apache-2.0")));
+
+        LicenseInformation copy = LicenseExpression.of(statement).toLicenseInformation();
+
+        assertThat(copy).isEqualTo(statement);
+        assertThat(copy).isNotSameAs(statement);
+        assertThat(LicenseExpression.empty().toLicenseInformation()).isEqualTo(new LicenseStatement());
+    }
+
+    @Test
+    public void testFinalLicenseExpressionMatchesFinalLicenses() {
+        Artifact declaredAndObserved = new Artifact("Test")
+                .addFact(new DeclaredLicenseInformation(license("MIT")))
+                .addFact(new ObservedLicenseInformation(
+                        statement(license("MIT"), LicenseOperator.OR, license("Apache-2.0"))));
+        Artifact observedContainsDeclared = new Artifact("Test")
+                .addFact(new DeclaredLicenseInformation(license("MIT")))
+                .addFact(new ObservedLicenseInformation(
+                        statement(license("MIT"), LicenseOperator.AND, license("Apache-2.0"))));
+        Artifact withoutLicenses = new Artifact("Test");
+
+        for (Artifact artifact : Arrays.asList(declaredAndObserved, observedContainsDeclared, withoutLicenses)) {
+            LicenseInformation finalLicenses = ArtifactLicenseUtils.getFinalLicenses(artifact);
+            LicenseExpression finalLicenseExpression = ArtifactLicenseUtils.getFinalLicenseExpression(artifact);
+
+            assertThat(finalLicenseExpression.evaluate()).isEqualTo(finalLicenses.evaluate());
+            assertThat(finalLicenseExpression.isEmpty()).isEqualTo(finalLicenses.isEmpty());
+            assertThat(finalLicenseExpression.getLicenses()).containsExactlyElementsOf(finalLicenses.getLicenses());
+        }
+    }
+}
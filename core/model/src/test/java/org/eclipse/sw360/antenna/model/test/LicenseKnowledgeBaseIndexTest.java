@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.test;
+
+import org.eclipse.sw360.antenna.model.util.LicenseKnowledgeBaseIndex;
+import org.eclipse.sw360.antenna.model.util.LicenseKnowledgeBaseIndex.LicenseRecord;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LicenseKnowledgeBaseIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private LicenseKnowledgeBaseIndex createIndex() {
+        Map<String, String> aliases = new HashMap<>();
+        aliases.put("Apache License 2.0", "Apache-2.0");
+        aliases.put("ASL2", "Apache-2.0");
+        aliases.put("MIT License", "MIT");
+        aliases.put("Dangling", "Unknown-1.0");
+
+        return LicenseKnowledgeBaseIndex.create("fingerprint", Arrays.asList(
+                new LicenseRecord("MIT", "MIT License", "liberal", "covered", "Permission is hereby granted"),
+                new LicenseRecord("Apache-2.0", "Apache License 2.0", null, null, "Apache License\nVersion 2.0")),
+                aliases);
+    }
+
+    @Test
+    public void testLookups() {
+        LicenseKnowledgeBaseIndex index = createIndex();
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.getLicenseIds()).containsExactly("Apache-2.0", "MIT");
+        assertThat(index.getLicenseIdForAlias("ASL2")).contains("Apache-2.0");
+        assertThat(index.getLicenseIdForAlias("Dangling")).isEmpty();
+        assertThat(index.getLicenseNameForId("MIT")).contains("MIT License");
+        assertThat(index.getThreatGroupForId("MIT")).contains("liberal");
+        assertThat(index.getClassificationForId("Apache-2.0")).isEmpty();
+        assertThat(index.getTextForId("Apache-2.0")).contains("Apache License\nVersion 2.0");
+        assertThat(index.getTextForId("GPL-2.0")).isEmpty();
+        assertThat(index.containsLicense("GPL-2.0")).isFalse();
+    }
+
+    @Test
+    public void testPersistedIndexIsOnlyOpenedWithMatchingFingerprint() throws IOException {
+        Path indexFile = temporaryFolder.getRoot().toPath().resolve("index").resolve("licenses.idx");
+        createIndex().writeTo(indexFile);
+
+        assertThat(LicenseKnowledgeBaseIndex.open(indexFile, "other")).isEmpty();
+        LicenseKnowledgeBaseIndex index = LicenseKnowledgeBaseIndex.open(indexFile, "fingerprint").get();
+        assertThat(index.getLicenseNameForId("Apache-2.0")).contains("Apache License 2.0");
+        assertThat(index.getTextForId("MIT")).contains("Permission is hereby granted");
+    }
+
+    @Test
+    public void testMissingIndexIsNotOpened() {
+        assertThat(LicenseKnowledgeBaseIndex.open(temporaryFolder.getRoot().toPath().resolve("missing.idx"), "fingerprint"))
+                .isEmpty();
+    }
+
+    @Test
+    public void testIndexIsReadFromStream() throws IOException {
+        Path indexFile = temporaryFolder.getRoot().toPath().resolve("licenses.idx");
+        createIndex().writeTo(indexFile);
+
+        try (InputStream in = Files.newInputStream(indexFile)) {
+            LicenseKnowledgeBaseIndex index = LicenseKnowledgeBaseIndex.read(in);
+            assertThat(index.getFingerprint()).isEqualTo("fingerprint");
+            assertThat(index.getLicenseIdForAlias("MIT License")).contains("MIT");
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadingInvalidStreamFails() throws IOException {
+        LicenseKnowledgeBaseIndex.read(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.model.test;
+
+import org.eclipse.sw360.antenna.model.artifact.WildcardMatcher;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WildcardMatcherTest {
+
+    @Test
+    public void testExactMatch() {
+        WildcardMatcher matcher = WildcardMatcher.compile("org.apache");
+        assertThat(matcher.isLiteral()).isTrue();
+        assertThat(matcher.matches("org.apache")).isTrue();
+        assertThat(matcher.matches("orgXapache")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    public void testExactMatchIgnoresSurroundingWhitespaceOfSelector() {
+        assertThat(WildcardMatcher.compile(" name ").matches("name")).isTrue();
+    }
+
+    @Test
+    public void testPrefixAndSuffixGlobs() {
+        assertThat(WildcardMatcher.compile("org.apache*").matches("org.apache.commons")).isTrue();
+        assertThat(WildcardMatcher.compile("org.apache*").matches("org.eclipse")).isFalse();
+        assertThat(WildcardMatcher.compile("*-sources.jar").matches("lib-sources.jar")).isTrue();
+        assertThat(WildcardMatcher.compile("*-sources.jar").matches("lib.jar")).isFalse();
+        assertThat(WildcardMatcher.compile("*").matches(null)).isTrue();
+        assertThat(WildcardMatcher.compile("*").isLiteral()).isFalse();
+    }
+
+    @Test
+    public void testWildcardsDoNotMatchLineTerminators() {
+        assertThat(WildcardMatcher.compile("a*").matches("a\nb")).isFalse();
+        assertThat(WildcardMatcher.compile("*b").matches("a\nb")).isFalse();
+    }
+
+    @Test
+    public void testInnerWildcardsAndRegexFallBackToPattern() {
+        assertThat(WildcardMatcher.compile("1.*.0").matches("1.2.0")).isTrue();
+        assertThat(WildcardMatcher.compile("1.*.0").matches("1.2.1")).isFalse();
+        assertThat(WildcardMatcher.compile("ver(sion)?").matches("ver")).isTrue();
+        assertThat(WildcardMatcher.compile("ver(sion)?").isLiteral()).isFalse();
+    }
+
+    @Test
+    public void testCompiledMatchersAreCached() {
+        assertThat(WildcardMatcher.compile("cached*")).isSameAs(WildcardMatcher.compile("cached*"));
+    }
+}
@@ -89,14 +89,15 @@ public class MultipleConfigsResolver {
         return resolvedConfigs;
     }
 
+    /*
+     * The config files are independent of each other, so they are validated and parsed in parallel. The order of the
+     * resulting configurations is the order of the config files.
+     */
     private ArrayList<Configuration> resolveConfigs(List<File> configs) {
         LOGGER.debug("Resolve list of configurations.");
-        ArrayList<Configuration> configurations = new ArrayList<>();
-        for (File config : configs) {
-            Configuration configuration = this.configurationReader.readConfigFromFile(config, this.antennaTargetDirectory);
-            configurations.add(configuration);
-        }
-        return configurations;
+        return configs.parallelStream()
+                .map(config -> this.configurationReader.readConfigFromFile(config, this.antennaTargetDirectory))
+                .collect(Collectors.toCollection(ArrayList::new));
     }
 
     /**
@@ -104,7 +105,7 @@ public class MultipleConfigsResolver {
      */
     private void checkReport() {
         Report processingReport = tempReporter.getProcessingReport();
-        if (processingReport.getMessageList().size() > 0) {
+        if (!processingReport.isEmpty()) {
             tempReporter.writeReport(System.out);
             tempReporter.writeReportToReportPath();
 
@@ -114,15 +115,17 @@ public class MultipleConfigsResolver {
         }
     }
 
+    /*
+     * Remote config files are all downloaded to the same file in the antenna target directory, so only local URIs are
+     * parsed in parallel.
+     */
     private List<Configuration> resolveUris(List<URI> uris) {
         LOGGER.debug("Resolve list of configuration file uris.");
-        List<Configuration> configurations = new ArrayList<>();
-        for (URI uri : uris) {
-            Configuration configuration = this.configurationReader.readConfigFromUri(uri, this.antennaTargetDirectory);
-            configurations.add(configuration);
-
-        }
-        return configurations;
+        boolean allLocal = uris.stream()
+                .allMatch(uri -> uri.getScheme() != null && uri.getScheme().contains("file"));
+        return (allLocal ? uris.parallelStream() : uris.stream())
+                .map(uri -> this.configurationReader.readConfigFromUri(uri, this.antennaTargetDirectory))
+                .collect(Collectors.toList());
     }
 
     private Configuration mergeConfigurations(List<Configuration> configurations) {
@@ -21,6 +21,7 @@ import org.eclipse.sw360.antenna.model.reporting.ProcessingMessage;
 import org.eclipse.sw360.antenna.model.reporting.ProcessingMessageWithPayload;
 import org.eclipse.sw360.antenna.model.reporting.Report;
 import org.eclipse.sw360.antenna.api.Attachable;
+import org.apache.commons.text.StringEscapeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,7 +30,6 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
 
 /**
  * Reporter for processing messages.
@@ -37,6 +37,9 @@ import java.util.List;
 public class Reporter implements IProcessingReporter {
     private static final Logger LOGGER = LoggerFactory.getLogger(Reporter.class);
     private static final String REPORT_FILENAME = "Antenna_3rdPartyAnalysisReport.txt";
+    private static final String JSON_REPORT_FILENAME = "Antenna_3rdPartyAnalysisReport.jsonl";
+    private static final String SPACER = "    ";
+    private static final String LINE_SEPARATOR = System.lineSeparator();
 
     private static final String CLASSIFIER = "antenna-processing-report";
     private static final String TYPE = "txt";
@@ -45,6 +48,7 @@ public class Reporter implements IProcessingReporter {
     private Path targetDirectory;
     private final Charset encoding;
     private final Path reportPath;
+    private final Path jsonReportPath;
 
     public Reporter(Path targetDirectory) {
         this(targetDirectory, StandardCharsets.UTF_8);
@@ -61,6 +65,7 @@ public class Reporter implements IProcessingReporter {
         this.report = new Report();
         this.encoding = encoding;
         this.reportPath = targetDirectory.resolve(REPORT_FILENAME);
+        this.jsonReportPath = targetDirectory.resolve(JSON_REPORT_FILENAME);
 
 
         File fTargetDirectory  = targetDirectory.toFile();
@@ -74,28 +79,88 @@ public class Reporter implements IProcessingReporter {
         return this.report;
     }
 
-    private void writeFormattedMessage(PrintStream stream, ProcessingMessage message){
-        final String spacer = "    ";
-        if(message.getIdentifier() != null) {
-            stream.format("%s:%n%s%s: %s%n",
-                    message.getMessageType(),
-                    spacer,
-                    message.getIdentifier(),
-                    message.getMessage().replaceAll("\n", "\n" + spacer + spacer + spacer));
+    private void writeFormattedMessage(Writer writer, ProcessingMessage message) throws IOException {
+        final String identifier = message.getIdentifier();
+        writer.write(String.valueOf(message.getMessageType()));
+        writer.write(':');
+        writer.write(LINE_SEPARATOR);
+        writer.write(SPACER);
+        if (identifier != null) {
+            writer.write(identifier);
+            writer.write(": ");
+            writeIndented(writer, message.getMessage(), SPACER + SPACER + SPACER);
         } else {
-            stream.format("%s:%n%s%s%n",
-                    message.getMessageType(),
-                    spacer,
-                    message.getMessage().replaceAll("\n","\n" + spacer));
+            writeIndented(writer, message.getMessage(), SPACER);
+        }
+        writer.write(LINE_SEPARATOR);
+
+        if (message instanceof ProcessingMessageWithPayload) {
+            for (String payloadMsg : ((ProcessingMessageWithPayload) message).getPayload()) {
+                writer.write(SPACER);
+                writer.write(SPACER);
+                writer.write("- ");
+                writeIndented(writer, payloadMsg, SPACER + SPACER + "  ");
+            }
+        }
+    }
+
+    /**
+     * Writes the text and indents every line but the first one.
+     */
+    private static void writeIndented(Writer writer, String text, String indent) throws IOException {
+        final String value = String.valueOf(text);
+        int start = 0;
+        int newline;
+        while ((newline = value.indexOf('\n', start)) >= 0) {
+            writer.write(value, start, newline + 1 - start);
+            writer.write(indent);
+            start = newline + 1;
+        }
+        writer.write(value, start, value.length() - start);
+    }
 
+    private void writeJsonMessage(Writer writer, ProcessingMessage message) throws IOException {
+        writer.write("{\"type\":\"");
+        writer.write(StringEscapeUtils.escapeJson(String.valueOf(message.getMessageType())));
+        final String identifier = message.getIdentifier();
+        if (identifier != null) {
+            writer.write("\",\"identifier\":\"");
+            writer.write(StringEscapeUtils.escapeJson(identifier));
         }
+        writer.write("\",\"message\":\"");
+        writer.write(StringEscapeUtils.escapeJson(String.valueOf(message.getMessage())));
+        writer.write('"');
 
         if (message instanceof ProcessingMessageWithPayload) {
-            ((ProcessingMessageWithPayload) message).getPayload()
-                    .forEach(payloadMsg -> stream.format("%s%s- %s",
-                            spacer,
-                            spacer,
-                            payloadMsg.replaceAll("\n","\n" + spacer + spacer + "  ")));
+            writer.write(",\"payload\":[");
+            String separator = "";
+            for (String payloadMsg : ((ProcessingMessageWithPayload) message).getPayload()) {
+                writer.write(separator);
+                writer.write('"');
+                writer.write(StringEscapeUtils.escapeJson(payloadMsg));
+                writer.write('"');
+                separator = ",";
+            }
+            writer.write(']');
+        }
+        writer.write("}\n");
+    }
+
+    private interface MessageWriter {
+        void write(Writer writer, ProcessingMessage message) throws IOException;
+    }
+
+    /**
+     * Streams the messages through a buffered writer, so messages which are added while the report is written do
+     * not have to wait.
+     */
+    private void writeMessages(OutputStream out, MessageWriter messageWriter) {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, encoding))) {
+            for (ProcessingMessage msg : report.getMessageList()) {
+                messageWriter.write(writer, msg);
+            }
+        } catch (IOException e) {
+            throw new ExecutionException("Could not write the processing report.", e);
         }
     }
 
@@ -107,14 +172,18 @@ public class Reporter implements IProcessingReporter {
      */
     @Override
     public void writeReport(OutputStream out) {
-        try (PrintStream stream = new PrintStream(out, false, encoding.toString())) {
-            List<ProcessingMessage> msgList = report.getMessageList();
-            synchronized (msgList) {
-                msgList.forEach(msg -> writeFormattedMessage(stream, msg));
-            }
-        } catch (UnsupportedEncodingException e) {
-            throw new ExecutionException("Could not start printstream.", e);
-        }
+        writeMessages(out, this::writeFormattedMessage);
+    }
+
+    /**
+     * Writes the report in the JSON Lines format to the given OutputStream, i.e. every message as a JSON object on a
+     * line of its own.
+     *
+     * @param out
+     *            OutputStream to which the report will be written.
+     */
+    public void writeJsonReport(OutputStream out) {
+        writeMessages(out, this::writeJsonMessage);
     }
 
     @Override
@@ -177,6 +246,10 @@ public class Reporter implements IProcessingReporter {
             try (OutputStream out = new FileOutputStream(reportPath.toFile())) {
                 writeReport(out);
             }
+            LOGGER.debug("Writing report to {}", jsonReportPath.toString());
+            try (OutputStream out = new FileOutputStream(jsonReportPath.toFile())) {
+                writeJsonReport(out);
+            }
             return new Attachable(TYPE, CLASSIFIER, reportPath.toFile());
         } catch (IOException e) {
             throw new ExecutionException("The processing report could not be created.", e);
@@ -12,45 +12,86 @@ package org.eclipse.sw360.antenna.util;
 
 import com.here.ort.spdx.*;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
+import org.eclipse.sw360.antenna.model.util.LicenseExpression;
 import org.eclipse.sw360.antenna.model.xml.generated.License;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseOperator;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseStatement;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 public class LicenseSupport {
+    private static final int CACHE_SIZE = 4096;
+    // a single license id or license reference as accepted by the SPDX parser, which needs no parsing
+    private static final Pattern SINGLE_LICENSE = Pattern.compile("[A-Za-z0-9][A-Za-z0-9.\\-]*\\+?");
+    private static final String LICENSE_REFERENCE_PREFIX = "LicenseRef-";
+
+    // SPDX expressions are compiled once, the same expressions are found for many artifacts
+    private static final Map<String, LicenseExpression> SPDX_EXPRESSIONS = Collections.synchronizedMap(
+            new LinkedHashMap<String, LicenseExpression>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, LicenseExpression> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
     public static LicenseInformation mapLicenses(Collection<String> licenses) {
         return mapLicenses(licenses, LicenseOperator.AND);
     }
 
     public static LicenseInformation mapLicenses(Collection<String> licenses, LicenseOperator operator) {
-        Iterator<String> iterator = licenses.iterator();
-        if (!iterator.hasNext()) {
+        if (licenses.isEmpty()) {
             return new LicenseStatement();
         }
 
-        return computeRecursiveLicenseStatement(iterator, new LicenseStatement(), operator);
+        // build the right-nested statement from its innermost license, without recursing once per license
+        List<String> licenseNames = new ArrayList<>(licenses);
+        ListIterator<String> iterator = licenseNames.listIterator(licenseNames.size());
+        LicenseInformation result = createLicense(iterator.previous());
+        while (iterator.hasPrevious()) {
+            LicenseStatement statement = new LicenseStatement();
+            statement.setLeftStatement(createLicense(iterator.previous()));
+            statement.setOp(operator);
+            statement.setRightStatement(result);
+            result = statement;
+        }
+        return result;
     }
 
-    private static LicenseInformation computeRecursiveLicenseStatement(
-            Iterator<String> iterator, LicenseStatement leftLicense, LicenseOperator operator) {
+    private static License createLicense(String name) {
         License license = new License();
-        license.setName(iterator.next());
-
-        if (iterator.hasNext()) {
-            leftLicense.setLeftStatement(license);
-            leftLicense.setOp(operator);
-            leftLicense.setRightStatement(computeRecursiveLicenseStatement(iterator, new LicenseStatement(), operator));
-            return leftLicense;
-        }
+        license.setName(name);
         return license;
     }
 
     public static LicenseInformation fromSPDXExpression(String spdxExpressionString) {
-        SpdxExpression spdxExpression = SpdxExpression.parse(spdxExpressionString);
-        return fromSPDXExpression(spdxExpression);
+        LicenseExpression licenseExpression = SPDX_EXPRESSIONS.get(spdxExpressionString);
+        if (licenseExpression == null) {
+            if (isSingleLicense(spdxExpressionString)) {
+                licenseExpression = LicenseExpression.of(createLicense(spdxExpressionString));
+            } else {
+                SpdxExpression spdxExpression = SpdxExpression.parse(spdxExpressionString);
+                licenseExpression = LicenseExpression.of(fromSPDXExpression(spdxExpression));
+            }
+            SPDX_EXPRESSIONS.put(spdxExpressionString, licenseExpression);
+        }
+        // the generated license classes are mutable, so every caller gets its own instances
+        return licenseExpression.toLicenseInformation();
+    }
+
+    private static boolean isSingleLicense(String spdxExpressionString) {
+        return SINGLE_LICENSE.matcher(spdxExpressionString).matches()
+                && !"AND".equalsIgnoreCase(spdxExpressionString)
+                && !"OR".equalsIgnoreCase(spdxExpressionString)
+                && !"WITH".equalsIgnoreCase(spdxExpressionString)
+                && !(spdxExpressionString.startsWith(LICENSE_REFERENCE_PREFIX) && spdxExpressionString.endsWith("+"));
     }
 
     public static LicenseInformation fromSPDXExpression(SpdxExpression spdxExpression) {
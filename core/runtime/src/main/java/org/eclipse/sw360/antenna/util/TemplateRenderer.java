@@ -24,7 +24,9 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -34,19 +36,41 @@ public class TemplateRenderer {
     public static final String CLASSPATH_WORKFLOW_XML = "workflow.xml";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateRenderer.class);
+    static final int VELOCITY_ENGINE_CACHE_SIZE = 16;
+
+    // engines of template directories that are no longer rendered are dropped, e.g. in a long running daemon
+    private static final Map<Map<String,String>, VelocityEngine> VELOCITY_ENGINES = Collections.synchronizedMap(
+            new LinkedHashMap<Map<String,String>, VelocityEngine>(VELOCITY_ENGINE_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Map<String,String>, VelocityEngine> eldest) {
+                    return size() > VELOCITY_ENGINE_CACHE_SIZE;
+                }
+            });
 
     private VelocityContext renderContext;
 
     public TemplateRenderer() {
-        this.renderContext = new VelocityContext();
+        this(new VelocityContext(), System.getenv());
+    }
+
+    private TemplateRenderer(VelocityContext renderContext, Map<String, String> environment) {
+        this.renderContext = renderContext;
 
-        System.getenv()
+        environment
                 .entrySet()
                 .stream()
                 .filter(e -> e.getKey().equals(e.getKey().toUpperCase()))
                 .forEach(e -> this.renderContext.put(e.getKey(),e.getValue()));
     }
 
+    /*
+     * Renders the given environment variables instead of the ones of this JVM, e.g. the environment of a client of
+     * the Antenna daemon.
+     */
+    public static TemplateRenderer forEnvironment(Map<String, String> environment) {
+        return new TemplateRenderer(new VelocityContext(), environment);
+    }
+
     public TemplateRenderer(Map<String, Object> initMap) {
         this();
         initMap.forEach((key, value) -> this.renderContext.put(key, value));
@@ -59,12 +83,23 @@ public class TemplateRenderer {
         return renderTemplateFile(templateFile);
     }
 
-    private VelocityEngine getVelocityEngine(Map<String,String> veProperties) {
-        VelocityEngine ve = new VelocityEngine();
-        ve.setProperty(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS,"org.apache.velocity.runtime.log.NullLogSystem");
+    /*
+     * Initialized velocity engines are thread safe, so the engines of the recently used configurations are kept per
+     * JVM. The resource loaders do not cache templates, so changed template files are still picked up.
+     */
+    private static VelocityEngine getVelocityEngine(Map<String,String> veProperties) {
+        return VELOCITY_ENGINES.computeIfAbsent(veProperties, properties -> {
+            VelocityEngine ve = new VelocityEngine();
+            ve.setProperty(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS,"org.apache.velocity.runtime.log.NullLogSystem");
+
+            properties.forEach(ve::setProperty);
+            ve.init();
+            return ve;
+        });
+    }
 
-        veProperties.forEach(ve::setProperty);
-        return ve;
+    static int getCachedVelocityEngineCount() {
+        return VELOCITY_ENGINES.size();
     }
 
     private VelocityEngine prepareVelocityEngine(File templateFile) {
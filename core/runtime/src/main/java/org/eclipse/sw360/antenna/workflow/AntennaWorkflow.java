@@ -18,6 +18,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -29,13 +30,21 @@ public class AntennaWorkflow {
     private final Collection<AbstractProcessor> processors;
     private final Collection<AbstractGenerator> generators;
     private final List<AbstractOutputHandler> postSinksHooks;
+    private final WorkflowStepListener stepListener;
+    private final Optional<WorkflowResultCache> resultCache;
 
     public AntennaWorkflow(AntennaWorkflowConfiguration antennaWFConfig) {
+        this(antennaWFConfig, WorkflowStepListener.NONE);
+    }
+
+    public AntennaWorkflow(AntennaWorkflowConfiguration antennaWFConfig, WorkflowStepListener stepListener) {
         LOGGER.debug("Initializing workflow ...");
         analyzers = antennaWFConfig.getAnalyzers();
         processors = antennaWFConfig.getProcessors();
         generators = antennaWFConfig.getGenerators();
         postSinksHooks = antennaWFConfig.getOutputHandlers();
+        this.stepListener = stepListener;
+        resultCache = antennaWFConfig.getResultCache();
         LOGGER.debug("Initializing workflow done\n");
     }
 
@@ -50,18 +59,9 @@ public class AntennaWorkflow {
                 return processingState.getAttachables();
             }
 
-            LOGGER.debug("Process artifacts");
-            applyProcessors(processingState);
-
-            LOGGER.debug("Generate output");
-            Map<String, IAttachable> generatedOutput = generateOutputViaGenerators(processingState);
-
-            generatedOutput.putAll(processingState.getAttachables());
-
-            if(!processingState.getFailCausingResults().isEmpty()) {
-                logFailCausingResults(processingState.getFailCausingResults());
-                throw new ExecutionException("Build failed due to fail causing results.");
-            }
+            Map<String, IAttachable> generatedOutput = resultCache.isPresent()
+                    ? processIncrementally(processingState, resultCache.get())
+                    : process(processingState);
 
             if(postSinksHooks.size() > 0) {
                 LOGGER.debug("Post process output");
@@ -77,6 +77,36 @@ public class AntennaWorkflow {
         }
     }
 
+    private Map<String, IAttachable> process(ProcessingState processingState) {
+        LOGGER.debug("Process artifacts");
+        applyProcessors(processingState);
+
+        LOGGER.debug("Generate output");
+        Map<String, IAttachable> generatedOutput = generateOutputViaGenerators(processingState);
+
+        generatedOutput.putAll(processingState.getAttachables());
+
+        if(!processingState.getFailCausingResults().isEmpty()) {
+            logFailCausingResults(processingState.getFailCausingResults());
+            throw new ExecutionException("Build failed due to fail causing results.");
+        }
+        return generatedOutput;
+    }
+
+    private Map<String, IAttachable> processIncrementally(ProcessingState processingState, WorkflowResultCache cache) {
+        WorkflowResultCache.Entry entry = cache.entryFor(processingState.getArtifacts());
+        Optional<Map<String, IAttachable>> cachedOutput = entry.replay();
+        if (cachedOutput.isPresent()) {
+            LOGGER.info("The inputs did not change, skip processors and generators and reuse the results in {}",
+                    entry.getDirectory());
+            return cachedOutput.get();
+        }
+
+        Map<String, IAttachable> generatedOutput = process(processingState);
+        entry.store(generatedOutput);
+        return generatedOutput;
+    }
+
     private void logFailCausingResults(Map<String, Set<IEvaluationResult>> failCausingResults) {
         makeStringForFailCausingResults(failCausingResults).forEach(LOGGER::error);
     }
@@ -101,7 +131,7 @@ public class AntennaWorkflow {
         Collection<WorkflowStepResult> results = new HashSet<>();
         for(AbstractAnalyzer source : analyzers){
             LOGGER.info("Run {}", source.getWorkflowItemName());
-            results.add(source.yield());
+            results.add(runStep(source, source::yield));
         }
         return results;
     }
@@ -109,7 +139,7 @@ public class AntennaWorkflow {
     private void applyProcessors(ProcessingState processingState) {
         for (AbstractProcessor processor : processors) {
             LOGGER.info("Run {}", processor.getWorkflowItemName());
-            processingState.applyWorkflowStepResult(processor.process(processingState));
+            processingState.applyWorkflowStepResult(runStep(processor, () -> processor.process(processingState)));
         }
     }
 
@@ -127,7 +157,7 @@ public class AntennaWorkflow {
         Map<String, IAttachable> generatedOutput = new HashMap<>();
         for (AbstractGenerator sink : generators) {
             LOGGER.info("Run {}", sink.getWorkflowItemName());
-            Map<String, IAttachable> oneGeneratedOutput = sink.produce(processingState);
+            Map<String, IAttachable> oneGeneratedOutput = runStep(sink, () -> sink.produce(processingState));
             warnIfKeysCollide(sink, generatedOutput, oneGeneratedOutput);
             generatedOutput.putAll(oneGeneratedOutput);
         }
@@ -136,7 +166,19 @@ public class AntennaWorkflow {
 
     private void applyOutputPostHandler(Map<String, IAttachable> generatedOutput) {
         for (AbstractOutputHandler postSinksHook: postSinksHooks) {
-            postSinksHook.handle(generatedOutput);
+            runStep(postSinksHook, () -> {
+                postSinksHook.handle(generatedOutput);
+                return null;
+            });
+        }
+    }
+
+    private <T> T runStep(ConfigurableWorkflowItem step, Supplier<T> execution) {
+        stepListener.beforeStep(step);
+        try {
+            return execution.get();
+        } finally {
+            stepListener.afterStep(step);
         }
     }
 
@@ -19,6 +19,9 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class AntennaWorkflowConfiguration {
 
@@ -28,6 +31,7 @@ public class AntennaWorkflowConfiguration {
     private final List<AbstractProcessor> processors;
     private final List<AbstractGenerator> generators;
     private final List<AbstractOutputHandler> outputHandlers;
+    private final Optional<WorkflowResultCache> resultCache;
 
     public AntennaWorkflowConfiguration(AntennaContext context) {
         LOGGER.debug("Initializing workflow configuration ...");
@@ -58,6 +62,10 @@ public class AntennaWorkflowConfiguration {
 
         outputHandlers = OutputHandlerFactory.getOutputHandlers(workflow, context);
 
+        resultCache = WorkflowResultCache.of(context, Stream.of(analyzers, processors, generators, outputHandlers)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList()));
+
         LOGGER.debug("Initializing workflow configuration done");
     }
 
@@ -77,6 +85,10 @@ public class AntennaWorkflowConfiguration {
         return outputHandlers;
     }
 
+    Optional<WorkflowResultCache> getResultCache() {
+        return resultCache;
+    }
+
     private void debugLogAndWarnOnDuplicateOrders(String nameOfSteps, List<? extends ConfigurableWorkflowItem> items) {
         LOGGER.debug("The calculated order of " + nameOfSteps + " is:");
         for (int i = 0; i < items.size() ; i++) {
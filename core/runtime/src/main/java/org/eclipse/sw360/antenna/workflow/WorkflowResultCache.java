@@ -0,0 +1,625 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.workflow;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.sw360.antenna.api.Attachable;
+import org.eclipse.sw360.antenna.api.IAttachable;
+import org.eclipse.sw360.antenna.api.IProcessingReporter;
+import org.eclipse.sw360.antenna.api.IProject;
+import org.eclipse.sw360.antenna.api.configuration.AntennaContext;
+import org.eclipse.sw360.antenna.api.configuration.ToolConfiguration;
+import org.eclipse.sw360.antenna.api.workflow.ConfigurableWorkflowItem;
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactCoordinates;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactFact;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactFactWithPayload;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFile;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactIssues;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactLicenseInformation;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceFile;
+import org.eclipse.sw360.antenna.model.artifact.facts.java.ArtifactPathnames;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.eclipse.sw360.antenna.model.reporting.MessageType;
+import org.eclipse.sw360.antenna.model.reporting.ProcessingMessage;
+import org.eclipse.sw360.antenna.model.xml.generated.Issue;
+import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
+import org.eclipse.sw360.antenna.model.xml.generated.Workflow;
+import org.eclipse.sw360.antenna.model.xml.generated.WorkflowStep;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Caches the generated output and the report entries of the processors and generators of a workflow between runs.
+ * <p>
+ * The analyzers always run. The artifacts they find, including the content of the files they reference, are
+ * fingerprinted together with everything else the remaining steps depend on: the tool configuration, the workflow
+ * definition, the content of the configuration files and of the files referenced by the step configurations, and the
+ * content of the jars containing the model, the runtime and the workflow steps. If a previous successful run had
+ * the same fingerprint, its generated files are restored and its report entries are replayed, instead of running the
+ * processors and generators again. Information from external sources, e.g. Maven Central or SW360, is not part of
+ * the fingerprint, so entries expire after the configured maximum age.
+ * <p>
+ * Entries are moved into the cache atomically, so builds running at the same time never see partially written
+ * entries. Unreadable entries lead to a complete run, and a cache which can not be written only costs the reuse of
+ * the results.
+ */
+class WorkflowResultCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowResultCache.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String INDEX_FILE = "index";
+    private static final String OUTPUT_FILE_PREFIX = "output-";
+    private static final List<String> ARTIFACT_FLAGS = Collections.unmodifiableList(Arrays.asList(
+            Artifact.IS_PROPRIETARY_FLAG_KEY,
+            Artifact.IS_MODIFIED_BY_CONFIGURATION_FLAG_KEY,
+            Artifact.IS_IGNORE_FOR_DOWNLOAD_KEY));
+
+    private final Path cacheDirectory;
+    private final Duration maxAge;
+    private final IProcessingReporter reporter;
+    private final byte[] configurationFingerprint;
+
+    WorkflowResultCache(Path cacheDirectory, Duration maxAge, IProcessingReporter reporter,
+                        byte[] configurationFingerprint) {
+        this.cacheDirectory = cacheDirectory;
+        this.maxAge = maxAge;
+        this.reporter = reporter;
+        this.configurationFingerprint = configurationFingerprint.clone();
+    }
+
+    /**
+     * @return The cache configured by the tool configuration, or an empty optional if incremental execution is off.
+     */
+    static Optional<WorkflowResultCache> of(AntennaContext context,
+                                            Collection<? extends ConfigurableWorkflowItem> steps) {
+        ToolConfiguration toolConfiguration = context.getToolConfiguration();
+        if (toolConfiguration.getIncrementalCacheDirectory() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new WorkflowResultCache(toolConfiguration.getIncrementalCacheDirectory(),
+                toolConfiguration.getIncrementalCacheMaxAge(), context.getProcessingReporter(),
+                fingerprintConfiguration(context, steps)));
+    }
+
+    /**
+     * Returns the entry for the given artifacts. The report entries added after this call are stored with the entry.
+     */
+    Entry entryFor(Collection<Artifact> artifacts) {
+        Fingerprint fingerprint = new Fingerprint();
+        fingerprint.add(configurationFingerprint);
+        artifacts.stream()
+                .map(WorkflowResultCache::describe)
+                .sorted()
+                .forEach(fingerprint::add);
+        return new Entry(cacheDirectory.resolve(fingerprint.toHex()),
+                reporter.getProcessingReport().getMessageList().size());
+    }
+
+    /**
+     * The cached result of a workflow run on one set of inputs.
+     */
+    class Entry {
+        private final Path directory;
+        private final int reportedMessagesBefore;
+
+        private Entry(Path directory, int reportedMessagesBefore) {
+            this.directory = directory;
+            this.reportedMessagesBefore = reportedMessagesBefore;
+        }
+
+        Path getDirectory() {
+            return directory;
+        }
+
+        /**
+         * Restores the generated files and replays the report entries of the entry.
+         *
+         * @return The generated output of the cached run, or an empty optional if there is no usable entry.
+         */
+        Optional<Map<String, IAttachable>> replay() {
+            Path index = directory.resolve(INDEX_FILE);
+            if (!Files.isRegularFile(index)) {
+                return Optional.empty();
+            }
+            try {
+                if (Files.getLastModifiedTime(index).toInstant().plus(maxAge).isBefore(Instant.now())) {
+                    LOGGER.info("The cached workflow results in {} are older than {} hours and are not used",
+                            directory, maxAge.toHours());
+                    return Optional.empty();
+                }
+
+                List<CachedOutput> outputs = new ArrayList<>();
+                List<ProcessingMessage> messages = new ArrayList<>();
+                readIndex(index, outputs, messages);
+
+                Map<String, IAttachable> generatedOutput = new HashMap<>();
+                for (CachedOutput output : outputs) {
+                    Path target = output.attachable.getFile().toPath();
+                    Files.createDirectories(target.toAbsolutePath().getParent());
+                    Files.copy(directory.resolve(output.fileName), target, StandardCopyOption.REPLACE_EXISTING);
+                    generatedOutput.put(output.key, output.attachable);
+                }
+                messages.forEach(reporter::add);
+                return Optional.of(generatedOutput);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debug("Ignoring unreadable workflow cache entry {}", directory, e);
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * Stores the given output and the report entries added since the entry was created.
+         */
+        void store(Map<String, IAttachable> generatedOutput) {
+            Optional<IAttachable> notAFile = generatedOutput.values().stream()
+                    .filter(attachable -> attachable.getFile() == null || !attachable.getFile().isFile())
+                    .findAny();
+            if (notAFile.isPresent()) {
+                LOGGER.debug("Not caching the workflow results, the output {} is not a file",
+                        notAFile.get().getClassifier());
+                return;
+            }
+
+            List<ProcessingMessage> allMessages = reporter.getProcessingReport().getMessageList();
+            List<ProcessingMessage> messages = allMessages.subList(
+                    Math.min(reportedMessagesBefore, allMessages.size()), allMessages.size());
+
+            Path tempDirectory = null;
+            try {
+                Files.createDirectories(cacheDirectory);
+                tempDirectory = Files.createTempDirectory(cacheDirectory, directory.getFileName() + "-");
+                writeEntry(tempDirectory, generatedOutput, messages);
+                if (Files.exists(directory)) {
+                    FileUtils.deleteDirectory(directory.toFile());
+                }
+                try {
+                    Files.move(tempDirectory, directory, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempDirectory, directory);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Failed to write workflow cache entry {}: {}", directory, e.getMessage());
+            } finally {
+                if (tempDirectory != null) {
+                    FileUtils.deleteQuietly(tempDirectory.toFile());
+                }
+            }
+        }
+    }
+
+    private static final class CachedOutput {
+        private final String key;
+        private final String fileName;
+        private final IAttachable attachable;
+
+        private CachedOutput(String key, String fileName, IAttachable attachable) {
+            this.key = key;
+            this.fileName = fileName;
+            this.attachable = attachable;
+        }
+    }
+
+    private static void writeEntry(Path entryDirectory, Map<String, IAttachable> generatedOutput,
+                                   List<ProcessingMessage> messages) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(entryDirectory.resolve(INDEX_FILE))))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(generatedOutput.size());
+            int i = 0;
+            for (Map.Entry<String, IAttachable> output : generatedOutput.entrySet()) {
+                String fileName = OUTPUT_FILE_PREFIX + i++;
+                Files.copy(output.getValue().getFile().toPath(), entryDirectory.resolve(fileName));
+                writeString(out, output.getKey());
+                writeString(out, fileName);
+                writeString(out, output.getValue().getType());
+                writeString(out, output.getValue().getClassifier());
+                writeString(out, output.getValue().getFile().getAbsolutePath());
+            }
+            out.writeInt(messages.size());
+            for (ProcessingMessage message : messages) {
+                writeString(out, message.getMessageType().name());
+                writeString(out, message.getIdentifier());
+                writeString(out, message.getMessage());
+            }
+        }
+    }
+
+    private static void readIndex(Path index, List<CachedOutput> outputs, List<ProcessingMessage> messages)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(index)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported format of the workflow cache entry");
+            }
+            int outputCount = in.readInt();
+            for (int i = 0; i < outputCount; i++) {
+                String key = readString(in);
+                String fileName = readString(in);
+                String type = readString(in);
+                String classifier = readString(in);
+                File file = new File(readString(in));
+                outputs.add(new CachedOutput(key, fileName, new Attachable(type, classifier, file)));
+            }
+            int messageCount = in.readInt();
+            for (int i = 0; i < messageCount; i++) {
+                MessageType type = MessageType.valueOf(readString(in));
+                String identifier = readString(in);
+                messages.add(new ProcessingMessage(type, identifier, readString(in)));
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] fingerprintConfiguration(AntennaContext context,
+                                                   Collection<? extends ConfigurableWorkflowItem> steps) {
+        Fingerprint fingerprint = new Fingerprint();
+        fingerprint.add("format " + FORMAT_VERSION);
+
+        Set<Class<?>> code = new LinkedHashSet<>(Arrays.asList(AntennaWorkflow.class, Artifact.class));
+        steps.forEach(step -> code.add(step.getClass()));
+        fingerprint.addCode(code);
+
+        IProject project = context.getProject();
+        List<Path> excludedDirectories = new ArrayList<>();
+        Path basedir = null;
+        if (project != null) {
+            fingerprint.add(project.getProjectId());
+            fingerprint.add(project.getVersion());
+            if (project.getConfigFile() != null) {
+                basedir = project.getBasedir().toPath();
+            }
+            if (project.getBuildDirectory() != null) {
+                excludedDirectories.add(Paths.get(project.getBuildDirectory()).toAbsolutePath());
+            }
+        }
+
+        ToolConfiguration toolConfiguration = context.getToolConfiguration();
+        excludedDirectories.add(toolConfiguration.getAntennaTargetDirectory().toAbsolutePath());
+        Stream.of(toolConfiguration.getAntennaTargetDirectory(), toolConfiguration.getProductName(),
+                toolConfiguration.getProductFullName(), toolConfiguration.getVersion(),
+                toolConfiguration.getCompanyName(), toolConfiguration.getCopyrightHoldersName(),
+                toolConfiguration.getCopyrightNotice(), toolConfiguration.getAttributionDocumentNotes(),
+                toolConfiguration.isShowCopyrightStatements(), toolConfiguration.getEncoding(),
+                toolConfiguration.isAttachAll(), toolConfiguration.getFilesToAttach(),
+                toolConfiguration.isMavenInstalled(), toolConfiguration.getScanDir())
+                .map(Objects::toString)
+                .forEach(fingerprint::add);
+
+        for (File configFile : toolConfiguration.getConfigFiles()) {
+            fingerprint.add(configFile.getPath());
+            fingerprint.addFile(configFile.toPath(), excludedDirectories);
+        }
+        for (URI configFileUri : toolConfiguration.getConfigFileUris()) {
+            fingerprint.add(configFileUri.toString());
+            if ("file".equals(configFileUri.getScheme())) {
+                fingerprint.addFile(Paths.get(configFileUri), excludedDirectories);
+            }
+        }
+
+        Workflow workflow = toolConfiguration.getWorkflow();
+        if (workflow != null) {
+            // the analyzers run in every build, their inputs are covered by the fingerprint of their artifacts
+            addSteps(fingerprint, Optional.ofNullable(workflow.getAnalyzers()).map(Workflow.Analyzers::getStep),
+                    null, excludedDirectories);
+            addSteps(fingerprint, Optional.ofNullable(workflow.getProcessors()).map(Workflow.Processors::getStep),
+                    basedir, excludedDirectories);
+            addSteps(fingerprint, Optional.ofNullable(workflow.getGenerators()).map(Workflow.Generators::getStep),
+                    basedir, excludedDirectories);
+            addSteps(fingerprint, Optional.ofNullable(workflow.getOutputHandlers())
+                    .map(Workflow.OutputHandlers::getStep), basedir, excludedDirectories);
+        }
+        return fingerprint.digest();
+    }
+
+    private static void addSteps(Fingerprint fingerprint, Optional<List<WorkflowStep>> steps, Path basedir,
+                                 List<Path> excludedDirectories) {
+        if (!steps.isPresent()) {
+            fingerprint.add((String) null);
+            return;
+        }
+        for (WorkflowStep step : steps.get()) {
+            fingerprint.add(step.getName());
+            fingerprint.add(step.getClassHint());
+            fingerprint.add(String.valueOf(step.isDeactivated()));
+            Map<String, String> configuration = step.getConfiguration() == null
+                    ? Collections.emptyMap()
+                    : new TreeMap<>(step.getConfiguration().getAsMap());
+            configuration.forEach((key, value) -> {
+                fingerprint.add(key);
+                fingerprint.add(value);
+                if (basedir != null) {
+                    referencedFile(basedir, value)
+                            .ifPresent(file -> fingerprint.addFile(file, excludedDirectories));
+                }
+            });
+        }
+    }
+
+    private static Optional<Path> referencedFile(Path basedir, String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Path file = basedir.resolve(value.trim());
+            return Files.exists(file) ? Optional.of(file) : Optional.empty();
+        } catch (InvalidPathException e) {
+            return Optional.empty();
+        }
+    }
+
+    static String describe(Artifact artifact) {
+        Stream<String> facts = artifact.askForAll(ArtifactFact.class).stream()
+                .map(WorkflowResultCache::describe)
+                .sorted();
+        Stream<String> flags = ARTIFACT_FLAGS.stream()
+                .map(flag -> flag + "=" + artifact.getFlag(flag));
+        return Stream.concat(Stream.of(artifact.getAnalysisSource()), Stream.concat(facts, flags))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describe(ArtifactFact fact) {
+        String description;
+        if (fact instanceof ArtifactCoordinates) {
+            description = ((ArtifactCoordinates) fact).getCoordinates().stream()
+                    .map(Coordinate::canonicalize)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        } else if (fact instanceof ArtifactLicenseInformation) {
+            description = describe(((ArtifactLicenseInformation) fact).get());
+        } else if (fact instanceof ArtifactIssues) {
+            description = ((ArtifactIssues) fact).get().stream()
+                    .map(WorkflowResultCache::describe)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        } else if (fact instanceof ArtifactFile) {
+            description = describeFile(((ArtifactFile) fact).get());
+        } else if (fact instanceof ArtifactSourceFile) {
+            description = describeFile(((ArtifactSourceFile) fact).get());
+        } else if (fact instanceof ArtifactPathnames) {
+            description = ((ArtifactPathnames) fact).get().stream()
+                    .map(WorkflowResultCache::describePathname)
+                    .collect(Collectors.joining(", "));
+        } else if (fact instanceof ArtifactFactWithPayload) {
+            description = String.valueOf(((ArtifactFactWithPayload<?>) fact).get());
+        } else {
+            description = fact.prettyPrint();
+        }
+        return fact.getClass().getName() + ": " + description;
+    }
+
+    // a file rebuilt at the same path, e.g. a SNAPSHOT jar, has to lead to a new fingerprint
+    private static String describeFile(Path file) {
+        if (file == null || !Files.exists(file)) {
+            return file + " (missing)";
+        }
+        Fingerprint fingerprint = new Fingerprint();
+        fingerprint.addFile(file, Collections.emptyList());
+        return file + " " + fingerprint.toHex();
+    }
+
+    private static String describePathname(String pathname) {
+        try {
+            Path file = Paths.get(pathname);
+            return Files.exists(file) ? describeFile(file) : pathname;
+        } catch (InvalidPathException e) {
+            return pathname;
+        }
+    }
+
+    // the toString of license information contains the identity of the object, so the content is described instead
+    private static String describe(LicenseInformation licenseInformation) {
+        return licenseInformation.evaluateLong() + licenseInformation.getLicenses().stream()
+                .map(license -> String.join("|", license.getName(), license.getLongName(), license.getText(),
+                        Objects.toString(license.getThreatGroup()), Objects.toString(license.getClassification())))
+                .collect(Collectors.joining(", ", " [", "]"));
+    }
+
+    private static String describe(Issue issue) {
+        return String.join("|", issue.getReference(), Objects.toString(issue.getSeverity()), issue.getSource(),
+                Objects.toString(issue.getStatus()), issue.getUrl());
+    }
+
+    /**
+     * Collects the inputs of the workflow into a SHA-256 hash.
+     */
+    private static final class Fingerprint {
+        private final MessageDigest digest;
+
+        private Fingerprint() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Programming Error: Hash algorithm unknown", e);
+            }
+        }
+
+        private void add(byte[] bytes) {
+            digest.update(lengthPrefix(bytes.length));
+            digest.update(bytes);
+        }
+
+        private void add(String value) {
+            if (value == null) {
+                digest.update(lengthPrefix(-1));
+            } else {
+                add(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        private void addFile(Path file, List<Path> excludedDirectories) {
+            Path absoluteFile = file.toAbsolutePath();
+            if (excludedDirectories.stream().anyMatch(absoluteFile::startsWith)) {
+                return;
+            }
+            try {
+                if (Files.isDirectory(file)) {
+                    try (Stream<Path> files = Files.walk(file)) {
+                        List<Path> regularFiles = files
+                                .filter(Files::isRegularFile)
+                                .filter(child -> excludedDirectories.stream()
+                                        .noneMatch(child.toAbsolutePath()::startsWith))
+                                .sorted()
+                                .collect(Collectors.toList());
+                        for (Path child : regularFiles) {
+                            add(file.relativize(child).toString());
+                            addContent(child);
+                        }
+                    }
+                } else if (Files.isRegularFile(file)) {
+                    addContent(file);
+                }
+            } catch (IOException e) {
+                // a random value prevents that results computed from an unknown input are reused
+                LOGGER.debug("Could not read {}, the results of the workflow can not be reused", file, e);
+                add(UUID.randomUUID().toString());
+            }
+        }
+
+        private void addContent(Path file) throws IOException {
+            byte[] buffer = new byte[8192];
+            try (InputStream in = Files.newInputStream(file)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            digest.update(lengthPrefix(-2));
+        }
+
+        /**
+         * Adds the content of the jars or class directories containing the given classes, which changes when any class
+         * of them is rebuilt, not only the given ones.
+         */
+        private void addCode(Collection<Class<?>> classes) {
+            Set<Path> codeLocations = new TreeSet<>();
+            for (Class<?> clazz : classes) {
+                Optional<Path> codeLocation = codeLocation(clazz);
+                if (codeLocation.isPresent()) {
+                    codeLocations.add(codeLocation.get());
+                } else {
+                    addClassFile(clazz);
+                }
+            }
+            for (Path codeLocation : codeLocations) {
+                add(codeLocation.toString());
+                addFile(codeLocation, Collections.emptyList());
+            }
+        }
+
+        private static Optional<Path> codeLocation(Class<?> clazz) {
+            try {
+                CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+                if (codeSource == null || codeSource.getLocation() == null
+                        || !"file".equals(codeSource.getLocation().getProtocol())) {
+                    return Optional.empty();
+                }
+                return Optional.of(Paths.get(codeSource.getLocation().toURI()).toAbsolutePath());
+            } catch (SecurityException | URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * Adds the location and the modification time of the class file, for classes which are not loaded from a
+         * local jar or directory.
+         */
+        private void addClassFile(Class<?> clazz) {
+            add(clazz.getName());
+            String className = clazz.getName();
+            URL classFile = clazz.getResource(className.substring(className.lastIndexOf('.') + 1) + ".class");
+            if (classFile == null) {
+                add((String) null);
+                return;
+            }
+            add(classFile.toString());
+            try {
+                add(Long.toString(classFile.openConnection().getLastModified()));
+            } catch (IOException e) {
+                add((String) null);
+            }
+        }
+
+        private static byte[] lengthPrefix(int length) {
+            return new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length};
+        }
+
+        private byte[] digest() {
+            return digest.digest();
+        }
+
+        private String toHex() {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        }
+    }
+}
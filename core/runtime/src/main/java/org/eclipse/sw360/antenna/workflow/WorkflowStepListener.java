@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.workflow;
+
+import org.eclipse.sw360.antenna.api.workflow.ConfigurableWorkflowItem;
+
+/**
+ * Is notified by the {@link AntennaWorkflow} around every analyzer, processor, generator and output handler it runs,
+ * e.g. to measure the steps of a workflow. {@link #afterStep(ConfigurableWorkflowItem)} is also called if the step
+ * failed.
+ */
+public interface WorkflowStepListener {
+    WorkflowStepListener NONE = new WorkflowStepListener() {};
+
+    default void beforeStep(ConfigurableWorkflowItem step) {
+        // NO OP
+    }
+
+    default void afterStep(ConfigurableWorkflowItem step) {
+        // NO OP
+    }
+}
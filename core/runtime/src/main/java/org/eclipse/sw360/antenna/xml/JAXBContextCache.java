@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.sw360.antenna.xml;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process wide cache of JAXB contexts. Creating a context is expensive, but contexts are thread safe, so each
+ * context is only created once per JVM. Marshallers and unmarshallers are not thread safe and have to be created
+ * from the context for each use.
+ */
+public final class JAXBContextCache {
+    private static final ConcurrentMap<Class<?>, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    private JAXBContextCache() {
+        // only static methods
+    }
+
+    public static JAXBContext getContext(Class<?> boundClass) throws JAXBException {
+        JAXBContext context = CONTEXTS.get(boundClass);
+        if (context == null) {
+            final JAXBContext created = JAXBContext.newInstance(boundClass);
+            context = CONTEXTS.putIfAbsent(boundClass, created);
+            if (context == null) {
+                context = created;
+            }
+        }
+        return context;
+    }
+}
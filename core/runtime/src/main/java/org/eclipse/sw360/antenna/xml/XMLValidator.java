@@ -26,12 +26,29 @@ import javax.xml.validation.Validator;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Checks if given xml is suitable to the given xsd.
+ * Checks if given xml is suitable to the given xsd. Compiled schemas are thread safe and cached for the lifetime of
+ * the JVM.
  */
 public class XMLValidator extends IXMLValidator {
     private static final Logger LOGGER = LoggerFactory.getLogger(XMLValidator.class);
+    private static final ConcurrentMap<String, Schema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private static Schema getSchema(URL xsdUrl) throws SAXException {
+        final String key = xsdUrl.toExternalForm();
+        Schema schema = SCHEMAS.get(key);
+        if (schema == null) {
+            final Schema created = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(xsdUrl);
+            schema = SCHEMAS.putIfAbsent(key, created);
+            if (schema == null) {
+                schema = created;
+            }
+        }
+        return schema;
+    }
 
     /**
      * @param xmlFile
@@ -47,10 +64,8 @@ public class XMLValidator extends IXMLValidator {
     public void validateXML(File xmlFile, URL xsdUrl) {
         Validate.notNull(xmlFile, "No URL to xml file provided!");
         if (xsdUrl != null) {
-            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
             try {
-                Schema schema = factory.newSchema(xsdUrl);
-                Validator validator = schema.newValidator();
+                Validator validator = getSchema(xsdUrl).newValidator();
 
                 StreamSource source = new StreamSource(xmlFile);
                 validator.validate(source);
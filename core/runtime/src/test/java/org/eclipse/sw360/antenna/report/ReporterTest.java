@@ -10,7 +10,9 @@
  */
 package org.eclipse.sw360.antenna.report;
 
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactCoordinates;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
 import org.eclipse.sw360.antenna.model.reporting.ProcessingMessage;
@@ -20,6 +22,10 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -57,6 +63,19 @@ public class ReporterTest {
         assertThat(reportString).contains(id.getMainCoordinate().getVersion());
     }
 
+    @Test
+    public void testArtifactIsDescribedAsItWasWhenTheMessageWasAdded() {
+        Artifact artifact = new Artifact("test").addFact(id);
+        reporter.add(artifact, MessageType.MISSING_SOURCES, msg);
+        String identifierWhenAdded = artifact.toString();
+
+        artifact.addFact(new ArtifactFilename("added-later.jar"));
+
+        final ProcessingMessage processingMessage = reporter.getProcessingReport().getMessageList().get(0);
+        assertThat(processingMessage.getIdentifier()).isEqualTo(identifierWhenAdded);
+        assertThat(processingMessage.getIdentifier()).doesNotContain("added-later.jar");
+    }
+
     @Test
     public void testAddMessageWithNullArtifactIdentifier() {
         reporter.add(new ArtifactCoordinates(new Coordinate("Name","Version")), MessageType.MISSING_COORDINATES, msg);
@@ -102,4 +121,30 @@ public class ReporterTest {
         assertThat(reportString).contains(license);
     }
 
+    @Test
+    public void testJsonReportContainsOneObjectPerMessage() {
+        String license = "EPL-1.0";
+        reporter.add(license, MessageType.UNKNOWN_LICENSE, "first line\n\"second\" line");
+        reporter.add(MessageType.MISSING_SOURCES, msg);
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        reporter.writeJsonReport(stream);
+        String[] lines = new String(stream.toByteArray(), StandardCharsets.UTF_8).split("\n");
+
+        assertThat(lines).containsExactly(
+                "{\"type\":\"UNKNOWN_LICENSE\",\"identifier\":\"EPL-1.0\",\"message\":\"first line\\n\\\"second\\\" line\"}",
+                "{\"type\":\"MISSING_SOURCES\",\"message\":\"" + msg + "\"}");
+    }
+
+    @Test
+    public void testWriteReportToReportPathWritesTextAndJsonReport() throws IOException {
+        reporter.add(id, MessageType.MISSING_SOURCES, msg);
+
+        reporter.writeReportToReportPath();
+
+        assertThat(folder.getRoot().toPath().resolve("Antenna_3rdPartyAnalysisReport.txt")).exists();
+        List<String> jsonLines = Files.readAllLines(folder.getRoot().toPath().resolve("Antenna_3rdPartyAnalysisReport.jsonl"));
+        assertThat(jsonLines).hasSize(1);
+        assertThat(jsonLines.get(0)).contains("\"type\":\"MISSING_SOURCES\"", msg);
+    }
 }
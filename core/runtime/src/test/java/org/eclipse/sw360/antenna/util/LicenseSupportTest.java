@@ -12,6 +12,7 @@
 package org.eclipse.sw360.antenna.util;
 
 import org.assertj.core.api.Assertions;
+import org.eclipse.sw360.antenna.model.xml.generated.License;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseOperator;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseStatement;
@@ -93,4 +94,26 @@ public class LicenseSupportTest {
         assertThat(licenseInformation)
                 .isEqualTo(licenseInformation1);
     }
+
+    @Test
+    public void testRepeatedSPDXParsingReturnsIndependentCopies() {
+        final LicenseInformation first = LicenseSupport.fromSPDXExpression("MIT OR BSD AND APACHE-2.0");
+        final LicenseInformation second = LicenseSupport.fromSPDXExpression("MIT OR BSD AND APACHE-2.0");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second).isNotSameAs(first);
+        first.getLicenses().get(0).setName("EPL-2.0");
+        assertThat(LicenseSupport.fromSPDXExpression("MIT OR BSD AND APACHE-2.0").evaluate())
+                .isEqualTo("( MIT OR ( BSD AND APACHE-2.0 ) )");
+    }
+
+    @Test
+    public void testSingleLicenseSPDXExpressions() {
+        for (String licenseId : Arrays.asList("MIT", "GPL-2.0+", "LicenseRef-scancode-proprietary")) {
+            final LicenseInformation licenseInformation = LicenseSupport.fromSPDXExpression(licenseId);
+
+            assertThat(licenseInformation).isInstanceOf(License.class);
+            assertThat(licenseInformation.evaluate()).isEqualTo(licenseId);
+        }
+    }
 }
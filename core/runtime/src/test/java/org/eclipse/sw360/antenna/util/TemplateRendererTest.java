@@ -219,6 +219,24 @@ public class TemplateRendererTest {
         assertThat(result).contains("<test" + propertyWithDotValue + ">" + propertyWithDotValue + "</test" + propertyWithDotValue + ">");
     }
 
+    @Test
+    public void testVelocityEnginesOfTemplateDirectoriesAreBounded() throws IOException {
+        File firstTemplateFile = null;
+        for (int i = 0; i <= TemplateRenderer.VELOCITY_ENGINE_CACHE_SIZE; i++) {
+            File templateFile = new File(folder.newFolder("templates" + i), "template.xml");
+            FileUtils.writeStringToFile(templateFile, composeTemplateXml(properties1), StandardCharsets.UTF_8);
+            if (firstTemplateFile == null) {
+                firstTemplateFile = templateFile;
+            }
+
+            assertThat(tr.renderTemplateFile(templateFile)).contains(property1value);
+        }
+
+        assertThat(TemplateRenderer.getCachedVelocityEngineCount())
+                .isLessThanOrEqualTo(TemplateRenderer.VELOCITY_ENGINE_CACHE_SIZE);
+        assertThat(tr.renderTemplateFile(firstTemplateFile)).contains(property1value);
+    }
+
     @Test(expected = ExecutionException.class)
     public void testRenderTemplateFileShouldNotReturnInvalidXmlIfTemplateWasInvalid() throws IOException {
         String invalidXmlTemplate = "<invalid xml";
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.workflow;
+
+import org.eclipse.sw360.antenna.api.IAttachable;
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
+import org.eclipse.sw360.antenna.api.workflow.AbstractAnalyzer;
+import org.eclipse.sw360.antenna.api.workflow.AbstractGenerator;
+import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor;
+import org.eclipse.sw360.antenna.api.workflow.ConfigurableWorkflowItem;
+import org.eclipse.sw360.antenna.api.workflow.WorkflowStepResult;
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.report.Reporter;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AntennaWorkflowTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<String> events = new ArrayList<>();
+    private final WorkflowStepListener listener = new WorkflowStepListener() {
+        @Override
+        public void beforeStep(ConfigurableWorkflowItem step) {
+            events.add("before " + step.getWorkflowItemName());
+        }
+
+        @Override
+        public void afterStep(ConfigurableWorkflowItem step) {
+            events.add("after " + step.getWorkflowItemName());
+        }
+    };
+
+    private AntennaWorkflowConfiguration configuration;
+
+    private static class TestAnalyzer extends AbstractAnalyzer {
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public String getWorkflowItemName() {
+            return "analyzer";
+        }
+
+        @Override
+        public WorkflowStepResult yield() {
+            return new WorkflowStepResult(Collections.singletonList(new Artifact("test")));
+        }
+    }
+
+    private static class TestProcessor extends AbstractProcessor {
+        private final RuntimeException failure;
+
+        TestProcessor(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public String getWorkflowItemName() {
+            return "processor";
+        }
+
+        @Override
+        public Collection<Artifact> process(Collection<Artifact> intermediates) {
+            if (failure != null) {
+                throw failure;
+            }
+            return intermediates;
+        }
+    }
+
+    private static class TestGenerator extends AbstractGenerator {
+        @Override
+        public String getWorkflowItemName() {
+            return "generator";
+        }
+
+        @Override
+        public Map<String, IAttachable> produce(Collection<Artifact> intermediates) {
+            return Collections.emptyMap();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        configuration = mock(AntennaWorkflowConfiguration.class);
+        when(configuration.getAnalyzers()).thenReturn(Collections.singletonList(new TestAnalyzer()));
+        when(configuration.getGenerators()).thenReturn(Collections.singletonList(new TestGenerator()));
+        when(configuration.getOutputHandlers()).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    public void testListenerIsNotifiedAroundEveryStep() {
+        when(configuration.getProcessors()).thenReturn(Collections.singletonList(new TestProcessor(null)));
+
+        new AntennaWorkflow(configuration, listener).execute();
+
+        assertThat(events).containsExactly(
+                "before analyzer", "after analyzer",
+                "before processor", "after processor",
+                "before generator", "after generator");
+    }
+
+    @Test
+    public void testListenerIsNotifiedAfterFailingStep() {
+        when(configuration.getProcessors())
+                .thenReturn(Collections.singletonList(new TestProcessor(new ExecutionException("failed"))));
+
+        assertThatThrownBy(() -> new AntennaWorkflow(configuration, listener).execute())
+                .isInstanceOf(ExecutionException.class);
+
+        assertThat(events).containsExactly(
+                "before analyzer", "after analyzer",
+                "before processor", "after processor");
+    }
+
+    @Test
+    public void testUnchangedInputsSkipProcessorsAndGenerators() {
+        when(configuration.getProcessors()).thenReturn(Collections.singletonList(new TestProcessor(null)));
+        when(configuration.getResultCache()).thenReturn(Optional.of(new WorkflowResultCache(
+                temporaryFolder.getRoot().toPath().resolve("cache"), Duration.ofHours(1),
+                new Reporter(temporaryFolder.getRoot().toPath().resolve("report")), new byte[0])));
+
+        new AntennaWorkflow(configuration, listener).execute();
+        events.clear();
+        new AntennaWorkflow(configuration, listener).execute();
+
+        assertThat(events).containsExactly("before analyzer", "after analyzer");
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.workflow;
+
+import org.eclipse.sw360.antenna.api.Attachable;
+import org.eclipse.sw360.antenna.api.IAttachable;
+import org.eclipse.sw360.antenna.api.IProject;
+import org.eclipse.sw360.antenna.api.configuration.AntennaContext;
+import org.eclipse.sw360.antenna.api.configuration.ToolConfiguration;
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename;
+import org.eclipse.sw360.antenna.model.artifact.facts.DeclaredLicenseInformation;
+import org.eclipse.sw360.antenna.model.artifact.facts.java.ArtifactJar;
+import org.eclipse.sw360.antenna.model.reporting.MessageType;
+import org.eclipse.sw360.antenna.model.reporting.ProcessingMessage;
+import org.eclipse.sw360.antenna.model.xml.generated.License;
+import org.eclipse.sw360.antenna.model.xml.generated.StepConfiguration;
+import org.eclipse.sw360.antenna.model.xml.generated.Workflow;
+import org.eclipse.sw360.antenna.model.xml.generated.WorkflowStep;
+import org.eclipse.sw360.antenna.report.Reporter;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WorkflowResultCacheTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path projectDirectory;
+    private Path targetDirectory;
+    private Path policyFile;
+    private Path jarFile;
+    private Path output;
+
+    @Before
+    public void setUp() throws IOException {
+        projectDirectory = temporaryFolder.newFolder("project").toPath();
+        targetDirectory = projectDirectory.resolve("target/antenna");
+        Files.createDirectories(targetDirectory);
+        policyFile = projectDirectory.resolve("policies.xml");
+        Files.write(policyFile, "<policies/>".getBytes(StandardCharsets.UTF_8));
+        output = targetDirectory.resolve("3rdparty-licenses.html");
+        jarFile = projectDirectory.resolve("library.jar");
+        Files.write(jarFile, "first build".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private WorkflowResultCache createCache(Reporter reporter) {
+        WorkflowStep step = new WorkflowStep();
+        step.setName("Policy Evaluator");
+        step.setClassHint("org.example.PolicyEvaluator");
+        step.setConfiguration(StepConfiguration.fromMap(Collections.singletonMap("policies", "policies.xml")));
+        Workflow.Processors processors = new Workflow.Processors();
+        processors.getStep().add(step);
+        Workflow workflow = new Workflow();
+        workflow.setProcessors(processors);
+
+        ToolConfiguration toolConfiguration = new ToolConfiguration.ConfigurationBuilder()
+                .setAntennaTargetDirectory(targetDirectory.toString())
+                .setProductName("product")
+                .setWorkflow(workflow)
+                .setIncrementalCacheDirectory(temporaryFolder.getRoot().toPath().resolve("cache").toString())
+                .buildConfiguration();
+        AntennaContext context = new AntennaContext.ContextBuilder()
+                .setToolConfiguration(toolConfiguration)
+                .setProject(new TestProject(projectDirectory))
+                .setProcessingReporter(reporter)
+                .buildContext();
+
+        Optional<WorkflowResultCache> cache = WorkflowResultCache.of(context, Collections.emptyList());
+        assertThat(cache).isPresent();
+        return cache.get();
+    }
+
+    private List<Artifact> artifacts(String licenseName) {
+        License license = new License();
+        license.setName(licenseName);
+        return Collections.singletonList(new Artifact("test")
+                .addFact(new ArtifactFilename("library.jar"))
+                .addFact(new ArtifactJar(jarFile))
+                .addFact(new DeclaredLicenseInformation(license)));
+    }
+
+    private WorkflowResultCache.Entry runAndStore() throws IOException {
+        Reporter reporter = new Reporter(targetDirectory);
+        WorkflowResultCache.Entry entry = createCache(reporter).entryFor(artifacts("EPL-2.0"));
+        assertThat(entry.replay()).isEmpty();
+
+        reporter.add(MessageType.PROCESSING_FAILURE, "message of the processors");
+        Files.write(output, "attribution".getBytes(StandardCharsets.UTF_8));
+        entry.store(Collections.singletonMap("attribution-doc", new Attachable("html", "attribution-doc",
+                output.toFile())));
+        Files.delete(output);
+        return entry;
+    }
+
+    @Test
+    public void testStoredResultsAreReplayed() throws IOException {
+        runAndStore();
+
+        Reporter reporter = new Reporter(targetDirectory);
+        Optional<Map<String, IAttachable>> replayed = createCache(reporter).entryFor(artifacts("EPL-2.0")).replay();
+
+        assertThat(replayed).isPresent();
+        assertThat(replayed.get().get("attribution-doc").getFile()).isEqualTo(output.toFile());
+        assertThat(new String(Files.readAllBytes(output), StandardCharsets.UTF_8)).isEqualTo("attribution");
+        assertThat(reporter.getProcessingReport().getMessageList())
+                .extracting(ProcessingMessage::getMessage)
+                .containsExactly("message of the processors");
+    }
+
+    @Test
+    public void testChangedArtifactsAreNotReplayed() throws IOException {
+        runAndStore();
+
+        assertThat(createCache(new Reporter(targetDirectory)).entryFor(artifacts("Apache-2.0")).replay()).isEmpty();
+    }
+
+    @Test
+    public void testChangedReferencedFilesAreNotReplayed() throws IOException {
+        runAndStore();
+        Files.write(policyFile, "<policies><policy/></policies>".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(createCache(new Reporter(targetDirectory)).entryFor(artifacts("EPL-2.0")).replay()).isEmpty();
+    }
+
+    @Test
+    public void testRebuiltArtifactFilesAreNotReplayed() throws IOException {
+        runAndStore();
+        FileTime lastModified = Files.getLastModifiedTime(jarFile);
+        Files.write(jarFile, "other build".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(jarFile, lastModified);
+
+        assertThat(createCache(new Reporter(targetDirectory)).entryFor(artifacts("EPL-2.0")).replay()).isEmpty();
+    }
+
+    @Test
+    public void testExpiredEntriesAreNotReplayed() throws IOException {
+        WorkflowResultCache.Entry entry = runAndStore();
+        Files.setLastModifiedTime(entry.getDirectory().resolve("index"), FileTime.fromMillis(0));
+
+        assertThat(createCache(new Reporter(targetDirectory)).entryFor(artifacts("EPL-2.0")).replay()).isEmpty();
+        assertThat(output).doesNotExist();
+    }
+
+    private static class TestProject implements IProject {
+        private final Path directory;
+
+        TestProject(Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        public String getProjectId() {
+            return "project";
+        }
+
+        @Override
+        public String getVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public File getConfigFile() {
+            return directory.resolve("pom.xml").toFile();
+        }
+
+        @Override
+        public String getBuildDirectory() {
+            return directory.resolve("target").toString();
+        }
+    }
+}
@@ -13,6 +13,8 @@ package org.eclipse.sw360.antenna.xml;
 import org.eclipse.sw360.antenna.model.xml.generated.AntennaConfig;
 import org.junit.Test;
 
+import javax.xml.bind.JAXBException;
+
 import java.io.File;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -29,4 +31,10 @@ public class XMLResolverTest {
         AntennaConfig config = resolver.resolveXML(new File(xml.toURI()));
         assertThat(config).isNotNull();
     }
+
+    @Test
+    public void testContextIsCreatedOncePerClass() throws JAXBException {
+        assertThat(JAXBContextCache.getContext(AntennaConfig.class))
+                .isSameAs(JAXBContextCache.getContext(AntennaConfig.class));
+    }
 }
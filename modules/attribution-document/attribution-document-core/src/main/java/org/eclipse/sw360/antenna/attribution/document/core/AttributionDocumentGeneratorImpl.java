@@ -10,12 +10,16 @@
  */
 package org.eclipse.sw360.antenna.attribution.document.core;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.multipdf.Overlay;
@@ -25,6 +29,13 @@ import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.PDPageContentStream.AppendMode;
 import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.interactive.action.PDAction;
+import org.apache.pdfbox.pdmodel.interactive.action.PDActionGoTo;
+import org.apache.pdfbox.pdmodel.interactive.action.PDActionURI;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotationLink;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.destination.PDPageFitDestination;
 
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.attribution.document.core.model.ArtifactAndLicense;
@@ -46,11 +57,16 @@ public class AttributionDocumentGeneratorImpl {
             "This attribution document lists these software components and their licenses.";
     private static final String PARAGRAPH_MARKUP = "Components are identified by " +
             "{color:#0000EE}{link[https://github.com/package-url/purl-spec]}package URL (purl){link}{color:#000000}.";
+    private static final String ANCHOR_LINK_PREFIX = "#";
+    private static final String LICENSE_LINK_PREFIX = "antenna-license:";
+    private static final int ARTIFACTS_PER_SECTION = 100;
+    private static final int SECTIONS_IN_FLIGHT_PER_THREAD = 2;
 
     private final String documentName;
     private final File workingDir;
     private final String templateKey;
     private final DocumentValues values;
+    private final int renderThreads;
 
     /**
      * @param documentName  (non-blank) the name of the attribution document name
@@ -59,54 +75,92 @@ public class AttributionDocumentGeneratorImpl {
      * @param values        (non-null)
      */
     public AttributionDocumentGeneratorImpl(String documentName, File workingDir, String templateKey, DocumentValues values) {
+        this(documentName, workingDir, templateKey, values, 1);
+    }
+
+    /**
+     * @param documentName  (non-blank) the name of the attribution document name
+     * @param workingDir    (non-null) a writable directory to store intermediate and resulting files
+     * @param templateKey   (non-blank) the key identifying the {@link TemplateBundle}.
+     * @param values        (non-null)
+     * @param renderThreads (positive) the number of threads rendering the artifact and license pages. With more than
+     *                      one thread, the artifacts are rendered in sections of {@value #ARTIFACTS_PER_SECTION}, each
+     *                      of which starts on a new page.
+     */
+    public AttributionDocumentGeneratorImpl(String documentName, File workingDir, String templateKey, DocumentValues values,
+                                            int renderThreads) {
         this.documentName = documentName;
         this.workingDir = workingDir;
         this.templateKey = templateKey;
         this.values = values;
+        this.renderThreads = renderThreads;
     }
 
     /**
      * Generates the attribution document.
+     * <p>
+     * The parts of the document are completed, including the template overlay and the page footers, before they are
+     * saved, and are then merged with temp-file-backed memory. So the document is written in a single pass and the
+     * merged document is never held in memory.
      *
      * @param artifacts (non-null) list of artifacts to use in generation.
      * @return (non - null) the file handle of the generated attribution document.
      */
     public File generate(List<ArtifactAndLicense> artifacts) {
-        Templates templates = TemplateLoaderUtil.load(templateKey);
-
-        File title = writeTitle(templates);
-        File copyright = writeCopyright(templates);
-        File backPage = writeBackPage(templates.getBackPage());
-        File artifactPages = writeArtifacts(templates, artifacts, templates.getContent());
-        File intermediateDoc = mergePages(title, copyright, artifactPages, backPage);
-
-        return postProcess(templates, intermediateDoc, documentName);
-    }
-
-    private File postProcess(Templates templates, File intermediateDoc, String fileName) {
-        try (PDDocument pdDocument = PDDocument.load(intermediateDoc)) {
-
-            int allPages = pdDocument.getPages().getCount();
-            PDFont font = templates.loadSansFont(pdDocument);
-
-            for (int i = 1; i < allPages; i++) {
-                PDPage page = pdDocument.getPage(i);
-                float pageWidth = page.getMediaBox().getWidth();
-                try (PDPageContentStream contents = new PDPageContentStream(pdDocument, page, AppendMode.APPEND, false)) {
-                    writeCopyRightFooter(font, pageWidth, contents);
-                    writePageNumber(font, pageWidth, contents, (i + 1) + "/" + allPages);
-                }
+        try (Templates templates = TemplateLoaderUtil.load(templateKey);
+             PDDocument artifactPages = renderThreads > 1
+                     ? writeArtifactsInParallel(templates, artifacts)
+                     : writeArtifacts(templates, artifacts, templates.getContent())) {
+            PDDocument title = writeTitle(templates);
+            PDDocument copyright = writeCopyright(templates);
+            PDDocument backPage = templates.getBackPage();
+
+            List<PDDocument> parts = Arrays.asList(title, copyright, artifactPages, backPage);
+            int allPages = parts.stream()
+                    .mapToInt(PDDocument::getNumberOfPages)
+                    .sum();
+            int firstPageIndex = 0;
+            for (PDDocument part : parts) {
+                writeFooters(templates, part, firstPageIndex, allPages);
+                firstPageIndex += part.getNumberOfPages();
             }
 
-            File out = new File(workingDir, fileName);
-            pdDocument.save(out);
+            File out = new File(workingDir, documentName);
+            mergePages(out,
+                    writePage(title, Paths.get(workingDir.getAbsolutePath(), "title.pdf")),
+                    writePage(copyright, Paths.get(workingDir.getAbsolutePath(), "copyright.pdf")),
+                    writePage(artifactPages, Paths.get(workingDir.getAbsolutePath(), "artifacts.pdf")),
+                    writePage(backPage, Paths.get(workingDir.getAbsolutePath(), "back.pdf")));
             return out;
         } catch (IOException e) {
             throw new ExecutionException("Post process failed", e);
         }
     }
 
-    private File writeArtifacts(Templates templates, List<ArtifactAndLicense> artifacts, PDDocument template) {
+    /**
+     * Writes the copyright footer and the page number to all pages of the part but the title page.
+     */
+    private void writeFooters(Templates templates, PDDocument part, int firstPageIndex, int allPages) throws IOException {
+        PDFont font = null;
+        for (int i = 0; i < part.getNumberOfPages(); i++) {
+            int pageIndex = firstPageIndex + i;
+            if (pageIndex == 0) {
+                continue;
+            }
+            if (font == null) {
+                font = templates.loadSansFont(part);
+            }
+
+            PDPage page = part.getPage(i);
+            float pageWidth = page.getMediaBox().getWidth();
+            try (PDPageContentStream contents = new PDPageContentStream(part, page, AppendMode.APPEND, false)) {
+                writeCopyRightFooter(font, pageWidth, contents);
+                writePageNumber(font, pageWidth, contents, (pageIndex + 1) + "/" + allPages);
+            }
+        }
+    }
+
+    private PDDocument writeArtifacts(Templates templates, List<ArtifactAndLicense> artifacts, PDDocument template) {
         PDFont sansFont = templates.loadSansFont(template);
         PDFont italicFont = templates.loadSansItalicFont(template);
         PDFont boldFont = templates.loadSansBoldFont(template);
@@ -123,13 +177,12 @@ public class AttributionDocumentGeneratorImpl {
                     boldItalicFont));
 
             for (ArtifactAndLicense artifact : artifacts) {
-                document.add(createParagraph(artifact, 10, sansFont, boldFont, italicFont, boldItalicFont));
+                document.add(createParagraph(artifact, ANCHOR_LINK_PREFIX, 10, sansFont, boldFont, italicFont,
+                        boldItalicFont));
             }
             writeLicenseText(document, artifacts, 15, sansFont, boldFont, italicFont, boldItalicFont);
 
-            File file = new File(workingDir, "intermediate.artifacts.pdf");
-            doSave(document, file);
-            return doOverlay(file, template, "artifacts.pdf");
+            return doOverlay(document.render(), template);
         } catch (IOException e) {
             throw new ExecutionException("Failed to write artifact and licenses", e);
         }
@@ -144,25 +197,180 @@ public class AttributionDocumentGeneratorImpl {
 
         for (LicenseInfo license : sortedLicenses) {
             document.add(ControlElement.NEWPAGE);
+            document.add(createParagraph(license, size, sansFont, boldFont, italicFont, boldItalicFont));
+        }
 
-            Paragraph p = new Paragraph();
-            p.addMarkup(String.format("{anchor:%s}*%s*{anchor} %n%n", license.getKey(), license.getTitle()),
-                    size,
-                    sansFont,
-                    boldFont,
-                    italicFont,
-                    boldItalicFont);
-            p.addText(license.getText(), 10, sansFont);
+        return document;
+    }
 
-            document.add(p);
+    /**
+     * Renders the artifacts and the license texts in independent sections on several threads and stitches the
+     * sections together in document order: first the artifacts, in sections of {@value #ARTIFACTS_PER_SECTION}, then
+     * one section per license text, sorted by title.
+     * <p>
+     * At most {@value #SECTIONS_IN_FLIGHT_PER_THREAD} sections per thread, including the one merged next, are
+     * submitted at a time and the next section is only submitted after that one was merged, so rendered sections
+     * waiting to be merged do not pile up in memory.
+     * <p>
+     * Anchors can not be linked across sections, so the artifacts link to their licenses by placeholder URIs, which
+     * are redirected to the first page of the license text after stitching.
+     */
+    private PDDocument writeArtifactsInParallel(Templates templates, List<ArtifactAndLicense> artifacts) throws IOException {
+        List<LicenseInfo> sortedLicenses = sortByTitle(extractUniqueLicenses(artifacts));
+        List<SectionWriter> sections = new ArrayList<>();
+        int artifactSections = Math.max(1, (artifacts.size() + ARTIFACTS_PER_SECTION - 1) / ARTIFACTS_PER_SECTION);
+        for (int i = 0; i < artifactSections; i++) {
+            boolean first = i == 0;
+            List<ArtifactAndLicense> sectionArtifacts = artifacts.subList(
+                    Math.min(i * ARTIFACTS_PER_SECTION, artifacts.size()),
+                    Math.min((i + 1) * ARTIFACTS_PER_SECTION, artifacts.size()));
+            sections.add((document, fonts) -> {
+                if (first) {
+                    document.add(createParagraph(String.format(PARAGRAPH_TEXT + "%n", values.getProductName()),
+                            String.format(PARAGRAPH_MARKUP + "%n%n"),
+                            10, fonts.sans, fonts.bold, fonts.italic, fonts.boldItalic));
+                }
+                for (ArtifactAndLicense artifact : sectionArtifacts) {
+                    document.add(createParagraph(artifact, LICENSE_LINK_PREFIX, 10,
+                            fonts.sans, fonts.bold, fonts.italic, fonts.boldItalic));
+                }
+            });
+        }
+        for (LicenseInfo license : sortedLicenses) {
+            sections.add((document, fonts) -> document.add(
+                    createParagraph(license, 15, fonts.sans, fonts.bold, fonts.italic, fonts.boldItalic)));
         }
 
-        return document;
+        PDDocument stitched = new PDDocument(MemoryUsageSetting.setupTempFileOnly().setTempDir(workingDir));
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(renderThreads, sections.size()));
+        Deque<Future<RenderedSection>> inFlight = new ArrayDeque<>();
+        try {
+            PDFMergerUtility merger = new PDFMergerUtility();
+            Map<String, Integer> licensePageIndices = new HashMap<>();
+            int submitted = 0;
+            for (int i = 0; i < sections.size(); i++) {
+                while (submitted < sections.size() && inFlight.size() < SECTIONS_IN_FLIGHT_PER_THREAD * renderThreads) {
+                    SectionWriter section = sections.get(submitted++);
+                    inFlight.add(executor.submit(() -> renderSection(templates, section)));
+                }
+                if (i >= artifactSections) {
+                    licensePageIndices.put(sortedLicenses.get(i - artifactSections).getKey(),
+                            stitched.getNumberOfPages());
+                }
+                try (RenderedSection section = inFlight.poll().get()) {
+                    merger.appendDocument(stitched, section.pages);
+                }
+            }
+            redirectLicenseLinks(stitched, licensePageIndices);
+
+            return doOverlay(stitched, templates.getContent());
+        } catch (InterruptedException e) {
+            stitched.close();
+            Thread.currentThread().interrupt();
+            throw new ExecutionException("Interrupted while writing artifact and licenses", e);
+        } catch (java.util.concurrent.ExecutionException e) {
+            stitched.close();
+            throw new ExecutionException("Failed to write artifact and licenses", e.getCause());
+        } catch (IOException | RuntimeException e) {
+            stitched.close();
+            throw e;
+        } finally {
+            executor.shutdownNow();
+            closeRenderedSections(inFlight);
+        }
     }
 
-    private Paragraph createParagraph(ArtifactAndLicense artifact, int size, PDFont sansFont, PDFont boldFont,
+    /**
+     * Cancels the sections which are still rendered and closes those, which were rendered but not merged.
+     */
+    private static void closeRenderedSections(Collection<Future<RenderedSection>> sections) {
+        for (Future<RenderedSection> section : sections) {
+            if (!section.cancel(true) && !section.isCancelled()) {
+                try {
+                    section.get().close();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException | java.util.concurrent.ExecutionException e) {
+                    // the section failed or is discarded anyway
+                }
+            }
+        }
+    }
+
+    /**
+     * Renders a section into its own document. Fonts are bound to a document and cache their glyph widths without
+     * synchronization, so every section loads its own fonts.
+     */
+    private RenderedSection renderSection(Templates templates, SectionWriter writer) throws IOException {
+        RenderedSection section = new RenderedSection(new PDDocument());
+        try {
+            Fonts fonts = new Fonts(
+                    ownInstance(templates.loadSansFont(section.fontDocument)),
+                    ownInstance(templates.loadSansBoldFont(section.fontDocument)),
+                    ownInstance(templates.loadSansItalicFont(section.fontDocument)),
+                    ownInstance(templates.loadBoldItalicFont(section.fontDocument)));
+            Document document = new Document(40, 60, 80, 80);
+            writer.write(document, fonts);
+            section.pages = document.render();
+            return section;
+        } catch (IOException | RuntimeException e) {
+            section.close();
+            throw e;
+        }
+    }
+
+    /**
+     * The standard 14 fonts are shared instances, so a font of the section's own is created for them.
+     */
+    private static PDFont ownInstance(PDFont font) throws IOException {
+        return font instanceof PDType1Font ? new PDType1Font(font.getCOSObject()) : font;
+    }
+
+    private static void redirectLicenseLinks(PDDocument document, Map<String, Integer> licensePageIndices)
+            throws IOException {
+        for (PDPage page : document.getPages()) {
+            for (PDAnnotation annotation : page.getAnnotations()) {
+                if (!(annotation instanceof PDAnnotationLink)) {
+                    continue;
+                }
+                PDAnnotationLink link = (PDAnnotationLink) annotation;
+                PDAction action = link.getAction();
+                if (!(action instanceof PDActionURI)) {
+                    continue;
+                }
+                String uri = ((PDActionURI) action).getURI();
+                if (uri == null || !uri.startsWith(LICENSE_LINK_PREFIX)) {
+                    continue;
+                }
+                Integer pageIndex = licensePageIndices.get(uri.substring(LICENSE_LINK_PREFIX.length()));
+                if (pageIndex != null) {
+                    PDPageFitDestination destination = new PDPageFitDestination();
+                    destination.setPage(document.getPage(pageIndex));
+                    PDActionGoTo goTo = new PDActionGoTo();
+                    goTo.setDestination(destination);
+                    link.setAction(goTo);
+                }
+            }
+        }
+    }
+
+    private Paragraph createParagraph(LicenseInfo license, int size, PDFont sansFont, PDFont boldFont,
                                       PDFont italicFont, PDFont boldItalicFont) throws IOException {
         Paragraph p = new Paragraph();
+        p.addMarkup(String.format("{anchor:%s}*%s*{anchor} %n%n", license.getKey(), license.getTitle()),
+                size,
+                sansFont,
+                boldFont,
+                italicFont,
+                boldItalicFont);
+        p.addText(license.getText(), 10, sansFont);
+        return p;
+    }
+
+    private Paragraph createParagraph(ArtifactAndLicense artifact, String licenseLinkPrefix, int size,
+                                      PDFont sansFont, PDFont boldFont, PDFont italicFont,
+                                      PDFont boldItalicFont) throws IOException {
+        Paragraph p = new Paragraph();
         if (artifact.getPurl().isPresent()) {
             p.addMarkup(String.format("*Package URL:* %s%n", artifact.getPurl().get()),
                     size,
@@ -189,8 +397,8 @@ public class AttributionDocumentGeneratorImpl {
         }
         p.addMarkup("*Licenses:*", size, sansFont, boldFont, italicFont, boldItalicFont);
         for (LicenseInfo license : artifact.getLicenses()){
-            p.addMarkup(String.format("%n- {color:#0000EE}{link[#%s]}%s{link}{color:#000000}",
-                                        license.getKey(), license.getShortName()),
+            p.addMarkup(String.format("%n- {color:#0000EE}{link[%s%s]}%s{link}{color:#000000}",
+                                        licenseLinkPrefix, license.getKey(), license.getShortName()),
                     size,
                     sansFont,
                     boldFont,
@@ -229,11 +437,9 @@ public class AttributionDocumentGeneratorImpl {
         return map;
     }
 
-    private File mergePages(File... mergeFiles) {
+    private void mergePages(File outFile, File... mergeFiles) {
         PDFMergerUtility merger = new PDFMergerUtility();
 
-        File outFile = new File(workingDir, "merged.attribute-doc.pdf");
-
         try (FileOutputStream fos = new FileOutputStream(outFile)) {
             merger.setDestinationStream(fos);
             merger.setDestinationFileName(outFile.getPath());
@@ -242,8 +448,7 @@ public class AttributionDocumentGeneratorImpl {
                 merger.addSource(f);
             }
 
-            merger.mergeDocuments(MemoryUsageSetting.setupMainMemoryOnly());
-            return outFile;
+            merger.mergeDocuments(MemoryUsageSetting.setupTempFileOnly().setTempDir(workingDir));
         } catch (IOException e) {
             throw new ExecutionException("Merging single pages failed.", e);
         }
@@ -263,11 +468,7 @@ public class AttributionDocumentGeneratorImpl {
         pageNum.drawText(contents, new Position(500, 39), Alignment.Left, null);
     }
 
-    private File writeBackPage(PDDocument backPage) {
-        return writePage(backPage, Paths.get(workingDir.getAbsolutePath(), "back.pdf"));
-    }
-
-    private File writeCopyright(Templates templates) {
+    private PDDocument writeCopyright(Templates templates) {
         PDDocument copyright = templates.getCopyright();
         final PDFont font = templates.loadSansFont(copyright);
 
@@ -277,10 +478,10 @@ public class AttributionDocumentGeneratorImpl {
             return new Position(70, pageHeight - 183);
         });
 
-        return writePage(copyright, Paths.get(workingDir.getAbsolutePath(), "copyright.pdf"));
+        return copyright;
     }
 
-    private File writeTitle(Templates templates) {
+    private PDDocument writeTitle(Templates templates) {
         PDDocument titleTemplate = templates.getTitle();
 
         final PDFont font = templates.loadSansFont(titleTemplate);
@@ -292,7 +493,7 @@ public class AttributionDocumentGeneratorImpl {
             return new Position(80, pageHeight - 295);
         });
 
-        return writePage(titleTemplate, Paths.get(workingDir.getAbsolutePath(), "title.pdf"));
+        return titleTemplate;
     }
 
     private File writePage(PDDocument document, Path path) {
@@ -305,26 +506,59 @@ public class AttributionDocumentGeneratorImpl {
         }
     }
 
-    private File doOverlay(File file, PDDocument template, String newFileName) throws IOException {
-        PDDocument content = PDDocument.load(file);
+    private PDDocument doOverlay(PDDocument content, PDDocument template) throws IOException {
+        try {
+            Overlay overlay = new Overlay();
+            overlay.setInputPDF(content);
+            overlay.setAllPagesOverlayPDF(template);
+            overlay.setOverlayPosition(Overlay.Position.BACKGROUND);
+            return overlay.overlay(Collections.emptyMap());
+        } catch (IOException e) {
+            content.close();
+            throw e;
+        }
+    }
 
-        Overlay overlay = new Overlay();
-        overlay.setInputPDF(content);
-        overlay.setAllPagesOverlayPDF(template);
-        overlay.setOverlayPosition(Overlay.Position.BACKGROUND);
-        overlay.overlay(Collections.emptyMap());
+    @FunctionalInterface
+    private interface SectionWriter {
+        void write(Document document, Fonts fonts) throws IOException;
+    }
 
-        File overlayed = new File(workingDir, newFileName);
-        try (FileOutputStream fos = new FileOutputStream(overlayed)) {
-            content.save(fos);
-            content.close();
-            return overlayed;
+    private static final class Fonts {
+        private final PDFont sans;
+        private final PDFont bold;
+        private final PDFont italic;
+        private final PDFont boldItalic;
+
+        private Fonts(PDFont sans, PDFont bold, PDFont italic, PDFont boldItalic) {
+            this.sans = sans;
+            this.bold = bold;
+            this.italic = italic;
+            this.boldItalic = boldItalic;
         }
     }
 
-    private void doSave(Document document, File file) throws IOException {
-        try (FileOutputStream fos = new FileOutputStream(file)) {
-            document.save(fos);
+    /**
+     * The rendered pages of a section and the document holding its fonts, which has to be kept open until the pages
+     * have been copied.
+     */
+    private static final class RenderedSection implements Closeable {
+        private final PDDocument fontDocument;
+        private PDDocument pages;
+
+        private RenderedSection(PDDocument fontDocument) {
+            this.fontDocument = fontDocument;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (pages != null) {
+                    pages.close();
+                }
+            } finally {
+                fontDocument.close();
+            }
         }
     }
 }
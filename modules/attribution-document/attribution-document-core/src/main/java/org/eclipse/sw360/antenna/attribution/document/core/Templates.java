@@ -18,11 +18,12 @@ import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Optional;
 
-public class Templates {
+public class Templates implements Closeable {
     private PDDocument title;
     private PDDocument copyright;
     private PDDocument backPage;
@@ -105,4 +106,16 @@ public class Templates {
             throw new ExecutionException("Could not load font.", e);
         }
     }
+
+    /**
+     * Closes all template documents. Documents which have been closed already are skipped.
+     */
+    @Override
+    public void close() throws IOException {
+        for (PDDocument document : new PDDocument[] { title, copyright, backPage, content }) {
+            if (document != null) {
+                document.close();
+            }
+        }
+    }
 }
@@ -11,9 +11,14 @@
 package org.eclipse.sw360.antenna.attribution.document.utils;
 
 import java.io.*;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.attribution.document.core.TemplateBundle;
@@ -23,16 +28,22 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Utility to load {@link TemplateBundle} instances via {@link ServiceLoader}
+ * <p>
+ * The templates and fonts of a bundle are read once and kept in memory, so later runs in the same JVM, e.g. in a
+ * Gradle daemon, do not have to look up the bundle and read its resources again. Every call to {@link #load(String)}
+ * still returns new documents, as the generation modifies them.
  */
 public final class TemplateLoaderUtil {
     private static final Logger LOG = LoggerFactory.getLogger(TemplateLoaderUtil.class);
+    private static final Map<String, TemplateBundle> BUNDLE_CACHE = new ConcurrentHashMap<>();
 
     private TemplateLoaderUtil() {
         // only utils
     }
 
     public static Templates load(String key) {
-        TemplateBundle bundle = getLoader(key);
+        TemplateBundle bundle = BUNDLE_CACHE.computeIfAbsent(key.toLowerCase(Locale.ROOT),
+                lowerCaseKey -> new CachedTemplateBundle(getLoader(key)));
 
         Templates templates = new Templates();
         templates.setTitle(loadTemplate(bundle::loadTitleTemplate));
@@ -63,4 +74,84 @@ public final class TemplateLoaderUtil {
             throw new ExecutionException("Unable to load template", e);
         }
     }
+
+    /**
+     * Keeps the content of all resources of a bundle in memory.
+     */
+    private static final class CachedTemplateBundle implements TemplateBundle {
+        private final String key;
+        private final byte[] titleTemplate;
+        private final byte[] copyrightTemplate;
+        private final byte[] contentTemplate;
+        private final byte[] backPageTemplate;
+        private final Optional<byte[]> sansFont;
+        private final Optional<byte[]> sansItalicFont;
+        private final Optional<byte[]> sansBoldFont;
+        private final Optional<byte[]> sansBoldItalicFont;
+
+        private CachedTemplateBundle(TemplateBundle bundle) {
+            key = bundle.key();
+            titleTemplate = read(bundle::loadTitleTemplate);
+            copyrightTemplate = read(bundle::loadCopyrightTemplate);
+            contentTemplate = read(bundle::loadContentTemplate);
+            backPageTemplate = read(bundle::loadBackPageTemplate);
+            sansFont = bundle.loadSansFont().map(font -> read(() -> font));
+            sansItalicFont = bundle.loadSansItalicFont().map(font -> read(() -> font));
+            sansBoldFont = bundle.loadSansBoldFont().map(font -> read(() -> font));
+            sansBoldItalicFont = bundle.loadSansBoldItalicFont().map(font -> read(() -> font));
+        }
+
+        private static byte[] read(Supplier<InputStream> resource) {
+            try (InputStream is = resource.get()) {
+                return IOUtils.toByteArray(is);
+            } catch (Exception e) {
+                throw new ExecutionException("Unable to load template", e);
+            }
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public InputStream loadTitleTemplate() {
+            return new ByteArrayInputStream(titleTemplate);
+        }
+
+        @Override
+        public InputStream loadCopyrightTemplate() {
+            return new ByteArrayInputStream(copyrightTemplate);
+        }
+
+        @Override
+        public InputStream loadContentTemplate() {
+            return new ByteArrayInputStream(contentTemplate);
+        }
+
+        @Override
+        public InputStream loadBackPageTemplate() {
+            return new ByteArrayInputStream(backPageTemplate);
+        }
+
+        @Override
+        public Optional<InputStream> loadSansFont() {
+            return sansFont.map(ByteArrayInputStream::new);
+        }
+
+        @Override
+        public Optional<InputStream> loadSansItalicFont() {
+            return sansItalicFont.map(ByteArrayInputStream::new);
+        }
+
+        @Override
+        public Optional<InputStream> loadSansBoldFont() {
+            return sansBoldFont.map(ByteArrayInputStream::new);
+        }
+
+        @Override
+        public Optional<InputStream> loadSansBoldItalicFont() {
+            return sansBoldItalicFont.map(ByteArrayInputStream::new);
+        }
+    }
 }
@@ -25,6 +25,16 @@ class TemplateLoaderUtilTest {
       assertThat( templates.getTitle().getNumberOfPages() ).isEqualByComparingTo( 1 );
    }
 
+   @Test
+   void repeatedLoadsReturnNewDocuments() throws Exception {
+
+      try ( Templates first = TemplateLoaderUtil.load( "mock-bundle" );
+            Templates second = TemplateLoaderUtil.load( "MOCK-BUNDLE" ) ) {
+         assertThat( second.getTitle() ).isNotSameAs( first.getTitle() );
+         assertThat( second.getTitle().getNumberOfPages() ).isEqualByComparingTo( 1 );
+      }
+   }
+
    @Test
    void loadMissingBundleFails() throws Exception {
 
@@ -53,11 +53,13 @@ public class AttributionDocumentGenerator extends AbstractGenerator {
    private static final String CONFIG_PRODUCT_NAME = "attribution.doc.productName";
    private static final String CONFIG_PRODUCT_VERSION = "attribution.doc.productVersion";
    private static final String CONFIG_COPYRIGHT_HOLDER = "attribution.doc.copyrightHolder";
+   private static final String CONFIG_RENDER_THREADS = "attribution.doc.renderThreads";
    private static final String WORKING_DIR_NAME = "doc-gen";
 
    private DocumentValues values;
    private String templateKey;
    private String docName;
+   private int renderThreads;
 
    private File docGenDir;
 
@@ -78,7 +80,8 @@ public class AttributionDocumentGenerator extends AbstractGenerator {
       Path antennaDir = context.getToolConfiguration().getAntennaTargetDirectory();
       docGenDir = createWorkDir(antennaDir);
 
-      AttributionDocumentGeneratorImpl disDoc = new AttributionDocumentGeneratorImpl(docName, docGenDir, templateKey, values);
+      AttributionDocumentGeneratorImpl disDoc = new AttributionDocumentGeneratorImpl(docName, docGenDir, templateKey, values,
+            renderThreads);
 
       File attributionDoc = disDoc.generate(convertAndSort(artifacts));
       long duration = System.currentTimeMillis() - start;
@@ -103,10 +106,24 @@ public class AttributionDocumentGenerator extends AbstractGenerator {
 
       docName = getConfigValue(CONFIG_DOC_NAME, configMap, DEFAULT_ATTRIBUTION_DOC_NAME);
       templateKey = getConfigValue(CONFIG_TEMPLATE_KEY, configMap, DEFAULT_TEMPLATE_KEY);
+      renderThreads = parseRenderThreads(getConfigValue(CONFIG_RENDER_THREADS, configMap, "1"));
 
       values = new DocumentValues(confProductName, confProductVersion, confCopyrightHolder);
    }
 
+   private static int parseRenderThreads(String value) {
+      int threads;
+      try {
+         threads = Integer.parseInt(value);
+      } catch (NumberFormatException e) {
+         throw new ConfigurationException("The value of " + CONFIG_RENDER_THREADS + " has to be a number", e);
+      }
+      if (threads < 1) {
+         throw new ConfigurationException("The value of " + CONFIG_RENDER_THREADS + " has to be positive");
+      }
+      return threads;
+   }
+
    private File createWorkDir(Path antennaDir) {
       File workDir = new File(antennaDir.toFile(), WORKING_DIR_NAME);
       try {
@@ -11,10 +11,16 @@
 package org.eclipse.sw360.antenna.attribution.document.workflow.generators;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.interactive.action.PDActionGoTo;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotationLink;
 import org.eclipse.sw360.antenna.attribution.document.core.AttributionDocumentGeneratorImpl;
 import org.eclipse.sw360.antenna.attribution.document.core.model.LicenseInfo;
 import org.junit.jupiter.api.Test;
@@ -50,6 +56,35 @@ class YagenIntegrationTest {
       assertThat(file).exists().hasExtension("pdf");
    }
 
+   @Test
+   void doGenerateInParallel() throws IOException {
+      DocumentValues values = new DocumentValues("My Product", "1.0", "My Legal Entity GmbH");
+      AttributionDocumentGeneratorImpl attrDocGen = new AttributionDocumentGeneratorImpl("attribution_document.pdf", tmpDir, "antenna-demo", values, 3);
+
+      List<ArtifactAndLicense> artifacts = createData();
+      for (int i = 0; i < 150; i++) {
+         artifacts.add(new TestArtifactAndLicense("tmp/more_" + i + ".zip", "pkg:maven/com.pany/more@" + i,
+               Collections.singletonList(new LicenseInfo("L" + i % 7, "Text " + i % 7, "L" + i % 7, "License " + i % 7)), null));
+      }
+      File file = attrDocGen.generate(artifacts);
+
+      assertThat(file).exists().hasExtension("pdf");
+      int licenseLinks = 0;
+      try (PDDocument document = PDDocument.load(file)) {
+         for (PDPage page : document.getPages()) {
+            for (PDAnnotation annotation : page.getAnnotations()) {
+               if (annotation instanceof PDAnnotationLink
+                     && ((PDAnnotationLink) annotation).getAction() instanceof PDActionGoTo) {
+                  licenseLinks++;
+               }
+            }
+         }
+      }
+      assertThat(licenseLinks).isEqualTo(artifacts.stream()
+            .mapToInt(artifact -> artifact.getLicenses().size())
+            .sum());
+   }
+
    private static List<ArtifactAndLicense> createData() {
       List<ArtifactAndLicense> list = new ArrayList<>();
 
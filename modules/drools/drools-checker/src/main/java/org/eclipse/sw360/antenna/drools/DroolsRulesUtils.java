@@ -27,13 +27,11 @@ public final class DroolsRulesUtils {
     }
 
     public static boolean isLicenseInFinalLicenses(Artifact artifact, String licenseId) {
-        return ArtifactLicenseUtils.getFinalLicenses(artifact).getLicenses().stream()
-                .map(License::getName)
-                .anyMatch(licenseId::equals);
+        return ArtifactLicenseUtils.getFinalLicenseExpression(artifact).containsLicenseId(licenseId);
     }
 
     public static boolean isThreatGroupInArtifact(Artifact artifact, LicenseThreatGroup threatGroup) {
-        return ArtifactLicenseUtils.getFinalLicenses(artifact).getLicenses().stream()
+        return ArtifactLicenseUtils.getFinalLicenseExpression(artifact).getLicenses().stream()
                 .map(License::getThreatGroup)
                 .anyMatch(l -> threatGroup == null && l == null || threatGroup != null && threatGroup.equals(l));
     }
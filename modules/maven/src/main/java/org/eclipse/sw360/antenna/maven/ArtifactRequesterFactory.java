@@ -18,6 +18,7 @@ import org.eclipse.sw360.antenna.util.ProxySettings;
 
 import java.io.File;
 import java.net.URL;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,12 +29,13 @@ public class ArtifactRequesterFactory {
                                                           Optional<MavenProject> optionalMavenProject,
                                                           Optional<LegacySupport> optionalLegacySupport,
                                                           File basedir,
+                                                          Map<String, String> environment,
                                                           ProxySettings proxySettings,
                                                           boolean isMavenInstalled,
                                                           URL sourcesRepositoryUrl) {
         if (isMavenInstalled) {
             return useMavenIfRunning(optionalRepositorySystem, optionalMavenProject, optionalLegacySupport, Optional.of(sourcesRepositoryUrl))
-                    .orElse(new MavenInvokerRequester(basedir, sourcesRepositoryUrl));
+                    .orElse(new MavenInvokerRequester(basedir, sourcesRepositoryUrl, environment));
         }
         return new HttpRequester(proxySettings, sourcesRepositoryUrl);
     }
@@ -42,11 +44,12 @@ public class ArtifactRequesterFactory {
                                                           Optional<MavenProject> optionalMavenProject,
                                                           Optional<LegacySupport> optionalLegacySupport,
                                                           File basedir,
+                                                          Map<String, String> environment,
                                                           ProxySettings proxySettings,
                                                           boolean isMavenInstalled) {
         if (isMavenInstalled) {
             return useMavenIfRunning(optionalRepositorySystem, optionalMavenProject, optionalLegacySupport, Optional.empty())
-                    .orElse(new MavenInvokerRequester(basedir));
+                    .orElse(new MavenInvokerRequester(basedir, environment));
         }
         return new HttpRequester(proxySettings);
     }
@@ -24,6 +24,7 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -44,24 +45,43 @@ public class MavenInvokerRequester extends IArtifactRequester {
     private static final String MVN_ARG_REPOS = "\"-DremoteRepositories=%s\"";
     private static final String MVN_DOWNLOAD_CMD = "dependency:get --quiet";
     private final File basedir;
+    private final Map<String, String> environment;
 
     private DefaultInvoker defaultInvoker;
     private Optional<URL> sourceRepositoryUrl;
 
     public MavenInvokerRequester(File basedir) {
-        this(basedir, new DefaultInvoker(), Optional.empty());
+        this(basedir, System.getenv());
+    }
+
+    public MavenInvokerRequester(File basedir, Map<String, String> environment) {
+        this(basedir, new DefaultInvoker(), Optional.empty(), environment);
     }
 
     public MavenInvokerRequester(File basedir, URL sourceRepositoryUrl) {
-        this(basedir, new DefaultInvoker(), Optional.of(sourceRepositoryUrl));
+        this(basedir, sourceRepositoryUrl, System.getenv());
+    }
+
+    public MavenInvokerRequester(File basedir, URL sourceRepositoryUrl, Map<String, String> environment) {
+        this(basedir, new DefaultInvoker(), Optional.of(sourceRepositoryUrl), environment);
     }
 
     public MavenInvokerRequester(File basedir, DefaultInvoker defaultInvoker, Optional<URL> sourceRepositoryUrl) {
+        this(basedir, defaultInvoker, sourceRepositoryUrl, System.getenv());
+    }
+
+    /**
+     * @param environment the environment variables of the frontend, which locate Maven and are passed to the Maven
+     *                    process instead of the environment of this JVM
+     */
+    public MavenInvokerRequester(File basedir, DefaultInvoker defaultInvoker, Optional<URL> sourceRepositoryUrl,
+                                 Map<String, String> environment) {
         super();
         this.basedir = basedir;
         this.defaultInvoker = defaultInvoker;
-        if (System.getenv("M2_HOME") != null) {
-            defaultInvoker.setMavenExecutable(new File(System.getenv("M2_HOME")));
+        this.environment = environment;
+        if (environment.get("M2_HOME") != null) {
+            defaultInvoker.setMavenExecutable(new File(environment.get("M2_HOME")));
         }
         this.sourceRepositoryUrl = sourceRepositoryUrl;
     }
@@ -124,6 +144,8 @@ public class MavenInvokerRequester extends IArtifactRequester {
         request.setPomFile(getPomFileFromContext());
         request.setGoals(mvnDownloadCmd);
         request.setOutputHandler(LOGGER::debug);
+        request.setShellEnvironmentInherited(false);
+        environment.forEach(request::addShellEnvironment);
 
         return request;
     }
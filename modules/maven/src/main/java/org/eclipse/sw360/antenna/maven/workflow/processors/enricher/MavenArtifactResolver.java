@@ -57,7 +57,8 @@ public class MavenArtifactResolver extends AbstractProcessor {
                 sourcesRepositoryUrl,
                 context.getProcessingReporter(),
                 toolConfig.isMavenInstalled(),
-                context.getProject().getBasedir())
+                context.getProject().getBasedir(),
+                toolConfig.getEnvironment())
                 .process(artifacts);
     }
 
@@ -33,6 +33,7 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -51,6 +52,7 @@ public class MavenArtifactResolverImpl {
     private final Optional<LegacySupport> optionalLegacySupport;
     private final boolean isMavenInstalled;
     private final File basedir;
+    private final Map<String, String> environment;
 
     public MavenArtifactResolverImpl(ProxySettings proxySettings,
                                      Optional<RepositorySystem> optionalRepositorySystem,
@@ -62,7 +64,8 @@ public class MavenArtifactResolverImpl {
                                      URL sourcesRepositoryUrl,
                                      IProcessingReporter processingReporter,
                                      boolean isMavenInstalled,
-                                     File basedir) {
+                                     File basedir,
+                                     Map<String, String> environment) {
         this.dependencyTargetDirectory = dependencyTargetDirectory;
         this.sourceResolvingBlacklist = sourceResolvingBlacklist;
         this.sourcesRepositoryUrl = sourcesRepositoryUrl;
@@ -74,6 +77,7 @@ public class MavenArtifactResolverImpl {
         this.optionalLegacySupport = optionalLegacySupport;
         this.isMavenInstalled = isMavenInstalled;
         this.basedir = basedir;
+        this.environment = environment;
     }
 
     public Collection<Artifact> process(Collection<Artifact> artifacts) {
@@ -145,10 +149,10 @@ public class MavenArtifactResolverImpl {
         return sourcesRepositoryUrl != null
                 ? ArtifactRequesterFactory.getArtifactRequester(
                 optionalRepositorySystem, optionalMavenProject, optionalLegacySupport,
-                basedir, proxySettings, isMavenInstalled, sourcesRepositoryUrl)
+                basedir, environment, proxySettings, isMavenInstalled, sourcesRepositoryUrl)
                 : ArtifactRequesterFactory.getArtifactRequester(
                 optionalRepositorySystem, optionalMavenProject, optionalLegacySupport,
-                basedir, proxySettings, isMavenInstalled);
+                basedir, environment, proxySettings, isMavenInstalled);
     }
 
 
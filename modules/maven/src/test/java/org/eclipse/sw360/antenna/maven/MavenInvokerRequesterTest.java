@@ -29,6 +29,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -137,4 +138,23 @@ public class MavenInvokerRequesterTest extends AntennaTestWithMockedContext {
         Optional<File> requestResult = mir.requestFile(mavenCoordinate, targetDirectory, ClassifierInformation.DEFAULT_JAR);
         assertThat(requestResult).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void requestFileUsesTheGivenEnvironment() throws Exception {
+        Path targetDirectory = temporaryFolder.newFolder("target").toPath();
+        File mavenHome = temporaryFolder.newFolder("client-maven");
+        DefaultInvoker invoker = Mockito.mock(DefaultInvoker.class);
+        Mockito.when(invoker.execute(ArgumentMatchers.any(InvocationRequest.class)))
+                .thenReturn(getDummyInvocationResult(1));
+        MavenInvokerRequester requester = new MavenInvokerRequester(temporaryFolder.getRoot(), invoker,
+                Optional.empty(), Collections.singletonMap("M2_HOME", mavenHome.toString()));
+
+        requester.requestFile(mavenCoordinate, targetDirectory, ClassifierInformation.DEFAULT_JAR);
+
+        Mockito.verify(invoker).setMavenExecutable(mavenHome);
+        Mockito.verify(invoker).execute(captor.capture());
+        InvocationRequest invocationRequest = captor.getValue();
+        assertThat(invocationRequest.isShellEnvironmentInherited()).isFalse();
+        assertThat(invocationRequest.getShellEnvironments()).containsEntry("M2_HOME", mavenHome.toString());
+    }
+}
@@ -76,7 +76,7 @@ public class MavenArtifactResolverImplTest extends AntennaTestWithMockedContext
                 antennaContextMock.getGeneric(LegacySupport.class),
                 toolConfigMock.getDependenciesDirectory(),
                 Collections.emptyList(), null,null, reporterMock, false,
-                antennaContextMock.getProject().getBasedir());
+                antennaContextMock.getProject().getBasedir(), System.getenv());
 
         artifacts = Collections.singletonList(mkArtifact("groupId", "artifactId", "version"));
     }
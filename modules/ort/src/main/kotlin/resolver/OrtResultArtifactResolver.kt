@@ -72,18 +72,18 @@ private fun mapHomepage(pkg: Package): ArtifactHomepage? =
         ArtifactHomepage(it)
     }
 
-class OrtResultArtifactResolver(result: OrtResult) : Function<Package, Artifact> {
-    private val licenseFindings = result.collectLicenseFindings(false)
+class OrtResultArtifactResolver(private val findings: Map<Identifier, PackageFindings>) : Function<Package, Artifact> {
+    constructor(result: OrtResult) : this(PackageFindings.of(result))
 
     private fun mapObservedLicense(pkg: Package): ObservedLicenseInformation? =
-        licenseFindings[pkg.id]?.keys?.map { it.license }?.let {
+        findings[pkg.id]?.licenses?.let {
             ObservedLicenseInformation(LicenseSupport.mapLicenses(it))
         }
 
     private fun mapCopyrights(pkg: Package): CopyrightStatement? =
-        licenseFindings[pkg.id]?.keys?.flatMap { it.copyrights }
+        findings[pkg.id]?.copyrights
                 ?.takeUnless { it.isEmpty() }
-                ?.map { CopyrightStatement(it.statement) }
+                ?.map { CopyrightStatement(it) }
                 ?.reduce(CopyrightStatement::mergeWith)
 
     override fun apply(pkg: Package): Artifact =
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.ort.resolver
+
+import com.here.ort.model.Identifier
+import com.here.ort.model.OrtResult
+
+import java.util.SortedSet
+
+/**
+ * The scanner findings of a single package, reduced to the license ids and copyright statements which end up in the
+ * artifact. Unlike ORT's license findings, the locations of the findings are not kept.
+ */
+class PackageFindings {
+    companion object {
+        fun of(result: OrtResult): Map<Identifier, PackageFindings> =
+            result.collectLicenseFindings(false).mapValues { (_, licenseFindings) ->
+                PackageFindings().also { findings ->
+                    findings.licenses += licenseFindings.keys.map { it.license }
+                    findings.copyrights += licenseFindings.keys.flatMap { it.copyrights }.map { it.statement }
+                }
+            }
+    }
+
+    val licenses: SortedSet<String> = sortedSetOf()
+    val copyrights: SortedSet<String> = sortedSetOf()
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.ort.utils
+
+import com.fasterxml.jackson.core.JsonParser
+import com.fasterxml.jackson.core.JsonToken
+import com.here.ort.model.CuratedPackage
+import com.here.ort.model.Identifier
+import com.here.ort.model.mapper
+
+import org.eclipse.sw360.antenna.ort.resolver.PackageFindings
+
+import java.io.File
+import java.io.IOException
+
+/**
+ * Reads the packages and the scanner findings of an ORT result file without deserializing the whole result.
+ *
+ * The packages of the analyzer result are read one at a time, the scan results are reduced to [PackageFindings]
+ * while they are parsed, so the memory needed grows with the number of packages but not with the number of license
+ * and copyright findings. All other parts of the result are skipped.
+ *
+ * The copyright findings of a package are only kept if the package has at least one license finding. They are not
+ * assigned to single license findings by their location as in ORT, so every copyright finding of the scan results of
+ * such a package ends up in its findings, while findings of other packages never do.
+ */
+class OrtResultStreamReader(private val ortResultFile: File) {
+    class Content(val packages: List<CuratedPackage>, val findings: Map<Identifier, PackageFindings>)
+
+    private val mapper = ortResultFile.mapper()
+
+    @Throws(IOException::class)
+    fun read(): Content {
+        val packages = mutableListOf<CuratedPackage>()
+        val findings = mutableMapOf<Identifier, PackageFindings>()
+        var hasAnalyzerRun = false
+
+        mapper.factory.createParser(ortResultFile).use { parser ->
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw IOException("'$ortResultFile' is not an ORT result file.")
+            }
+
+            parser.forEachField { section ->
+                when (section) {
+                    "analyzer" -> {
+                        hasAnalyzerRun = parser.currentToken == JsonToken.START_OBJECT
+                        parser.forField("result") {
+                            parser.forField("packages") {
+                                parser.forEachElement {
+                                    packages += parser.readValueAs(CuratedPackage::class.java)
+                                }
+                            }
+                        }
+                    }
+                    "scanner" -> parser.forField("results") {
+                        parser.forField("scan_results") {
+                            parser.forEachElement { readScanResultContainer(parser, findings) }
+                        }
+                    }
+                    else -> parser.skipChildren()
+                }
+            }
+        }
+
+        if (!hasAnalyzerRun) throw IOException("No analyzer run found in ORT result file.")
+
+        // a package can have several scan results, so copyrights are only dropped once all of them were read
+        findings.values.filter { it.licenses.isEmpty() }.forEach { it.copyrights.clear() }
+        return Content(packages, findings)
+    }
+
+    private fun readScanResultContainer(parser: JsonParser, findings: MutableMap<Identifier, PackageFindings>) {
+        var id: Identifier? = null
+        val containerFindings = PackageFindings()
+
+        parser.forEachField { field ->
+            when (field) {
+                "id" -> id = parser.readValueAs(Identifier::class.java)
+                "results" -> parser.forEachElement {
+                    parser.forField("summary") { readSummary(parser, containerFindings) }
+                }
+                else -> parser.skipChildren()
+            }
+        }
+
+        id?.let {
+            findings.getOrPut(it) { PackageFindings() }.also { packageFindings ->
+                packageFindings.licenses += containerFindings.licenses
+                packageFindings.copyrights += containerFindings.copyrights
+            }
+        }
+    }
+
+    private fun readSummary(parser: JsonParser, findings: PackageFindings) {
+        parser.forEachField { field ->
+            when (field) {
+                "licenses" -> parser.forEachElement {
+                    readFinding(parser, "license")?.let { findings.licenses += it }
+                }
+                "copyrights" -> parser.forEachElement {
+                    readFinding(parser, "statement")?.let { findings.copyrights += it }
+                }
+                else -> parser.skipChildren()
+            }
+        }
+    }
+
+    /**
+     * Reads a license or copyright finding, which older ORT versions write as a plain string and newer ones as an
+     * object with the value and its location.
+     */
+    private fun readFinding(parser: JsonParser, valueField: String): String? {
+        if (parser.currentToken == JsonToken.VALUE_STRING) {
+            return parser.text
+        }
+
+        var value: String? = null
+        parser.forField(valueField) { value = parser.valueAsString }
+        return value
+    }
+}
+
+/**
+ * Calls [handler] for every field of the object at the current token with the parser positioned at the field value.
+ * The handler has to consume the whole value. Values which are no objects are skipped.
+ */
+private inline fun JsonParser.forEachField(handler: (String) -> Unit) {
+    if (currentToken != JsonToken.START_OBJECT) {
+        skipChildren()
+        return
+    }
+
+    while (nextToken() == JsonToken.FIELD_NAME) {
+        val name = currentName
+        nextToken()
+        handler(name)
+    }
+}
+
+/**
+ * Calls [handler] for the value of the field [name] of the object at the current token and skips all other fields.
+ */
+private inline fun JsonParser.forField(name: String, handler: () -> Unit) =
+    forEachField { field ->
+        if (field == name) handler() else skipChildren()
+    }
+
+/**
+ * Calls [handler] for every element of the array at the current token with the parser positioned at the element.
+ * The handler has to consume the whole element. Values which are no arrays are skipped.
+ */
+private inline fun JsonParser.forEachElement(handler: () -> Unit) {
+    if (currentToken != JsonToken.START_ARRAY) {
+        skipChildren()
+        return
+    }
+
+    var token = nextToken()
+    while (token != null && token != JsonToken.END_ARRAY) {
+        handler()
+        token = nextToken()
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.ort.utils
+
+import com.here.ort.model.Identifier
+import com.here.ort.model.Package
+import com.here.ort.utils.encodeOrUnknown
+import java.io.File
+import java.io.IOException
+import java.nio.file.AtomicMoveNotSupportedException
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import java.time.Duration
+
+/**
+ * A persistent cache of the source zips created by the ORT Downloader, shared between builds.
+ *
+ * The zips are stored by package id and requested VCS revision. Only a revision which is a commit id identifies the
+ * sources for good, so such zips are used until they are deleted. Branches, tags and the default branch can move, so
+ * zips of other revisions, including packages without a revision, are only used for [maxAge] and downloaded again
+ * afterwards. With a [maxAge] of zero they are not cached at all. Packages without an id can not be told apart and are
+ * never cached. Zips are moved into the cache atomically, so builds running at the same time never see partially
+ * written entries.
+ */
+class OrtSourcesCache(private val cacheDirectory: File, private val maxAge: Duration = DEFAULT_MAX_AGE) {
+    companion object {
+        val DEFAULT_MAX_AGE: Duration = Duration.ofDays(1)
+        private const val DEFAULT_REVISION = "default"
+        // full SHA-1 or SHA-256 commit ids, abbreviated ones might become ambiguous
+        private val COMMIT_ID = Regex("[0-9a-fA-F]{40}|[0-9a-fA-F]{64}")
+
+        fun isImmutable(pkg: Package) = COMMIT_ID.matches(pkg.vcsProcessed.revision)
+    }
+
+    fun get(pkg: Package): File? = cacheFile(pkg)?.takeIf { it.isFile && !isExpired(pkg, it) }
+
+    fun put(pkg: Package, zipFile: File) {
+        if (!isImmutable(pkg) && maxAge.isZero) {
+            return
+        }
+        val target = cacheFile(pkg) ?: return
+        val directory = target.parentFile
+        if (!directory.isDirectory && !directory.mkdirs()) {
+            throw IOException("Failed to create cache directory '${directory.absolutePath}'.")
+        }
+
+        val tempFile = createTempFile(target.name, ".tmp", directory)
+        try {
+            zipFile.copyTo(tempFile, overwrite = true)
+            try {
+                Files.move(tempFile.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE)
+            } catch (e: AtomicMoveNotSupportedException) {
+                Files.move(tempFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING)
+            }
+        } finally {
+            tempFile.delete()
+        }
+    }
+
+    private fun isExpired(pkg: Package, file: File) =
+            !isImmutable(pkg) && System.currentTimeMillis() - file.lastModified() >= maxAge.toMillis()
+
+    private fun cacheFile(pkg: Package): File? {
+        if (pkg.id == Identifier.EMPTY) {
+            return null
+        }
+        val revision = pkg.vcsProcessed.revision.takeIf { it.isNotBlank() } ?: DEFAULT_REVISION
+        return listOf(pkg.id.type, pkg.id.namespace, pkg.id.name, pkg.id.version)
+                .fold(cacheDirectory) { directory, part -> directory.resolve(part.encodeOrUnknown()) }
+                .resolve("${revision.encodeOrUnknown()}.zip")
+    }
+}
@@ -10,13 +10,11 @@
  */
 package org.eclipse.sw360.antenna.ort.workflow.analyzers
 
-import com.here.ort.model.OrtResult
-import com.here.ort.model.readValue
-
 import org.eclipse.sw360.antenna.api.workflow.ManualAnalyzer
 import org.eclipse.sw360.antenna.api.workflow.WorkflowStepResult
 import org.eclipse.sw360.antenna.model.artifact.Artifact
 import org.eclipse.sw360.antenna.ort.resolver.OrtResultArtifactResolver
+import org.eclipse.sw360.antenna.ort.utils.OrtResultStreamReader
 
 import org.slf4j.LoggerFactory
 
@@ -40,10 +38,10 @@ class OrtResultAnalyzer : ManualAnalyzer() {
     fun createArtifactList(ortResultFile: File): Collection<Artifact> {
         LOGGER.debug("Creating artifact list from ORT result file '$ortResultFile'.")
 
-        val result = ortResultFile.readValue<OrtResult>()
-        if (result.analyzer == null) throw IOException("No analyzer run found in ORT result file.")
+        // ORT results of large projects do not fit into memory as a whole, so only the parts needed are read
+        val content = OrtResultStreamReader(ortResultFile).read()
 
-        val resolver = OrtResultArtifactResolver(result)
-        return result.getPackages().map { (pkg, _) -> resolver.apply(pkg) }.toSet()
+        val resolver = OrtResultArtifactResolver(content.findings)
+        return content.packages.map { (pkg, _) -> resolver.apply(pkg) }.toSet()
     }
 }
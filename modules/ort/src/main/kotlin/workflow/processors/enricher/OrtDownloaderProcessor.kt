@@ -12,21 +12,32 @@ package org.eclipse.sw360.antenna.ort.workflow.processors.enricher
 
 import com.here.ort.downloader.DownloadException
 import com.here.ort.downloader.Downloader
+import com.here.ort.model.Package
 import com.here.ort.utils.encodeOrUnknown
 import com.here.ort.utils.packZip
 import org.eclipse.sw360.antenna.api.exceptions.ConfigurationException
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException
 import org.eclipse.sw360.antenna.model.artifact.Artifact
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactSourceFile
 import org.slf4j.LoggerFactory
 import org.eclipse.sw360.antenna.ort.utils.ArtifactToPackageMapper
+import org.eclipse.sw360.antenna.ort.utils.OrtSourcesCache
 import java.io.File
+import java.io.IOException
+import java.time.Duration
 import org.eclipse.sw360.antenna.api.workflow.AbstractProcessor
 import org.eclipse.sw360.antenna.model.artifact.ArtifactCoordinates
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFilename
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
 
 class OrtDownloaderProcessor : AbstractProcessor() {
     companion object {
         const val ORT_DOWNLOADER_DIR = "ort-downloader-result"
+        const val DOWNLOAD_THREADS_KEY = "downloadThreads"
+        const val CACHE_DIRECTORY_KEY = "cacheDirectory"
+        const val CACHE_MAX_AGE_KEY = "cacheMaxAgeHours"
         private val LOGGER = LoggerFactory.getLogger(OrtDownloaderProcessor::class.java)
     }
 
@@ -35,6 +46,10 @@ class OrtDownloaderProcessor : AbstractProcessor() {
     }
 
     private lateinit var sourcesZipDirectory: File
+    private var downloadThreads = 1
+    private var sourcesCache: OrtSourcesCache? = null
+    // packages with the same name and version share a zip file, which must not be written concurrently
+    private val zipFileLocks = ConcurrentHashMap<File, Any>()
 
     override fun configure(configMap: MutableMap<String, String>) {
         sourcesZipDirectory = context.toolConfiguration.antennaTargetDirectory.resolve(ORT_DOWNLOADER_DIR).toFile()
@@ -42,14 +57,60 @@ class OrtDownloaderProcessor : AbstractProcessor() {
             throw ConfigurationException("Failed to create directory '${sourcesZipDirectory.absolutePath}' " +
                     "for ORT Downloader result. ")
         }
+
+        downloadThreads = getConfigValue(DOWNLOAD_THREADS_KEY, configMap, "1").toIntOrNull()?.takeIf { it > 0 }
+                ?: throw ConfigurationException("The value of $DOWNLOAD_THREADS_KEY has to be a positive number")
+        val cacheMaxAge = getConfigValue(CACHE_MAX_AGE_KEY, configMap, OrtSourcesCache.DEFAULT_MAX_AGE.toHours().toString())
+                .toLongOrNull()?.takeIf { it >= 0 }?.let { Duration.ofHours(it) }
+                ?: throw ConfigurationException("The value of $CACHE_MAX_AGE_KEY has to be a non-negative number")
+        sourcesCache = getConfigValue(CACHE_DIRECTORY_KEY, configMap, "").takeIf { it.isNotBlank() }?.let {
+            OrtSourcesCache(File(it), cacheMaxAge)
+        }
     }
 
     override fun process(intermediates: MutableCollection<Artifact>): MutableCollection<Artifact> {
-        intermediates.filterNot {
+        // artifacts which map to the same package are downloaded only once
+        val artifactsByPackage = intermediates.filterNot {
             it.sourceFile.isPresent
-        }.forEach { artifact ->
-            var pkg = ArtifactToPackageMapper().apply(artifact)
-            val name = artifact.askFor(ArtifactCoordinates::class.java).takeIf {
+        }.groupBy { toPackage(it) }
+        if (artifactsByPackage.isEmpty()) {
+            return intermediates
+        }
+
+        val executor = Executors.newFixedThreadPool(minOf(downloadThreads, artifactsByPackage.size))
+        try {
+            artifactsByPackage.map { (pkg, artifacts) ->
+                artifacts to executor.submit(Callable { fetchSources(pkg, getName(artifacts.first())) })
+            }.forEach { (artifacts, zipFile) ->
+                zipFile.get()?.let { zip ->
+                    artifacts.forEach { it.addFact(ArtifactSourceFile(zip.toPath())) }
+                }
+            }
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+            throw ExecutionException("Interrupted while downloading sources via ORT Downloader", e)
+        } catch (e: java.util.concurrent.ExecutionException) {
+            throw ExecutionException("Failed to download sources via ORT Downloader", e.cause)
+        } finally {
+            executor.shutdownNow()
+        }
+        return intermediates
+    }
+
+    private fun toPackage(artifact: Artifact): Package {
+        val pkg = ArtifactToPackageMapper().apply(artifact)
+        // In some cases, the protocol of a VcsInfo.url is SSH, which leads to hanging builds,
+        // because it's prompting for a password. To avoid this, we are replacing the protocol from ssh
+        // to https for github.com hosts.
+        if (pkg.vcsProcessed.url.startsWith("ssh://git@github.com")) {
+            val newUrl = pkg.vcsProcessed.url.replace("ssh://git@github.com", "https://github.com")
+            return pkg.copy(vcsProcessed = pkg.vcsProcessed.copy(url = newUrl))
+        }
+        return pkg
+    }
+
+    private fun getName(artifact: Artifact): String =
+            artifact.askFor(ArtifactCoordinates::class.java).takeIf {
                 fact -> fact.isPresent
             }?.get()?.mainCoordinate?.canonicalize() ?: artifact.askFor(ArtifactFilename::class.java).takeIf {
                 fact -> fact.isPresent
@@ -58,34 +119,54 @@ class OrtDownloaderProcessor : AbstractProcessor() {
                     filenameEntry.isPresent
                 }?.get()?.filename
             } ?: "unknown"
+
+    /**
+     * Provides the zipped sources of the package, either from the sources cache or by downloading and packing them.
+     * The checkout is deleted as soon as it has been packed, so at most one checkout per download thread exists.
+     */
+    private fun fetchSources(pkg: Package, name: String): File? {
+        val zipFile = File(
+                sourcesZipDirectory,
+                "${pkg.id.name.encodeOrUnknown()}-${pkg.id.version.encodeOrUnknown()}.zip"
+        )
+        synchronized(zipFileLocks.computeIfAbsent(zipFile) { Any() }) {
+            sourcesCache?.get(pkg)?.let { cachedZipFile ->
+                LOGGER.debug("Use cached sources '${cachedZipFile.absolutePath}' for '${name}'")
+                return try {
+                    cachedZipFile.copyTo(zipFile, overwrite = true)
+                } catch (e: IOException) {
+                    LOGGER.warn("Failed to copy cached sources for '${name}': ${e.message}")
+                    null
+                }
+            }
+
+            var ortDownloadDirectory: File? = null
             try {
                 LOGGER.debug("Download sources via ORT Downloader for '${name}'")
-                val ortDownloadDirectory = createTempDir("ortDownloaderDirectory").also { it.deleteOnExit() }
-                // In some cases, the protocol of a VcsInfo.url is SSH, which leads to hanging builds,
-                // because it's prompting for a password. To avoid this, we are replacing the protocol from ssh
-                // to https for github.com hosts.
-                if (pkg.vcsProcessed.url.startsWith("ssh://git@github.com")){
-                    val newUrl = pkg.vcsProcessed.url.replace("ssh://git@github.com", "https://github.com")
-                    pkg = pkg.copy(vcsProcessed = pkg.vcsProcessed.copy(url = newUrl) )
-                }
+                ortDownloadDirectory = createTempDir("ortDownloaderDirectory")
                 val downloadResult = Downloader().download(pkg, ortDownloadDirectory)
-                if (downloadResult.downloadDirectory.isDirectory) {
-                    val zipFile = File(
-                            sourcesZipDirectory,
-                            "${pkg.id.name.encodeOrUnknown()}-${pkg.id.version.encodeOrUnknown()}.zip"
-                    )
-                    LOGGER.debug("Pack source directory '${downloadResult.downloadDirectory.absolutePath}' to " +
-                            "'${zipFile.absolutePath}.")
-                    downloadResult.downloadDirectory.packZip(zipFile)
+                if (!downloadResult.downloadDirectory.isDirectory) {
+                    return null
+                }
 
-                    if (zipFile.isFile) {
-                        artifact.addFact(ArtifactSourceFile(zipFile.toPath()))
-                    }
+                LOGGER.debug("Pack source directory '${downloadResult.downloadDirectory.absolutePath}' to " +
+                        "'${zipFile.absolutePath}.")
+                downloadResult.downloadDirectory.packZip(zipFile)
+                if (!zipFile.isFile) {
+                    return null
                 }
+
+                sourcesCache?.put(pkg, zipFile)
+                return zipFile
             } catch (e: DownloadException) {
                 LOGGER.warn("Failed to download sources for '${name}'")
+                return null
+            } catch (e: IOException) {
+                LOGGER.warn("Failed to pack or cache sources for '${name}': ${e.message}")
+                return zipFile.takeIf { it.isFile }
+            } finally {
+                ortDownloadDirectory?.deleteRecursively()
             }
         }
-        return intermediates
     }
 }
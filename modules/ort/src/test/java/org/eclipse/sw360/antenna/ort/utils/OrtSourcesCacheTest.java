@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.ort.utils;
+
+import com.here.ort.model.Package;
+import org.eclipse.sw360.antenna.model.artifact.Artifact;
+import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactVcsInfo;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrtSourcesCacheTest {
+    private static final String COMMIT_ID = "0123456789abcdef0123456789abcdef01234567";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File cacheDirectory;
+    private File zipFile;
+
+    @Before
+    public void setUp() throws IOException {
+        cacheDirectory = temporaryFolder.newFolder("cache");
+        zipFile = temporaryFolder.newFile("sources.zip");
+        Files.write(zipFile.toPath(), "sources".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Package pkg(String revision) {
+        Artifact artifact = new Artifact()
+                .addCoordinate(new Coordinate(Coordinate.Types.NPM, "namespace", "name", "1.0.0"))
+                .addFact(new ArtifactVcsInfo("git", "https://github.com/example/name.git", revision));
+        return new ArtifactToPackageMapper().apply(artifact);
+    }
+
+    private static void makeOld(File cachedFile) {
+        assertThat(cachedFile.setLastModified(System.currentTimeMillis() - Duration.ofDays(2).toMillis())).isTrue();
+    }
+
+    @Test
+    public void testSourcesOfCommitsNeverExpire() throws IOException {
+        OrtSourcesCache cache = new OrtSourcesCache(cacheDirectory, Duration.ofDays(1));
+        Package pkg = pkg(COMMIT_ID);
+
+        cache.put(pkg, zipFile);
+        File cachedFile = cache.get(pkg);
+        assertThat(cachedFile).hasContent("sources");
+
+        makeOld(cachedFile);
+        assertThat(cache.get(pkg)).isEqualTo(cachedFile);
+    }
+
+    @Test
+    public void testSourcesOfBranchesExpire() throws IOException {
+        OrtSourcesCache cache = new OrtSourcesCache(cacheDirectory, Duration.ofDays(1));
+        Package pkg = pkg("master");
+
+        cache.put(pkg, zipFile);
+        File cachedFile = cache.get(pkg);
+        assertThat(cachedFile).hasContent("sources");
+
+        makeOld(cachedFile);
+        assertThat(cache.get(pkg)).isNull();
+
+        cache.put(pkg, zipFile);
+        assertThat(cache.get(pkg)).isEqualTo(cachedFile);
+    }
+
+    @Test
+    public void testSourcesWithoutRevisionExpire() throws IOException {
+        OrtSourcesCache cache = new OrtSourcesCache(cacheDirectory, Duration.ofDays(1));
+        Package pkg = pkg("");
+
+        cache.put(pkg, zipFile);
+        File cachedFile = cache.get(pkg);
+        assertThat(cachedFile).isNotNull();
+
+        makeOld(cachedFile);
+        assertThat(cache.get(pkg)).isNull();
+    }
+
+    @Test
+    public void testWithoutMaxAgeOnlyCommitsAreCached() throws IOException {
+        OrtSourcesCache cache = new OrtSourcesCache(cacheDirectory, Duration.ZERO);
+
+        cache.put(pkg("v1.0.0"), zipFile);
+        cache.put(pkg(COMMIT_ID), zipFile);
+
+        assertThat(cache.get(pkg("v1.0.0"))).isNull();
+        assertThat(cache.get(pkg(COMMIT_ID))).isNotNull();
+    }
+
+    @Test
+    public void testRevisionsAreCachedSeparately() throws IOException {
+        OrtSourcesCache cache = new OrtSourcesCache(cacheDirectory, Duration.ofDays(1));
+
+        cache.put(pkg(COMMIT_ID), zipFile);
+
+        assertThat(cache.get(pkg("master"))).isNull();
+    }
+
+    @Test
+    public void testPackagesWithoutIdAreNotCached() throws IOException {
+        OrtSourcesCache cache = new OrtSourcesCache(cacheDirectory, Duration.ofDays(1));
+        Package pkg = new ArtifactToPackageMapper().apply(new Artifact()
+                .addFact(new ArtifactVcsInfo("git", "https://github.com/example/name.git", COMMIT_ID)));
+
+        cache.put(pkg, zipFile);
+
+        assertThat(cache.get(pkg)).isNull();
+        assertThat(cacheDirectory.list()).isEmpty();
+    }
+}
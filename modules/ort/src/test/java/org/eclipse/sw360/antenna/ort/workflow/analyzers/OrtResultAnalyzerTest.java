@@ -12,24 +12,33 @@ package org.eclipse.sw360.antenna.ort.workflow.analyzers;
 
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.facts.*;
+import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class OrtResultAnalyzerTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     private OrtResultAnalyzer ortResultAnalyzer;
 
@@ -105,6 +114,39 @@ public class OrtResultAnalyzerTest {
         assertThat(sourceUrls).contains("https://registry.npmjs.org/babel-generator/-/babel-generator-6.26.0.tgz");
     }
 
+    @Test
+    public void testCopyrightsAreOnlyAssignedToTheirLicensedPackage() throws URISyntaxException, IOException {
+        Map<String, Artifact> artifacts = init("scan-result-packages.yml").stream()
+                .collect(Collectors.toMap(artifact -> artifact.getMainCoordinate().map(Coordinate::getName).get(),
+                        artifact -> artifact));
+
+        assertThat(artifacts).containsOnlyKeys("licensed", "unlicensed", "split", "unscanned");
+        assertThat(copyrightsOf(artifacts.get("licensed")))
+                .containsExactlyInAnyOrder("Copyright (c) 2019 Licensed Author",
+                        "Copyright (c) 2018 Licensed Contributor");
+        assertThat(copyrightsOf(artifacts.get("split")))
+                .containsExactlyInAnyOrder("Copyright (c) 2017 Split Author", "Copyright (c) 2019 Split Contributor");
+        assertThat(copyrightsOf(artifacts.get("unlicensed"))).isEmpty();
+        assertThat(copyrightsOf(artifacts.get("unscanned"))).isEmpty();
+    }
+
+    private List<String> copyrightsOf(Artifact artifact) {
+        return artifact.askForGet(CopyrightStatement.class)
+                .map(copyrights -> Stream.of(copyrights.split("\n")).collect(Collectors.toList()))
+                .orElse(new ArrayList<>());
+    }
+
+    @Test
+    public void testOrtResultWithoutAnalyzerRunIsRejected() throws IOException {
+        File ortResultFile = temporaryFolder.newFile("scanner-only.yml");
+        Files.write(ortResultFile.toPath(), "---\nrepository: {}\nanalyzer: null\nscanner:\n  results:\n    scan_results: []\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ortResultAnalyzer.createArtifactList(ortResultFile))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("No analyzer run");
+    }
+
     private List<String> makeListOfSourceUrlStrings(List<Artifact> artifacts) {
         return artifacts.stream()
                 .map(artifact -> artifact.askForGet(ArtifactSourceUrl.class))
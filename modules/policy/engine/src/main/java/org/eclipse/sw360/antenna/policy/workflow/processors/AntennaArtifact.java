@@ -14,6 +14,7 @@ import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.facts.*;
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 import org.eclipse.sw360.antenna.model.util.ArtifactLicenseUtils;
+import org.eclipse.sw360.antenna.model.util.LicenseExpression;
 import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
 import org.eclipse.sw360.antenna.policy.engine.model.LicenseData;
 import org.eclipse.sw360.antenna.policy.engine.model.LicenseState;
@@ -76,7 +77,7 @@ class AntennaArtifact implements ThirdPartyArtifact {
 
     @Override
     public Collection<LicenseData> getLicenses() {
-        return ArtifactLicenseUtils.getFinalLicenses(artifact)
+        return ArtifactLicenseUtils.getFinalLicenseExpression(artifact)
                 .getLicenses()
                 .stream()
                 .map(AntennaLicenseData::new)
@@ -85,11 +86,11 @@ class AntennaArtifact implements ThirdPartyArtifact {
 
     @Override
     public Optional<String> getLicenseExpression() {
-        LicenseInformation licenseInformation = ArtifactLicenseUtils.getFinalLicenses(artifact);
-        if (licenseInformation.isEmpty()) {
+        LicenseExpression licenseExpression = ArtifactLicenseUtils.getFinalLicenseExpression(artifact);
+        if (licenseExpression.isEmpty()) {
             return Optional.empty();
         }
-        return Optional.of(licenseInformation.evaluate());
+        return Optional.of(licenseExpression.evaluate());
     }
 
     @Override
@@ -15,8 +15,8 @@ import org.eclipse.sw360.antenna.api.IEvaluationResult;
 import org.eclipse.sw360.antenna.api.IPolicyEvaluation;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.util.ArtifactLicenseUtils;
+import org.eclipse.sw360.antenna.model.util.LicenseExpression;
 import org.eclipse.sw360.antenna.model.xml.generated.License;
-import org.eclipse.sw360.antenna.model.xml.generated.LicenseInformation;
 import org.eclipse.sw360.antenna.workflow.stubs.AbstractComplianceChecker;
 import org.eclipse.sw360.antenna.workflow.stubs.DefaultPolicyEvaluation;
 import org.slf4j.Logger;
@@ -66,7 +66,7 @@ public class LicenseValidator extends AbstractComplianceChecker {
     public List<IEvaluationResult> validate(Artifact artifact) {
         List<IEvaluationResult> results = new ArrayList<>();
         if (! artifact.getFlag(Artifact.IS_PROPRIETARY_FLAG_KEY)) {
-            LicenseInformation finalLicenses = ArtifactLicenseUtils.getFinalLicenses(artifact);
+            LicenseExpression finalLicenses = ArtifactLicenseUtils.getFinalLicenseExpression(artifact);
             if (finalLicenses.isEmpty()) {
                 results.add(new DefaultPolicyEvaluation.DefaultEvaluationResult(
                         "LicenseValidator::noLicense", "No License information found for the artifact.", missingLicenseInformationSeverity, artifact));
@@ -14,7 +14,7 @@ package org.eclipse.sw360.antenna.validators.workflow.processors;
 import org.eclipse.sw360.antenna.api.IEvaluationResult;
 import org.eclipse.sw360.antenna.api.IPolicyEvaluation;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
-import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactIssues;
 import org.eclipse.sw360.antenna.model.xml.generated.Issue;
 import org.eclipse.sw360.antenna.model.xml.generated.Issues;
@@ -40,17 +40,19 @@ public class SecurityIssueValidator extends AbstractComplianceChecker {
     private List<SecurityIssueStatus> forbiddenSecurityIssueStatusesList;
     private List<String> ignoreSecurityIssueReferences;
     private double securityIssueSeverityLimit;
-    private Map<ArtifactSelector, Issues> configuredSecurityIssues;
-    private Map<String, Map<ArtifactSelector, GregorianCalendar>> suppressedSecurityIssues;
+    private ArtifactSelectorIndex<Issues> configuredSecurityIssues;
+    private Map<String, ArtifactSelectorIndex<GregorianCalendar>> suppressedSecurityIssues;
 
     public SecurityIssueValidator() {
         this.workflowStepOrder = VALIDATOR_BASE_ORDER + 400;
     }
 
     public List<IEvaluationResult> validate(Artifact artifact) {
-        List<Issue> configuredIssueList = configuredSecurityIssues.entrySet().stream()
-                .filter(entry -> entry.getKey().matches(artifact))
-                .map(Map.Entry::getValue)
+        return validate(artifact, System.currentTimeMillis());
+    }
+
+    private List<IEvaluationResult> validate(Artifact artifact, long now) {
+        List<Issue> configuredIssueList = configuredSecurityIssues.findMatching(artifact).stream()
                 .map(Issues::getIssue)
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
@@ -58,7 +60,7 @@ public class SecurityIssueValidator extends AbstractComplianceChecker {
         Issues issues = new Issues();
         issues.getIssue().addAll(mergeIssues(artifact.askForGet(ArtifactIssues.class).orElse(Collections.emptyList()), configuredIssueList));
 
-        return new ArrayList<>(checkSecurityIssue(artifact, issues.getIssue()));
+        return new ArrayList<>(checkSecurityIssue(artifact, issues.getIssue(), now));
     }
 
     private List<Issue> mergeIssues(List<Issue> actualIssueList, List<Issue> configuredIssueList) {
@@ -67,7 +69,7 @@ public class SecurityIssueValidator extends AbstractComplianceChecker {
                 .collect(Collectors.toList());
     }
 
-    private List<IEvaluationResult> checkSecurityIssue(Artifact artifact, List<Issue> issuesList) {
+    private List<IEvaluationResult> checkSecurityIssue(Artifact artifact, List<Issue> issuesList, long now) {
         List<IEvaluationResult> results = new ArrayList<>();
         for (Issue issue : issuesList) {
             if (ignoreSecurityIssueReferences.contains(issue.getReference())) {
@@ -76,12 +78,10 @@ public class SecurityIssueValidator extends AbstractComplianceChecker {
                 continue;
             }
             if (suppressedSecurityIssues != null && suppressedSecurityIssues.containsKey(issue.getReference())) {
-                final Map<ArtifactSelector, GregorianCalendar> issueSuppressors = suppressedSecurityIssues.get(issue.getReference());
-                final Optional<GregorianCalendar> suppressedUntil = issueSuppressors.entrySet().stream()
-                        .filter(e -> e.getKey().matches(artifact))
-                        .map(Map.Entry::getValue)
+                final ArtifactSelectorIndex<GregorianCalendar> issueSuppressors = suppressedSecurityIssues.get(issue.getReference());
+                final Optional<GregorianCalendar> suppressedUntil = issueSuppressors.findMatching(artifact).stream()
                         .max(Comparator.naturalOrder());
-                if (suppressedUntil.isPresent() && new GregorianCalendar().compareTo(suppressedUntil.get()) < 0) {
+                if (suppressedUntil.isPresent() && now < suppressedUntil.get().getTimeInMillis()) {
                     continue;
                 }
             }
@@ -102,8 +102,9 @@ public class SecurityIssueValidator extends AbstractComplianceChecker {
     public IPolicyEvaluation evaluate(Collection<Artifact> artifacts) {
         DefaultPolicyEvaluation policyEvaluation = new DefaultPolicyEvaluation();
 
+        final long now = System.currentTimeMillis();
         artifacts.stream()
-                .map(this::validate)
+                .map(artifact -> validate(artifact, now))
                 .flatMap(Collection::stream)
                 .forEach(policyEvaluation::addEvaluationResult);
 
@@ -117,8 +118,12 @@ public class SecurityIssueValidator extends AbstractComplianceChecker {
     public void configure(Map<String, String> configMap) {
         super.configure(configMap);
 
-        configuredSecurityIssues = context.getConfiguration().getSecurityIssues();
-        suppressedSecurityIssues = context.getConfiguration().getSuppressedSecurityIssues();
+        configuredSecurityIssues = new ArtifactSelectorIndex<>(context.getConfiguration().getSecurityIssues());
+        suppressedSecurityIssues = Optional.ofNullable(context.getConfiguration().getSuppressedSecurityIssues())
+                .map(suppresses -> suppresses.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey,
+                                e -> new ArtifactSelectorIndex<>(e.getValue()))))
+                .orElse(null);
 
         List<String> statusStrList = getCommaSeparatedConfigValue(FORBIDDEN_SECURITY_ISSUE_STATUSES_KEY, configMap);
         forbiddenSecurityIssueStatusesList = statusStrList.stream()
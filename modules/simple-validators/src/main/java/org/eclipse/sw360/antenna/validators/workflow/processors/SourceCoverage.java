@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.validators.workflow.processors;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * The number of top level classes of a jar and the number of those, for which the source jar contains a java file.
+ * <p>
+ * Both jars are read from their central directory only: the names of the java files of the source jar are collected
+ * in one index, which is probed once for every class file of the jar. Inner and nested classes are compiled to class
+ * files with a '$' in their name and share the java file of their top level class, so they are not counted.
+ */
+final class SourceCoverage {
+    private static final String CLASS_EXTENSION = ".class";
+    private static final String JAVA_EXTENSION = ".java";
+
+    private final int classFiles;
+    private final int matchingJavaFiles;
+
+    SourceCoverage(int classFiles, int matchingJavaFiles) {
+        this.classFiles = classFiles;
+        this.matchingJavaFiles = matchingJavaFiles;
+    }
+
+    static SourceCoverage of(Path jar, Path sourceJar) throws IOException {
+        Set<String> javaFiles = indexNames(sourceJar, JAVA_EXTENSION);
+
+        int classFiles = 0;
+        int matchingJavaFiles = 0;
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.endsWith(CLASS_EXTENSION) && name.indexOf('$') < 0) {
+                    classFiles++;
+                    if (javaFiles.contains(name.substring(0, name.length() - CLASS_EXTENSION.length()))) {
+                        matchingJavaFiles++;
+                    }
+                }
+            }
+        }
+        return new SourceCoverage(classFiles, matchingJavaFiles);
+    }
+
+    /**
+     * @return the names of all entries with the given extension, without the extension
+     */
+    private static Set<String> indexNames(Path jar, String extension) throws IOException {
+        Set<String> names = new HashSet<>();
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.endsWith(extension)) {
+                    names.add(name.substring(0, name.length() - extension.length()));
+                }
+            }
+        }
+        return names;
+    }
+
+    int getClassFiles() {
+        return classFiles;
+    }
+
+    int getMatchingJavaFiles() {
+        return matchingJavaFiles;
+    }
+
+    boolean isComplete(int threshold) {
+        return classFiles == 0 || matchingJavaFiles > classFiles * threshold / 100;
+    }
+}
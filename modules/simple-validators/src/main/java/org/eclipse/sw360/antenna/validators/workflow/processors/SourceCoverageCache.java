@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.validators.workflow.processors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+/**
+ * A persistent cache of {@link SourceCoverage}s, shared between builds.
+ * <p>
+ * The entries are keyed by the jar and the source jar without reading them, so that a cache hit is cheaper than
+ * comparing the jars: a jar with a SHA-1 sidecar file, as Maven stores them in the local repository, is identified by
+ * that checksum and its size, no matter where it is located; any other jar by its location, size and modification
+ * time. Entries are moved into the cache atomically, so builds running at the same time never see partially written
+ * entries. Unreadable entries are computed again, and a cache which can not be written only costs the reuse of the
+ * results.
+ */
+class SourceCoverageCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SourceCoverageCache.class);
+    private static final String SHA1_EXTENSION = ".sha1";
+
+    private final Path cacheDirectory;
+
+    SourceCoverageCache(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    SourceCoverage get(Path jar, Path sourceJar) throws IOException {
+        Path entry = cacheDirectory.resolve(hash(identify(jar) + "\n" + identify(sourceJar)));
+        if (Files.isRegularFile(entry)) {
+            try {
+                String[] counts = new String(Files.readAllBytes(entry), StandardCharsets.UTF_8).trim().split(" ");
+                return new SourceCoverage(Integer.parseInt(counts[0]), Integer.parseInt(counts[1]));
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debug("Ignoring unreadable source validation cache entry {}", entry, e);
+            }
+        }
+
+        SourceCoverage coverage = SourceCoverage.of(jar, sourceJar);
+        try {
+            put(entry, coverage);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write source validation cache entry {}: {}", entry, e.getMessage());
+        }
+        return coverage;
+    }
+
+    private void put(Path entry, SourceCoverage coverage) throws IOException {
+        Files.createDirectories(cacheDirectory);
+        Path tempFile = Files.createTempFile(cacheDirectory, entry.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, (coverage.getClassFiles() + " " + coverage.getMatchingJavaFiles())
+                    .getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(tempFile, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static String identify(Path jar) throws IOException {
+        long size = Files.size(jar);
+        Path sha1File = jar.resolveSibling(jar.getFileName() + SHA1_EXTENSION);
+        if (Files.isRegularFile(sha1File)) {
+            String[] checksum = new String(Files.readAllBytes(sha1File), StandardCharsets.UTF_8).trim().split("\\s+");
+            if (!checksum[0].isEmpty()) {
+                return "sha1 " + checksum[0].toLowerCase(Locale.ROOT) + " " + size;
+            }
+        }
+        return jar.toAbsolutePath().normalize() + " " + size + " " + Files.getLastModifiedTime(jar).toMillis();
+    }
+
+    private static String hash(String key) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Programming Error: Hash algorithm unknown", e);
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest(key.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
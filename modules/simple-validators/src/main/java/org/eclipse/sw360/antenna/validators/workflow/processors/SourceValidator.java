@@ -14,19 +14,24 @@ package org.eclipse.sw360.antenna.validators.workflow.processors;
 import org.eclipse.sw360.antenna.api.IEvaluationResult;
 import org.eclipse.sw360.antenna.api.IPolicyEvaluation;
 import org.eclipse.sw360.antenna.api.IProcessingReporter;
+import org.eclipse.sw360.antenna.api.exceptions.ConfigurationException;
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactSelector;
+import org.eclipse.sw360.antenna.model.artifact.ArtifactSelectorIndex;
 import org.eclipse.sw360.antenna.model.coordinates.Coordinate;
 import org.eclipse.sw360.antenna.model.reporting.MessageType;
 import org.eclipse.sw360.antenna.workflow.stubs.AbstractComplianceChecker;
 import org.eclipse.sw360.antenna.workflow.stubs.DefaultPolicyEvaluation;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 /**
  * Validates the sources of the given artifacts. An artifact is not valid if : -
@@ -36,27 +41,35 @@ import java.util.jar.JarFile;
  * With the IArtifactFilter validForMissingSources and validForIncomplete
  * Sources can be specified if an artifact shall be handled as valid even if it
  * has no source jar an incomplete source jar.
+ * <p>
+ * The artifacts can be validated in parallel by setting the configuration value
+ * {@value #VALIDATION_THREADS_KEY}. If {@value #CACHE_DIRECTORY_KEY} is set,
+ * the comparison of a jar with its source jar is stored there and reused as
+ * long as the content of both jars does not change.
  */
 public class SourceValidator extends AbstractComplianceChecker {
+    static final String VALIDATION_THREADS_KEY = "validationThreads";
+    static final String CACHE_DIRECTORY_KEY = "cacheDirectory";
+
     private IProcessingReporter reporter;
     private int threshold = 80;
-    private Collection<ArtifactSelector> missingSourcesWhiteList = Collections.emptySet();
-    private Collection<ArtifactSelector> incompleteSourcesWhiteList = Collections.emptySet();
+    private ArtifactSelectorIndex<ArtifactSelector> missingSourcesWhiteList = ArtifactSelectorIndex.of(Collections.emptySet());
+    private ArtifactSelectorIndex<ArtifactSelector> incompleteSourcesWhiteList = ArtifactSelectorIndex.of(Collections.emptySet());
     private IEvaluationResult.Severity missingSourcesSeverity;
     private IEvaluationResult.Severity incompleteSourcesSeverity;
+    private int validationThreads = 1;
+    private SourceCoverageCache cache;
 
     public SourceValidator() {
         this.workflowStepOrder = VALIDATOR_BASE_ORDER + 500;
     }
 
     private boolean isArtifactAllowedToHaveNoSourceJar(Artifact artifact) {
-        return missingSourcesWhiteList.stream()
-                .anyMatch(artifactSelector -> artifactSelector.matches(artifact));
+        return missingSourcesWhiteList.anyMatch(artifact);
     }
 
     private boolean isArtifactAllowedToHaveIncompleteSources(Artifact artifact) {
-        return isArtifactAllowedToHaveNoSourceJar(artifact) ||  incompleteSourcesWhiteList.stream()
-                .anyMatch(artifactSelector -> artifactSelector.matches(artifact));
+        return isArtifactAllowedToHaveNoSourceJar(artifact) || incompleteSourcesWhiteList.anyMatch(artifact);
     }
 
     private List<IEvaluationResult> validateSources(Artifact artifact) {
@@ -100,73 +113,49 @@ public class SourceValidator extends AbstractComplianceChecker {
     }
 
     private List<IEvaluationResult> validateArtifactWithJars(Artifact artifact, Path artifactSourceFile, Path artifactFile) throws IOException {
-        JarFile jar = new JarFile(artifactFile.toFile());
-        return validate(artifact, jar, artifactSourceFile.toFile());
-    }
-
-
-    private List<IEvaluationResult> validate(Artifact artifact, JarFile jar, File sourceJar) throws IOException {
-        if (0 == sourceJar.length()) {
+        if (0 == artifactSourceFile.toFile().length()) {
             return Collections.singletonList(new DefaultPolicyEvaluation.DefaultEvaluationResult(
-                    "SourceValidator::jarIsEmpty", "Source jar '" + sourceJar.getName() + "' is an empty file", missingSourcesSeverity, artifact));
+                    "SourceValidator::jarIsEmpty", "Source jar '" + artifactSourceFile.getFileName() + "' is an empty file", missingSourcesSeverity, artifact));
         }
 
-        try (JarFile source = new JarFile(sourceJar)) {
-            List<String> missingClasses = new ArrayList<>();
-
-            int numberOfClassFiles = 0;
-            int numberOfMatchingJavaFiles = 0;
-            Enumeration<JarEntry> jarEntries = jar.entries();
-            while (jarEntries.hasMoreElements()) {
-                JarEntry entry = jarEntries.nextElement();
-                String name = entry.getName();
-                if (name.contains(".class") && !name.contains("$")) {
-                    numberOfClassFiles++;
-                    if (checkIfJavaFileExists(name, source, missingClasses)) {
-                        numberOfMatchingJavaFiles++;
-                    }
-                }
-            }
-            if (numberOfClassFiles > 0 && numberOfMatchingJavaFiles <= (numberOfClassFiles * threshold / 100)) {
-                return Collections.singletonList(new DefaultPolicyEvaluation.DefaultEvaluationResult(
-                        "SourceValidator::incompleteJar", "The sources are incomplete (only " + numberOfMatchingJavaFiles + " of " + numberOfClassFiles + " could be matched)", incompleteSourcesSeverity, artifact));
-            }
+        SourceCoverage coverage = cache != null
+                ? cache.get(artifactFile, artifactSourceFile)
+                : SourceCoverage.of(artifactFile, artifactSourceFile);
+        if (!coverage.isComplete(threshold)) {
+            return Collections.singletonList(new DefaultPolicyEvaluation.DefaultEvaluationResult(
+                    "SourceValidator::incompleteJar", "The sources are incomplete (only " + coverage.getMatchingJavaFiles() + " of " + coverage.getClassFiles() + " could be matched)", incompleteSourcesSeverity, artifact));
         }
         return Collections.emptyList();
     }
 
-    /**
-     * Checks for the given class file if a corresponding java file exists in
-     * the specified source jar.
-     *
-     * @param className
-     *            Name of the class for which the corresponding java file will
-     *            be searched.
-     * @param source
-     *            Source file in which is looked after the java file.
-     * @param missingClasses
-     *            List of all missing Classes of an Artifact.
-     * @return True if a corresponding java file exists, false otherwise.
-     */
-    private boolean checkIfJavaFileExists(String className, JarFile source, List<String> missingClasses) {
-        className = className.replace(".class", ".java");
-        JarEntry temp = source.getJarEntry(className);
-        if (null == temp) {
-            missingClasses.add(className);
-            return false;
-        }
-        return true;
-    }
-
     @Override
     public IPolicyEvaluation evaluate(Collection<Artifact> artifacts) {
         DefaultPolicyEvaluation policyEvaluation = new DefaultPolicyEvaluation();
 
-        artifacts.stream()
+        List<Artifact> artifactsToValidate = artifacts.stream()
                 .filter(artifact -> ! artifact.getFlag(Artifact.IS_PROPRIETARY_FLAG_KEY))
                 .filter(artifact ->  artifact.getCoordinateForType(Coordinate.Types.MAVEN).isPresent())
-                .forEach(artifact -> validateSources(artifact)
-                        .forEach(policyEvaluation::addEvaluationResult));
+                .collect(Collectors.toList());
+        if (artifactsToValidate.isEmpty()) {
+            return policyEvaluation;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(validationThreads, artifactsToValidate.size()));
+        try {
+            final List<Future<List<IEvaluationResult>>> futures = artifactsToValidate.stream()
+                    .map(artifact -> executor.submit(() -> validateSources(artifact)))
+                    .collect(Collectors.toList());
+            for (Future<List<IEvaluationResult>> future : futures) {
+                future.get().forEach(policyEvaluation::addEvaluationResult);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutionException("Interrupted while validating sources", e);
+        } catch (java.util.concurrent.ExecutionException e) {
+            throw new ExecutionException("Failed to validate sources", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
 
         return policyEvaluation;
     }
@@ -182,14 +171,25 @@ public class SourceValidator extends AbstractComplianceChecker {
 
         threshold = Integer.parseInt(getConfigValue("threshold", configMap, "80"));
 
-        missingSourcesWhiteList = context.getConfiguration().getValidForMissingSources();
-        incompleteSourcesWhiteList = context.getConfiguration().getValidForIncompleteSources();
+        missingSourcesWhiteList = ArtifactSelectorIndex.of(context.getConfiguration().getValidForMissingSources());
+        incompleteSourcesWhiteList = ArtifactSelectorIndex.of(context.getConfiguration().getValidForIncompleteSources());
 
         final String MISSING_SOURCES_KEY = "missingSourcesSeverity";
         final String INCOMPLETE_SOURCES_KEY = "incompleteSourcesSeverity";
         missingSourcesSeverity = getSeverityFromConfig(MISSING_SOURCES_KEY, configMap, IEvaluationResult.Severity.FAIL);
         incompleteSourcesSeverity = getSeverityFromConfig(INCOMPLETE_SOURCES_KEY, configMap, IEvaluationResult.Severity.WARN);
 
+        try {
+            validationThreads = Integer.parseInt(getConfigValue(VALIDATION_THREADS_KEY, configMap, "1"));
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("The value of " + VALIDATION_THREADS_KEY + " has to be a number", e);
+        }
+        if (validationThreads < 1) {
+            throw new ConfigurationException("The value of " + VALIDATION_THREADS_KEY + " has to be positive");
+        }
+        String cacheDirectory = getConfigValue(CACHE_DIRECTORY_KEY, configMap, "");
+        cache = cacheDirectory.trim().isEmpty() ? null : new SourceCoverageCache(Paths.get(cacheDirectory));
+
         reporter = context.getProcessingReporter();
     }
 }
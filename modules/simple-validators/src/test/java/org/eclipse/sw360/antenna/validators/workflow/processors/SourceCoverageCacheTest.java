@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.validators.workflow.processors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SourceCoverageCacheTest {
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private SourceCoverageCache cache;
+    private Path jarDirectory;
+    private Path jar;
+    private Path sourceJar;
+
+    @Before
+    public void setUp() throws IOException {
+        cache = new SourceCoverageCache(tmpFolder.newFolder("cache").toPath());
+        jarDirectory = tmpFolder.newFolder("jars").toPath();
+        SourceValidatorTestTools tools = new SourceValidatorTestTools(jarDirectory);
+        jar = tools.writeJar().toPath();
+        sourceJar = tools.writeSourceJar(50).toPath();
+    }
+
+    /**
+     * Replaces the content of the jar by zeros, which are no valid jar, but keeps its size and modification time.
+     */
+    private static void corrupt(Path jar) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(jar);
+        Files.write(jar, new byte[(int) Files.size(jar)]);
+        Files.setLastModifiedTime(jar, lastModified);
+    }
+
+    private static void writeSha1File(Path jar, String checksum) throws IOException {
+        Files.write(jar.resolveSibling(jar.getFileName() + ".sha1"), checksum.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertCoverage(SourceCoverage coverage, int classFiles, int matchingJavaFiles) {
+        assertThat(coverage.getClassFiles()).isEqualTo(classFiles);
+        assertThat(coverage.getMatchingJavaFiles()).isEqualTo(matchingJavaFiles);
+    }
+
+    @Test
+    public void testCacheHitDoesNotReadTheJars() throws IOException {
+        assertCoverage(cache.get(jar, sourceJar), 1000, 500);
+
+        corrupt(jar);
+        corrupt(sourceJar);
+
+        assertCoverage(cache.get(jar, sourceJar), 1000, 500);
+    }
+
+    @Test
+    public void testChangedJarIsComparedAgain() throws IOException {
+        assertCoverage(cache.get(jar, sourceJar), 1000, 500);
+
+        new SourceValidatorTestTools(jarDirectory).writeSourceJar(100);
+
+        assertCoverage(cache.get(jar, sourceJar), 1000, 1000);
+    }
+
+    @Test
+    public void testJarsWithChecksumFilesAreFoundAtOtherLocations() throws IOException {
+        writeSha1File(jar, "0123456789abcdef0123456789abcdef01234567  " + jar.getFileName());
+        writeSha1File(sourceJar, "fedcba9876543210fedcba9876543210fedcba98");
+        assertCoverage(cache.get(jar, sourceJar), 1000, 500);
+
+        Path otherDirectory = tmpFolder.newFolder("other").toPath();
+        for (Path file : new Path[] { jar, sourceJar }) {
+            Files.copy(file, otherDirectory.resolve(file.getFileName()));
+            Files.copy(file.resolveSibling(file.getFileName() + ".sha1"),
+                    otherDirectory.resolve(file.getFileName() + ".sha1"));
+            corrupt(otherDirectory.resolve(file.getFileName()));
+        }
+
+        assertCoverage(cache.get(otherDirectory.resolve(jar.getFileName()), otherDirectory.resolve(sourceJar.getFileName())),
+                1000, 500);
+    }
+}
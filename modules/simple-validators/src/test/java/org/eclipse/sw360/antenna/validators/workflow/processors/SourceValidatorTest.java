@@ -12,6 +12,7 @@ package org.eclipse.sw360.antenna.validators.workflow.processors;
 
 import org.eclipse.sw360.antenna.api.IEvaluationResult;
 import org.eclipse.sw360.antenna.api.IPolicyEvaluation;
+import org.eclipse.sw360.antenna.api.exceptions.ConfigurationException;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.model.artifact.ArtifactCoordinates;
 import org.eclipse.sw360.antenna.model.artifact.facts.ArtifactFile;
@@ -28,12 +29,17 @@ import org.mockito.Mockito;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
 public class SourceValidatorTest extends AntennaTestWithMockedContext {
@@ -201,6 +207,39 @@ public class SourceValidatorTest extends AntennaTestWithMockedContext {
         assertThat(evaluate.getEvaluationResults().size()).isEqualTo(0);
     }
 
+    @Test
+    public void testWithHalfCompleteSourcesInParallel() throws IOException {
+        Artifact artifact = setupForTest(Collections.singletonMap(SourceValidator.VALIDATION_THREADS_KEY, "4"), 50);
+        Artifact artifactWithoutSources = mkArtifact(null);
+
+        final IPolicyEvaluation evaluate = validator.evaluate(Arrays.asList(artifact, artifactWithoutSources, artifact));
+
+        assertThat(evaluate.getEvaluationResults())
+                .extracting(IEvaluationResult::getId)
+                .containsExactlyInAnyOrder("SourceValidator::incompleteJar", "SourceValidator::noSourceJar",
+                        "SourceValidator::incompleteJar");
+    }
+
+    @Test
+    public void testInvalidNumberOfValidationThreads() {
+        assertThatThrownBy(() -> configure(Collections.singletonMap(SourceValidator.VALIDATION_THREADS_KEY, "0")))
+                .isInstanceOf(ConfigurationException.class);
+        configure(Collections.emptyMap());
+    }
+
+    @Test
+    public void testCachedComparisonIsReused() throws IOException {
+        Path cacheDirectory = tmpFolder.newFolder("cache").toPath();
+        Artifact artifact = setupForTest(Collections.singletonMap(SourceValidator.CACHE_DIRECTORY_KEY, cacheDirectory.toString()), 50);
+
+        assertThat(validator.evaluate(Collections.singleton(artifact)).getEvaluationResults()).hasSize(1);
+        List<Path> entries = Files.list(cacheDirectory).collect(Collectors.toList());
+        assertThat(entries).hasSize(1);
+
+        Files.write(entries.get(0), "1000 1000".getBytes(StandardCharsets.UTF_8));
+        assertThat(validator.evaluate(Collections.singleton(artifact)).getEvaluationResults()).isEmpty();
+    }
+
     @Test
     public void testWithoutSourceJar() {
         configure(Collections.emptyMap());
@@ -12,11 +12,9 @@
 package org.eclipse.sw360.antenna.sw360;
 
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
-import org.eclipse.sw360.antenna.sw360.adapter.SW360ComponentClientAdapter;
 import org.eclipse.sw360.antenna.sw360.adapter.SW360LicenseClientAdapter;
 import org.eclipse.sw360.antenna.sw360.adapter.SW360ReleaseClientAdapter;
 import org.eclipse.sw360.antenna.sw360.rest.resource.attachments.SW360SparseAttachment;
-import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360Component;
 import org.eclipse.sw360.antenna.sw360.rest.resource.licenses.SW360License;
 import org.eclipse.sw360.antenna.sw360.rest.resource.licenses.SW360SparseLicense;
 import org.eclipse.sw360.antenna.sw360.rest.resource.releases.SW360Release;
@@ -30,14 +28,12 @@ import java.util.Optional;
 
 public class SW360MetaDataReceiver {
     // rest service adapters
-    private SW360ComponentClientAdapter componentClientAdapter;
     private SW360ReleaseClientAdapter releaseClientAdapter;
     private SW360LicenseClientAdapter licenseClientAdapter;
 
     private SW360ConnectionConfiguration sw360ConnectionConfiguration;
 
     public SW360MetaDataReceiver(SW360ConnectionConfiguration sw360ConnectionConfiguration) {
-        componentClientAdapter = sw360ConnectionConfiguration.getSW360ComponentClientAdapter();
         releaseClientAdapter = sw360ConnectionConfiguration.getSW360ReleaseClientAdapter();
         licenseClientAdapter = sw360ConnectionConfiguration.getSW360LicenseClientAdapter();
         this.sw360ConnectionConfiguration = sw360ConnectionConfiguration;
@@ -45,11 +41,7 @@ public class SW360MetaDataReceiver {
 
     public Optional<SW360Release> findReleaseForArtifact(Artifact artifact) {
         HttpHeaders headers = sw360ConnectionConfiguration.getHttpHeaders();
-        Optional<SW360Component> component = componentClientAdapter.getComponentByArtifact(artifact, headers);
-        if (component.isPresent()) {
-            return releaseClientAdapter.getReleaseByArtifact(component.get(), artifact, headers);
-        }
-        return Optional.empty();
+        return releaseClientAdapter.getReleaseByArtifact(artifact, headers);
     }
 
     public Optional<SW360License> getLicenseDetails(SW360SparseLicense sparseLicense) {
@@ -39,6 +39,9 @@ public class SW360MetaDataUpdater {
     private final boolean updateReleases;
     private final boolean uploadSources;
 
+    // short names of the licenses in SW360, loaded once per run
+    private Set<String> sw360LicenseShortNames;
+
     public SW360MetaDataUpdater(SW360ConnectionConfiguration sw360ConnectionConfiguration, boolean updateReleases, boolean uploadSources) {
         projectClientAdapter = sw360ConnectionConfiguration.getSW360ProjectClientAdapter();
         licenseClientAdapter = sw360ConnectionConfiguration.getSW360LicenseClientAdapter();
@@ -50,17 +53,25 @@ public class SW360MetaDataUpdater {
 
     public Set<SW360License> getLicenses(List<License> licenses) {
         HttpHeaders header = sw360ConnectionConfiguration.getHttpHeaders();
+        Set<String> licenseShortNames = getSW360LicenseShortNames(header);
 
         return licenses.stream()
-                .filter(license -> isLicenseInSW360(license, header))
+                .filter(license -> isLicenseInSW360(license, licenseShortNames))
                 .map(license -> licenseClientAdapter.getSW360LicenseByAntennaLicense(license, header))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(Collectors.toSet());
     }
 
-    private boolean isLicenseInSW360(License license, HttpHeaders header) {
-        if (licenseClientAdapter.isLicenseOfArtifactAvailable(license, header)) {
+    private synchronized Set<String> getSW360LicenseShortNames(HttpHeaders header) {
+        if (sw360LicenseShortNames == null) {
+            sw360LicenseShortNames = licenseClientAdapter.getLicenseShortNames(header);
+        }
+        return sw360LicenseShortNames;
+    }
+
+    private boolean isLicenseInSW360(License license, Set<String> licenseShortNames) {
+        if (licenseShortNames.contains(license.getName())) {
             LOGGER.debug("License [" + license.getName() + "] found in SW360.");
             return true;
         }
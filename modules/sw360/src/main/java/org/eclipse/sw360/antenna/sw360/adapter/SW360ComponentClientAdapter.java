@@ -13,6 +13,7 @@ package org.eclipse.sw360.antenna.sw360.adapter;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.sw360.rest.SW360ComponentClient;
+import org.eclipse.sw360.antenna.sw360.rest.SW360RequestCache;
 import org.eclipse.sw360.antenna.sw360.rest.resource.SW360HalResourceUtility;
 import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360Component;
 import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360SparseComponent;
@@ -33,7 +34,11 @@ public class SW360ComponentClientAdapter {
     private final SW360ComponentClient componentClient;
 
     public SW360ComponentClientAdapter(String restUrl, ProxySettings proxySettings) {
-        this.componentClient = new SW360ComponentClient(restUrl, proxySettings);
+        this(restUrl, proxySettings, SW360RequestCache.disabled());
+    }
+
+    public SW360ComponentClientAdapter(String restUrl, ProxySettings proxySettings, SW360RequestCache requestCache) {
+        this.componentClient = new SW360ComponentClient(restUrl, proxySettings, requestCache);
     }
 
     public Optional<SW360Component> getOrCreateComponent(SW360Component componentFromRelease, HttpHeaders header) {
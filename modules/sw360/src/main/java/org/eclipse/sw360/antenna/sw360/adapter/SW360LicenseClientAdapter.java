@@ -10,29 +10,49 @@
  */
 package org.eclipse.sw360.antenna.sw360.adapter;
 
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.model.xml.generated.License;
 import org.eclipse.sw360.antenna.sw360.rest.SW360LicenseClient;
+import org.eclipse.sw360.antenna.sw360.rest.SW360RequestCache;
 import org.eclipse.sw360.antenna.sw360.rest.resource.licenses.SW360License;
 import org.eclipse.sw360.antenna.sw360.rest.resource.licenses.SW360SparseLicense;
 import org.eclipse.sw360.antenna.util.ProxySettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 
-import java.util.List;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class SW360LicenseClientAdapter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SW360LicenseClientAdapter.class);
+    private static final int LICENSES_PAGE_SIZE = 200;
+
     private final SW360LicenseClient licenseClient;
 
     public SW360LicenseClientAdapter(String restUrl, ProxySettings proxySettings) {
-        this.licenseClient = new SW360LicenseClient(restUrl, proxySettings);
+        this(restUrl, proxySettings, SW360RequestCache.disabled());
     }
 
-    public boolean isLicenseOfArtifactAvailable(License license, HttpHeaders header) {
-        List<SW360SparseLicense> sw360Licenses = licenseClient.getLicenses(header);
+    public SW360LicenseClientAdapter(String restUrl, ProxySettings proxySettings, SW360RequestCache requestCache) {
+        this.licenseClient = new SW360LicenseClient(restUrl, proxySettings, requestCache);
+    }
 
-        return sw360Licenses.stream()
-                .map(SW360SparseLicense::getShortName)
-                .anyMatch(n -> n.equals(license.getName()));
+    /**
+     * @return the short names of all licenses known to SW360, or an empty set if the license list could not be
+     * loaded completely
+     */
+    public Set<String> getLicenseShortNames(HttpHeaders header) {
+        try {
+            return licenseClient.getLicensesPaged(LICENSES_PAGE_SIZE, true, header)
+                    .map(SW360SparseLicense::getShortName)
+                    .collect(Collectors.toSet());
+        } catch (ExecutionException e) {
+            LOGGER.debug("Request to get all licenses failed with {}", e.getMessage());
+            return Collections.emptySet();
+        }
     }
 
     public SW360License addLicense(License license, HttpHeaders header) {
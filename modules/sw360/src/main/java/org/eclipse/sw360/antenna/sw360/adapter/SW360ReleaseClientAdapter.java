@@ -13,6 +13,7 @@ package org.eclipse.sw360.antenna.sw360.adapter;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.model.artifact.Artifact;
 import org.eclipse.sw360.antenna.sw360.rest.SW360ReleaseClient;
+import org.eclipse.sw360.antenna.sw360.rest.SW360RequestCache;
 import org.eclipse.sw360.antenna.sw360.rest.resource.SW360HalResourceUtility;
 import org.eclipse.sw360.antenna.sw360.rest.resource.attachments.SW360AttachmentType;
 import org.eclipse.sw360.antenna.sw360.rest.resource.attachments.SW360SparseAttachment;
@@ -31,16 +32,55 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class SW360ReleaseClientAdapter {
     private static final Logger LOGGER = LoggerFactory.getLogger(SW360ReleaseClientAdapter.class);
+    private static final int RELEASES_PAGE_SIZE = 500;
 
     private final SW360ReleaseClient releaseClient;
     private final SW360ComponentClientAdapter sw360ComponentClientAdapter;
+    private final boolean useReleaseIndex;
+    private SW360ReleaseIndex releaseIndex;
+    private boolean releaseIndexUnavailable;
 
     public SW360ReleaseClientAdapter(String restUrl, ProxySettings proxySettings) {
-        this.releaseClient = new SW360ReleaseClient(restUrl, proxySettings);
-        sw360ComponentClientAdapter = new SW360ComponentClientAdapter(restUrl, proxySettings);
+        this(restUrl, proxySettings, SW360RequestCache.disabled(), false);
+    }
+
+    /**
+     * @param useReleaseIndex if set, all releases are loaded into a {@link SW360ReleaseIndex} on the first lookup, and
+     *                        releases are resolved by name and version from the index instead of the components
+     */
+    public SW360ReleaseClientAdapter(String restUrl, ProxySettings proxySettings, SW360RequestCache requestCache, boolean useReleaseIndex) {
+        this.releaseClient = new SW360ReleaseClient(restUrl, proxySettings, requestCache);
+        sw360ComponentClientAdapter = new SW360ComponentClientAdapter(restUrl, proxySettings, requestCache);
+        this.useReleaseIndex = useReleaseIndex;
+    }
+
+    /**
+     * @return the release index, or nothing if it is disabled or the release list could not be loaded completely,
+     * since an incomplete index would report existing releases as missing
+     */
+    public synchronized Optional<SW360ReleaseIndex> getReleaseIndex(HttpHeaders header) {
+        if (!useReleaseIndex || releaseIndexUnavailable) {
+            return Optional.empty();
+        }
+        if (releaseIndex == null) {
+            final List<SW360SparseRelease> releases;
+            try {
+                releases = releaseClient.getReleasesPaged(RELEASES_PAGE_SIZE, true, header)
+                        .collect(Collectors.toList());
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not load all releases from SW360, releases are looked up one by one instead. Reason: {}",
+                        e.getMessage());
+                releaseIndexUnavailable = true;
+                return Optional.empty();
+            }
+            releaseIndex = new SW360ReleaseIndex(releases);
+            LOGGER.debug("Loaded {} releases from SW360 into the release index", releaseIndex.size());
+        }
+        return Optional.of(releaseIndex);
     }
 
     public SW360Release getOrCreateRelease(SW360Release sw360ReleaseFromArtifact, HttpHeaders header, boolean uploadSources, boolean updateReleases) {
@@ -81,7 +121,9 @@ public class SW360ReleaseClientAdapter {
             });
         }
 
-        return releaseClient.createRelease(releaseFromArtifact, header);
+        final SW360Release release = releaseClient.createRelease(releaseFromArtifact, header);
+        getReleaseIndex(header).ifPresent(index -> index.add(release));
+        return release;
     }
 
     public SW360Release uploadAttachments(SW360Release sw360item, Map<Path, SW360AttachmentType> attachments, HttpHeaders header) {
@@ -122,6 +164,14 @@ public class SW360ReleaseClientAdapter {
     }
 
     public Optional<SW360SparseRelease> getReleaseByExternalIds(Map<String,String> externalIds, HttpHeaders headers) {
+        final Optional<SW360ReleaseIndex> index = getReleaseIndex(headers);
+        if (index.isPresent()) {
+            return index.get().findByExternalIds(externalIds, ids -> searchReleaseByExternalIds(ids, headers));
+        }
+        return searchReleaseByExternalIds(externalIds, headers);
+    }
+
+    private Optional<SW360SparseRelease> searchReleaseByExternalIds(Map<String,String> externalIds, HttpHeaders headers) {
         final List<SW360SparseRelease> releasesByExternalIds = releaseClient.getReleasesByExternalIds(externalIds, headers);
         if (releasesByExternalIds.size() == 0) {
             return Optional.empty();
@@ -134,6 +184,10 @@ public class SW360ReleaseClientAdapter {
     }
 
     public Optional<SW360SparseRelease> getReleaseByNameAndVersion(SW360Release sw360ReleaseFromArtifact, HttpHeaders headers) {
+        final Optional<SW360ReleaseIndex> index = getReleaseIndex(headers);
+        if (index.isPresent()) {
+            return index.get().findByNameAndVersion(sw360ReleaseFromArtifact.getName(), sw360ReleaseFromArtifact.getVersion());
+        }
         return sw360ComponentClientAdapter.getComponentByName(sw360ReleaseFromArtifact.getName(), headers)
                 .map(SW360Component::get_Embedded)
                 .map(SW360ComponentEmbedded::getReleases)
@@ -160,6 +214,26 @@ public class SW360ReleaseClientAdapter {
         return Optional.empty();
     }
 
+    /**
+     * Resolves the release of an artifact from the release index, if it is enabled, or from the component of the
+     * artifact otherwise.
+     */
+    public Optional<SW360Release> getReleaseByArtifact(Artifact artifact, HttpHeaders header) {
+        final Optional<SW360ReleaseIndex> index = getReleaseIndex(header);
+        if (!index.isPresent()) {
+            return sw360ComponentClientAdapter.getComponentByArtifact(artifact, header)
+                    .flatMap(component -> getReleaseByArtifact(component, artifact, header));
+        }
+        try {
+            return index.get().findByNameAndVersion(SW360ComponentAdapterUtils.createComponentName(artifact),
+                    SW360ReleaseAdapterUtils.createSW360ReleaseVersion(artifact))
+                    .flatMap(release -> enrichSparseRelease(release, header));
+        } catch (ExecutionException e) {
+            LOGGER.debug("No release found for {}. Reason: {}", artifact.prettyPrint(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public Optional<Path> downloadAttachment(SW360Release release, SW360SparseAttachment attachment, Path downloadPath, HttpHeaders header) {
         return Optional.ofNullable(release.get_Links().getSelf())
                 .flatMap(self -> releaseClient.downloadAttachment(self.getHref(), attachment, downloadPath, header));
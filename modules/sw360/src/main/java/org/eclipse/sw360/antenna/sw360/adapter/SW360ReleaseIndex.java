@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.adapter;
+
+import org.eclipse.sw360.antenna.sw360.rest.resource.LinkObjects;
+import org.eclipse.sw360.antenna.sw360.rest.resource.releases.SW360Release;
+import org.eclipse.sw360.antenna.sw360.rest.resource.releases.SW360SparseRelease;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * An in-memory index of the releases known to SW360, which resolves releases by name and version without querying
+ * the component of every artifact.
+ *
+ * The name and version mappings are loaded up front from the complete release list, so a release missing in the
+ * index is treated as missing in SW360. The sparse releases of the list do not contain external ids, therefore
+ * external id lookups are still delegated to SW360, but every distinct set of external ids is only requested once.
+ */
+public class SW360ReleaseIndex {
+    private final ConcurrentMap<String, ConcurrentMap<String, SW360SparseRelease>> releasesByNameAndVersion = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Map<String, String>, Optional<SW360SparseRelease>> releasesByExternalIds = new ConcurrentHashMap<>();
+
+    /**
+     * @param releases all releases known to SW360, the list must not be truncated by failed requests
+     */
+    public SW360ReleaseIndex(Collection<SW360SparseRelease> releases) {
+        releases.forEach(this::add);
+    }
+
+    public Optional<SW360SparseRelease> findByNameAndVersion(String name, String version) {
+        if (name == null || version == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(releasesByNameAndVersion.get(name))
+                .map(releases -> releases.get(version));
+    }
+
+    /**
+     * Returns the release matched by the given external ids, using the lookup only if the same external ids have
+     * not been resolved before.
+     */
+    public Optional<SW360SparseRelease> findByExternalIds(Map<String, String> externalIds,
+                                                          Function<Map<String, String>, Optional<SW360SparseRelease>> lookup) {
+        final Optional<SW360SparseRelease> knownRelease = releasesByExternalIds.get(externalIds);
+        if (knownRelease != null) {
+            return knownRelease;
+        }
+        final Map<String, String> key = Collections.unmodifiableMap(new HashMap<>(externalIds));
+        final Optional<SW360SparseRelease> release = lookup.apply(key);
+        final Optional<SW360SparseRelease> previousRelease = releasesByExternalIds.putIfAbsent(key, release);
+        return previousRelease != null ? previousRelease : release;
+    }
+
+    public void add(SW360SparseRelease release) {
+        if (release.getName() == null || release.getVersion() == null) {
+            return;
+        }
+        releasesByNameAndVersion.computeIfAbsent(release.getName(), name -> new ConcurrentHashMap<>())
+                .putIfAbsent(release.getVersion(), release);
+    }
+
+    /**
+     * Registers a release which was created or updated during the current run.
+     */
+    public void add(SW360Release release) {
+        if (release.getReleaseId() == null) {
+            return;
+        }
+        final SW360SparseRelease sparseRelease = new SW360SparseRelease()
+                .setComponentId(release.getComponentId())
+                .setName(release.getName())
+                .setVersion(release.getVersion())
+                .setCpeid(release.getCpeId());
+        sparseRelease.set_Links(new LinkObjects().setSelf(release.get_Links().getSelf()));
+
+        if (release.getName() != null && release.getVersion() != null) {
+            releasesByNameAndVersion.computeIfAbsent(release.getName(), name -> new ConcurrentHashMap<>())
+                    .put(release.getVersion(), sparseRelease);
+        }
+        final Map<String, String> externalIds = release.getExternalIds();
+        if (!externalIds.isEmpty()) {
+            releasesByExternalIds.put(Collections.unmodifiableMap(externalIds), Optional.of(sparseRelease));
+        }
+    }
+
+    public int size() {
+        return releasesByNameAndVersion.values().stream()
+                .mapToInt(Map::size)
+                .sum();
+    }
+}
@@ -44,6 +44,10 @@ public abstract class SW360AttachmentAwareClient<T extends SW360HalResource<?,?>
         super(proxySettings);
     }
 
+    public SW360AttachmentAwareClient(ProxySettings proxySettings, SW360RequestCache requestCache) {
+        super(proxySettings, requestCache);
+    }
+
     public abstract Class<T> getHandledClassType();
 
     private HttpEntity<String> buildJsonPart(SW360Attachment sw360Attachment) {
@@ -74,7 +78,12 @@ public abstract class SW360AttachmentAwareClient<T extends SW360HalResource<?,?>
     private T uploadAndAttachAttachment(T itemToModify, Path fileToAttach, HttpEntity<MultiValueMap<String, Object>> requestEntity) {
         final String self = itemToModify.get_Links().getSelf().getHref();
         try {
-            ResponseEntity<T> response = restTemplate.postForEntity(self + ATTACHMENTS_ENDPOINT, requestEntity, getHandledClassType());
+            ResponseEntity<T> response;
+            try {
+                response = restTemplate.postForEntity(self + ATTACHMENTS_ENDPOINT, requestEntity, getHandledClassType());
+            } finally {
+                invalidateCachedRequests();
+            }
 
             checkRestStatus(response);
             Validate.validState(response.getBody() != null);
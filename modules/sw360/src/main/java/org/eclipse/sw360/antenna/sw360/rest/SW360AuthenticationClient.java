@@ -12,9 +12,9 @@
 
 package org.eclipse.sw360.antenna.sw360.rest;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
 import org.eclipse.sw360.antenna.sw360.rest.resource.SW360Attributes;
+import org.eclipse.sw360.antenna.sw360.utils.RestUtils;
 import org.eclipse.sw360.antenna.util.ProxySettings;
 import org.springframework.http.*;
 import org.springframework.web.client.HttpClientErrorException;
@@ -63,7 +63,7 @@ public class SW360AuthenticationClient extends SW360Client {
             ResponseEntity<String> response = doRestCall(getEndpoint(), HttpMethod.POST, httpEntity, String.class);
 
             checkRestStatus(response);
-            return (String) new ObjectMapper().readValue(response.getBody(), HashMap.class).get(JSON_TOKEN_KEY);
+            return (String) RestUtils.getObjectMapper().readValue(response.getBody(), HashMap.class).get(JSON_TOKEN_KEY);
 
         } catch (HttpServerErrorException | HttpClientErrorException e) {
             throw new ExecutionException("Could not authenticate with user credentials [" + username + "]. "
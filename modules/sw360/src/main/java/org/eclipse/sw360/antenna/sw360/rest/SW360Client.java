@@ -11,37 +11,63 @@
 
 package org.eclipse.sw360.antenna.sw360.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
+import org.eclipse.sw360.antenna.sw360.rest.resource.PagedLinkObjects;
+import org.eclipse.sw360.antenna.sw360.rest.resource.SW360Attributes;
+import org.eclipse.sw360.antenna.sw360.rest.resource.SW360HalResource;
+import org.eclipse.sw360.antenna.sw360.rest.resource.Self;
 import org.eclipse.sw360.antenna.sw360.utils.RestUtils;
 import org.eclipse.sw360.antenna.util.ProxySettings;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.eclipse.sw360.antenna.sw360.rest.SW360ClientUtils.checkRestStatus;
+import static org.eclipse.sw360.antenna.sw360.rest.SW360ClientUtils.getSaveOrThrow;
 
 public abstract class SW360Client {
     private final boolean proxyUse;
+    private final SW360RequestCache requestCache;
     protected RestTemplate restTemplate;
 
     public abstract String getEndpoint();
 
 
     public SW360Client(ProxySettings proxySettings) {
+        this(proxySettings, SW360RequestCache.disabled());
+    }
+
+    public SW360Client(ProxySettings proxySettings, SW360RequestCache requestCache) {
+        this.requestCache = requestCache;
         proxyUse = proxySettings.isProxyUse();
         if (proxyUse) {
             SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
             Proxy proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress(proxySettings.getProxyHost(), proxySettings.getProxyPort()));
             requestFactory.setProxy(proxy);
-            this.restTemplate = new RestTemplate(requestFactory);
+            this.restTemplate = RestUtils.useSharedObjectMapper(new RestTemplate(requestFactory));
         } else {
-            this.restTemplate = new RestTemplate();
+            this.restTemplate = RestUtils.useSharedObjectMapper(new RestTemplate());
         }
     }
 
@@ -66,19 +92,103 @@ public abstract class SW360Client {
         return doRestCall(url, HttpMethod.GET, httpEntity, responseType);
     }
 
+    /**
+     * Like {@link #doRestGET(String, HttpHeaders, ParameterizedTypeReference)}, but answers the request from the
+     * {@link SW360RequestCache} of the client, if possible.
+     */
+    protected <T> ResponseEntity<T> doRestGETCached(String url, HttpHeaders header, ParameterizedTypeReference<T> responseType) {
+        if (!requestCache.isEnabled()) {
+            return doRestGET(url, header, responseType);
+        }
+        HttpHeaders jsonHeader = RestUtils.deepCopyHeaders(header);
+        if (jsonHeader.getAccept().isEmpty()) {
+            jsonHeader.setAccept(Arrays.asList(MediaTypes.HAL_JSON, MediaType.APPLICATION_JSON));
+        }
+        HttpEntity<String> httpEntity = RestUtils.getHttpEntity(Collections.emptyMap(), jsonHeader);
+        ResponseEntity<byte[]> response = requestCache.get(getEndpoint(), url,
+                () -> doRestCall(url, HttpMethod.GET, httpEntity, byte[].class));
+
+        T body = null;
+        if (response.getBody() != null && response.getBody().length > 0) {
+            try {
+                ObjectMapper objectMapper = RestUtils.getObjectMapper();
+                body = objectMapper.readValue(response.getBody(), objectMapper.getTypeFactory().constructType(responseType.getType()));
+            } catch (IOException e) {
+                throw new RestClientException("Could not read the response of " + url, e);
+            }
+        }
+        return new ResponseEntity<>(body, response.getHeaders(), response.getStatusCode());
+    }
+
+    /**
+     * Drops the cached responses after a resource was modified.
+     */
+    protected void invalidateCachedRequests() {
+        requestCache.invalidate();
+    }
+
+    /**
+     * Requests a list resource page by page. The pages are only requested while the returned stream is consumed, so
+     * at most two pages are held in memory. A page which cannot be requested fails the stream when it is reached,
+     * so a consumed stream always contains all items of the resource.
+     *
+     * @param pageSize     number of items requested per page
+     * @param prefetch     if the next page should be requested in the background while the current one is consumed
+     * @param itemsGetter  extracts the items from a page
+     */
+    protected <R extends SW360HalResource<PagedLinkObjects, ?>, T> Stream<T> doRestGETPaged(String url, int pageSize, boolean prefetch, HttpHeaders header,
+                                                                                             ParameterizedTypeReference<Resource<R>> responseType,
+                                                                                             Function<R, ? extends Collection<T>> itemsGetter) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size has to be positive, but was " + pageSize);
+        }
+        String firstPageUrl = UriComponentsBuilder.fromUriString(url)
+                .queryParam(SW360Attributes.PAGE, 0)
+                .queryParam(SW360Attributes.PAGE_ENTRIES, pageSize)
+                .build(false)
+                .toUriString();
+
+        return SW360PageIterator.stream(firstPageUrl, pageUrl -> {
+            ResponseEntity<Resource<R>> response = doRestGET(pageUrl, header, responseType);
+            try {
+                checkRestStatus(response);
+            } catch (ExecutionException e) {
+                // ending the stream here would let callers take an incomplete list for the complete one
+                throw new ExecutionException("Request to get page " + pageUrl + " failed with " + e.getMessage(), e);
+            }
+            R resource = getSaveOrThrow(response.getBody(), Resource::getContent);
+
+            Collection<T> items = Optional.<Collection<T>>ofNullable(itemsGetter.apply(resource))
+                    .orElse(Collections.emptyList());
+            String nextUrl = Optional.ofNullable(resource.get_Links())
+                    .map(PagedLinkObjects::getNext)
+                    .map(Self::getHref)
+                    .orElse(null);
+            return new SW360PageIterator.Page<>(items, nextUrl);
+        }, prefetch);
+    }
+
     protected <T> ResponseEntity<T> doRestPOST(String url, HttpEntity<?> httpEntity, ParameterizedTypeReference<T> responseType) {
-        return doRestCall(url, HttpMethod.POST, httpEntity, responseType);
+        try {
+            return doRestCall(url, HttpMethod.POST, httpEntity, responseType);
+        } finally {
+            invalidateCachedRequests();
+        }
     }
 
     protected <T> ResponseEntity<T> doRestPATCH(String url, HttpEntity<?> httpEntity, ParameterizedTypeReference<T> responseType) {
         if(proxyUse) {
             throw new UnsupportedOperationException("The patch functionality used when updating releases does not support proxy use");
         }
-        RestTemplate restTemplate = new RestTemplate();
+        RestTemplate restTemplate = RestUtils.useSharedObjectMapper(new RestTemplate());
 
         HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
         restTemplate.setRequestFactory(requestFactory);
 
-        return restTemplate.exchange(url, HttpMethod.PATCH, httpEntity, responseType);
+        try {
+            return restTemplate.exchange(url, HttpMethod.PATCH, httpEntity, responseType);
+        } finally {
+            invalidateCachedRequests();
+        }
     }
 }
@@ -32,6 +32,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.eclipse.sw360.antenna.sw360.rest.SW360ClientUtils.*;
 
@@ -45,6 +46,11 @@ public class SW360ComponentClient extends SW360Client {
         this.restUrl = restUrl;
     }
 
+    public SW360ComponentClient(String restUrl, ProxySettings proxySettings, SW360RequestCache requestCache) {
+        super(proxySettings, requestCache);
+        this.restUrl = restUrl;
+    }
+
     @Override
     public String getEndpoint() {
         return restUrl + COMPONENTS_ENDPOINT;
@@ -52,7 +58,7 @@ public class SW360ComponentClient extends SW360Client {
 
     public Optional<SW360Component> getComponent(String componentId, HttpHeaders header) {
         try {
-            ResponseEntity<Resource<SW360Component>> response = doRestGET(getEndpoint() + "/" + componentId, header,
+            ResponseEntity<Resource<SW360Component>> response = doRestGETCached(getEndpoint() + "/" + componentId, header,
                     new ParameterizedTypeReference<Resource<SW360Component>>() {});
 
             checkRestStatus(response);
@@ -78,13 +84,22 @@ public class SW360ComponentClient extends SW360Client {
         }
     }
 
+    /**
+     * @return all components, requested lazily page by page while the stream is consumed.
+     */
+    public Stream<SW360SparseComponent> getComponentsPaged(int pageSize, boolean prefetch, HttpHeaders header) {
+        return doRestGETPaged(getEndpoint(), pageSize, prefetch, header,
+                new ParameterizedTypeReference<Resource<SW360ComponentList>>() {},
+                resource -> resource.get_Embedded().getComponents());
+    }
+
     public List<SW360SparseComponent> searchByName(String name, HttpHeaders header) {
         try {
             UriComponentsBuilder builder = UriComponentsBuilder
                     .fromUriString(getEndpoint())
                     .queryParam(SW360Attributes.COMPONENT_SEARCH_BY_NAME, name);
 
-            ResponseEntity<Resource<SW360ComponentList>> response = doRestGET(builder.build(false).toUriString(), header,
+            ResponseEntity<Resource<SW360ComponentList>> response = doRestGETCached(builder.build(false).toUriString(), header,
                     new ParameterizedTypeReference<Resource<SW360ComponentList>>() {});
 
             return getSw360SparseComponents(response);
@@ -94,6 +109,16 @@ public class SW360ComponentClient extends SW360Client {
         }
     }
 
+    public Stream<SW360SparseComponent> searchByNamePaged(String name, int pageSize, boolean prefetch, HttpHeaders header) {
+        UriComponentsBuilder builder = UriComponentsBuilder
+                .fromUriString(getEndpoint())
+                .queryParam(SW360Attributes.COMPONENT_SEARCH_BY_NAME, name);
+
+        return doRestGETPaged(builder.build(false).toUriString(), pageSize, prefetch, header,
+                new ParameterizedTypeReference<Resource<SW360ComponentList>>() {},
+                resource -> resource.get_Embedded().getComponents());
+    }
+
     public SW360Component createComponent(SW360Component sw360Component, HttpHeaders header) {
         try {
             HttpEntity<String> httpEntity = RestUtils.convertSW360ResourceToHttpEntity(sw360Component, header);
@@ -30,6 +30,7 @@ import org.springframework.web.client.HttpServerErrorException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.eclipse.sw360.antenna.sw360.rest.SW360ClientUtils.checkRestStatus;
 import static org.eclipse.sw360.antenna.sw360.rest.SW360ClientUtils.getSaveOrThrow;
@@ -44,6 +45,11 @@ public class SW360LicenseClient extends SW360Client {
         this.restUrl = restUrl;
     }
 
+    public SW360LicenseClient(String restUrl, ProxySettings proxySettings, SW360RequestCache requestCache) {
+        super(proxySettings, requestCache);
+        this.restUrl = restUrl;
+    }
+
     @Override
     public String getEndpoint() {
         return restUrl + LICENSES_ENDPOINT;
@@ -68,9 +74,18 @@ public class SW360LicenseClient extends SW360Client {
         }
     }
 
+    /**
+     * @return all licenses, requested lazily page by page while the stream is consumed.
+     */
+    public Stream<SW360SparseLicense> getLicensesPaged(int pageSize, boolean prefetch, HttpHeaders header) {
+        return doRestGETPaged(getEndpoint(), pageSize, prefetch, header,
+                new ParameterizedTypeReference<Resource<SW360LicenseList>>() {},
+                resource -> resource.get_Embedded().getLicenses());
+    }
+
     public Optional<SW360License> getLicenseByName(String name, HttpHeaders header) {
         try {
-            ResponseEntity<Resource<SW360License>> response = doRestGET(getEndpoint() + "/" + name, header,
+            ResponseEntity<Resource<SW360License>> response = doRestGETCached(getEndpoint() + "/" + name, header,
                     new ParameterizedTypeReference<Resource<SW360License>>() {});
 
             checkRestStatus(response);
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.rest;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily iterates over the items of a paged SW360 list resource by following the {@code next} links of the pages.
+ * A page is only requested once all items of the previous page have been consumed, or, if prefetching is enabled,
+ * as soon as the previous page has been received.
+ */
+class SW360PageIterator<T> implements Iterator<T> {
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "sw360-page-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The items of one page and the URL of the next page, if there is one.
+     */
+    static final class Page<T> {
+        private final Collection<T> items;
+        private final String nextUrl;
+
+        Page(Collection<T> items, String nextUrl) {
+            this.items = items;
+            this.nextUrl = nextUrl;
+        }
+
+        static <T> Page<T> empty() {
+            return new Page<>(Collections.emptyList(), null);
+        }
+    }
+
+    private final Function<String, Page<T>> pageLoader;
+    private final boolean prefetch;
+    private final Set<String> requestedUrls = new HashSet<>();
+    private Iterator<T> currentItems = Collections.emptyIterator();
+    private String nextUrl;
+    private CompletableFuture<Page<T>> nextPage;
+
+    SW360PageIterator(String firstPageUrl, Function<String, Page<T>> pageLoader, boolean prefetch) {
+        this.pageLoader = pageLoader;
+        this.prefetch = prefetch;
+        this.nextUrl = firstPageUrl;
+        requestedUrls.add(firstPageUrl);
+    }
+
+    static <T> Stream<T> stream(String firstPageUrl, Function<String, Page<T>> pageLoader, boolean prefetch) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(new SW360PageIterator<>(firstPageUrl, pageLoader, prefetch),
+                        Spliterator.ORDERED),
+                false);
+    }
+
+    private Optional<Page<T>> loadNextPage() {
+        final Page<T> page;
+        if (nextPage != null) {
+            try {
+                page = nextPage.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            } finally {
+                nextPage = null;
+            }
+        } else if (nextUrl != null) {
+            page = pageLoader.apply(nextUrl);
+        } else {
+            return Optional.empty();
+        }
+
+        // a broken server might link a page to itself or an earlier page
+        nextUrl = page.nextUrl != null && requestedUrls.add(page.nextUrl) ? page.nextUrl : null;
+        if (prefetch && nextUrl != null) {
+            final String url = nextUrl;
+            nextUrl = null;
+            nextPage = CompletableFuture.supplyAsync(() -> pageLoader.apply(url), PREFETCH_EXECUTOR);
+        }
+        return Optional.of(page);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentItems.hasNext()) {
+            final Optional<Page<T>> page = loadNextPage();
+            if (!page.isPresent()) {
+                return false;
+            }
+            currentItems = page.get().items.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentItems.next();
+    }
+}
@@ -32,6 +32,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.eclipse.sw360.antenna.sw360.rest.SW360ClientUtils.*;
 
@@ -74,6 +75,16 @@ public class SW360ProjectClient extends SW360Client {
         }
     }
 
+    public Stream<SW360Project> searchByNamePaged(String name, int pageSize, boolean prefetch, HttpHeaders header) {
+        UriComponentsBuilder builder = UriComponentsBuilder
+                .fromUriString(getEndpoint())
+                .queryParam(SW360Attributes.PROJECT_SEARCH_BY_NAME, name);
+
+        return doRestGETPaged(builder.build(false).toUriString(), pageSize, prefetch, header,
+                new ParameterizedTypeReference<Resource<SW360ProjectList>>() {},
+                resource -> resource.get_Embedded().getProjects());
+    }
+
     public SW360Project createProject(SW360Project sw360Project, HttpHeaders header) {
         try {
             HttpEntity<String> httpEntity = RestUtils.convertSW360ResourceToHttpEntity(sw360Project, header);
@@ -126,4 +137,18 @@ public class SW360ProjectClient extends SW360Client {
             return Collections.emptyList();
         }
     }
+
+    /**
+     * @return the releases linked to the project, requested lazily page by page while the stream is consumed.
+     */
+    public Stream<SW360SparseRelease> getLinkedReleasesPaged(String projectId, boolean transitive, int pageSize, boolean prefetch, HttpHeaders header) {
+        UriComponentsBuilder builder = UriComponentsBuilder
+                .fromUriString(getEndpoint())
+                .pathSegment(projectId, SW360Attributes.PROJECT_RELEASES)
+                .queryParam(SW360Attributes.PROJECT_RELEASES_TRANSITIVE, transitive);
+
+        return doRestGETPaged(builder.build(false).toUriString(), pageSize, prefetch, header,
+                new ParameterizedTypeReference<Resource<SW360ReleaseList>>() {},
+                resource -> resource.get_Embedded().getReleases());
+    }
 }
@@ -31,6 +31,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.eclipse.sw360.antenna.sw360.rest.SW360ClientUtils.*;
 
@@ -44,6 +45,11 @@ public class SW360ReleaseClient extends SW360AttachmentAwareClient<SW360Release>
         this.restUrl = restUrl;
     }
 
+    public SW360ReleaseClient(String restUrl, ProxySettings proxySettings, SW360RequestCache requestCache) {
+        super(proxySettings, requestCache);
+        this.restUrl = restUrl;
+    }
+
     @Override
     public Class<SW360Release> getHandledClassType() {
         return SW360Release.class;
@@ -56,7 +62,7 @@ public class SW360ReleaseClient extends SW360AttachmentAwareClient<SW360Release>
 
     public Optional<SW360Release> getRelease(String releaseId, HttpHeaders header) {
         try {
-            ResponseEntity<Resource<SW360Release>> response = doRestGET(getEndpoint() + "/" + releaseId, header,
+            ResponseEntity<Resource<SW360Release>> response = doRestGETCached(getEndpoint() + "/" + releaseId, header,
                     new ParameterizedTypeReference<Resource<SW360Release>>() {});
 
             checkRestStatus(response);
@@ -67,6 +73,15 @@ public class SW360ReleaseClient extends SW360AttachmentAwareClient<SW360Release>
         }
     }
 
+    /**
+     * @return all releases, requested lazily page by page while the stream is consumed.
+     */
+    public Stream<SW360SparseRelease> getReleasesPaged(int pageSize, boolean prefetch, HttpHeaders header) {
+        return doRestGETPaged(getEndpoint(), pageSize, prefetch, header,
+                new ParameterizedTypeReference<Resource<SW360ReleaseList>>() {},
+                resource -> resource.get_Embedded().getReleases());
+    }
+
     // KnownLimitation: this can not properly handle e.g. the hashes,
     // which are mapped to numbered keys like `hash_1=...`, `hash_2=...`, ...
     // but can change in the order of the values
@@ -74,7 +89,7 @@ public class SW360ReleaseClient extends SW360AttachmentAwareClient<SW360Release>
         try {
             String url = getExternalIdUrl(externalIds);
 
-            ResponseEntity<Resource<SW360ReleaseList>> response = doRestGET(url, header,
+            ResponseEntity<Resource<SW360ReleaseList>> response = doRestGETCached(url, header,
                     new ParameterizedTypeReference<Resource<SW360ReleaseList>>() {});
 
             return getSw360SparseReleases(response);
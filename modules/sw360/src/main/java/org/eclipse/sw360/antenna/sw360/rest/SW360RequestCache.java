@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.rest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches the raw responses of GET requests to SW360 during one run, so that the same component, release or license
+ * is only requested once even if many artifacts refer to it.
+ *
+ * Concurrent requests for the same URL share one request. Successful responses are kept for a limited time and up
+ * to a maximum number of entries, the least recently used entries are evicted first. Failed requests are not
+ * cached. Since SW360 resources embed each other, e.g. a component embeds its releases, any write invalidates all
+ * cached responses.
+ *
+ * The responses are cached as bytes and deserialized on every hit, so callers may modify the returned resources.
+ */
+public class SW360RequestCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SW360RequestCache.class);
+
+    public static final int DEFAULT_MAX_ENTRIES = 2000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final int maxEntries;
+    private final long timeToLiveMillis;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries;
+    private final ConcurrentMap<String, EndpointStatistics> statistics = new ConcurrentHashMap<>();
+
+    private static final class Entry {
+        private final CompletableFuture<ResponseEntity<byte[]>> response = new CompletableFuture<>();
+        private final long createdAt;
+
+        private Entry(long createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+
+    private static final class EndpointStatistics {
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+    }
+
+    public SW360RequestCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param maxEntries the maximum number of cached responses, the cache is disabled if this is not positive
+     */
+    public SW360RequestCache(int maxEntries, Duration timeToLive) {
+        this(maxEntries, timeToLive, System::currentTimeMillis);
+    }
+
+    SW360RequestCache(int maxEntries, Duration timeToLive, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > SW360RequestCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return a cache which passes all requests through
+     */
+    public static SW360RequestCache disabled() {
+        return new SW360RequestCache(0, Duration.ZERO);
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * Returns the cached response for the URL or performs the request, if there is neither a cached nor a running
+     * request for the URL.
+     *
+     * @param endpoint the endpoint the URL belongs to, which is used for the statistics
+     */
+    ResponseEntity<byte[]> get(String endpoint, String url, Supplier<ResponseEntity<byte[]>> request) {
+        if (!isEnabled()) {
+            return request.get();
+        }
+
+        final Entry entry;
+        final boolean isNewEntry;
+        synchronized (this) {
+            final Entry cachedEntry = entries.get(url);
+            if (cachedEntry != null && clock.getAsLong() - cachedEntry.createdAt < timeToLiveMillis) {
+                entry = cachedEntry;
+                isNewEntry = false;
+            } else {
+                entry = new Entry(clock.getAsLong());
+                entries.put(url, entry);
+                isNewEntry = true;
+            }
+        }
+        final EndpointStatistics endpointStatistics = statistics.computeIfAbsent(endpoint, e -> new EndpointStatistics());
+        (isNewEntry ? endpointStatistics.misses : endpointStatistics.hits).incrementAndGet();
+
+        if (isNewEntry) {
+            try {
+                final ResponseEntity<byte[]> response = request.get();
+                if (!response.getStatusCode().is2xxSuccessful()) {
+                    remove(url, entry);
+                }
+                entry.response.complete(response);
+            } catch (RuntimeException e) {
+                remove(url, entry);
+                entry.response.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return entry.response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private synchronized void remove(String url, Entry entry) {
+        if (entries.get(url) == entry) {
+            entries.remove(url);
+        }
+    }
+
+    /**
+     * Drops all cached responses, running requests are not affected.
+     */
+    public synchronized void invalidate() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the share of requests to the endpoint which were answered from the cache or by a running request
+     */
+    public double getHitRatio(String endpoint) {
+        final EndpointStatistics endpointStatistics = statistics.get(endpoint);
+        if (endpointStatistics == null) {
+            return 0.0;
+        }
+        final long hits = endpointStatistics.hits.get();
+        final long requests = hits + endpointStatistics.misses.get();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    public void logStatistics() {
+        new TreeMap<>(statistics).forEach((endpoint, endpointStatistics) -> {
+            final long hits = endpointStatistics.hits.get();
+            final long misses = endpointStatistics.misses.get();
+            LOGGER.info("SW360 request cache for {}: {} of {} requests answered from the cache ({}%)",
+                    endpoint, hits, hits + misses, Math.round(getHitRatio(endpoint) * 100));
+        });
+    }
+}
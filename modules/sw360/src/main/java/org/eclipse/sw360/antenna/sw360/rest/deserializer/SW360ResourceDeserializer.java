@@ -11,10 +11,10 @@
 package org.eclipse.sw360.antenna.sw360.rest.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.eclipse.sw360.antenna.sw360.rest.resource.Embedded;
 import org.eclipse.sw360.antenna.sw360.rest.resource.attachments.SW360AttachmentListEmbedded;
 import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360ComponentEmbedded;
@@ -25,26 +25,63 @@ import org.eclipse.sw360.antenna.sw360.rest.resource.projects.SW360ProjectListEm
 import org.eclipse.sw360.antenna.sw360.rest.resource.releases.SW360ReleaseListEmbedded;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 
+/**
+ * Deserializes the {@code _embedded} object of a HAL resource to the matching {@link Embedded} type, which is
+ * determined by the names of the fields of the object.
+ *
+ * The tokens of the object are buffered while its field names are collected and the buffered tokens are then
+ * deserialized directly, so every payload is only parsed once.
+ */
 public class SW360ResourceDeserializer extends JsonDeserializer<Embedded> {
     @Override
     public Embedded deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectMapper mapper = (ObjectMapper) p.getCodec();
-        ObjectNode root = mapper.readTree(p);
-        if (root.has("sw360:projects")) {
-            return mapper.readValue(root.toString(), SW360ProjectListEmbedded.class);
-        } else if (root.has("sw360:components")) {
-            return mapper.readValue(root.toString(), SW360ComponentListEmbedded.class);
-        } else if (root.has("sw360:releases") && root.has("createdBy")) {
-            return mapper.readValue(root.toString(), SW360ComponentEmbedded.class);
-        } else if (root.has("sw360:releases")) {
-            return mapper.readValue(root.toString(), SW360ReleaseListEmbedded.class);
-        } else if (root.has("sw360:licenses")) {
-            return mapper.readValue(root.toString(), SW360LicenseListEmbedded.class);
-        } else if (root.has("sw360:attachments")) {
-            return mapper.readValue(root.toString(), SW360AttachmentListEmbedded.class);
-        } else if (root.has("createdBy")) {
-            return mapper.readValue(root.toString(), SW360ProjectEmbedded.class);
+        final Set<String> fieldNames = new HashSet<>();
+        final TokenBuffer buffer = new TokenBuffer(p, ctxt);
+
+        JsonToken token = p.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (Embedded) ctxt.handleUnexpectedToken(Embedded.class, p);
+        }
+        buffer.writeStartObject();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            final String fieldName = p.getCurrentName();
+            fieldNames.add(fieldName);
+            buffer.writeFieldName(fieldName);
+            p.nextToken();
+            buffer.copyCurrentStructure(p);
+        }
+        buffer.writeEndObject();
+
+        final Class<? extends Embedded> embeddedType = getEmbeddedType(fieldNames);
+        if (embeddedType == null) {
+            return null;
+        }
+        try (JsonParser bufferParser = buffer.asParser()) {
+            bufferParser.nextToken();
+            return ctxt.readValue(bufferParser, embeddedType);
+        }
+    }
+
+    private static Class<? extends Embedded> getEmbeddedType(Set<String> fieldNames) {
+        if (fieldNames.contains("sw360:projects")) {
+            return SW360ProjectListEmbedded.class;
+        } else if (fieldNames.contains("sw360:components")) {
+            return SW360ComponentListEmbedded.class;
+        } else if (fieldNames.contains("sw360:releases") && fieldNames.contains("createdBy")) {
+            return SW360ComponentEmbedded.class;
+        } else if (fieldNames.contains("sw360:releases")) {
+            return SW360ReleaseListEmbedded.class;
+        } else if (fieldNames.contains("sw360:licenses")) {
+            return SW360LicenseListEmbedded.class;
+        } else if (fieldNames.contains("sw360:attachments")) {
+            return SW360AttachmentListEmbedded.class;
+        } else if (fieldNames.contains("createdBy")) {
+            return SW360ProjectEmbedded.class;
         }
         return null;
     }
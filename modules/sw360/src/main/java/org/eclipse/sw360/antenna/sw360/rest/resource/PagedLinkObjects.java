@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.rest.resource;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+/**
+ * The links of a list resource, which contain a link to the next page if the list was requested page by page.
+ */
+public class PagedLinkObjects extends LinkObjects {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Self next;
+
+    public Self getNext() {
+        return this.next;
+    }
+
+    public PagedLinkObjects setNext(Self next) {
+        this.next = next;
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) return false;
+        PagedLinkObjects that = (PagedLinkObjects) o;
+        return Objects.equals(next, that.next);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), next);
+    }
+}
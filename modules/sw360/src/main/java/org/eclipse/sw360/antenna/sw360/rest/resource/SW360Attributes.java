@@ -20,6 +20,10 @@ public class SW360Attributes {
     public static final String PROJECT_RELEASES_TRANSITIVE ="transitive";
     public static final String COMPONENT_SEARCH_BY_NAME = "name";
 
+    // Paging Attributes
+    public static final String PAGE = "page";
+    public static final String PAGE_ENTRIES = "page_entries";
+
     // Attributes of Sw360License
     public static final String LICENSE_TEXT = "text";
     public static final String LICENSE_SHORT_NAME = "shortName";
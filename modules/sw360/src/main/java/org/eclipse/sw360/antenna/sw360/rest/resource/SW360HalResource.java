@@ -15,7 +15,7 @@ import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.sw360.antenna.sw360.utils.RestUtils;
 import org.springframework.hateoas.Identifiable;
 
 import java.util.Objects;
@@ -60,9 +60,8 @@ public abstract class SW360HalResource<L extends LinkObjects, E extends Embedded
 
     @Override
     public String toString() {
-        ObjectMapper objectMapper = new ObjectMapper();
         try {
-            return objectMapper.writeValueAsString(this);
+            return RestUtils.getObjectMapper().writeValueAsString(this);
         } catch (JsonProcessingException e) {
             return super.toString();
         }
@@ -10,14 +10,14 @@
  */
 package org.eclipse.sw360.antenna.sw360.rest.resource.licenses;
 
-import org.eclipse.sw360.antenna.sw360.rest.resource.LinkObjects;
+import org.eclipse.sw360.antenna.sw360.rest.resource.PagedLinkObjects;
 import org.eclipse.sw360.antenna.sw360.rest.resource.SW360HalResource;
 
-public class SW360LicenseList extends SW360HalResource<LinkObjects, SW360LicenseListEmbedded> {
+public class SW360LicenseList extends SW360HalResource<PagedLinkObjects, SW360LicenseListEmbedded> {
 
     @Override
-    public LinkObjects createEmptyLinks() {
-        return new LinkObjects();
+    public PagedLinkObjects createEmptyLinks() {
+        return new PagedLinkObjects();
     }
 
     @Override
@@ -10,14 +10,14 @@
  */
 package org.eclipse.sw360.antenna.sw360.rest.resource.projects;
 
-import org.eclipse.sw360.antenna.sw360.rest.resource.LinkObjects;
+import org.eclipse.sw360.antenna.sw360.rest.resource.PagedLinkObjects;
 import org.eclipse.sw360.antenna.sw360.rest.resource.SW360HalResource;
 
-public class SW360ProjectList extends SW360HalResource<LinkObjects, SW360ProjectListEmbedded> {
+public class SW360ProjectList extends SW360HalResource<PagedLinkObjects, SW360ProjectListEmbedded> {
 
     @Override
-    public LinkObjects createEmptyLinks() {
-        return new LinkObjects();
+    public PagedLinkObjects createEmptyLinks() {
+        return new PagedLinkObjects();
     }
 
     @Override
@@ -19,12 +19,31 @@ import org.eclipse.sw360.antenna.sw360.rest.resource.SW360HalResource;
 import org.eclipse.sw360.antenna.sw360.rest.resource.licenses.SW360License;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
 
 public class RestUtils {
-    private static ObjectMapper objectMapper = new ObjectMapper();
+    /*
+     * Configured like the mapper the RestTemplate would create on its own. Object mappers are thread safe and cache
+     * their (de)serializers, so all SW360 clients share this one.
+     */
+    private static final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    public static ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public static RestTemplate useSharedObjectMapper(RestTemplate restTemplate) {
+        restTemplate.getMessageConverters().stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .map(MappingJackson2HttpMessageConverter.class::cast)
+                .forEach(converter -> converter.setObjectMapper(objectMapper));
+        return restTemplate;
+    }
 
     public static HttpEntity<String> getHttpEntity(Map<String, Object> resourceMap, HttpHeaders authBearerHeader) {
         try {
@@ -15,6 +15,7 @@ import org.eclipse.sw360.antenna.sw360.adapter.SW360LicenseClientAdapter;
 import org.eclipse.sw360.antenna.sw360.adapter.SW360ProjectClientAdapter;
 import org.eclipse.sw360.antenna.sw360.adapter.SW360ReleaseClientAdapter;
 import org.eclipse.sw360.antenna.sw360.rest.SW360AuthenticationClient;
+import org.eclipse.sw360.antenna.sw360.rest.SW360RequestCache;
 import org.eclipse.sw360.antenna.util.ProxySettings;
 import org.springframework.http.HttpHeaders;
 
@@ -26,6 +27,7 @@ public class SW360ConnectionConfiguration {
     public static final String CLIENT_USER_KEY = "client.id";
     public static final String CLIENT_PASSWORD_KEY = "client.password";
     public static final String PROXY_USE = "proxy.use";
+    public static final String RELEASE_INDEX_KEY = "release.index";
 
     private final String restServerUrl;
     private final String authServerUrl;
@@ -33,9 +35,11 @@ public class SW360ConnectionConfiguration {
     private final String password;
     private final String clientId;
     private final String clientPassword;
+    private final boolean useReleaseIndex;
 
     private final ProxySettings proxySettings;
     private final SW360AuthenticationClient authenticationClient;
+    private final SW360RequestCache requestCache = new SW360RequestCache();
 
     public SW360ConnectionConfiguration(Getter<String> getConfigValue, Getter<Boolean> getBooleanConfigValue, String proxyHost, int proxyPort) {
         // SW360 Connection configuration
@@ -45,6 +49,7 @@ public class SW360ConnectionConfiguration {
         password = getConfigValue.apply(SW360ConnectionConfiguration.PASSWORD_KEY);
         clientId = getConfigValue.apply(SW360ConnectionConfiguration.CLIENT_USER_KEY);
         clientPassword = getConfigValue.apply(SW360ConnectionConfiguration.CLIENT_PASSWORD_KEY);
+        useReleaseIndex = getBooleanConfigValue.apply(SW360ConnectionConfiguration.RELEASE_INDEX_KEY);
 
         // Proxy configuration
         boolean proxyUse = getBooleanConfigValue.apply(SW360ConnectionConfiguration.PROXY_USE);
@@ -60,6 +65,7 @@ public class SW360ConnectionConfiguration {
         this.password = password;
         this.clientId = clientId;
         this.clientPassword = clientPassword;
+        this.useReleaseIndex = false;
         proxySettings = new ProxySettings(proxyUse, proxyHost, proxyPort);
 
         this.authenticationClient = getSW360AuthenticationClient();
@@ -70,21 +76,28 @@ public class SW360ConnectionConfiguration {
     }
 
     public SW360ComponentClientAdapter getSW360ComponentClientAdapter() {
-        return new SW360ComponentClientAdapter(restServerUrl, proxySettings);
+        return new SW360ComponentClientAdapter(restServerUrl, proxySettings, requestCache);
     }
 
     public SW360ReleaseClientAdapter getSW360ReleaseClientAdapter() {
-        return new SW360ReleaseClientAdapter(restServerUrl, proxySettings);
+        return new SW360ReleaseClientAdapter(restServerUrl, proxySettings, requestCache, useReleaseIndex);
     }
 
     public SW360LicenseClientAdapter getSW360LicenseClientAdapter() {
-        return new SW360LicenseClientAdapter(restServerUrl, proxySettings);
+        return new SW360LicenseClientAdapter(restServerUrl, proxySettings, requestCache);
     }
 
     public SW360ProjectClientAdapter getSW360ProjectClientAdapter() {
         return new SW360ProjectClientAdapter(restServerUrl, proxySettings);
     }
 
+    /**
+     * @return the cache shared by all adapters of this configuration
+     */
+    public SW360RequestCache getRequestCache() {
+        return requestCache;
+    }
+
     public HttpHeaders getHttpHeaders() {
         return authenticationClient.getHeadersWithBearerToken(authenticationClient.getOAuth2AccessToken(user, password, clientId, clientPassword));
     }
@@ -29,6 +29,7 @@ public class SW360Updater extends AbstractGenerator {
     private String projectName;
     private String projectVersion;
     private SW360MetaDataUpdater sw360MetaDataUpdater;
+    private SW360ConnectionConfiguration sw360ConnectionConfiguration;
 
     public SW360Updater() {
         this.workflowStepOrder = 1100;
@@ -45,7 +46,7 @@ public class SW360Updater extends AbstractGenerator {
         final String sw360ProxyHost = context.getToolConfiguration().getProxyHost();
         final int sw360ProxyPort = context.getToolConfiguration().getProxyPort();
 
-        SW360ConnectionConfiguration sw360ConnectionConfiguration = new SW360ConnectionConfiguration(key -> getConfigValue(key, configMap),
+        sw360ConnectionConfiguration = new SW360ConnectionConfiguration(key -> getConfigValue(key, configMap),
                 key -> getBooleanConfigValue(key, configMap),
                 sw360ProxyHost, sw360ProxyPort);
 
@@ -58,8 +59,12 @@ public class SW360Updater extends AbstractGenerator {
 
     @Override
     public Map<String, IAttachable> produce(Collection<Artifact> intermediates) {
-        return new SW360UpdaterImpl(sw360MetaDataUpdater,projectName, projectVersion)
-                .produce(intermediates);
+        try {
+            return new SW360UpdaterImpl(sw360MetaDataUpdater,projectName, projectVersion)
+                    .produce(intermediates);
+        } finally {
+            sw360ConnectionConfiguration.getRequestCache().logStatistics();
+        }
     }
 
     private String retrieveName(Optional<SW360ProjectCoordinates> sw360ProjectCoordinates) {
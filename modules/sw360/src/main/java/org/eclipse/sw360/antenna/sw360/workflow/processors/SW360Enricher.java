@@ -31,6 +31,7 @@ public class SW360Enricher extends AbstractProcessor {
     private IProcessingReporter reporter;
 
     private SW360MetaDataReceiver connector;
+    private SW360ConnectionConfiguration sw360ConnectionConfiguration;
 
     public SW360Enricher() {
         this.workflowStepOrder = 1300;
@@ -54,7 +55,7 @@ public class SW360Enricher extends AbstractProcessor {
                     .toAbsolutePath();
         }
 
-        SW360ConnectionConfiguration sw360ConnectionConfiguration = new SW360ConnectionConfiguration(key -> getConfigValue(key, configMap),
+        sw360ConnectionConfiguration = new SW360ConnectionConfiguration(key -> getConfigValue(key, configMap),
                 key -> getBooleanConfigValue(key, configMap),
                 sw360ProxyHost, sw360ProxyPort);
 
@@ -63,6 +64,10 @@ public class SW360Enricher extends AbstractProcessor {
 
     @Override
     public Collection<Artifact> process(Collection<Artifact> intermediates) {
-        return new SW360EnricherImpl(reporter, connector, downloadAttachments, downloadPath).process(intermediates);
+        try {
+            return new SW360EnricherImpl(reporter, connector, downloadAttachments, downloadPath).process(intermediates);
+        } finally {
+            sw360ConnectionConfiguration.getRequestCache().logStatistics();
+        }
     }
 }
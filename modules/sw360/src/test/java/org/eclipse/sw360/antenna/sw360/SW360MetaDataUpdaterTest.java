@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360;
+
+import org.eclipse.sw360.antenna.model.xml.generated.License;
+import org.eclipse.sw360.antenna.sw360.adapter.SW360LicenseClientAdapter;
+import org.eclipse.sw360.antenna.sw360.rest.resource.licenses.SW360License;
+import org.eclipse.sw360.antenna.sw360.workflow.SW360ConnectionConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SW360MetaDataUpdaterTest {
+    private SW360LicenseClientAdapter licenseClientAdapter = mock(SW360LicenseClientAdapter.class);
+    private SW360MetaDataUpdater updater;
+
+    @Before
+    public void setUp() {
+        SW360ConnectionConfiguration connectionConfiguration = mock(SW360ConnectionConfiguration.class);
+        when(connectionConfiguration.getHttpHeaders()).thenReturn(new HttpHeaders());
+        when(connectionConfiguration.getSW360LicenseClientAdapter()).thenReturn(licenseClientAdapter);
+        updater = new SW360MetaDataUpdater(connectionConfiguration, false, false);
+    }
+
+    private static License license(String name) {
+        License license = new License();
+        license.setName(name);
+        return license;
+    }
+
+    @Test
+    public void testLicenseListIsLoadedOncePerRun() {
+        SW360License mit = new SW360License();
+        when(licenseClientAdapter.getLicenseShortNames(any())).thenReturn(Collections.singleton("MIT"));
+        when(licenseClientAdapter.getSW360LicenseByAntennaLicense(argThat(l -> "MIT".equals(l.getName())), any()))
+                .thenReturn(Optional.of(mit));
+
+        assertThat(updater.getLicenses(Arrays.asList(license("MIT"), license("Unknown")))).containsExactly(mit);
+        assertThat(updater.getLicenses(Collections.singletonList(license("MIT")))).containsExactly(mit);
+
+        verify(licenseClientAdapter, times(1)).getLicenseShortNames(any());
+        verify(licenseClientAdapter, never()).getSW360LicenseByAntennaLicense(argThat(l -> "Unknown".equals(l.getName())), any());
+    }
+
+    @Test
+    public void testUnavailableLicenseListYieldsNoLicenses() {
+        when(licenseClientAdapter.getLicenseShortNames(any())).thenReturn(Collections.emptySet());
+
+        assertThat(updater.getLicenses(Collections.singletonList(license("MIT")))).isEmpty();
+    }
+}
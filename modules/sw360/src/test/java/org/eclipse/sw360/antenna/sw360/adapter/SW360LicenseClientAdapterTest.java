@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.adapter;
+
+import org.eclipse.sw360.antenna.sw360.rest.SW360RequestCache;
+import org.eclipse.sw360.antenna.util.ProxySettings;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class SW360LicenseClientAdapterTest {
+    private static final String REST_URL = "http://localhost:8080/resource/api";
+    private static final String LICENSES_ENDPOINT = REST_URL + "/licenses";
+    private static final String FIRST_PAGE = LICENSES_ENDPOINT + "?page=0&page_entries=200";
+    private static final String SECOND_PAGE = LICENSES_ENDPOINT + "?page=1&page_entries=200";
+
+    private SW360LicenseClientAdapter adapter = new SW360LicenseClientAdapter(REST_URL, ProxySettings.empty(), SW360RequestCache.disabled());
+
+    private MockRestServiceServer mockedServer;
+
+    @Before
+    public void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        mockedServer = MockRestServiceServer.createServer(restTemplate);
+        ReflectionTestUtils.setField(ReflectionTestUtils.getField(adapter, "licenseClient"), "restTemplate", restTemplate);
+    }
+
+    private static String license(String shortName) {
+        return "{\"fullName\":\"" + shortName + " license\"," +
+                "\"_links\":{\"self\":{\"href\":\"" + LICENSES_ENDPOINT + "/" + shortName + "\"}}}";
+    }
+
+    private static String licenseList(String nextPage, String... licenses) {
+        String links = nextPage != null ? ",\"_links\":{\"next\":{\"href\":\"" + nextPage + "\"}}" : "";
+        return "{\"_embedded\":{\"sw360:licenses\":[" + String.join(",", licenses) + "]}" + links + "}";
+    }
+
+    private void expectGet(String url, String body) {
+        mockedServer.expect(requestTo(url))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    public void testShortNamesAreCollectedFromAllPages() {
+        expectGet(FIRST_PAGE, licenseList(SECOND_PAGE, license("MIT"), license("EPL-2.0")));
+        expectGet(SECOND_PAGE, licenseList(null, license("Apache-2.0")));
+
+        assertThat(adapter.getLicenseShortNames(new HttpHeaders()))
+                .containsExactlyInAnyOrder("MIT", "EPL-2.0", "Apache-2.0");
+        mockedServer.verify();
+    }
+
+    @Test
+    public void testFailingPageYieldsNoShortNames() {
+        expectGet(FIRST_PAGE, licenseList(SECOND_PAGE, license("MIT")));
+        mockedServer.expect(requestTo(SECOND_PAGE))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        assertThat(adapter.getLicenseShortNames(new HttpHeaders())).isEmpty();
+        mockedServer.verify();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.adapter;
+
+import org.eclipse.sw360.antenna.sw360.rest.SW360RequestCache;
+import org.eclipse.sw360.antenna.sw360.rest.resource.releases.SW360Release;
+import org.eclipse.sw360.antenna.sw360.rest.resource.releases.SW360SparseRelease;
+import org.eclipse.sw360.antenna.util.ProxySettings;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class SW360ReleaseClientAdapterTest {
+    private static final String REST_URL = "http://localhost:8080/resource/api";
+    private static final String RELEASES_ENDPOINT = REST_URL + "/releases";
+    private static final String FIRST_PAGE = RELEASES_ENDPOINT + "?page=0&page_entries=500";
+    private static final String SECOND_PAGE = RELEASES_ENDPOINT + "?page=1&page_entries=500";
+    private static final String COMPONENT_SEARCH = REST_URL + "/components?name=org.test/a";
+    private static final String COMPONENT = REST_URL + "/components/c1";
+    private static final String EXTERNAL_ID_SEARCH = RELEASES_ENDPOINT + "/searchByExternalIds?hash_1=c0ffee";
+
+    private SW360ReleaseClientAdapter adapter = new SW360ReleaseClientAdapter(REST_URL, ProxySettings.empty(), SW360RequestCache.disabled(), true);
+
+    private MockRestServiceServer mockedServer;
+
+    @Before
+    public void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        mockedServer = MockRestServiceServer.createServer(restTemplate);
+        ReflectionTestUtils.setField(ReflectionTestUtils.getField(adapter, "releaseClient"), "restTemplate", restTemplate);
+        Object componentClientAdapter = ReflectionTestUtils.getField(adapter, "sw360ComponentClientAdapter");
+        ReflectionTestUtils.setField(ReflectionTestUtils.getField(componentClientAdapter, "componentClient"), "restTemplate", restTemplate);
+    }
+
+    private static String release(String id, String name, String version) {
+        return "{\"name\":\"" + name + "\",\"version\":\"" + version + "\"," +
+                "\"_links\":{\"self\":{\"href\":\"" + RELEASES_ENDPOINT + "/" + id + "\"}}}";
+    }
+
+    private static String releaseList(String nextPage, String... releases) {
+        String links = nextPage != null ? ",\"_links\":{\"next\":{\"href\":\"" + nextPage + "\"}}" : "";
+        return "{\"_embedded\":{\"sw360:releases\":[" + String.join(",", releases) + "]}" + links + "}";
+    }
+
+    private void expectGet(String url, String body) {
+        mockedServer.expect(requestTo(url))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+    }
+
+    private static SW360Release releaseFromArtifact(String name, String version) {
+        SW360Release release = new SW360Release();
+        release.setName(name);
+        release.setVersion(version);
+        return release;
+    }
+
+    @Test
+    public void testReleasesAreResolvedFromIndex() {
+        expectGet(FIRST_PAGE, releaseList(SECOND_PAGE, release("r1", "org.test/a", "1.0"), release("r2", "org.test/a", "2.0")));
+        expectGet(SECOND_PAGE, releaseList(null, release("r3", "org.test/b", "1.0")));
+
+        HttpHeaders header = new HttpHeaders();
+        Optional<SW360SparseRelease> a2 = adapter.getReleaseByNameAndVersion(releaseFromArtifact("org.test/a", "2.0"), header);
+        Optional<SW360SparseRelease> b1 = adapter.getReleaseByNameAndVersion(releaseFromArtifact("org.test/b", "1.0"), header);
+        Optional<SW360SparseRelease> unknown = adapter.getReleaseByNameAndVersion(releaseFromArtifact("org.test/b", "2.0"), header);
+
+        assertThat(a2.map(SW360SparseRelease::getReleaseId)).hasValue("r2");
+        assertThat(b1.map(SW360SparseRelease::getReleaseId)).hasValue("r3");
+        assertThat(unknown).isEmpty();
+        mockedServer.verify();
+    }
+
+    @Test
+    public void testExternalIdsAreOnlySearchedOnce() {
+        expectGet(FIRST_PAGE, releaseList(null));
+        expectGet(EXTERNAL_ID_SEARCH, releaseList(null, release("r1", "org.test/c", "1.0")));
+
+        HttpHeaders header = new HttpHeaders();
+        for (int i = 0; i < 3; i++) {
+            Optional<SW360SparseRelease> release = adapter.getReleaseByExternalIds(
+                    Collections.singletonMap("hash_1", "c0ffee"), header);
+            assertThat(release.map(SW360SparseRelease::getReleaseId)).hasValue("r1");
+        }
+        mockedServer.verify();
+    }
+
+    @Test
+    public void testCreatedReleaseIsAddedToIndex() {
+        SW360ReleaseIndex index = new SW360ReleaseIndex(Collections.emptyList());
+        SW360Release created = releaseFromArtifact("org.test/d", "1.0");
+        created.setReleaseId(RELEASES_ENDPOINT + "/r4");
+        created.setExternalIds(Collections.singletonMap("purl", "pkg:maven/org.test/d@1.0"));
+
+        index.add(created);
+
+        assertThat(index.findByNameAndVersion("org.test/d", "1.0").map(SW360SparseRelease::getReleaseId)).hasValue("r4");
+        assertThat(index.findByExternalIds(Collections.singletonMap("purl", "pkg:maven/org.test/d@1.0"),
+                ids -> Optional.empty()).map(SW360SparseRelease::getReleaseId)).hasValue("r4");
+    }
+
+    @Test
+    public void testIncompleteReleaseListFallsBackToComponentLookup() {
+        expectGet(FIRST_PAGE, releaseList(SECOND_PAGE, release("r1", "org.test/b", "1.0")));
+        mockedServer.expect(requestTo(SECOND_PAGE))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        expectGet(COMPONENT_SEARCH, "{\"_embedded\":{\"sw360:components\":[{\"name\":\"org.test/a\"," +
+                "\"_links\":{\"self\":{\"href\":\"" + COMPONENT + "\"}}}]}}");
+        expectGet(COMPONENT, "{\"name\":\"org.test/a\",\"_links\":{\"self\":{\"href\":\"" + COMPONENT + "\"}}," +
+                "\"_embedded\":{\"sw360:releases\":[" + release("r2", "org.test/a", "2.0") + "]}}");
+
+        HttpHeaders header = new HttpHeaders();
+        Optional<SW360SparseRelease> a2 = adapter.getReleaseByNameAndVersion(releaseFromArtifact("org.test/a", "2.0"), header);
+
+        assertThat(a2.map(SW360SparseRelease::getReleaseId)).hasValue("r2");
+        assertThat(adapter.getReleaseIndex(header)).isEmpty();
+        mockedServer.verify();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.rest;
+
+import org.eclipse.sw360.antenna.api.exceptions.ExecutionException;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360Component;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360SparseComponent;
+import org.eclipse.sw360.antenna.util.ProxySettings;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withBadRequest;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class SW360ComponentClientTest {
+    private static final String REST_URL = "http://localhost:8080/resource/api";
+    private static final String COMPONENTS_ENDPOINT = REST_URL + "/components";
+    private static final String FIRST_PAGE = COMPONENTS_ENDPOINT + "?page=0&page_entries=2";
+    private static final String SECOND_PAGE = COMPONENTS_ENDPOINT + "?page=1&page_entries=2";
+
+    private SW360ComponentClient client = new SW360ComponentClient(REST_URL, ProxySettings.empty());
+
+    private MockRestServiceServer mockedServer;
+
+    @Before
+    public void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        mockedServer = MockRestServiceServer.createServer(restTemplate);
+        ReflectionTestUtils.setField(client, "restTemplate", restTemplate);
+    }
+
+    private static String page(String nextPage, String... componentNames) {
+        String components = Arrays.stream(componentNames)
+                .map(name -> "{\"name\":\"" + name + "\"}")
+                .collect(Collectors.joining(","));
+        String links = nextPage != null ? ",\"_links\":{\"next\":{\"href\":\"" + nextPage + "\"}}" : "";
+        return "{\"_embedded\":{\"sw360:components\":[" + components + "]}" + links + "}";
+    }
+
+    private void expectPage(String url, String body) {
+        mockedServer.expect(requestTo(url))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    public void testPagedComponentsFollowNextLinks() {
+        expectPage(FIRST_PAGE, page(SECOND_PAGE, "a", "b"));
+        expectPage(SECOND_PAGE, page(null, "c"));
+
+        List<String> names = client.getComponentsPaged(2, false, new HttpHeaders())
+                .map(SW360SparseComponent::getName)
+                .collect(Collectors.toList());
+
+        assertThat(names).containsExactly("a", "b", "c");
+        mockedServer.verify();
+    }
+
+    @Test
+    public void testPagedComponentsAreRequestedLazily() {
+        // requesting the second page would fail, since the mocked server does not expect it
+        expectPage(FIRST_PAGE, page(SECOND_PAGE, "a", "b"));
+
+        List<String> names = client.getComponentsPaged(2, false, new HttpHeaders())
+                .limit(2)
+                .map(SW360SparseComponent::getName)
+                .collect(Collectors.toList());
+
+        assertThat(names).containsExactly("a", "b");
+        mockedServer.verify();
+    }
+
+    @Test
+    public void testPagedComponentsWithPrefetch() {
+        expectPage(FIRST_PAGE, page(SECOND_PAGE, "a", "b"));
+        expectPage(SECOND_PAGE, page(null, "c"));
+
+        assertThat(client.getComponentsPaged(2, true, new HttpHeaders()).count()).isEqualTo(3);
+        mockedServer.verify();
+    }
+
+    @Test
+    public void testCachedComponentIsRequestedAgainAfterWrite() {
+        SW360ComponentClient cachingClient = new SW360ComponentClient(REST_URL, ProxySettings.empty(), new SW360RequestCache());
+        ReflectionTestUtils.setField(cachingClient, "restTemplate", ReflectionTestUtils.getField(client, "restTemplate"));
+        String component = "{\"name\":\"a\",\"_links\":{\"self\":{\"href\":\"" + COMPONENTS_ENDPOINT + "/1\"}}}";
+        expectPage(COMPONENTS_ENDPOINT + "/1", component);
+        mockedServer.expect(requestTo(COMPONENTS_ENDPOINT))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess(component, MediaType.APPLICATION_JSON));
+        expectPage(COMPONENTS_ENDPOINT + "/1", component);
+
+        assertThat(cachingClient.getComponent("1", new HttpHeaders()).map(SW360Component::getName)).hasValue("a");
+        assertThat(cachingClient.getComponent("1", new HttpHeaders()).map(SW360Component::getName)).hasValue("a");
+        cachingClient.createComponent(new SW360Component().setName("b"), new HttpHeaders());
+        assertThat(cachingClient.getComponent("1", new HttpHeaders()).map(SW360Component::getName)).hasValue("a");
+        mockedServer.verify();
+    }
+
+    @Test(expected = HttpClientErrorException.class)
+    public void testFailingPageIsReportedWhenReached() {
+        expectPage(FIRST_PAGE, page(SECOND_PAGE, "a", "b"));
+        mockedServer.expect(requestTo(SECOND_PAGE))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withBadRequest());
+
+        client.getComponentsPaged(2, true, new HttpHeaders()).count();
+    }
+
+    @Test
+    public void testPageWithUnsuccessfulStatusInTheMiddleFailsTheStream() {
+        expectPage(FIRST_PAGE, page(SECOND_PAGE, "a", "b"));
+        mockedServer.expect(requestTo(SECOND_PAGE))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        List<String> names = new ArrayList<>();
+        try {
+            client.getComponentsPaged(2, false, new HttpHeaders())
+                    .map(SW360SparseComponent::getName)
+                    .forEach(names::add);
+            fail("A failing page must not end the stream as if it was the last one");
+        } catch (ExecutionException e) {
+            assertThat(e.getMessage()).contains(SECOND_PAGE);
+        }
+
+        assertThat(names).containsExactly("a", "b");
+        mockedServer.verify();
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void testPrefetchedPageWithUnsuccessfulStatusFailsTheStream() {
+        expectPage(FIRST_PAGE, page(SECOND_PAGE, "a", "b"));
+        mockedServer.expect(requestTo(SECOND_PAGE))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        client.getComponentsPaged(2, true, new HttpHeaders()).count();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.rest;
+
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SW360RequestCacheTest {
+    private static final String ENDPOINT = "http://localhost:8080/resource/api/releases";
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private Supplier<ResponseEntity<byte[]>> request(String body) {
+        return () -> {
+            requestCount.incrementAndGet();
+            return new ResponseEntity<>(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+        };
+    }
+
+    private static String body(ResponseEntity<byte[]> response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testResponsesAreCached() {
+        SW360RequestCache cache = new SW360RequestCache();
+
+        assertThat(body(cache.get(ENDPOINT, ENDPOINT + "/1", request("first")))).isEqualTo("first");
+        assertThat(body(cache.get(ENDPOINT, ENDPOINT + "/1", request("second")))).isEqualTo("first");
+        assertThat(body(cache.get(ENDPOINT, ENDPOINT + "/2", request("third")))).isEqualTo("third");
+
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThat(cache.getHitRatio(ENDPOINT)).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    public void testConcurrentRequestsAreCoalesced() throws Exception {
+        SW360RequestCache cache = new SW360RequestCache();
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch responseAvailable = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<byte[]>> first = executor.submit(() -> cache.get(ENDPOINT, ENDPOINT + "/1", () -> {
+                requestStarted.countDown();
+                try {
+                    responseAvailable.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return request("response").get();
+            }));
+            requestStarted.await();
+            Future<ResponseEntity<byte[]>> second = executor.submit(() -> cache.get(ENDPOINT, ENDPOINT + "/1", request("other")));
+
+            // the second request waits for the response of the first one
+            while (cache.getHitRatio(ENDPOINT) == 0.0) {
+                Thread.sleep(10);
+            }
+            responseAvailable.countDown();
+
+            assertThat(body(first.get(10, TimeUnit.SECONDS))).isEqualTo("response");
+            assertThat(body(second.get(10, TimeUnit.SECONDS))).isEqualTo("response");
+            assertThat(requestCount.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExpiredResponsesAreRequestedAgain() {
+        AtomicLong time = new AtomicLong();
+        SW360RequestCache cache = new SW360RequestCache(10, Duration.ofMillis(100), time::get);
+
+        cache.get(ENDPOINT, ENDPOINT + "/1", request("first"));
+        time.set(99);
+        assertThat(body(cache.get(ENDPOINT, ENDPOINT + "/1", request("second")))).isEqualTo("first");
+        time.set(100);
+        assertThat(body(cache.get(ENDPOINT, ENDPOINT + "/1", request("third")))).isEqualTo("third");
+
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResponseIsEvicted() {
+        SW360RequestCache cache = new SW360RequestCache(2, Duration.ofMinutes(1));
+
+        cache.get(ENDPOINT, ENDPOINT + "/1", request("1"));
+        cache.get(ENDPOINT, ENDPOINT + "/2", request("2"));
+        cache.get(ENDPOINT, ENDPOINT + "/1", request("1"));
+        cache.get(ENDPOINT, ENDPOINT + "/3", request("3"));
+        assertThat(requestCount.get()).isEqualTo(3);
+
+        cache.get(ENDPOINT, ENDPOINT + "/1", request("1"));
+        assertThat(requestCount.get()).isEqualTo(3);
+        cache.get(ENDPOINT, ENDPOINT + "/2", request("2"));
+        assertThat(requestCount.get()).isEqualTo(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testFailedRequestsAreNotCached() {
+        SW360RequestCache cache = new SW360RequestCache();
+
+        assertThatThrownBy(() -> cache.get(ENDPOINT, ENDPOINT + "/1", () -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+        cache.get(ENDPOINT, ENDPOINT + "/1", () -> new ResponseEntity<>(HttpStatus.FOUND));
+        cache.get(ENDPOINT, ENDPOINT + "/1", request("response"));
+
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInvalidateDropsCachedResponses() {
+        SW360RequestCache cache = new SW360RequestCache();
+
+        cache.get(ENDPOINT, ENDPOINT + "/1", request("first"));
+        cache.invalidate();
+
+        assertThat(body(cache.get(ENDPOINT, ENDPOINT + "/1", request("second")))).isEqualTo("second");
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDisabledCachePassesRequestsThrough() {
+        SW360RequestCache cache = SW360RequestCache.disabled();
+
+        cache.get(ENDPOINT, ENDPOINT + "/1", request("first"));
+        cache.get(ENDPOINT, ENDPOINT + "/1", request("second"));
+
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+}
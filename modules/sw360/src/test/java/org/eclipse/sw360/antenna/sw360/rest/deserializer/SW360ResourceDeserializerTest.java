@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) Bosch Software Innovations GmbH 2019.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.sw360.antenna.sw360.rest.deserializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.sw360.antenna.sw360.rest.resource.LinkObjects;
+import org.eclipse.sw360.antenna.sw360.rest.resource.Self;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360Component;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360ComponentList;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360ComponentListEmbedded;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360ComponentType;
+import org.eclipse.sw360.antenna.sw360.rest.resource.components.SW360SparseComponent;
+import org.eclipse.sw360.antenna.sw360.utils.RestUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SW360ResourceDeserializerTest {
+    private final ObjectMapper objectMapper = RestUtils.getObjectMapper();
+
+    private SW360ComponentList prepareComponentList(int size) {
+        List<SW360SparseComponent> components = IntStream.range(0, size)
+                .mapToObj(i -> {
+                    SW360SparseComponent component = new SW360SparseComponent()
+                            .setName("component-" + i)
+                            .setComponentType(SW360ComponentType.OSS);
+                    component.set_Links(new LinkObjects()
+                            .setSelf(new Self().setHref("https://sw360.org/api/components/" + i)));
+                    return component;
+                })
+                .collect(Collectors.toList());
+
+        SW360ComponentList componentList = new SW360ComponentList();
+        componentList.set_Embedded(new SW360ComponentListEmbedded().setComponents(components));
+        return componentList;
+    }
+
+    @Test
+    public void testLargeComponentListIsDeserialized() throws IOException {
+        SW360ComponentList componentList = prepareComponentList(2000);
+
+        SW360ComponentList deserialized = objectMapper.readValue(objectMapper.writeValueAsString(componentList),
+                SW360ComponentList.class);
+
+        assertThat(deserialized.get_Embedded()).isInstanceOf(SW360ComponentListEmbedded.class);
+        assertThat(deserialized.get_Embedded().getComponents()).hasSize(2000);
+        assertThat(deserialized).isEqualTo(componentList);
+    }
+
+    @Test
+    public void testEmbeddedTypeDoesNotDependOnFieldOrder() throws IOException {
+        String json = "{\"name\":\"component\",\"_embedded\":{" +
+                "\"createdBy\":{\"email\":\"admin@sw360.org\"}," +
+                "\"sw360:releases\":[{\"name\":\"component\",\"version\":\"1.0\"}]}}";
+
+        SW360Component component = objectMapper.readValue(json, SW360Component.class);
+
+        assertThat(component.get_Embedded().getCreatedBy().getEmail()).isEqualTo("admin@sw360.org");
+        assertThat(component.get_Embedded().getReleases()).hasSize(1);
+        assertThat(component.get_Embedded().getReleases().get(0).getVersion()).isEqualTo("1.0");
+    }
+
+    @Test
+    public void testUnknownEmbeddedIsIgnored() throws IOException {
+        String json = "{\"name\":\"component\",\"_embedded\":{\"sw360:unknown\":{\"nested\":[1,2,3]}}}";
+
+        SW360Component component = objectMapper.readValue(json, SW360Component.class);
+
+        assertThat(component.getName()).isEqualTo("component");
+        assertThat(component.get_Embedded().getReleases()).isEmpty();
+    }
+}